@@ -0,0 +1,99 @@
+package org.creditto.core_banking.global.feign;
+
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 환전 경로의 환율 조회 비용 비교
+ * 문자열 키 Map + 요청마다 파싱하던 기존 방식과 미리 파싱된 EnumMap 조회를 비교한다.
+ * ./gradlew jmh 실행 시 gc 프로파일러의 gc.alloc.rate.norm 값으로 호출당 할당량을 확인할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExchangeRateLookupBenchmark {
+
+    @Param({"USD", "JPY"})
+    public String currencyCode;
+
+    private CurrencyCode currency;
+    private Map<String, ExchangeRateRes> rates;
+    private Map<CurrencyCode, RateEntry> rateTable;
+
+    @Setup
+    public void setUp() {
+        List<ExchangeRateRes> apiResponse = List.of(
+                rate("USD", "1,385.20", "미국 달러"),
+                rate("JPY(100)", "912.34", "일본 옌"),
+                rate("EUR", "1,498.75", "유로"),
+                rate("GBP", "1,760.02", "영국 파운드"),
+                rate("IDR(100)", "8.52", "인도네시아 루피아")
+        );
+        ExchangeRateSnapshot snapshot = ExchangeRateSnapshot.of(apiResponse, Instant.now());
+        this.currency = CurrencyCode.valueOf(currencyCode);
+        this.rates = snapshot.rates();
+        this.rateTable = snapshot.rateTable();
+    }
+
+    /**
+     * 기존 방식: 조회 키 문자열 생성 → 문자열 Map 조회 → 쉼표 제거 → BigDecimal 파싱 → 단위 환산
+     */
+    @Benchmark
+    public BigDecimal stringMapWithParsing() {
+        String lookupKey = currency.getCode().toUpperCase();
+        if (currency.getUnit() > 1) {
+            lookupKey += "(" + currency.getUnit() + ")";
+        }
+        ExchangeRateRes rateRes = rates.get(lookupKey);
+        BigDecimal baseRate = new BigDecimal(rateRes.getBaseRate().replace(",", ""));
+        return baseRate.divide(new BigDecimal(currency.getUnit()), 4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 변경 방식: 미리 파싱된 EnumMap 조회
+     */
+    @Benchmark
+    public BigDecimal preParsedEnumMap() {
+        return rateTable.get(currency).unitRate();
+    }
+
+    /**
+     * 기존 방식의 통화 문자열 변환 (항상 정규식 수행)
+     */
+    @Benchmark
+    public CurrencyCode currencyFromWithRegex() {
+        return CurrencyCode.valueOf(CurrencyCode.parseCurrencyCode(currency.getLookupKey()).toUpperCase());
+    }
+
+    /**
+     * 변경 방식의 통화 문자열 변환 (정확히 일치하면 정규식 생략)
+     */
+    @Benchmark
+    public CurrencyCode currencyFromFastPath() {
+        return CurrencyCode.from(currency.getLookupKey());
+    }
+
+    private static ExchangeRateRes rate(String currencyUnit, String baseRate, String currencyName) {
+        return ExchangeRateRes.builder()
+                .result(1)
+                .currencyUnit(currencyUnit)
+                .baseRate(baseRate)
+                .currencyName(currencyName)
+                .build();
+    }
+}
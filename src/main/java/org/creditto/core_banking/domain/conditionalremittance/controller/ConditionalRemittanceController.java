@@ -0,0 +1,67 @@
+package org.creditto.core_banking.domain.conditionalremittance.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.conditionalremittance.dto.ConditionalRemittanceCreateReq;
+import org.creditto.core_banking.domain.conditionalremittance.dto.ConditionalRemittanceRes;
+import org.creditto.core_banking.domain.conditionalremittance.service.ConditionalRemittanceService;
+import org.creditto.core_banking.global.response.ApiResponseUtil;
+import org.creditto.core_banking.global.response.BaseResponse;
+import org.creditto.core_banking.global.response.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 환율 조건부 송금 API 컨트롤러입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/core/remittance/conditional")
+public class ConditionalRemittanceController {
+
+    private final ConditionalRemittanceService conditionalRemittanceService;
+
+    /**
+     * 환율 조건부 송금을 등록합니다.
+     *
+     * @param userId  사용자 ID
+     * @param request 출금 계좌, 수취인, 금액, 실행 조건을 담은 DTO
+     * @return 등록된 조건부 송금 정보 ({@link ConditionalRemittanceRes})
+     */
+    @PostMapping("/{userId}")
+    public ResponseEntity<BaseResponse<ConditionalRemittanceRes>> register(
+            @PathVariable Long userId,
+            @Valid @RequestBody ConditionalRemittanceCreateReq request
+    ) {
+        return ApiResponseUtil.success(SuccessCode.CREATED, conditionalRemittanceService.register(userId, request));
+    }
+
+    /**
+     * 사용자의 환율 조건부 송금 목록을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 조건부 송금 목록 (최근 등록 순)
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<BaseResponse<List<ConditionalRemittanceRes>>> getConditionalRemittances(@PathVariable Long userId) {
+        return ApiResponseUtil.success(SuccessCode.OK, conditionalRemittanceService.getConditionalRemittances(userId));
+    }
+
+    /**
+     * 조건 대기 중인 환율 조건부 송금을 취소합니다.
+     *
+     * @param userId                  사용자 ID
+     * @param conditionalRemittanceId 조건부 송금 ID
+     * @return 성공 응답 (HTTP 200 OK)
+     */
+    @DeleteMapping("/{userId}/{conditionalRemittanceId}")
+    public ResponseEntity<BaseResponse<Void>> cancel(
+            @PathVariable Long userId,
+            @PathVariable Long conditionalRemittanceId
+    ) {
+        conditionalRemittanceService.cancel(userId, conditionalRemittanceId);
+        return ApiResponseUtil.success(SuccessCode.OK);
+    }
+}
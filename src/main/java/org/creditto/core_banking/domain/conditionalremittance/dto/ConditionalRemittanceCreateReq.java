@@ -0,0 +1,70 @@
+package org.creditto.core_banking.domain.conditionalremittance.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.creditto.core_banking.domain.conditionalremittance.entity.TriggerCondition;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+
+/**
+ * 환율 조건부 송금 등록 요청 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ConditionalRemittanceCreateReq {
+
+    /**
+     * 출금될 계좌의 번호
+     */
+    @NotBlank(message = "출금 계좌번호는 필수입니다.")
+    private String accountNo;
+
+    /**
+     * 출금될 계좌의 비밀번호
+     */
+    @NotBlank(message = "계좌 비밀번호는 필수입니다.")
+    @Pattern(regexp = "^\\d{4}$", message = "비밀번호는 4자리 숫자여야 합니다.")
+    private String password;
+
+    /**
+     * 수취인의 상세 정보
+     */
+    @Valid
+    @NotNull(message = "수취인 정보는 필수입니다.")
+    private OverseasRemittanceRequestDto.RecipientInfo recipientInfo;
+
+    /**
+     * 보내는 통화 (e.g. "KRW")
+     */
+    @NotNull(message = "송금 통화는 필수입니다.")
+    private CurrencyCode sendCurrency;
+
+    /**
+     * 보내는 금액 (수취 통화 기준)
+     */
+    @NotNull(message = "송금액은 필수입니다.")
+    @Positive(message = "송금액은 0보다 커야 합니다.")
+    private BigDecimal targetAmount;
+
+    /**
+     * 실행 조건 (기준 환율 이하/이상)
+     */
+    @NotNull(message = "실행 조건은 필수입니다.")
+    private TriggerCondition triggerCondition;
+
+    /**
+     * 기준 환율 (수취 통화의 매매 기준율)
+     */
+    @NotNull(message = "기준 환율은 필수입니다.")
+    @Positive(message = "기준 환율은 0보다 커야 합니다.")
+    private BigDecimal thresholdRate;
+}
@@ -0,0 +1,41 @@
+package org.creditto.core_banking.domain.conditionalremittance.dto;
+
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittance;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus;
+import org.creditto.core_banking.domain.conditionalremittance.entity.TriggerCondition;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 환율 조건부 송금 조회 응답 DTO
+ */
+public record ConditionalRemittanceRes(
+        Long conditionalRemittanceId,
+        CurrencyCode sendCurrency,
+        CurrencyCode receiveCurrency,
+        BigDecimal targetAmount,
+        TriggerCondition triggerCondition,
+        BigDecimal thresholdRate,
+        ConditionalRemittanceStatus status,
+        Long remittanceId,
+        LocalDateTime triggeredAt,
+        LocalDateTime createdAt
+) {
+
+    public static ConditionalRemittanceRes from(ConditionalRemittance conditionalRemittance) {
+        return new ConditionalRemittanceRes(
+                conditionalRemittance.getConditionalRemittanceId(),
+                conditionalRemittance.getSendCurrency(),
+                conditionalRemittance.getReceiveCurrency(),
+                conditionalRemittance.getTargetAmount(),
+                conditionalRemittance.getTriggerCondition(),
+                conditionalRemittance.getThresholdRate(),
+                conditionalRemittance.getStatus(),
+                conditionalRemittance.getRemittanceId(),
+                conditionalRemittance.getTriggeredAt(),
+                conditionalRemittance.getCreatedAt()
+        );
+    }
+}
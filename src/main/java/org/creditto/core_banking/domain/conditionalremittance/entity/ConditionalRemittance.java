@@ -0,0 +1,91 @@
+package org.creditto.core_banking.domain.conditionalremittance.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.global.common.BaseEntity;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 환율 조건부 송금 주문
+ * 수취 통화의 매매 기준율이 기준 환율 조건을 만족하면 등록된 계좌/수취인으로 1회 송금을 실행
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_conditional_remittance_status", columnList = "status"),
+        @Index(name = "idx_conditional_remittance_user_id", columnList = "user_id")
+})
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConditionalRemittance extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long conditionalRemittanceId;
+
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Account account;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Recipient recipient;
+
+    @Enumerated(EnumType.STRING)
+    private CurrencyCode sendCurrency;
+
+    @Enumerated(EnumType.STRING)
+    private CurrencyCode receiveCurrency;
+
+    // 보내는 금액 (수취 통화 기준)
+    @Column(precision = 20, scale = 2)
+    private BigDecimal targetAmount;
+
+    @Enumerated(EnumType.STRING)
+    private TriggerCondition triggerCondition;
+
+    // 기준 환율 (수취 통화의 매매 기준율)
+    @Column(precision = 20, scale = 4)
+    private BigDecimal thresholdRate;
+
+    @Enumerated(EnumType.STRING)
+    private ConditionalRemittanceStatus status;
+
+    // 조건 충족으로 실행된 해외송금 ID
+    private Long remittanceId;
+
+    // 조건이 충족된 시각
+    private LocalDateTime triggeredAt;
+
+    public static ConditionalRemittance of(
+            Long userId,
+            Account account,
+            Recipient recipient,
+            CurrencyCode sendCurrency,
+            BigDecimal targetAmount,
+            TriggerCondition triggerCondition,
+            BigDecimal thresholdRate
+    ) {
+        return ConditionalRemittance.builder()
+                .userId(userId)
+                .account(account)
+                .recipient(recipient)
+                .sendCurrency(sendCurrency)
+                .receiveCurrency(recipient.getCurrencyCode())
+                .targetAmount(targetAmount)
+                .triggerCondition(triggerCondition)
+                .thresholdRate(thresholdRate)
+                .status(ConditionalRemittanceStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package org.creditto.core_banking.domain.conditionalremittance.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum ConditionalRemittanceStatus {
+    PENDING("조건 대기"),
+    TRIGGERED("실행 중"),
+    EXECUTED("실행 완료"),
+    FAILED("실행 실패"),
+    CANCELLED("취소");
+
+    private final String status;
+
+    ConditionalRemittanceStatus(String status) {
+        this.status = status;
+    }
+}
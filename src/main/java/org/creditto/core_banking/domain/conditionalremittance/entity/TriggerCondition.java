@@ -0,0 +1,28 @@
+package org.creditto.core_banking.domain.conditionalremittance.entity;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 조건부 송금 실행 조건 (수취 통화의 매매 기준율 기준)
+ */
+@Getter
+public enum TriggerCondition {
+    BELOW("기준 환율 이하"),
+    ABOVE("기준 환율 이상");
+
+    private final String description;
+
+    TriggerCondition(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 현재 환율이 기준 환율 조건을 만족하는지 여부
+     */
+    public boolean isSatisfied(BigDecimal thresholdRate, BigDecimal currentRate) {
+        int compared = currentRate.compareTo(thresholdRate);
+        return this == BELOW ? compared <= 0 : compared >= 0;
+    }
+}
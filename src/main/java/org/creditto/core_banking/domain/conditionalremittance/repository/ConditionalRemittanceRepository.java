@@ -0,0 +1,81 @@
+package org.creditto.core_banking.domain.conditionalremittance.repository;
+
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittance;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ConditionalRemittanceRepository extends JpaRepository<ConditionalRemittance, Long> {
+
+    List<ConditionalRemittance> findAllByStatus(ConditionalRemittanceStatus status);
+
+    List<ConditionalRemittance> findAllByUserIdOrderByConditionalRemittanceIdDesc(Long userId);
+
+    /**
+     * 실행 중 상태인 주문을 잠금과 함께 조회 (송금 실행 트랜잭션이 끝날 때까지 상태 변경을 막음)
+     * 잠금이 계좌/수취인 행까지 번지지 않도록 연관 엔티티는 함께 조회하지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT c FROM ConditionalRemittance c " +
+            "WHERE c.conditionalRemittanceId = :id " +
+            "AND c.status = org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus.TRIGGERED"
+    )
+    Optional<ConditionalRemittance> findTriggeredForUpdate(@Param("id") Long id);
+
+    /**
+     * 조건 대기 중인 주문을 실행 중으로 선점 (여러 노드가 같은 주문을 중복 실행하지 않도록 조건부 UPDATE 사용)
+     *
+     * @return 선점에 성공하면 1, 이미 다른 곳에서 선점했거나 취소된 경우 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ConditionalRemittance c " +
+            "SET c.status = org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus.TRIGGERED, " +
+            "c.triggeredAt = :triggeredAt " +
+            "WHERE c.conditionalRemittanceId = :id " +
+            "AND c.status = org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus.PENDING"
+    )
+    int claim(@Param("id") Long id, @Param("triggeredAt") LocalDateTime triggeredAt);
+
+    /**
+     * 실행 중 상태로 남은 주문을 조건 대기로 되돌림 (선점 후 송금 실행 전에 노드가 종료된 경우 대비)
+     * 완료 상태는 송금 실행과 함께 커밋되므로 실행 중으로 남은 주문은 송금이 커밋되지 않은 주문이고,
+     * 다른 노드가 실행 중인 주문은 잠금이 풀린 뒤 완료 상태가 되어 조건에 맞지 않음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ConditionalRemittance c " +
+            "SET c.status = org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus.PENDING, " +
+            "c.triggeredAt = NULL " +
+            "WHERE c.status = org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus.TRIGGERED"
+    )
+    int releaseTriggered();
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ConditionalRemittance c " +
+            "SET c.status = :toStatus, c.remittanceId = :remittanceId " +
+            "WHERE c.conditionalRemittanceId = :id " +
+            "AND c.status = :fromStatus"
+    )
+    int updateStatus(
+            @Param("id") Long id,
+            @Param("fromStatus") ConditionalRemittanceStatus fromStatus,
+            @Param("toStatus") ConditionalRemittanceStatus toStatus,
+            @Param("remittanceId") Long remittanceId
+    );
+}
@@ -0,0 +1,85 @@
+package org.creditto.core_banking.domain.conditionalremittance.service;
+
+import org.creditto.core_banking.domain.conditionalremittance.entity.TriggerCondition;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 조건 대기 중인 조건부 송금의 통화별 기준 환율 인덱스
+ * 기준 환율(가격대)별로 주문 ID를 정렬 보관하여, 환율이 바뀌면 조건을 만족한 가격대만 잘라내어 꺼낸다.
+ * 평가 비용은 등록된 전체 주문 수가 아니라 조건을 만족한 주문 수에 비례
+ *
+ * 가격대별 주문 ID 집합은 불변 Set으로 교체하여, 꺼내는 중인 가격대에 주문이 추가되어도 유실되지 않음
+ */
+public class ConditionalRemittanceIndex {
+
+    // 기준 환율 이하 조건 (현재 환율 <= 기준 환율인 가격대가 충족)
+    private final Map<CurrencyCode, ConcurrentNavigableMap<BigDecimal, Set<Long>>> belowLevels = new EnumMap<>(CurrencyCode.class);
+    // 기준 환율 이상 조건 (현재 환율 >= 기준 환율인 가격대가 충족)
+    private final Map<CurrencyCode, ConcurrentNavigableMap<BigDecimal, Set<Long>>> aboveLevels = new EnumMap<>(CurrencyCode.class);
+
+    public ConditionalRemittanceIndex() {
+        for (CurrencyCode currency : CurrencyCode.values()) {
+            belowLevels.put(currency, new ConcurrentSkipListMap<>());
+            aboveLevels.put(currency, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public void add(Long id, CurrencyCode currency, TriggerCondition condition, BigDecimal thresholdRate) {
+        levels(currency, condition).compute(thresholdRate, (rate, ids) -> ids == null
+                ? Set.of(id)
+                : Stream.concat(ids.stream(), Stream.of(id)).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public void remove(Long id, CurrencyCode currency, TriggerCondition condition, BigDecimal thresholdRate) {
+        levels(currency, condition).computeIfPresent(thresholdRate, (rate, ids) -> {
+            Set<Long> remaining = ids.stream()
+                    .filter(registered -> !registered.equals(id))
+                    .collect(Collectors.toUnmodifiableSet());
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    /**
+     * 현재 환율로 조건을 만족한 주문을 인덱스에서 제거하고 반환
+     *
+     * @param currency    수취 통화
+     * @param currentRate 현재 매매 기준율
+     * @return 조건을 만족한 주문 ID 목록
+     */
+    public List<Long> pollTriggered(CurrencyCode currency, BigDecimal currentRate) {
+        List<Long> triggered = new ArrayList<>();
+        drain(belowLevels.get(currency).tailMap(currentRate, true), triggered);
+        drain(aboveLevels.get(currency).headMap(currentRate, true), triggered);
+        return triggered;
+    }
+
+    public int size() {
+        return Stream.concat(belowLevels.values().stream(), aboveLevels.values().stream())
+                .flatMap(levels -> levels.values().stream())
+                .mapToInt(Set::size)
+                .sum();
+    }
+
+    private ConcurrentNavigableMap<BigDecimal, Set<Long>> levels(CurrencyCode currency, TriggerCondition condition) {
+        return condition == TriggerCondition.BELOW ? belowLevels.get(currency) : aboveLevels.get(currency);
+    }
+
+    private static void drain(NavigableMap<BigDecimal, Set<Long>> triggeredLevels, List<Long> triggered) {
+        Map.Entry<BigDecimal, Set<Long>> level;
+        while ((level = triggeredLevels.pollFirstEntry()) != null) {
+            triggered.addAll(level.getValue());
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.creditto.core_banking.domain.conditionalremittance.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.account.service.AccountService;
+import org.creditto.core_banking.domain.conditionalremittance.dto.ConditionalRemittanceCreateReq;
+import org.creditto.core_banking.domain.conditionalremittance.dto.ConditionalRemittanceRes;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittance;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus;
+import org.creditto.core_banking.domain.conditionalremittance.repository.ConditionalRemittanceRepository;
+import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceProcessorService;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 환율 조건부 송금 서비스
+ * 조건 대기 중인 주문을 통화별 기준 환율 인덱스({@link ConditionalRemittanceIndex})로 보관하고,
+ * 환율 스냅샷이 바뀔 때마다 조건을 만족한 주문만 꺼내어 {@link RemittanceProcessorService}로 송금을 실행
+ */
+@Slf4j
+@Service
+public class ConditionalRemittanceService {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final ConditionalRemittanceRepository conditionalRemittanceRepository;
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final RecipientFactory recipientFactory;
+    private final RemittanceProcessorService remittanceProcessorService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConditionalRemittanceIndex index = new ConditionalRemittanceIndex();
+
+    // 환율 갱신 스레드를 막지 않도록 조건 충족 주문은 별도 스레드에서 순차 실행
+    private final ExecutorService triggerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "conditional-remittance");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ConditionalRemittanceService(
+            ConditionalRemittanceRepository conditionalRemittanceRepository,
+            AccountRepository accountRepository,
+            AccountService accountService,
+            RecipientFactory recipientFactory,
+            RemittanceProcessorService remittanceProcessorService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.conditionalRemittanceRepository = conditionalRemittanceRepository;
+        this.accountRepository = accountRepository;
+        this.accountService = accountService;
+        this.recipientFactory = recipientFactory;
+        this.remittanceProcessorService = remittanceProcessorService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기동 시 실행 중 상태로 남은 주문을 조건 대기로 되돌린 뒤, 조건 대기 중인 주문을 인덱스에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingOrders() {
+        int released = conditionalRemittanceRepository.releaseTriggered();
+        if (released > 0) {
+            log.warn("[ConditionalRemittanceService] 실행 중 상태로 남은 주문 {}건을 조건 대기로 전환", released);
+        }
+
+        List<ConditionalRemittance> pendingOrders = conditionalRemittanceRepository.findAllByStatus(ConditionalRemittanceStatus.PENDING);
+        pendingOrders.forEach(this::addToIndex);
+        log.info("[ConditionalRemittanceService] 조건 대기 주문 적재 완료 - {}건", pendingOrders.size());
+    }
+
+    /**
+     * 환율 조건부 송금 등록
+     * 등록 이후의 환율 변경부터 조건을 평가
+     *
+     * @param userId  사용자 ID
+     * @param request 등록 요청
+     * @return 등록된 조건부 송금 정보
+     */
+    @Transactional
+    public ConditionalRemittanceRes register(Long userId, ConditionalRemittanceCreateReq request) {
+        Account account = accountRepository.findByAccountNo(request.getAccountNo())
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_ACCOUNT));
+
+        accountService.verifyPassword(account.getId(), request.getPassword());
+
+        Recipient recipient = recipientFactory.findOrCreate(request.getRecipientInfo().toRecipientCreateDto());
+        validateCurrencyPair(request.getSendCurrency(), recipient.getCurrencyCode());
+
+        ConditionalRemittance conditionalRemittance = conditionalRemittanceRepository.save(ConditionalRemittance.of(
+                userId,
+                account,
+                recipient,
+                request.getSendCurrency(),
+                request.getTargetAmount(),
+                request.getTriggerCondition(),
+                request.getThresholdRate()
+        ));
+
+        // 커밋 전에 조건이 충족되면 선점 UPDATE가 주문을 찾지 못하므로 커밋 이후 인덱스에 추가
+        afterCommit(() -> addToIndex(conditionalRemittance));
+        return ConditionalRemittanceRes.from(conditionalRemittance);
+    }
+
+    /**
+     * 조건 대기 중인 조건부 송금 취소
+     */
+    @Transactional
+    public void cancel(Long userId, Long conditionalRemittanceId) {
+        ConditionalRemittance conditionalRemittance = conditionalRemittanceRepository.findById(conditionalRemittanceId)
+                .filter(order -> order.getUserId().equals(userId))
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_CONDITIONAL_REMITTANCE));
+
+        int updated = conditionalRemittanceRepository.updateStatus(
+                conditionalRemittanceId,
+                ConditionalRemittanceStatus.PENDING,
+                ConditionalRemittanceStatus.CANCELLED,
+                null
+        );
+        if (updated == 0) {
+            throw new CustomBaseException(ErrorBaseCode.CONDITIONAL_REMITTANCE_NOT_PENDING);
+        }
+
+        index.remove(
+                conditionalRemittanceId,
+                conditionalRemittance.getReceiveCurrency(),
+                conditionalRemittance.getTriggerCondition(),
+                conditionalRemittance.getThresholdRate()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<ConditionalRemittanceRes> getConditionalRemittances(Long userId) {
+        return conditionalRemittanceRepository.findAllByUserIdOrderByConditionalRemittanceIdDesc(userId)
+                .stream()
+                .map(ConditionalRemittanceRes::from)
+                .toList();
+    }
+
+    /**
+     * 환율이 바뀐 통화에 대해 조건을 만족한 주문만 인덱스에서 꺼내어 실행 예약
+     */
+    @EventListener
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        event.changedRates().forEach((currency, rateEntry) -> {
+            List<Long> triggered = index.pollTriggered(currency, rateEntry.baseRate());
+            if (triggered.isEmpty()) {
+                return;
+            }
+            log.info("[ConditionalRemittanceService] {} 환율 {} 도달로 조건 충족 - {}건", currency, rateEntry.baseRate(), triggered.size());
+            triggered.forEach(id -> triggerExecutor.execute(() -> trigger(id)));
+        });
+    }
+
+    /**
+     * 조건을 만족한 주문을 선점한 뒤 송금 실행
+     * 다른 노드가 먼저 선점했거나 취소된 주문은 실행하지 않음
+     * 송금 실행과 완료 처리는 하나의 트랜잭션으로 커밋하므로, 실패 처리되는 주문은 출금이 커밋되지 않은 주문
+     *
+     * @param conditionalRemittanceId 조건을 만족한 주문 ID
+     */
+    public void trigger(Long conditionalRemittanceId) {
+        if (conditionalRemittanceRepository.claim(conditionalRemittanceId, LocalDateTime.now(ZONE_ID)) == 0) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> execute(conditionalRemittanceId));
+        } catch (RuntimeException e) {
+            log.error("[ConditionalRemittanceService] 조건부 송금 실행에 실패하였습니다. conditionalRemittanceId={}, error={}", conditionalRemittanceId, e.getMessage());
+            conditionalRemittanceRepository.updateStatus(
+                    conditionalRemittanceId,
+                    ConditionalRemittanceStatus.TRIGGERED,
+                    ConditionalRemittanceStatus.FAILED,
+                    null
+            );
+        }
+    }
+
+    private void execute(Long conditionalRemittanceId) {
+        // 실행 중 상태의 주문을 잠근 채 실행하여, 다른 노드의 기동 시 복구가 실행 중인 주문을 되돌리지 못하도록 함
+        Optional<ConditionalRemittance> triggered = conditionalRemittanceRepository.findTriggeredForUpdate(conditionalRemittanceId);
+        if (triggered.isEmpty()) {
+            log.info("[ConditionalRemittanceService] 실행 중 상태가 아닌 주문은 실행하지 않음 - conditionalRemittanceId={}", conditionalRemittanceId);
+            return;
+        }
+
+        OverseasRemittanceResponseDto remittance = remittanceProcessorService.execute(ExecuteRemittanceCommand.of(triggered.get()));
+        conditionalRemittanceRepository.updateStatus(
+                conditionalRemittanceId,
+                ConditionalRemittanceStatus.TRIGGERED,
+                ConditionalRemittanceStatus.EXECUTED,
+                remittance.getRemittanceId()
+        );
+    }
+
+    public int getPendingCount() {
+        return index.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        triggerExecutor.shutdownNow();
+    }
+
+    private void validateCurrencyPair(CurrencyCode sendCurrency, CurrencyCode receiveCurrency) {
+        if (sendCurrency == receiveCurrency) {
+            throw new CustomBaseException(ErrorBaseCode.SAME_CURRENCY_EXCHANGE_NOT_ALLOWED);
+        }
+        // 기준 환율은 수취 통화의 매매 기준율이므로 원화 수취는 지원하지 않음
+        if (receiveCurrency == CurrencyCode.KRW) {
+            throw new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
+        }
+    }
+
+    private void addToIndex(ConditionalRemittance conditionalRemittance) {
+        index.add(
+                conditionalRemittance.getConditionalRemittanceId(),
+                conditionalRemittance.getReceiveCurrency(),
+                conditionalRemittance.getTriggerCondition(),
+                conditionalRemittance.getThresholdRate()
+        );
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package org.creditto.core_banking.domain.creditscore.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRes;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreRes;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreUpdateReq;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreIngestService;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreService;
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
+import org.creditto.core_banking.global.response.ApiResponseUtil;
+import org.creditto.core_banking.global.response.BaseResponse;
+import org.creditto.core_banking.global.response.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/core/credit-score")
+public class CreditScoreController {
+
+    private final CreditScoreService creditScoreService;
+    private final CreditScoreIngestService creditScoreIngestService;
+
+    /**
+     * 사용자 신용점수 갱신 (모든 노드의 우대 등급 캐시 무효화)
+     *
+     * @param userId 사용자 ID
+     * @param request 새 신용점수
+     * @return 갱신된 신용점수 및 우대 등급
+     */
+    @PutMapping("/{userId}")
+    public ResponseEntity<BaseResponse<CreditScoreRes>> updateScore(
+            @PathVariable Long userId,
+            @Valid @RequestBody CreditScoreUpdateReq request
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, creditScoreService.updateScore(userId, request.score()));
+    }
+
+    /**
+     * 신용점수 일괄 반영 (NDJSON 스트림, 한 줄에 {"userId":..,"score":..} 하나)
+     * 본문을 한 번에 읽지 않고 묶음 단위로 upsert하며, 반영된 사용자의 우대 등급 캐시를 무효화
+     *
+     * @param request NDJSON 본문을 담은 요청
+     * @return 반영 결과 및 처리량
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BaseResponse<CreditScoreIngestRes>> ingestScores(HttpServletRequest request) throws IOException {
+        return ApiResponseUtil.success(SuccessCode.OK, creditScoreIngestService.ingest(request.getInputStream()));
+    }
+
+    /**
+     * 우대 등급별 최소 신용점수 조회
+     *
+     * @return 등급별 최소 신용점수
+     */
+    @GetMapping("/tiers")
+    public ResponseEntity<BaseResponse<Map<PreferentialRateTier, Integer>>> getTierThresholds() {
+        return ApiResponseUtil.success(SuccessCode.OK, creditScoreService.getTierThresholds());
+    }
+
+    /**
+     * 우대 등급별 최소 신용점수 변경 (재기동 없이 모든 노드에 반영)
+     *
+     * @param minScores 등급별 최소 신용점수 (모든 등급 필수, ETC는 0)
+     * @return 반영된 등급별 최소 신용점수
+     */
+    @PutMapping("/tiers")
+    public ResponseEntity<BaseResponse<Map<PreferentialRateTier, Integer>>> updateTierThresholds(
+            @RequestBody Map<PreferentialRateTier, Integer> minScores
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, creditScoreService.updateTierThresholds(minScores));
+    }
+}
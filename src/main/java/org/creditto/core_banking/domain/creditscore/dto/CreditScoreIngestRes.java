@@ -0,0 +1,24 @@
+package org.creditto.core_banking.domain.creditscore.dto;
+
+/**
+ * 신용점수 일괄 반영 결과
+ *
+ * @param received      수신한 줄 수 (빈 줄 제외)
+ * @param upserted      반영한 행 수
+ * @param rejected      형식이 잘못되어 건너뛴 줄 수
+ * @param elapsedMillis 처리 시간
+ * @param rowsPerSecond 초당 반영 행 수
+ */
+public record CreditScoreIngestRes(
+        long received,
+        long upserted,
+        long rejected,
+        long elapsedMillis,
+        long rowsPerSecond
+) {
+
+    public static CreditScoreIngestRes of(long received, long upserted, long rejected, long elapsedMillis) {
+        long rowsPerSecond = elapsedMillis == 0 ? upserted : upserted * 1_000 / elapsedMillis;
+        return new CreditScoreIngestRes(received, upserted, rejected, elapsedMillis, rowsPerSecond);
+    }
+}
@@ -0,0 +1,15 @@
+package org.creditto.core_banking.domain.creditscore.dto;
+
+/**
+ * 신용점수 일괄 반영 요청의 한 줄 (NDJSON)
+ * 예: {"userId":1,"score":850}
+ */
+public record CreditScoreIngestRow(
+        Long userId,
+        Integer score
+) {
+
+    public boolean isValid() {
+        return userId != null && score != null && score >= 0 && score <= 1000;
+    }
+}
@@ -0,0 +1,15 @@
+package org.creditto.core_banking.domain.creditscore.dto;
+
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
+
+public record CreditScoreRes(
+        Long userId,
+        Integer score,
+        PreferentialRateTier preferentialRateTier,
+        double preferentialRate
+) {
+
+    public static CreditScoreRes of(Long userId, Integer score, PreferentialRateTier tier) {
+        return new CreditScoreRes(userId, score, tier, tier.getPreferentialRate());
+    }
+}
@@ -0,0 +1,13 @@
+package org.creditto.core_banking.domain.creditscore.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CreditScoreUpdateReq(
+        @NotNull(message = "신용점수는 필수입니다.")
+        @Min(value = 0, message = "신용점수는 0점 이상이어야 합니다.")
+        @Max(value = 1000, message = "신용점수는 1000점 이하여야 합니다.")
+        Integer score
+) {
+}
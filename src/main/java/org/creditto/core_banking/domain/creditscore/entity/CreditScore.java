@@ -16,4 +16,15 @@ public class CreditScore extends BaseEntity {
 
     @Column(name = "score", nullable = false)
     private Integer score;
+
+    public static CreditScore of(Long userId, Integer score) {
+        return CreditScore.builder()
+                .userId(userId)
+                .score(score)
+                .build();
+    }
+
+    public void updateScore(Integer score) {
+        this.score = score;
+    }
 }
@@ -0,0 +1,46 @@
+package org.creditto.core_banking.domain.creditscore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 신용점수 대량 반영용 JDBC 저장소
+ * CreditScore는 userId를 직접 할당하므로 JPA save는 행마다 SELECT 후 INSERT/UPDATE를 수행한다.
+ * 대량 반영은 조회 없이 INSERT ... ON DUPLICATE KEY UPDATE를 배치로 실행
+ * 갱신 값은 MySQL 8에서 사용 중단된 VALUES() 대신 파라미터로 한 번 더 바인딩 (MySQL, H2 MySQL 모드 모두 동작)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CreditScoreJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO credit_score (user_id, score, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE score = ?, updated_at = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 신용점수 일괄 upsert (하나의 JDBC 배치로 전송)
+     *
+     * @param rows 반영할 신용점수 (유효성 검증 완료)
+     */
+    public void upsertAll(List<CreditScoreIngestRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setLong(1, row.userId());
+            statement.setInt(2, row.score());
+            statement.setTimestamp(3, now);
+            statement.setTimestamp(4, now);
+            statement.setInt(5, row.score());
+            statement.setTimestamp(6, now);
+        });
+    }
+}
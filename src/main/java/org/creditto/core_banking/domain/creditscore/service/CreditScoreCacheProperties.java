@@ -0,0 +1,56 @@
+package org.creditto.core_banking.domain.creditscore.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "credit-score.cache")
+public class CreditScoreCacheProperties {
+
+    private final boolean redisEnabled;
+    private final long localMaximumSize;
+    private final long localTtlMillis;
+    private final long redisTtlMillis;
+    private final String keyPrefix;
+
+    public CreditScoreCacheProperties(boolean redisEnabled, long localMaximumSize, long localTtlMillis, long redisTtlMillis, String keyPrefix) {
+        this.redisEnabled = redisEnabled;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtlMillis = localTtlMillis;
+        this.redisTtlMillis = redisTtlMillis;
+        this.keyPrefix = keyPrefix;
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public long getLocalMaximumSize() {
+        return localMaximumSize;
+    }
+
+    public Duration getLocalTtl() {
+        return Duration.ofMillis(localTtlMillis);
+    }
+
+    public Duration getRedisTtl() {
+        return Duration.ofMillis(redisTtlMillis);
+    }
+
+    public String getTierKey(String policyVersion, Long userId) {
+        return keyPrefix + "tier:" + policyVersion + ":" + userId;
+    }
+
+    // 등급 기준 버전과 무관하게 사용자별 무효화 횟수를 세는 키
+    public String getTierGenerationKey(Long userId) {
+        return keyPrefix + "tier-gen:" + userId;
+    }
+
+    public String getThresholdsKey() {
+        return keyPrefix + "thresholds";
+    }
+
+    public String getTopicName() {
+        return keyPrefix + "invalidated";
+    }
+}
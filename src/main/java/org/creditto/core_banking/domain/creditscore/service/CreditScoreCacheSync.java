@@ -0,0 +1,242 @@
+package org.creditto.core_banking.domain.creditscore.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 우대 등급 캐시의 Redis 계층 및 노드 간 무효화 알림
+ * 사용자별 등급은 등급 기준 버전을 포함한 키로 저장하므로, 기준이 바뀌면 이전 키는 조회되지 않고 만료된다.
+ * 무효화할 때마다 사용자별 세대 값을 올리고, 등급 저장은 DB 조회 전에 읽은 세대가 그대로일 때만 수행하여
+ * 무효화 이전 점수로 계산한 등급이 무효화 이후에 다시 저장되지 않도록 한다.
+ * Redis 장애 시에는 DB 조회로 대체되도록 예외를 전파하지 않는다.
+ */
+@Slf4j
+@Component
+public class CreditScoreCacheSync {
+
+    private static final String MESSAGE_DELIMITER = "\n";
+    private static final String USERS_MESSAGE_PREFIX = "users:";
+    private static final String USER_ID_DELIMITER = ",";
+    private static final String THRESHOLDS_MESSAGE = "thresholds";
+    private static final String INITIAL_GENERATION = "0";
+
+    // KEYS[1]: 등급 키, KEYS[2]: 세대 키 / ARGV[1]: 조회 시점 세대, ARGV[2]: 등급, ARGV[3]: TTL(ms)
+    private static final String SAVE_TIER_IF_CURRENT_SCRIPT = """
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """;
+
+    // KEYS[1..n]: 등급 키, KEYS[n+1..2n]: 세대 키 / ARGV[1]: 세대 키 TTL(ms)
+    private static final String INVALIDATE_TIERS_SCRIPT = """
+            local count = #KEYS / 2
+            for i = 1, count do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[count + i])
+                redis.call('PEXPIRE', KEYS[count + i], ARGV[1])
+            end
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+    private final CreditScoreCacheProperties cacheProperties;
+
+    // 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CreditScoreCacheSync(RedissonClient redissonClient, CreditScoreCacheProperties cacheProperties) {
+        this.redissonClient = redissonClient;
+        this.cacheProperties = cacheProperties;
+    }
+
+    public boolean isEnabled() {
+        return cacheProperties.isRedisEnabled();
+    }
+
+    /**
+     * Redis에 저장된 사용자 우대 등급 조회
+     *
+     * @return 우대 등급 (비활성화, 저장본 없음, Redis 장애 시 빈 Optional)
+     */
+    public Optional<PreferentialRateTier> loadTier(String policyVersion, Long userId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String tier = redissonClient.<String>getBucket(cacheProperties.getTierKey(policyVersion, userId), StringCodec.INSTANCE).get();
+            return Optional.ofNullable(tier).map(PreferentialRateTier::valueOf);
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 우대 등급 캐시 조회 실패 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자 우대 등급의 현재 무효화 세대 조회 (DB 조회 전에 호출)
+     *
+     * @return 세대 값 (비활성화, Redis 장애 시 빈 Optional이며 이 경우 등급을 저장하지 않음)
+     */
+    public Optional<String> loadGeneration(Long userId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String generation = redissonClient.<String>getBucket(cacheProperties.getTierGenerationKey(userId), StringCodec.INSTANCE).get();
+            return Optional.of(generation != null ? generation : INITIAL_GENERATION);
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 우대 등급 세대 조회 실패 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조회 시점 이후 무효화가 없었던 경우에만 우대 등급 저장
+     *
+     * @param generation DB 조회 전에 읽은 세대 ({@link #loadGeneration(Long)})
+     */
+    public void saveTier(String policyVersion, Long userId, PreferentialRateTier tier, String generation) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Boolean saved = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    SAVE_TIER_IF_CURRENT_SCRIPT,
+                    RScript.ReturnType.BOOLEAN,
+                    List.<Object>of(cacheProperties.getTierKey(policyVersion, userId), cacheProperties.getTierGenerationKey(userId)),
+                    generation, tier.name(), String.valueOf(cacheProperties.getRedisTtl().toMillis())
+            );
+            if (!Boolean.TRUE.equals(saved)) {
+                log.debug("[CreditScoreCacheSync] 조회 중 무효화되어 우대 등급 저장 생략 - userId={}", userId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 우대 등급 캐시 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 우대 등급 캐시를 삭제하고 세대를 올린 뒤 다른 노드에 로컬 캐시 무효화를 알림
+     * 대량 반영 시에도 키 삭제와 알림이 사용자 묶음당 한 번씩만 발생
+     */
+    public void invalidateTiers(String policyVersion, Collection<Long> userIds) {
+        if (!isEnabled() || userIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<Object> keys = new ArrayList<>(userIds.size() * 2);
+            userIds.forEach(userId -> keys.add(cacheProperties.getTierKey(policyVersion, userId)));
+            userIds.forEach(userId -> keys.add(cacheProperties.getTierGenerationKey(userId)));
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    INVALIDATE_TIERS_SCRIPT,
+                    RScript.ReturnType.BOOLEAN,
+                    keys,
+                    String.valueOf(cacheProperties.getRedisTtl().toMillis())
+            );
+            String joinedIds = userIds.stream().map(String::valueOf).collect(Collectors.joining(USER_ID_DELIMITER));
+            getTopic().publish(nodeId + MESSAGE_DELIMITER + USERS_MESSAGE_PREFIX + joinedIds);
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 우대 등급 캐시 무효화 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 공유된 등급별 최소 점수 조회 (운영 중 변경된 기준을 새로 기동한 노드도 사용하도록)
+     */
+    public Optional<Map<PreferentialRateTier, Integer>> loadThresholds() {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String content = redissonClient.<String>getBucket(cacheProperties.getThresholdsKey(), StringCodec.INSTANCE).get();
+            return Optional.ofNullable(content).map(CreditScoreCacheSync::deserializeThresholds);
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 등급 기준 조회 실패 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 변경된 등급별 최소 점수를 저장하고 다른 노드에 알림
+     */
+    public void publishThresholds(Map<PreferentialRateTier, Integer> minScores) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            redissonClient.<String>getBucket(cacheProperties.getThresholdsKey(), StringCodec.INSTANCE).set(serializeThresholds(minScores));
+            getTopic().publish(nodeId + MESSAGE_DELIMITER + THRESHOLDS_MESSAGE);
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 등급 기준 공유 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 알림 수신 등록
+     *
+     * @param onUsersInvalidated  사용자 등급 변경 시 처리 (사용자 ID 목록)
+     * @param onThresholdsChanged 등급 기준 변경 시 처리
+     */
+    public void subscribe(Consumer<List<Long>> onUsersInvalidated, Runnable onThresholdsChanged) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            getTopic().addListener(String.class, (channel, message) -> {
+                int senderEnd = message.indexOf(MESSAGE_DELIMITER);
+                if (senderEnd < 0 || nodeId.equals(message.substring(0, senderEnd))) {
+                    return;
+                }
+                String body = message.substring(senderEnd + 1);
+                try {
+                    if (THRESHOLDS_MESSAGE.equals(body)) {
+                        onThresholdsChanged.run();
+                    } else if (body.startsWith(USERS_MESSAGE_PREFIX)) {
+                        onUsersInvalidated.accept(Arrays.stream(body.substring(USERS_MESSAGE_PREFIX.length()).split(USER_ID_DELIMITER))
+                                .map(Long::valueOf)
+                                .toList());
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("[CreditScoreCacheSync] 수신한 무효화 알림 처리 실패 - {}", e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("[CreditScoreCacheSync] 무효화 알림 구독 실패 - {}", e.getMessage());
+        }
+    }
+
+    static String serializeThresholds(Map<PreferentialRateTier, Integer> minScores) {
+        return minScores.entrySet().stream()
+                .map(entry -> entry.getKey().name() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    static Map<PreferentialRateTier, Integer> deserializeThresholds(String content) {
+        Map<PreferentialRateTier, Integer> minScores = new EnumMap<>(PreferentialRateTier.class);
+        Arrays.stream(content.split(","))
+                .map(pair -> pair.split("=", 2))
+                .forEach(pair -> minScores.put(PreferentialRateTier.valueOf(pair[0]), Integer.valueOf(pair[1])));
+        return minScores;
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(cacheProperties.getTopicName(), StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,144 @@
+package org.creditto.core_banking.domain.creditscore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRes;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRow;
+import org.creditto.core_banking.domain.creditscore.repository.CreditScoreJdbcRepository;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 신용점수 일괄 반영 서비스
+ * NDJSON 스트림을 한 줄씩 읽어 일정 크기 묶음마다 JDBC 배치 upsert로 반영하고,
+ * 묶음이 커밋될 때마다 해당 사용자들의 우대 등급 캐시를 무효화한다.
+ * 요청 본문 전체를 메모리에 올리지 않으므로 전체 고객 규모의 반영도 묶음 크기만큼의 메모리로 처리
+ */
+@Slf4j
+@Service
+public class CreditScoreIngestService {
+
+    private static final int MAX_LOGGED_REJECTIONS = 10;
+
+    private final CreditScoreJdbcRepository creditScoreJdbcRepository;
+    private final CreditScoreService creditScoreService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter upsertedCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+
+    public CreditScoreIngestService(
+            CreditScoreJdbcRepository creditScoreJdbcRepository,
+            CreditScoreService creditScoreService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${credit-score.ingest.batch-size:1000}") int batchSize
+    ) {
+        this.creditScoreJdbcRepository = creditScoreJdbcRepository;
+        this.creditScoreService = creditScoreService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.upsertedCounter = Counter.builder("credit.score.ingest.rows")
+                .description("일괄 반영된 신용점수 행 수")
+                .tag("result", "upserted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("credit.score.ingest.rows")
+                .description("일괄 반영된 신용점수 행 수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("credit.score.ingest.batch")
+                .description("신용점수 묶음 반영 시간 (upsert + 캐시 무효화)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * NDJSON 형식의 신용점수를 일괄 반영
+     * 형식이 잘못된 줄은 건너뛰고, 이미 커밋된 묶음은 이후 묶음이 실패해도 유지
+     *
+     * @param ndjson 한 줄에 {"userId":..,"score":..} 하나씩 담긴 스트림
+     * @return 반영 결과 및 처리량
+     */
+    public CreditScoreIngestRes ingest(InputStream ndjson) {
+        long startedAt = System.nanoTime();
+        long received = 0;
+        long upserted = 0;
+        long rejected = 0;
+        List<CreditScoreIngestRow> chunk = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                received++;
+                CreditScoreIngestRow row = parse(line);
+                if (row == null) {
+                    if (++rejected <= MAX_LOGGED_REJECTIONS) {
+                        log.warn("[CreditScoreIngestService] 잘못된 신용점수 행 건너뜀 - line={}", received);
+                    }
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    upserted += flush(chunk);
+                }
+            }
+            upserted += flush(chunk);
+        } catch (IOException e) {
+            log.error("[CreditScoreIngestService] 신용점수 스트림 읽기 실패 - 반영 완료 {}건", upserted, e);
+            throw new CustomBaseException(ErrorBaseCode.NOT_READABLE);
+        }
+
+        rejectedCounter.increment(rejected);
+        CreditScoreIngestRes result = CreditScoreIngestRes.of(received, upserted, rejected, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("[CreditScoreIngestService] 신용점수 일괄 반영 완료 - 반영 {}건, 건너뜀 {}건, {}ms ({}건/초)",
+                result.upserted(), result.rejected(), result.elapsedMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private int flush(List<CreditScoreIngestRow> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<CreditScoreIngestRow> rows = List.copyOf(chunk);
+        chunk.clear();
+        batchTimer.record(() -> {
+            transactionTemplate.executeWithoutResult(status -> creditScoreJdbcRepository.upsertAll(rows));
+            // 커밋 이후 무효화해야 다른 노드가 이전 점수로 캐시를 다시 채우지 않음
+            creditScoreService.invalidateTiers(rows.stream().map(CreditScoreIngestRow::userId).toList());
+        });
+        upsertedCounter.increment(rows.size());
+        return rows.size();
+    }
+
+    private CreditScoreIngestRow parse(String line) {
+        try {
+            CreditScoreIngestRow row = objectMapper.readValue(line, CreditScoreIngestRow.class);
+            return row.isValid() ? row : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
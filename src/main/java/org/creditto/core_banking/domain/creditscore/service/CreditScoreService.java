@@ -1,28 +1,193 @@
 package org.creditto.core_banking.domain.creditscore.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreRes;
 import org.creditto.core_banking.domain.creditscore.entity.CreditScore;
 import org.creditto.core_banking.domain.creditscore.repository.CreditScoreRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CreditScoreService {
 
+    private static final String CACHE_NAME = "credit-score-tier";
+
     private final CreditScoreRepository creditScoreRepository;
+    private final PreferentialRateTierPolicy tierPolicy;
+    private final CreditScoreCacheSync cacheSync;
+
+    // 1차 캐시: 노드 로컬 (userId -> 우대 등급)
+    private final Cache<Long, PreferentialRateTier> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public CreditScoreService(
+            CreditScoreRepository creditScoreRepository,
+            PreferentialRateTierPolicy tierPolicy,
+            CreditScoreCacheSync cacheSync,
+            CreditScoreCacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.creditScoreRepository = creditScoreRepository;
+        this.tierPolicy = tierPolicy;
+        this.cacheSync = cacheSync;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getLocalMaximumSize())
+                .expireAfterWrite(cacheProperties.getLocalTtl())
+                .recordStats()
+                .build();
+        // cache_gets_total{cache="credit-score-tier",result="hit|miss"} 등 로컬 캐시 지표
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+        Gauge.builder("credit.score.tier.cache.hit.ratio", localCache, cache -> cache.stats().hitRate())
+                .description("우대 등급 로컬 캐시 적중률")
+                .tag("level", "local")
+                .register(meterRegistry);
+        this.redisHitCounter = Counter.builder("credit.score.tier.cache")
+                .description("로컬 캐시 미스 시 Redis 캐시 조회 결과")
+                .tag("level", "redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("credit.score.tier.cache")
+                .description("로컬 캐시 미스 시 Redis 캐시 조회 결과")
+                .tag("level", "redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 다른 노드가 변경해 둔 등급 기준을 반영하고 무효화 알림을 구독
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeInvalidation() {
+        cacheSync.loadThresholds().ifPresent(this::applyThresholds);
+        cacheSync.subscribe(localCache::invalidateAll, this::reloadThresholds);
+    }
 
     /**
      * 특정 사용자의 신용점수를 조회하고, 해당 점수에 따른 우대 환율을 반환합니다.
      * 신용점수가 없는 경우 기본 우대율 (0.0)을 반환합니다.
      * @param userId 사용자 ID
      * @return 적용될 우대 환율 (예: 0.9 = 90% 우대)
-     20      */
+     */
     public double getPreferentialRate(Long userId) {
+        return getPreferentialRateTier(userId).getPreferentialRate();
+    }
+
+    /**
+     * 특정 사용자의 신용점수에 해당하는 우대 등급을 반환합니다.
+     * 신용점수가 없는 경우 ETC 등급을 반환합니다.
+     * 로컬 캐시 -> Redis 캐시 -> DB 순으로 조회합니다.
+     * @param userId 사용자 ID
+     * @return 우대 등급
+     */
+    public PreferentialRateTier getPreferentialRateTier(Long userId) {
+        return localCache.get(userId, this::loadTier);
+    }
+
+    /**
+     * 사용자의 신용점수를 갱신하고, 커밋 이후 모든 노드의 우대 등급 캐시를 무효화합니다.
+     * @param userId 사용자 ID
+     * @param score 새 신용점수
+     * @return 갱신된 신용점수 및 우대 등급
+     */
+    @Transactional
+    public CreditScoreRes updateScore(Long userId, int score) {
+        creditScoreRepository.findByUserId(userId)
+                .ifPresentOrElse(
+                        creditScore -> creditScore.updateScore(score),
+                        () -> creditScoreRepository.save(CreditScore.of(userId, score))
+                );
+
+        afterCommit(() -> invalidateTiers(List.of(userId)));
+        return CreditScoreRes.of(userId, score, tierPolicy.forScore(score));
+    }
+
+    /**
+     * 신용점수가 바뀐 사용자들의 우대 등급 캐시를 모든 노드에서 무효화합니다.
+     * @param userIds 신용점수가 바뀐 사용자 ID 목록
+     */
+    public void invalidateTiers(Collection<Long> userIds) {
+        localCache.invalidateAll(userIds);
+        cacheSync.invalidateTiers(tierPolicy.getVersion(), userIds);
+    }
+
+    public Map<PreferentialRateTier, Integer> getTierThresholds() {
+        return tierPolicy.getMinScores();
+    }
+
+    /**
+     * 등급별 최소 점수를 변경하고 모든 노드에 반영합니다.
+     * Redis 캐시 키에 기준 버전이 포함되어 있으므로 이전 기준으로 계산된 등급은 더 이상 조회되지 않습니다.
+     * @param minScores 등급별 최소 점수
+     * @return 반영된 등급별 최소 점수
+     */
+    public Map<PreferentialRateTier, Integer> updateTierThresholds(Map<PreferentialRateTier, Integer> minScores) {
+        applyThresholds(minScores);
+        cacheSync.publishThresholds(tierPolicy.getMinScores());
+        return tierPolicy.getMinScores();
+    }
+
+    private PreferentialRateTier loadTier(Long userId) {
+        String policyVersion = tierPolicy.getVersion();
+        PreferentialRateTier cached = cacheSync.loadTier(policyVersion, userId).orElse(null);
+        if (cached != null) {
+            redisHitCounter.increment();
+            return cached;
+        }
+        if (cacheSync.isEnabled()) {
+            redisMissCounter.increment();
+        }
+
+        // DB 조회 전에 세대를 읽어 두어, 조회 중 점수가 바뀌어 무효화되었다면 이전 등급을 Redis에 저장하지 않음
+        Optional<String> generation = cacheSync.loadGeneration(userId);
+
         // userId로 신용 점수를 찾고, 없으면 기본값으로 처리
         Integer score = creditScoreRepository.findByUserId(userId)
                 .map(CreditScore::getScore)
                 .orElse(0);// 신용 점수가 없는 경우 0점으로 처리하여 ETC 등급이 적용
 
-        return PreferentialRateTier.getRateForScore(score);
+        PreferentialRateTier tier = tierPolicy.forScore(score);
+        generation.ifPresent(current -> cacheSync.saveTier(policyVersion, userId, tier, current));
+        return tier;
+    }
+
+    private void reloadThresholds() {
+        cacheSync.loadThresholds().ifPresent(this::applyThresholds);
+    }
+
+    private void applyThresholds(Map<PreferentialRateTier, Integer> minScores) {
+        if (tierPolicy.replace(minScores)) {
+            localCache.invalidateAll();
+            log.info("[CreditScoreService] 우대 등급 기준 변경 - {}", tierPolicy.getMinScores());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
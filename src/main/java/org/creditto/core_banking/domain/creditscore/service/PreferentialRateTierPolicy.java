@@ -0,0 +1,97 @@
+package org.creditto.core_banking.domain.creditscore.service;
+
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 신용 점수 -> 우대 등급 변환 정책
+ * 등급별 최소 점수를 정렬된 구간 테이블로 보관하고, 변경 시 테이블 전체를 원자적으로 교체(무중단 반영)
+ */
+@Component
+public class PreferentialRateTierPolicy {
+
+    private final AtomicReference<Thresholds> thresholdsRef;
+
+    public PreferentialRateTierPolicy(PreferentialRateTierProperties tierProperties) {
+        this.thresholdsRef = new AtomicReference<>(Thresholds.of(tierProperties.getMinScores()));
+    }
+
+    /**
+     * 신용 점수에 해당하는 우대 등급 반환
+     * @param score 신용 점수
+     * @return 점수 이하의 최소 점수 중 가장 큰 등급 (해당 없으면 ETC)
+     */
+    public PreferentialRateTier forScore(int score) {
+        Map.Entry<Integer, PreferentialRateTier> entry = thresholdsRef.get().tiersByMinScore().floorEntry(score);
+        return entry == null ? PreferentialRateTier.ETC : entry.getValue();
+    }
+
+    public Map<PreferentialRateTier, Integer> getMinScores() {
+        return thresholdsRef.get().minScores();
+    }
+
+    /**
+     * 현재 등급 기준의 버전
+     * 같은 기준이면 모든 노드에서 같은 값이 나오므로 캐시 키에 포함하여 기준 변경 시 이전 캐시를 무효화하는 데 사용
+     */
+    public String getVersion() {
+        return thresholdsRef.get().version();
+    }
+
+    /**
+     * 등급별 최소 점수 교체
+     *
+     * @param minScores 등급별 최소 점수 (모든 등급 필수, 상위 등급일수록 높은 점수, ETC는 0)
+     * @return 기준이 실제로 바뀌었는지 여부
+     * @throws CustomBaseException 기준이 올바르지 않은 경우
+     */
+    public boolean replace(Map<PreferentialRateTier, Integer> minScores) {
+        Thresholds updated = Thresholds.of(minScores);
+        return !thresholdsRef.getAndSet(updated).version().equals(updated.version());
+    }
+
+    private record Thresholds(
+            Map<PreferentialRateTier, Integer> minScores,
+            NavigableMap<Integer, PreferentialRateTier> tiersByMinScore,
+            String version
+    ) {
+
+        static Thresholds of(Map<PreferentialRateTier, Integer> minScores) {
+            validate(minScores);
+            Map<PreferentialRateTier, Integer> copied = new EnumMap<>(minScores);
+            NavigableMap<Integer, PreferentialRateTier> tiersByMinScore = new TreeMap<>();
+            copied.forEach((tier, minScore) -> tiersByMinScore.put(minScore, tier));
+
+            StringBuilder version = new StringBuilder();
+            copied.values().forEach(minScore -> version.append(minScore).append('.'));
+            return new Thresholds(
+                    Collections.unmodifiableMap(copied),
+                    Collections.unmodifiableNavigableMap(tiersByMinScore),
+                    Integer.toHexString(version.toString().hashCode())
+            );
+        }
+
+        private static void validate(Map<PreferentialRateTier, Integer> minScores) {
+            if (minScores == null || minScores.size() != PreferentialRateTier.values().length
+                    || minScores.values().stream().anyMatch(minScore -> minScore == null || minScore < 0)
+                    || minScores.get(PreferentialRateTier.ETC) != 0) {
+                throw new CustomBaseException(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+            }
+            // 등급은 우대율 내림차순으로 선언되어 있으므로 최소 점수도 선언 순서대로 감소해야 함
+            PreferentialRateTier[] tiers = PreferentialRateTier.values();
+            for (int i = 1; i < tiers.length; i++) {
+                if (minScores.get(tiers[i - 1]) <= minScores.get(tiers[i])) {
+                    throw new CustomBaseException(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.creditto.core_banking.domain.creditscore.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "credit-score.tier")
+public class PreferentialRateTierProperties {
+
+    // 등급별 최소 신용 점수 (기동 시 기본값, 운영 중에는 API로 변경)
+    private final Map<PreferentialRateTier, Integer> minScores;
+
+    public PreferentialRateTierProperties(Map<PreferentialRateTier, Integer> minScores) {
+        this.minScores = minScores;
+    }
+
+    public Map<PreferentialRateTier, Integer> getMinScores() {
+        return minScores;
+    }
+}
@@ -3,18 +3,33 @@ package org.creditto.core_banking.domain.exchange.controller;
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.creditscore.service.CreditScoreService;
 import org.creditto.core_banking.domain.exchange.dto.*;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateHistoryService;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateStreamService;
 import org.creditto.core_banking.domain.exchange.service.ExchangeService;
 import org.creditto.core_banking.global.response.ApiResponseUtil;
 import org.creditto.core_banking.global.response.BaseResponse;
 import org.creditto.core_banking.global.response.SuccessCode;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/core/exchange")
@@ -23,6 +38,8 @@ public class ExchangeController {
 
     private final ExchangeService exchangeService;
     private final CreditScoreService  creditScoreService;
+    private final ExchangeRateStreamService exchangeRateStreamService;
+    private final ExchangeRateHistoryService exchangeRateHistoryService;
 
     /**
      * 최신 환율 정보 조회
@@ -34,6 +51,21 @@ public class ExchangeController {
         return ApiResponseUtil.success(SuccessCode.OK, exchangeService.getLatestRates());
     }
 
+    /**
+     * 환율 변경 스트림 구독 (Server-Sent Events)
+     * 구독 직후 현재 환율(snapshot 이벤트)을 보내고, 이후 환율이 바뀔 때마다 변경된 통화만(rates 이벤트) 전송
+     *
+     * @param currencies 관심 통화 목록 (예: ?currencies=USD,JPY, 생략 시 전체 통화)
+     * @return SSE 응답
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExchangeRates(@RequestParam(required = false, defaultValue = "") List<String> currencies) {
+        Set<CurrencyCode> currencyCodes = currencies.stream()
+                .map(CurrencyCode::from)
+                .collect(Collectors.toSet());
+        return exchangeRateStreamService.subscribe(currencyCodes);
+    }
+
     /**
      * 특정 통화 최신 환율 정보 조회
      *
@@ -46,6 +78,29 @@ public class ExchangeController {
         return ApiResponseUtil.success(SuccessCode.OK, exchangeService.getRateByCurrency(currencyCode));
     }
 
+    /**
+     * 특정 통화 환율 이력 조회
+     *
+     * @param currency 조회할 통화
+     * @param from 조회 시작 시각 (ISO-8601, 생략 시 종료 시각 24시간 전)
+     * @param to 조회 종료 시각 (ISO-8601, 생략 시 현재)
+     * @param maxPoints 반환할 최대 지점 수 (초과 시 구간별로 묶어서 반환)
+     * @return 성공 응답 및 환율 이력
+     */
+    @GetMapping("/{currency}/history")
+    public ResponseEntity<BaseResponse<ExchangeRateHistoryRes>> getExchangeRateHistory(
+            @PathVariable String currency,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "200") int maxPoints
+    ) {
+        CurrencyCode currencyCode = CurrencyCode.from(currency);
+        Instant rangeTo = to == null ? Instant.now() : to;
+        Instant rangeFrom = from == null ? rangeTo.minus(Duration.ofDays(1)) : from;
+        return ApiResponseUtil.success(SuccessCode.OK,
+                exchangeRateHistoryService.getHistory(currencyCode, rangeFrom, rangeTo, maxPoints));
+    }
+
     @GetMapping("/preferential-rate/{userId}/{currency}")
     public ResponseEntity<BaseResponse<PreferentialRateRes>> getPreferentialRate(
             @PathVariable Long userId,
@@ -54,4 +109,36 @@ public class ExchangeController {
         CurrencyCode currencyCode = CurrencyCode.from(currency);
         return ApiResponseUtil.success(SuccessCode.OK, exchangeService.getPreferentialRateInfo(userId, currencyCode));
     }
+
+    /**
+     * 사용자 우대율이 반영된 전체 통화 환율표 조회
+     * 통화별 살 때/팔 때 환율과 요청한 외화 금액별 원화 환산액을 한 번에 반환
+     *
+     * @param userId 사용자 ID
+     * @param amounts 원화 환산액을 계산할 외화 금액 목록 (예: ?amounts=100,1000)
+     * @return 성공 응답 및 전체 통화 환율표
+     */
+    @GetMapping("/rate-board/{userId}")
+    public ResponseEntity<BaseResponse<RateBoardRes>> getRateBoard(
+            @PathVariable Long userId,
+            @RequestParam(required = false, defaultValue = "") List<BigDecimal> amounts
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, exchangeService.getRateBoard(userId, amounts));
+    }
+
+    /**
+     * 환전 견적 생성
+     * 발급된 견적 ID를 송금 요청에 함께 전달하면 견적 시점의 환율로 송금이 처리됨
+     *
+     * @param userId 사용자 ID
+     * @param request 환전 견적 요청 (보내는 통화, 받는 통화, 받을 금액)
+     * @return 성공 응답 및 견적 정보
+     */
+    @PostMapping("/quote/{userId}")
+    public ResponseEntity<BaseResponse<ExchangeQuoteRes>> createQuote(
+            @PathVariable Long userId,
+            @Valid @RequestBody ExchangeQuoteReq request
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, exchangeService.createQuote(userId, request.toExchangeReq()));
+    }
 }
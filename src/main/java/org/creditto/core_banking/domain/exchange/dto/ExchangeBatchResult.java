@@ -0,0 +1,30 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import org.creditto.core_banking.global.response.error.ErrorCode;
+
+/**
+ * 일괄 환전 계산의 건별 결과
+ * 계산에 성공하면 result에 저장 전 환전 내역을 담고, 실패하면 error에 실패 사유를 담는다.
+ *
+ * @param request 원본 환전 요청
+ * @param result  환전 계산 결과 (실패 시 null)
+ * @param error   실패 사유 (성공 시 null)
+ */
+public record ExchangeBatchResult(
+        ExchangeReq request,
+        ExchangeRes result,
+        ErrorCode error
+) {
+
+    public static ExchangeBatchResult success(ExchangeReq request, ExchangeRes result) {
+        return new ExchangeBatchResult(request, result, null);
+    }
+
+    public static ExchangeBatchResult failure(ExchangeReq request, ErrorCode error) {
+        return new ExchangeBatchResult(request, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
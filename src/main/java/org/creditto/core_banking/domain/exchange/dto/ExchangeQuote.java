@@ -0,0 +1,38 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Redis에 저장되는 환전 견적
+ * 견적 시점의 환율 스냅샷, 우대 등급, 금액으로 계산한 결과를 그대로 보관하여
+ * 송금 실행 시 환율 재조회와 재계산 없이 사용한다.
+ */
+public record ExchangeQuote(
+        String quoteId,
+        Long userId,
+        CurrencyCode fromCurrency,
+        CurrencyCode toCurrency,
+        BigDecimal targetAmount,      // 받을 금액
+        BigDecimal exchangeAmount,    // 보낼 금액
+        BigDecimal exchangeRate,      // API 원본 매매 기준율
+        BigDecimal appliedRate,       // 우대율이 반영된 적용 환율
+        BigDecimal fromAmountInUSD,
+        PreferentialRateTier preferentialRateTier,
+        Instant rateFetchedAt,        // 견적에 사용한 환율 스냅샷 조회 시각
+        Instant expiresAt
+) {
+
+    /**
+     * 견적을 만든 사용자와 요청 내용이 같은지 확인
+     */
+    public boolean matches(Long userId, ExchangeReq request) {
+        return this.userId.equals(userId)
+                && fromCurrency == request.fromCurrency()
+                && toCurrency == request.toCurrency()
+                && targetAmount.compareTo(request.targetAmount()) == 0;
+    }
+}
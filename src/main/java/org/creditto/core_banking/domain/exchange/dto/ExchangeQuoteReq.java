@@ -0,0 +1,24 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+
+public record ExchangeQuoteReq(
+        @NotNull(message = "보내는 통화는 필수입니다.")
+        CurrencyCode fromCurrency,
+
+        @NotNull(message = "받는 통화는 필수입니다.")
+        CurrencyCode toCurrency,
+
+        @NotNull(message = "받을 금액은 필수입니다.")
+        @Positive(message = "받을 금액은 0보다 커야 합니다.")
+        BigDecimal targetAmount
+) {
+
+    public ExchangeReq toExchangeReq() {
+        return ExchangeReq.of(fromCurrency, toCurrency, targetAmount);
+    }
+}
@@ -0,0 +1,31 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ExchangeQuoteRes(
+        String quoteId,
+        CurrencyCode fromCurrency,
+        CurrencyCode toCurrency,
+        BigDecimal targetAmount,
+        BigDecimal exchangeAmount,
+        BigDecimal appliedRate,
+        double preferentialRate,
+        Instant expiresAt
+) {
+
+    public static ExchangeQuoteRes from(ExchangeQuote quote) {
+        return new ExchangeQuoteRes(
+                quote.quoteId(),
+                quote.fromCurrency(),
+                quote.toCurrency(),
+                quote.targetAmount(),
+                quote.exchangeAmount(),
+                quote.appliedRate(),
+                quote.preferentialRateTier().getPreferentialRate(),
+                quote.expiresAt()
+        );
+    }
+}
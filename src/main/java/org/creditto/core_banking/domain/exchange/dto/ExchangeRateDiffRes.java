@@ -0,0 +1,26 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import org.creditto.core_banking.global.feign.RateEntry;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 환율 스트림으로 전송되는 환율 변경분
+ *
+ * @param fetchedAt 환율 스냅샷 조회 시각
+ * @param rates     변경된 통화의 매매 기준율 (최초 구독 시에는 구독한 전체 통화)
+ */
+public record ExchangeRateDiffRes(
+        Instant fetchedAt,
+        List<SingleExchangeRateRes> rates
+) {
+
+    public static ExchangeRateDiffRes of(Instant fetchedAt, Collection<RateEntry> rateEntries) {
+        return new ExchangeRateDiffRes(
+                fetchedAt,
+                rateEntries.stream().map(SingleExchangeRateRes::from).toList()
+        );
+    }
+}
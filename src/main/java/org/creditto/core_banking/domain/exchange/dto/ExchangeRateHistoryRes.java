@@ -0,0 +1,39 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 통화별 환율 이력
+ *
+ * @param currency 통화
+ * @param from     조회 시작 시각
+ * @param to       조회 종료 시각
+ * @param points   시간순 환율 (요청한 최대 개수를 넘으면 구간별로 묶어서 반환)
+ */
+public record ExchangeRateHistoryRes(
+        CurrencyCode currency,
+        Instant from,
+        Instant to,
+        List<RatePoint> points
+) {
+
+    /**
+     * 환율 이력의 한 지점 (여러 값을 묶은 경우 구간의 마지막 값과 최저/최고값)
+     *
+     * @param time     구간의 마지막 조회 시각
+     * @param baseRate 구간의 마지막 매매 기준율
+     * @param low      구간 최저 매매 기준율
+     * @param high     구간 최고 매매 기준율
+     */
+    public record RatePoint(
+            Instant time,
+            BigDecimal baseRate,
+            BigDecimal low,
+            BigDecimal high
+    ) {
+    }
+}
@@ -1,13 +1,14 @@
 package org.creditto.core_banking.domain.exchange.dto;
 
 
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
 import org.creditto.core_banking.global.common.CurrencyCode;
 
 import java.math.BigDecimal;
 
-// 내부 환전 결과 반환 DTO
+// 내부 환전 결과 반환 DTO (저장된 환전 내역을 함께 전달하여 호출 측의 재조회를 피함)
 public record ExchangeRes (
-        Long exchangeId,
+        Exchange exchange,
         CurrencyCode fromCurrency,
         CurrencyCode toCurrency,
         BigDecimal exchangeRate,
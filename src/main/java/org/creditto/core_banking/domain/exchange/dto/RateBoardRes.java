@@ -0,0 +1,53 @@
+package org.creditto.core_banking.domain.exchange.dto;
+
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 사용자 우대율이 반영된 전체 통화 환율표
+ *
+ * @param preferentialRate 적용된 우대율
+ * @param rateFetchedAt    환율 스냅샷 조회 시각
+ * @param rates            통화별 살 때/팔 때 적용 환율
+ */
+public record RateBoardRes(
+        double preferentialRate,
+        Instant rateFetchedAt,
+        List<CurrencyRate> rates
+) {
+
+    /**
+     * 통화별 적용 환율 (1단위 기준, 소수점 둘째 자리 반올림)
+     *
+     * @param currency 통화
+     * @param baseRate API 원본 매매 기준율
+     * @param buyRate  살 때 (원화 -> 외화) 적용 환율
+     * @param sellRate 팔 때 (외화 -> 원화) 적용 환율
+     * @param amounts  요청한 금액별 원화 환산액
+     */
+    public record CurrencyRate(
+            CurrencyCode currency,
+            BigDecimal baseRate,
+            BigDecimal buyRate,
+            BigDecimal sellRate,
+            List<AmountQuote> amounts
+    ) {
+    }
+
+    /**
+     * 외화 금액별 원화 환산액
+     *
+     * @param targetAmount 외화 금액
+     * @param buyAmount    해당 외화를 살 때 필요한 원화 (올림)
+     * @param sellAmount   해당 외화를 팔 때 받는 원화 (내림)
+     */
+    public record AmountQuote(
+            BigDecimal targetAmount,
+            BigDecimal buyAmount,
+            BigDecimal sellAmount
+    ) {
+    }
+}
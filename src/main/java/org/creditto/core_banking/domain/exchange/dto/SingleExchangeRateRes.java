@@ -2,6 +2,7 @@ package org.creditto.core_banking.domain.exchange.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.creditto.core_banking.global.feign.RateEntry;
 
 import java.math.BigDecimal;
 
@@ -12,10 +13,10 @@ public class SingleExchangeRateRes {
     private final String currencyCode; // 통화 코드
     private final BigDecimal exchangeRate; // 매매 기준율
 
-    public static SingleExchangeRateRes from(ExchangeRateRes exchangeRateRes) {
+    public static SingleExchangeRateRes from(RateEntry rateEntry) {
         return SingleExchangeRateRes.builder()
-            .currencyCode(exchangeRateRes.getCurrencyUnit())
-            .exchangeRate(new BigDecimal(exchangeRateRes.getBaseRate().replace(",", "")))
+            .currencyCode(rateEntry.currency().getLookupKey())
+            .exchangeRate(rateEntry.baseRate())
             .build();
     }
 }
@@ -0,0 +1,37 @@
+package org.creditto.core_banking.domain.exchange.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.creditto.core_banking.global.common.BaseEntity;
+
+import java.time.Instant;
+
+/**
+ * 외부 API에서 조회한 환율 정보 스냅샷 이력
+ * PK가 곧 스냅샷 버전이며, 가장 최근 버전을 재기동 및 외부 API 장애 시 사용한다.
+ */
+@Entity
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class RateSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Instant fetchedAt; // 외부 API 조회 시각
+
+    @Lob
+    @Column(nullable = false)
+    private String payload; // 통화별 환율 정보 (ExchangeRateSnapshotStore 직렬화 포맷)
+
+    public static RateSnapshot of(Instant fetchedAt, String payload) {
+        return RateSnapshot.builder()
+                .fetchedAt(fetchedAt)
+                .payload(payload)
+                .build();
+    }
+}
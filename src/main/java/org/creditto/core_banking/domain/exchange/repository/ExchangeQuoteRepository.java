@@ -0,0 +1,87 @@
+package org.creditto.core_banking.domain.exchange.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeQuote;
+import org.creditto.core_banking.domain.exchange.service.ExchangeQuoteProperties;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 환전 견적을 Redis에 TTL과 함께 보관하는 저장소
+ * 견적은 한 번 사용되면 삭제되어 재사용할 수 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExchangeQuoteRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExchangeQuoteProperties quoteProperties;
+
+    public void save(ExchangeQuote quote, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(toKey(quote.quoteId()), serialize(quote), ttl);
+    }
+
+    /**
+     * 견적 조회 (삭제하지 않음)
+     *
+     * @param quoteId 견적 ID
+     * @return 유효한 견적 (만료되었거나 이미 사용된 경우 빈 Optional)
+     */
+    public Optional<ExchangeQuote> find(String quoteId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(toKey(quoteId)))
+                .map(this::deserialize);
+    }
+
+    /**
+     * 견적 사용 처리 (삭제)
+     * 견적 값은 저장 후 바뀌지 않으므로 DEL 한 번으로 충분하며,
+     * 같은 견적으로 동시에 들어온 요청 중 삭제에 성공한 요청 하나만 true를 받는다.
+     *
+     * @param quoteId 견적 ID
+     * @return 이 호출로 삭제했으면 true, 이미 만료되었거나 다른 요청이 사용한 경우 false
+     */
+    public boolean consume(String quoteId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.delete(toKey(quoteId)));
+    }
+
+    /**
+     * 사용 처리한 견적을 남은 유효시간만큼 되살림 (견적을 사용한 트랜잭션이 롤백된 경우)
+     * 유효시간이 이미 지났으면 되살리지 않음
+     */
+    public void restore(ExchangeQuote quote) {
+        Duration remaining = Duration.between(Instant.now(), quote.expiresAt());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().setIfAbsent(toKey(quote.quoteId()), serialize(quote), remaining);
+    }
+
+    private String toKey(String quoteId) {
+        return quoteProperties.getKeyPrefix() + quoteId;
+    }
+
+    private String serialize(ExchangeQuote quote) {
+        try {
+            return objectMapper.writeValueAsString(quote);
+        } catch (JsonProcessingException e) {
+            throw new CustomBaseException(ErrorBaseCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private ExchangeQuote deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, ExchangeQuote.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomBaseException(ErrorBaseCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.creditto.core_banking.domain.exchange.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateHistoryProperties;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 통화별 환율 시계열 저장소
+ * 메모리에는 통화별 고정 크기 링 버퍼만 유지하고, 모든 값은 append-only 파일에 기록한다.
+ * 기동 시 파일을 재생하여 링 버퍼를 복구한 뒤, 버퍼에 남은 값만으로 파일을 다시 써서 파일 크기도 일정하게 유지한다.
+ *
+ * 파일 레코드 형식 (19 bytes): 통화 코드(ASCII 3 bytes) + 조회 시각(epoch millis, 8 bytes) + 매매 기준율(고정 소수점, 8 bytes)
+ */
+@Slf4j
+@Repository
+public class ExchangeRateHistoryRepository {
+
+    public static final int RATE_SCALE = 4;
+
+    private static final int CODE_LENGTH = 3;
+    private static final int RECORD_SIZE = CODE_LENGTH + Long.BYTES + Long.BYTES;
+
+    private final Map<CurrencyCode, RateRingBuffer> buffers = new EnumMap<>(CurrencyCode.class);
+    private final Path historyFile;
+
+    private FileChannel appendChannel;
+
+    public ExchangeRateHistoryRepository(ExchangeRateHistoryProperties historyProperties) {
+        for (CurrencyCode currency : CurrencyCode.values()) {
+            buffers.put(currency, new RateRingBuffer(historyProperties.getCapacityPerCurrency()));
+        }
+        String file = historyProperties.getFile();
+        this.historyFile = (file == null || file.isBlank()) ? null : Path.of(file);
+    }
+
+    /**
+     * 파일에 기록된 시계열을 복구하고 append 채널을 연다
+     * 파일 처리에 실패해도 메모리 기록은 계속 동작
+     */
+    @PostConstruct
+    public void load() {
+        if (historyFile == null) {
+            return;
+        }
+        try {
+            Path directory = historyFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            if (Files.exists(historyFile)) {
+                replay();
+                compact(directory);
+            }
+            appendChannel = FileChannel.open(historyFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("[ExchangeRateHistoryRepository] 환율 이력 파일 초기화 실패, 메모리에만 기록 - {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (appendChannel == null) {
+            return;
+        }
+        try {
+            appendChannel.close();
+        } catch (IOException e) {
+            log.warn("[ExchangeRateHistoryRepository] 환율 이력 파일 닫기 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 시각에 조회된 여러 통화의 환율을 기록
+     *
+     * @param fetchedAt 조회 시각
+     * @param rates     통화별 매매 기준율
+     */
+    public synchronized void appendAll(Instant fetchedAt, Map<CurrencyCode, BigDecimal> rates) {
+        long time = fetchedAt.toEpochMilli();
+        ByteBuffer records = ByteBuffer.allocate(RECORD_SIZE * rates.size());
+        rates.forEach((currency, rate) -> {
+            long scaledRate = toScaled(rate);
+            if (buffers.get(currency).append(time, scaledRate)) {
+                writeRecord(records, currency, time, scaledRate);
+            }
+        });
+        records.flip();
+        writeToFile(records);
+    }
+
+    /**
+     * 통화의 [from, to] 구간 시계열 조회
+     */
+    public RateSeries findRange(CurrencyCode currency, Instant from, Instant to) {
+        return buffers.get(currency).range(from.toEpochMilli(), to.toEpochMilli());
+    }
+
+    public static long toScaled(BigDecimal rate) {
+        return rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromScaled(long scaledRate) {
+        return BigDecimal.valueOf(scaledRate, RATE_SCALE);
+    }
+
+    private void replay() throws IOException {
+        byte[] code = new byte[CODE_LENGTH];
+        try (InputStream fileStream = Files.newInputStream(historyFile);
+             DataInputStream input = new DataInputStream(new BufferedInputStream(fileStream))) {
+            while (true) {
+                // 마지막 레코드가 잘린 경우(비정상 종료) 해당 레코드만 버림
+                input.readFully(code);
+                long time = input.readLong();
+                long scaledRate = input.readLong();
+                findCurrency(new String(code, StandardCharsets.US_ASCII))
+                        .ifPresent(currency -> buffers.get(currency).append(time, scaledRate));
+            }
+        } catch (EOFException endOfFile) {
+            // 파일 끝
+        }
+    }
+
+    private void compact(Path directory) throws IOException {
+        Path tempFile = Files.createTempFile(directory, historyFile.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            for (Map.Entry<CurrencyCode, RateRingBuffer> entry : buffers.entrySet()) {
+                RateSeries series = entry.getValue().all();
+                ByteBuffer records = ByteBuffer.allocate(RECORD_SIZE * series.size());
+                for (int i = 0; i < series.size(); i++) {
+                    writeRecord(records, entry.getKey(), series.times()[i], series.scaledRates()[i]);
+                }
+                records.flip();
+                while (records.hasRemaining()) {
+                    channel.write(records);
+                }
+            }
+        }
+        try {
+            Files.move(tempFile, historyFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, historyFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void writeToFile(ByteBuffer records) {
+        if (appendChannel == null || !records.hasRemaining()) {
+            return;
+        }
+        try {
+            while (records.hasRemaining()) {
+                appendChannel.write(records);
+            }
+        } catch (IOException e) {
+            log.warn("[ExchangeRateHistoryRepository] 환율 이력 파일 기록 실패 - {}", e.getMessage());
+        }
+    }
+
+    private static void writeRecord(ByteBuffer records, CurrencyCode currency, long time, long scaledRate) {
+        records.put(currency.name().getBytes(StandardCharsets.US_ASCII), 0, CODE_LENGTH);
+        records.putLong(time);
+        records.putLong(scaledRate);
+    }
+
+    private static Optional<CurrencyCode> findCurrency(String code) {
+        try {
+            return Optional.of(CurrencyCode.valueOf(code));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.creditto.core_banking.domain.exchange.repository;
+
+/**
+ * 고정 크기 원시 타입 링 버퍼
+ * 용량을 넘으면 가장 오래된 값부터 덮어쓰므로 실행 시간과 관계없이 메모리 사용량이 일정하다.
+ */
+final class RateRingBuffer {
+
+    private final long[] times;
+    private final long[] scaledRates;
+    private int head; // 다음에 쓸 위치
+    private int size;
+
+    RateRingBuffer(int capacity) {
+        this.times = new long[capacity];
+        this.scaledRates = new long[capacity];
+    }
+
+    /**
+     * 값 추가 (마지막 값보다 이전 시각이면 무시하여 시간순 유지)
+     *
+     * @return 추가 여부
+     */
+    synchronized boolean append(long time, long scaledRate) {
+        if (size > 0 && time <= times[physical(size - 1)]) {
+            return false;
+        }
+        times[head] = time;
+        scaledRates[head] = scaledRate;
+        head = (head + 1) % times.length;
+        if (size < times.length) {
+            size++;
+        }
+        return true;
+    }
+
+    /**
+     * [from, to] 구간의 값 조회
+     */
+    synchronized RateSeries range(long from, long to) {
+        int start = lowerBound(from);
+        int end = lowerBound(to + 1);
+        long[] rangeTimes = new long[end - start];
+        long[] rangeRates = new long[end - start];
+        for (int i = start; i < end; i++) {
+            rangeTimes[i - start] = times[physical(i)];
+            rangeRates[i - start] = scaledRates[physical(i)];
+        }
+        return new RateSeries(rangeTimes, rangeRates);
+    }
+
+    synchronized RateSeries all() {
+        return range(Long.MIN_VALUE, Long.MAX_VALUE - 1);
+    }
+
+    // 논리 인덱스(0 = 가장 오래된 값) 기준으로 time 이상인 첫 위치
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[physical(mid)] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int physical(int logicalIndex) {
+        return Math.floorMod(head - size + logicalIndex, times.length);
+    }
+}
@@ -0,0 +1,15 @@
+package org.creditto.core_banking.domain.exchange.repository;
+
+/**
+ * 한 통화의 환율 시계열 구간 (시간순)
+ * 매매 기준율은 {@link ExchangeRateHistoryRepository#RATE_SCALE} 자리 고정 소수점 정수로 보관
+ *
+ * @param times       조회 시각 (epoch millis)
+ * @param scaledRates 매매 기준율 * 10^RATE_SCALE
+ */
+public record RateSeries(long[] times, long[] scaledRates) {
+
+    public int size() {
+        return times.length;
+    }
+}
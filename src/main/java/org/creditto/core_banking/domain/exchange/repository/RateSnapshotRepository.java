@@ -0,0 +1,13 @@
+package org.creditto.core_banking.domain.exchange.repository;
+
+import org.creditto.core_banking.domain.exchange.entity.RateSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RateSnapshotRepository extends JpaRepository<RateSnapshot, Long> {
+
+    Optional<RateSnapshot> findTopByOrderByIdDesc();
+}
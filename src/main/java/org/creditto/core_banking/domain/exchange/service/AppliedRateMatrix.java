@@ -0,0 +1,134 @@
+package org.creditto.core_banking.domain.exchange.service;
+
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.RateEntry;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * 우대 등급 × 통화 × 매매 방향별 적용 환율 행렬
+ * 환율 테이블이 갱신될 때 한 번만 계산해 두고, 환전 요청에서는 배열 조회만 수행한다.
+ * 원화가 포함되지 않은 외화 간 환전을 위해 원화를 경유한 교차 환율도 함께 계산한다.
+ */
+public final class AppliedRateMatrix {
+
+    private static final BigDecimal SPREAD_RATE = new BigDecimal("0.01");
+    private static final int DISPLAY_SCALE = 2;
+    private static final int CROSS_RATE_SCALE = 10;
+    private static final int BUY = 0;
+    private static final int SELL = 1;
+
+    private final Map<CurrencyCode, RateEntry> source;
+    private final BigDecimal[][][] appliedRates;
+    private final BigDecimal[][][] displayRates;
+    private final BigDecimal[][][] crossRates;
+
+    private AppliedRateMatrix(Map<CurrencyCode, RateEntry> source, BigDecimal[][][] appliedRates,
+                              BigDecimal[][][] displayRates, BigDecimal[][][] crossRates) {
+        this.source = source;
+        this.appliedRates = appliedRates;
+        this.displayRates = displayRates;
+        this.crossRates = crossRates;
+    }
+
+    /**
+     * 환율 테이블로부터 전체 적용 환율을 계산
+     * 살 때: 매매기준율 * (1 + 유효 스프레드), 팔 때: 매매기준율 * (1 - 유효 스프레드)
+     * 유효 스프레드 = 기본 스프레드 * (1 - 우대율)
+     * 교차 환율(from -> to): to 살 때 환율 / from 팔 때 환율 (양쪽 스프레드가 모두 반영됨)
+     *
+     * @param rateTable 미리 파싱된 환율 테이블
+     * @return 적용 환율 행렬
+     */
+    public static AppliedRateMatrix from(Map<CurrencyCode, RateEntry> rateTable) {
+        int tierCount = PreferentialRateTier.values().length;
+        int currencyCount = CurrencyCode.values().length;
+        BigDecimal[][][] applied = new BigDecimal[tierCount][currencyCount][2];
+        BigDecimal[][][] display = new BigDecimal[tierCount][currencyCount][2];
+        BigDecimal[][][] cross = new BigDecimal[tierCount][currencyCount][currencyCount];
+
+        for (PreferentialRateTier tier : PreferentialRateTier.values()) {
+            BigDecimal preferentialRate = BigDecimal.valueOf(tier.getPreferentialRate());
+            BigDecimal effectiveSpread = SPREAD_RATE.multiply(BigDecimal.ONE.subtract(preferentialRate));
+            BigDecimal buyFactor = BigDecimal.ONE.add(effectiveSpread);
+            BigDecimal sellFactor = BigDecimal.ONE.subtract(effectiveSpread);
+
+            for (RateEntry entry : rateTable.values()) {
+                int t = tier.ordinal();
+                int c = entry.currency().ordinal();
+                applied[t][c][BUY] = entry.unitRate().multiply(buyFactor);
+                applied[t][c][SELL] = entry.unitRate().multiply(sellFactor);
+                display[t][c][BUY] = applied[t][c][BUY].setScale(DISPLAY_SCALE, RoundingMode.HALF_UP);
+                display[t][c][SELL] = applied[t][c][SELL].setScale(DISPLAY_SCALE, RoundingMode.HALF_UP);
+            }
+
+            for (RateEntry from : rateTable.values()) {
+                for (RateEntry to : rateTable.values()) {
+                    if (from == to || from.currency() == CurrencyCode.KRW || to.currency() == CurrencyCode.KRW) {
+                        continue;
+                    }
+                    int t = tier.ordinal();
+                    cross[t][from.currency().ordinal()][to.currency().ordinal()] = applied[t][to.currency().ordinal()][BUY]
+                            .divide(applied[t][from.currency().ordinal()][SELL], CROSS_RATE_SCALE, RoundingMode.HALF_UP);
+                }
+            }
+        }
+        return new AppliedRateMatrix(rateTable, applied, display, cross);
+    }
+
+    /**
+     * 주어진 환율 테이블로 계산된 행렬인지 여부
+     */
+    public boolean isBuiltFrom(Map<CurrencyCode, RateEntry> rateTable) {
+        return source == rateTable;
+    }
+
+    /**
+     * 환전 계산에 사용할 적용 환율 (1단위 기준, 반올림 없음)
+     *
+     * @param tier     우대 등급
+     * @param currency 외화 통화
+     * @param isBuying 외화 매수 여부 (원화->외화: true, 외화->원화: false)
+     * @return 적용 환율
+     */
+    public BigDecimal getAppliedRate(PreferentialRateTier tier, CurrencyCode currency, boolean isBuying) {
+        return lookup(appliedRates, tier, currency, isBuying);
+    }
+
+    /**
+     * 화면 표시용 적용 환율 (소수점 둘째 자리 반올림)
+     */
+    public BigDecimal getDisplayRate(PreferentialRateTier tier, CurrencyCode currency, boolean isBuying) {
+        return lookup(displayRates, tier, currency, isBuying);
+    }
+
+    /**
+     * 외화 간 환전에 사용할 교차 환율 (to 1단위를 받기 위해 내야 할 from 금액)
+     * from을 팔아 원화로 바꾼 뒤 그 원화로 to를 사는 것과 같은 값
+     *
+     * @param tier 우대 등급
+     * @param from 보내는 외화
+     * @param to   받는 외화
+     * @return 교차 환율
+     */
+    public BigDecimal getCrossRate(PreferentialRateTier tier, CurrencyCode from, CurrencyCode to) {
+        BigDecimal rate = crossRates[tier.ordinal()][from.ordinal()][to.ordinal()];
+        if (rate == null) {
+            throw new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
+        }
+        return rate;
+    }
+
+    private static BigDecimal lookup(BigDecimal[][][] rates, PreferentialRateTier tier, CurrencyCode currency, boolean isBuying) {
+        BigDecimal rate = rates[tier.ordinal()][currency.ordinal()][isBuying ? BUY : SELL];
+        if (rate == null) {
+            throw new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
+        }
+        return rate;
+    }
+}
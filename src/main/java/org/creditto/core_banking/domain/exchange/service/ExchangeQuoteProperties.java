@@ -0,0 +1,29 @@
+package org.creditto.core_banking.domain.exchange.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "exchange.quote")
+public class ExchangeQuoteProperties {
+
+    private final long ttlMillis;
+    private final String keyPrefix;
+
+    public ExchangeQuoteProperties(long ttlMillis, String keyPrefix) {
+        this.ttlMillis = ttlMillis;
+        this.keyPrefix = keyPrefix;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofMillis(ttlMillis);
+    }
+}
@@ -0,0 +1,27 @@
+package org.creditto.core_banking.domain.exchange.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "exchange.history")
+public class ExchangeRateHistoryProperties {
+
+    private final int capacityPerCurrency;
+    private final String file;
+
+    public ExchangeRateHistoryProperties(int capacityPerCurrency, String file) {
+        // 통화별 링 버퍼 크기이므로 0 이하이면 기동 시점에 바인딩 실패로 처리
+        if (capacityPerCurrency < 1) {
+            throw new IllegalArgumentException("exchange.history.capacity-per-currency는 1 이상이어야 합니다. value=" + capacityPerCurrency);
+        }
+        this.capacityPerCurrency = capacityPerCurrency;
+        this.file = file;
+    }
+
+    public int getCapacityPerCurrency() {
+        return capacityPerCurrency;
+    }
+
+    public String getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,101 @@
+package org.creditto.core_banking.domain.exchange.service;
+
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateHistoryRes;
+import org.creditto.core_banking.domain.exchange.repository.ExchangeRateHistoryRepository;
+import org.creditto.core_banking.domain.exchange.repository.RateSeries;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.creditto.core_banking.global.feign.RateEntry;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.creditto.core_banking.domain.exchange.repository.ExchangeRateHistoryRepository.fromScaled;
+
+@Service
+@RequiredArgsConstructor
+public class ExchangeRateHistoryService {
+
+    public static final int MAX_POINTS_LIMIT = 1000;
+
+    private final ExchangeRateHistoryRepository historyRepository;
+
+    /**
+     * 환율 스냅샷이 바뀔 때마다 변경된 통화의 매매 기준율을 이력에 기록
+     */
+    @EventListener
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+        for (RateEntry rateEntry : event.changedRates().values()) {
+            rates.put(rateEntry.currency(), rateEntry.baseRate());
+        }
+        if (!rates.isEmpty()) {
+            historyRepository.appendAll(event.current().fetchedAt(), rates);
+        }
+    }
+
+    /**
+     * 통화의 기간별 환율 이력 조회
+     * 구간 내 값이 maxPoints를 넘으면 시간 구간별로 묶어 마지막 값과 최저/최고값을 반환
+     *
+     * @param currency 통화
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @param maxPoints 반환할 최대 지점 수 (1 ~ 1000)
+     * @return 환율 이력
+     */
+    public ExchangeRateHistoryRes getHistory(CurrencyCode currency, Instant from, Instant to, int maxPoints) {
+        if (from.isAfter(to) || maxPoints < 1 || maxPoints > MAX_POINTS_LIMIT) {
+            throw new CustomBaseException(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+        }
+        RateSeries series = historyRepository.findRange(currency, from, to);
+        return new ExchangeRateHistoryRes(currency, from, to, downsample(series, maxPoints));
+    }
+
+    private List<ExchangeRateHistoryRes.RatePoint> downsample(RateSeries series, int maxPoints) {
+        int size = series.size();
+        List<ExchangeRateHistoryRes.RatePoint> points = new ArrayList<>(Math.min(size, maxPoints));
+        if (size == 0) {
+            return points;
+        }
+
+        long[] times = series.times();
+        long[] rates = series.scaledRates();
+        if (size <= maxPoints) {
+            for (int i = 0; i < size; i++) {
+                BigDecimal rate = fromScaled(rates[i]);
+                points.add(new ExchangeRateHistoryRes.RatePoint(Instant.ofEpochMilli(times[i]), rate, rate, rate));
+            }
+            return points;
+        }
+
+        // 첫 값부터 마지막 값까지의 시간을 maxPoints개의 같은 폭 구간으로 나눔
+        long start = times[0];
+        long bucketWidth = Math.max(1, (times[size - 1] - start) / maxPoints + 1);
+        int i = 0;
+        while (i < size) {
+            long bucket = (times[i] - start) / bucketWidth;
+            long low = rates[i];
+            long high = rates[i];
+            int last = i;
+            while (last + 1 < size && (times[last + 1] - start) / bucketWidth == bucket) {
+                last++;
+                low = Math.min(low, rates[last]);
+                high = Math.max(high, rates[last]);
+            }
+            points.add(new ExchangeRateHistoryRes.RatePoint(
+                    Instant.ofEpochMilli(times[last]), fromScaled(rates[last]), fromScaled(low), fromScaled(high)));
+            i = last + 1;
+        }
+        return points;
+    }
+}
@@ -0,0 +1,231 @@
+package org.creditto.core_banking.domain.exchange.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateDiffRes;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateProvider;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.creditto.core_banking.global.feign.RateEntry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 환율 변경분을 SSE 구독자에게 전송
+ * 구독자는 요청 스레드를 점유하지 않는 비동기 응답(SseEmitter)으로만 유지되며,
+ * 환율이 바뀌면 구독자별 전송 큐에 관심 통화의 변경분만 넣고 전송 스레드 풀이 구독자 단위로 큐를 비운다.
+ * 큐가 가득 차거나 한 번의 전송이 제한 시간을 넘긴 구독자는 느린 구독자로 보고 연결을 종료하여,
+ * 한 구독자의 지연이 다른 구독자에게 번지지 않도록 한다.
+ */
+@Slf4j
+@Service
+public class ExchangeRateStreamService {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long SEND_TIMEOUT_MILLIS = 5_000L;
+    private static final int QUEUE_CAPACITY = 8;
+    private static final int SENDER_POOL_SIZE = 4;
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String RATES_EVENT = "rates";
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // 환율 갱신 스레드는 큐에 넣기만 하고, 실제 전송은 별도 스레드 풀에서 구독자 단위로 수행
+    private final ExecutorService senderExecutor = newSenderExecutor();
+
+    public ExchangeRateStreamService(ExchangeRateProvider exchangeRateProvider) {
+        this.exchangeRateProvider = exchangeRateProvider;
+    }
+
+    /**
+     * 환율 변경 스트림 구독
+     * 구독 직후 현재 환율을 한 번 전송하고, 이후에는 관심 통화의 환율이 바뀐 경우에만 전송
+     *
+     * @param currencies 관심 통화 (비어 있으면 전체 통화)
+     * @return SSE 응답
+     */
+    public SseEmitter subscribe(Set<CurrencyCode> currencies) {
+        Set<CurrencyCode> filter = currencies.isEmpty()
+                ? EnumSet.allOf(CurrencyCode.class)
+                : EnumSet.copyOf(currencies);
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscription subscription = new Subscription(emitter, filter);
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriptions.remove(subscription));
+
+        // 최초 스냅샷을 먼저 큐에 넣은 뒤 등록하여 변경분이 스냅샷보다 먼저 전송되지 않도록 함
+        ExchangeRateSnapshot snapshot = exchangeRateProvider.getSnapshot();
+        enqueue(subscription, SNAPSHOT_EVENT, ExchangeRateDiffRes.of(snapshot.fetchedAt(), select(snapshot.rateTable(), filter)));
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    /**
+     * 환율 스냅샷 교체 시 변경분을 구독자에게 전송
+     */
+    @EventListener
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Map<CurrencyCode, RateEntry> changedRates = event.changedRates();
+        if (changedRates.isEmpty()) {
+            return;
+        }
+        fanOut(event.current().fetchedAt(), changedRates);
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+        subscriptions.clear();
+    }
+
+    private void fanOut(Instant fetchedAt, Map<CurrencyCode, RateEntry> changedRates) {
+        long now = System.currentTimeMillis();
+        // 같은 관심 통화를 가진 구독자끼리는 변경분을 한 번만 만든다
+        Map<Set<CurrencyCode>, ExchangeRateDiffRes> diffByFilter = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.isStalled(now)) {
+                close(subscription, "전송 지연");
+                continue;
+            }
+            ExchangeRateDiffRes diff = diffByFilter.computeIfAbsent(subscription.currencies(),
+                    filter -> ExchangeRateDiffRes.of(fetchedAt, select(changedRates, filter)));
+            if (!diff.rates().isEmpty()) {
+                enqueue(subscription, RATES_EVENT, diff);
+            }
+        }
+    }
+
+    private void enqueue(Subscription subscription, String eventName, ExchangeRateDiffRes data) {
+        if (!subscription.queue().offer(SseEmitter.event().name(eventName).data(data))) {
+            close(subscription, "전송 큐 초과");
+            return;
+        }
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (!subscription.draining().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senderExecutor.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException e) {
+            subscription.draining().set(false);
+        }
+    }
+
+    // 구독자 하나의 큐를 비운다. 같은 구독자의 전송은 한 스레드에서만 이루어지므로 순서가 유지된다
+    private void drain(Subscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.queue().poll()) != null) {
+                if (!send(subscription, event)) {
+                    subscription.queue().clear();
+                    break;
+                }
+            }
+            subscription.draining().set(false);
+            // 플래그를 내리는 사이 들어온 이벤트가 있으면 이어서 전송
+        } while (!subscription.queue().isEmpty() && subscription.draining().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        subscription.markSending(System.currentTimeMillis());
+        try {
+            subscription.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 제거
+            subscriptions.remove(subscription);
+            log.debug("[ExchangeRateStreamService] 환율 스트림 전송 실패, 구독 해제 - {}", e.getMessage());
+            return false;
+        } finally {
+            subscription.markSending(0L);
+        }
+    }
+
+    private void close(Subscription subscription, String reason) {
+        if (!subscriptions.remove(subscription)) {
+            return;
+        }
+        subscription.queue().clear();
+        log.warn("[ExchangeRateStreamService] 느린 구독자 연결 종료 - {}", reason);
+        // 전송 중인 스레드와 경합하지 않도록 종료도 전송 스레드 풀에서 수행
+        try {
+            senderExecutor.execute(() -> subscription.emitter().complete());
+        } catch (RejectedExecutionException e) {
+            subscription.emitter().complete();
+        }
+    }
+
+    private static Collection<RateEntry> select(Map<CurrencyCode, RateEntry> rates, Set<CurrencyCode> filter) {
+        return rates.values().stream()
+                .filter(rateEntry -> filter.contains(rateEntry.currency()))
+                .toList();
+    }
+
+    private static ExecutorService newSenderExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(SENDER_POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "exchange-rate-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독자별 전송 상태
+     * 전송 큐와 큐를 비우는 작업의 예약 여부, 진행 중인 전송의 시작 시각을 가진다.
+     */
+    private record Subscription(
+            SseEmitter emitter,
+            Set<CurrencyCode> currencies,
+            BlockingQueue<SseEmitter.SseEventBuilder> queue,
+            AtomicBoolean draining,
+            AtomicLong sendingSince
+    ) {
+
+        Subscription(SseEmitter emitter, Set<CurrencyCode> currencies) {
+            this(emitter, currencies, new ArrayBlockingQueue<>(QUEUE_CAPACITY), new AtomicBoolean(), new AtomicLong());
+        }
+
+        void markSending(long startedAt) {
+            sendingSince.set(startedAt);
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendingSince.get();
+            return startedAt > 0 && now - startedAt > SEND_TIMEOUT_MILLIS;
+        }
+    }
+}
@@ -2,24 +2,38 @@ package org.creditto.core_banking.domain.exchange.service;
 
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.creditscore.service.CreditScoreService;
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeBatchResult;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeQuote;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeQuoteRes;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
 import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.exchange.repository.ExchangeQuoteRepository;
 import org.creditto.core_banking.domain.exchange.repository.ExchangeRepository;
 import org.creditto.core_banking.domain.exchange.dto.PreferentialRateRes;
+import org.creditto.core_banking.domain.exchange.dto.RateBoardRes;
 import org.creditto.core_banking.domain.exchange.dto.SingleExchangeRateRes;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.creditto.core_banking.global.feign.ExchangeRateProvider;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.RateEntry;
 import org.creditto.core_banking.global.response.error.ErrorBaseCode;
 import org.creditto.core_banking.global.response.exception.CustomBaseException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
@@ -29,10 +43,13 @@ public class ExchangeService {
     private final ExchangeRateProvider exchangeRateProvider;
     private final ExchangeRepository exchangeRepository;
     private final CreditScoreService creditScoreService;
+    private final ExchangeQuoteRepository exchangeQuoteRepository;
+    private final ExchangeQuoteProperties quoteProperties;
+
+    // 환율 테이블이 갱신될 때마다 다시 계산되는 적용 환율 행렬
+    private final AtomicReference<AppliedRateMatrix> appliedRateMatrixRef = new AtomicReference<>();
 
-    private static final BigDecimal SPREAD_RATE = new BigDecimal("0.01");
     public static final CurrencyCode KRW_CURRENCY_CODE = CurrencyCode.KRW;
-    private static final int ADJUSTED_RATE_SCALE = 4;
     private static final int USD_CALCULATION_SCALE = 10; // 새로운 상수 추가
 
     /**
@@ -49,9 +66,8 @@ public class ExchangeService {
      * @return 특정 통화의 최신 환율 정보
      */
     public SingleExchangeRateRes getRateByCurrency(CurrencyCode currencyCode) {
-        Map<String, ExchangeRateRes> rateMap = getLatestRates();
-        ExchangeRateRes exchangeRateRes = findRate(rateMap, currencyCode);
-        return SingleExchangeRateRes.from(exchangeRateRes);
+        Map<CurrencyCode, RateEntry> rateTable = exchangeRateProvider.getRateTable();
+        return SingleExchangeRateRes.from(findRateEntry(rateTable, currencyCode));
     }
 
     /**
@@ -61,116 +77,233 @@ public class ExchangeService {
      */
     @Transactional
     public ExchangeRes exchange(Long userId, ExchangeReq request) {
-        // 환전 전 통화와 환전 후 통화가 같은지 검증
-        if (request.fromCurrency().equals(request.toCurrency())) {
-            throw new CustomBaseException(ErrorBaseCode.SAME_CURRENCY_EXCHANGE_NOT_ALLOWED);
-        }
+        validateCurrencyPair(request);
 
-        boolean isKrwToForeign = KRW_CURRENCY_CODE.equals(request.fromCurrency());
+        Map<CurrencyCode, RateEntry> rateTable = exchangeRateProvider.getRateTable();
+        PreferentialRateTier tier = creditScoreService.getPreferentialRateTier(userId);
+        ExchangeCalculation calculation = calculate(request, rateTable, tier);
 
-        if (isKrwToForeign || KRW_CURRENCY_CODE.equals(request.toCurrency())) {
-            Map<String, ExchangeRateRes> rateMap = exchangeRateProvider.getExchangeRates(); // API 호출을 필요한 시점으로 이동
-            return doExchange(userId, request, rateMap, isKrwToForeign);
-        } else {
-            // 원화가 포함되지 않은 환전은 지원하지 않음
-            throw new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
+        // 환전 내역 저장
+        Exchange savedExchange = saveExchangeHistory(request, calculation.fromAmount(), request.targetAmount(), calculation.baseRate());
+
+        return new ExchangeRes(
+            savedExchange,
+            request.fromCurrency(),
+            request.toCurrency(),
+            calculation.baseRate(),
+            calculation.fromAmount(),
+            calculation.fromAmountInUSD()
+        );
+    }
+
+    /**
+     * 여러 건의 환전을 하나의 환율 스냅샷과 한 번의 우대 등급 조회로 계산
+     * 환전 내역은 저장하지 않은 상태로 결과에 담아 호출 측에서 일괄 저장하며,
+     * 통화 쌍이 잘못되었거나 지원하지 않는 통화인 건은 해당 건만 실패로 반환
+     * @param userId 사용자 ID
+     * @param requests 환전 요청 목록
+     * @return 요청 순서대로의 건별 계산 결과
+     */
+    public List<ExchangeBatchResult> calculateBatch(Long userId, List<ExchangeReq> requests) {
+        Map<CurrencyCode, RateEntry> rateTable = exchangeRateProvider.getSnapshot().rateTable();
+        PreferentialRateTier tier = creditScoreService.getPreferentialRateTier(userId);
+
+        List<ExchangeBatchResult> results = new ArrayList<>(requests.size());
+        for (ExchangeReq request : requests) {
+            try {
+                validateCurrencyPair(request);
+                ExchangeCalculation calculation = calculate(request, rateTable, tier);
+                Exchange exchange = Exchange.of(request, calculation.fromAmount(), request.targetAmount(), calculation.baseRate());
+                results.add(ExchangeBatchResult.success(request, new ExchangeRes(
+                        exchange,
+                        request.fromCurrency(),
+                        request.toCurrency(),
+                        calculation.baseRate(),
+                        calculation.fromAmount(),
+                        calculation.fromAmountInUSD()
+                )));
+            } catch (CustomBaseException e) {
+                results.add(ExchangeBatchResult.failure(request, e.getErrorCode()));
+            }
         }
+        return results;
     }
 
     /**
-     * 실제 환전 계산 로직을 수행하는 내부 메서드
-     * '받을 금액(toAmount)'을 기준으로 계산을 수행
-     * @param request 환전 요청 정보
-     * @param rateMap 조회된 전체 환율 맵
-     * @param isKrwToForeign 원화에서 외화로의 환전 여부 (true: 원화->외화, false: 외화->원화)
+     * 환전 견적 생성
+     * 현재 환율 스냅샷과 우대 등급으로 계산한 결과를 견적 ID와 함께 일정 시간 보관
+     * @param userId 사용자 ID
+     * @param request 환전 요청 정보 (from, to, 금액)
+     * @return 견적 ID 및 계산 결과
+     */
+    public ExchangeQuoteRes createQuote(Long userId, ExchangeReq request) {
+        validateCurrencyPair(request);
+
+        ExchangeRateSnapshot snapshot = exchangeRateProvider.getSnapshot();
+        PreferentialRateTier tier = creditScoreService.getPreferentialRateTier(userId);
+        ExchangeCalculation calculation = calculate(request, snapshot.rateTable(), tier);
+
+        ExchangeQuote quote = new ExchangeQuote(
+                UUID.randomUUID().toString(),
+                userId,
+                request.fromCurrency(),
+                request.toCurrency(),
+                request.targetAmount(),
+                calculation.fromAmount(),
+                calculation.baseRate(),
+                calculation.appliedRate(),
+                calculation.fromAmountInUSD(),
+                tier,
+                snapshot.fetchedAt(),
+                Instant.now().plus(quoteProperties.getTtl())
+        );
+        exchangeQuoteRepository.save(quote, quoteProperties.getTtl());
+
+        return ExchangeQuoteRes.from(quote);
+    }
+
+    /**
+     * 견적 ID로 환전 처리
+     * 견적에 고정된 환율과 금액을 그대로 사용하므로 환율 조회 및 재계산을 하지 않음
+     * 견적 소유자와 요청 내용을 확인한 뒤에만 견적을 사용 처리하고, 트랜잭션이 롤백되면 견적을 되살림
+     * @param userId 사용자 ID
+     * @param quoteId 견적 ID
+     * @param request 환전 요청 정보 (견적과 일치해야 함)
      * @return 환전 처리 결과
      */
-    private ExchangeRes doExchange(Long userId, ExchangeReq request, Map<String, ExchangeRateRes> rateMap, boolean isKrwToForeign) {
-        // 신용점수 기반 우대율 조회
-        double preferentialRate = creditScoreService.getPreferentialRate(userId);
+    @Transactional
+    public ExchangeRes exchangeWithQuote(Long userId, String quoteId, ExchangeReq request) {
+        ExchangeQuote quote = exchangeQuoteRepository.find(quoteId)
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.EXCHANGE_RATE_EXPIRED));
 
-        // 외화 통화 결정
-        CurrencyCode foreignCurrency = isKrwToForeign ? request.toCurrency() : request.fromCurrency();
+        // 다른 사용자의 요청이나 내용이 다른 요청으로는 견적이 삭제되지 않도록 사용 처리 전에 확인
+        if (!quote.matches(userId, request)) {
+            throw new CustomBaseException(ErrorBaseCode.EXCHANGE_QUOTE_MISMATCH);
+        }
 
-        // USD 환율 정보 미리 조회 (중복 호출 방지)
-        BigDecimal exchangeRateUSD = getBaseRateForCurrency(rateMap, CurrencyCode.USD);
+        // 같은 견적으로 동시에 들어온 요청 중 하나만 사용
+        if (!exchangeQuoteRepository.consume(quoteId)) {
+            throw new CustomBaseException(ErrorBaseCode.EXCHANGE_RATE_EXPIRED);
+        }
+        restoreQuoteOnRollback(quote);
 
-        // 환율 정보 조회 및 계산
-        BigDecimal baseRateFromApi;
-        if (foreignCurrency == CurrencyCode.USD) {
-            baseRateFromApi = exchangeRateUSD; // USD인 경우 미리 조회한 값 재사용
-        } else {
-            baseRateFromApi = getBaseRateForCurrency(rateMap, foreignCurrency);
+        Exchange savedExchange = saveExchangeHistory(request, quote.exchangeAmount(), quote.targetAmount(), quote.exchangeRate());
+
+        return new ExchangeRes(
+            savedExchange,
+            quote.fromCurrency(),
+            quote.toCurrency(),
+            quote.exchangeRate(),
+            quote.exchangeAmount(),
+            quote.fromAmountInUSD()
+        );
+    }
+
+    /**
+     * 견적을 사용한 트랜잭션(송금 등)이 롤백되면 견적을 되살려 같은 견적으로 다시 시도할 수 있도록 함
+     */
+    private void restoreQuoteOnRollback(ExchangeQuote quote) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    exchangeQuoteRepository.restore(quote);
+                }
+            }
+        });
+    }
 
-        BigDecimal adjustedBaseRate = baseRateFromApi.divide(new BigDecimal(foreignCurrency.getUnit()), ADJUSTED_RATE_SCALE, RoundingMode.HALF_UP);
-        BigDecimal appliedRate = calculateAppliedRate(adjustedBaseRate, isKrwToForeign, preferentialRate);
+    /**
+     * 환전 가능한 통화 쌍인지 검증
+     * 원화가 포함되지 않은 외화 간 환전은 교차 환율로 처리하므로 허용
+     * @param request 환전 요청 정보
+     */
+    private void validateCurrencyPair(ExchangeReq request) {
+        // 환전 전 통화와 환전 후 통화가 같은지 검증
+        if (request.fromCurrency().equals(request.toCurrency())) {
+            throw new CustomBaseException(ErrorBaseCode.SAME_CURRENCY_EXCHANGE_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * 실제 환전 계산 로직을 수행하는 내부 메서드
+     * '받을 금액(toAmount)'을 기준으로 계산을 수행
+     * @param request 환전 요청 정보
+     * @param rateTable 미리 파싱된 전체 환율 테이블
+     * @param tier 신용점수 기반 우대 등급
+     * @return 환전 계산 결과
+     */
+    private ExchangeCalculation calculate(ExchangeReq request, Map<CurrencyCode, RateEntry> rateTable, PreferentialRateTier tier) {
+        CurrencyCode fromCurrency = request.fromCurrency();
+        CurrencyCode toCurrency = request.toCurrency();
+        AppliedRateMatrix matrix = getAppliedRateMatrix(rateTable);
+        BigDecimal exchangeRateUSD = findRateEntry(rateTable, CurrencyCode.USD).baseRate();
 
         // 받을 금액 기준으로 보낼 금액 계산
-        BigDecimal fromAmount;
         BigDecimal toAmount = request.targetAmount();
 
-        if (isKrwToForeign) { // 원화 -> 외화
+        if (KRW_CURRENCY_CODE.equals(fromCurrency)) { // 원화 -> 외화
             // 받을 외화를 위해 내야 할 원화 계산
-            fromAmount = toAmount.multiply(appliedRate).setScale(0, RoundingMode.CEILING);
-        } else { // 외화 -> 원화
-            // 받을 원화를 위해 내야 할 외화 계산
-            fromAmount = toAmount.divide(appliedRate, 2, RoundingMode.CEILING);
+            BigDecimal baseRate = findRateEntry(rateTable, toCurrency).baseRate();
+            BigDecimal appliedRate = matrix.getAppliedRate(tier, toCurrency, true);
+            BigDecimal fromAmount = toAmount.multiply(appliedRate).setScale(0, RoundingMode.CEILING);
+            BigDecimal fromAmountInUSD = getSendAmountInUSD(fromAmount, BigDecimal.ONE, fromCurrency, exchangeRateUSD);
+            return new ExchangeCalculation(baseRate, appliedRate, fromAmount, fromAmountInUSD);
         }
 
-        // 환전 내역 저장
-        Exchange savedExchange = saveExchangeHistory(request, fromAmount, toAmount, baseRateFromApi);
+        RateEntry fromRateEntry = findRateEntry(rateTable, fromCurrency);
+        BigDecimal baseRate;
+        BigDecimal appliedRate;
+        BigDecimal fromAmount;
 
-        // fromAmount의 USD 가치 계산
-        BigDecimal fromAmountInUSD;
-        BigDecimal fromCurrencyBaseRate;
-        if (request.fromCurrency() == CurrencyCode.KRW) {
-            fromCurrencyBaseRate = BigDecimal.ONE;
-        } else {
-            fromCurrencyBaseRate = getBaseRateForCurrency(rateMap, request.fromCurrency());
+        if (KRW_CURRENCY_CODE.equals(toCurrency)) { // 외화 -> 원화
+            // 받을 원화를 위해 내야 할 외화 계산
+            baseRate = fromRateEntry.baseRate();
+            appliedRate = matrix.getAppliedRate(tier, fromCurrency, false);
+            fromAmount = toAmount.divide(appliedRate, 2, RoundingMode.CEILING);
+        } else { // 외화 -> 외화 (원화 경유 교차 환율)
+            // 받을 외화를 위해 내야 할 외화 계산, 저장되는 기준율은 받는 통화 기준
+            baseRate = findRateEntry(rateTable, toCurrency).baseRate();
+            appliedRate = matrix.getCrossRate(tier, fromCurrency, toCurrency);
+            fromAmount = toAmount.multiply(appliedRate).setScale(2, RoundingMode.CEILING);
         }
-        fromAmountInUSD = getSendAmountInUSD(fromAmount, fromCurrencyBaseRate, request.fromCurrency(), exchangeRateUSD);
 
+        // fromAmount의 USD 가치 계산 (보내는 외화의 기준율 사용)
+        BigDecimal fromAmountInUSD = getSendAmountInUSD(fromAmount, fromRateEntry.baseRate(), fromCurrency, exchangeRateUSD);
 
-        // 최종 결과 반환
-        return new ExchangeRes(
-            savedExchange.getId(),
-            request.fromCurrency(),
-            request.toCurrency(),
-            baseRateFromApi,
-            fromAmount,
-            fromAmountInUSD
-        );
+        return new ExchangeCalculation(baseRate, appliedRate, fromAmount, fromAmountInUSD);
     }
 
     /**
-     * 적용 환율을 계산하는 메서드
-     * @param baseRate 매매 기준율
-     * @param isBuying 외화 매수 여부 (원화->외화: true, 외화->원화: false)
-     * @return 최종 적용 환율
+     * 환율 테이블에 대응하는 적용 환율 행렬 반환
+     * 환율 테이블이 갱신된 경우에만 새로 계산
+     * @param rateTable 전체 환율 테이블
+     * @return 적용 환율 행렬
      */
-    private BigDecimal calculateAppliedRate(BigDecimal baseRate, boolean isBuying, double preferentialRate) {
-        BigDecimal preferentialRateBd = BigDecimal.valueOf(preferentialRate);
-
-        BigDecimal effectiveSpread = SPREAD_RATE.multiply(BigDecimal.ONE.subtract(preferentialRateBd));
-        if (isBuying) {
-            // 살 때: 매매기준율 * (1 + 유효 스프레드)
-            return baseRate.multiply(BigDecimal.ONE.add(effectiveSpread));
-        } else {
-            // 팔 때: 매매기준율 * (1 - 유효 스프레드)
-            return baseRate.multiply(BigDecimal.ONE.subtract(effectiveSpread));
+    private AppliedRateMatrix getAppliedRateMatrix(Map<CurrencyCode, RateEntry> rateTable) {
+        AppliedRateMatrix matrix = appliedRateMatrixRef.get();
+        if (matrix == null || !matrix.isBuiltFrom(rateTable)) {
+            matrix = AppliedRateMatrix.from(rateTable);
+            appliedRateMatrixRef.set(matrix);
         }
+        return matrix;
     }
 
     /**
-     * 환율 맵에서 특정 통화에 대한 환율 정보 찾음
-     * @param rateMap 전체 환율 맵
+     * 환율 테이블에서 특정 통화에 대한 환율 정보 찾음
+     * @param rateTable 전체 환율 테이블
      * @param currency 조회할 통화
-     * @return 해당 통화의 환율 정보 DTO
+     * @return 해당 통화의 환율 정보
      */
-    private ExchangeRateRes findRate(Map<String, ExchangeRateRes> rateMap, CurrencyCode currency) {
-        return Optional.ofNullable(rateMap.get(currency.getLookupKey()))
-                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED));
+    private RateEntry findRateEntry(Map<CurrencyCode, RateEntry> rateTable, CurrencyCode currency) {
+        RateEntry rateEntry = rateTable.get(currency);
+        if (rateEntry == null) {
+            throw new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
+        }
+        return rateEntry;
     }
 
     /**
@@ -198,25 +331,54 @@ public class ExchangeService {
      * @return 우대 환율 및 적용 환율 정보
      */
     public PreferentialRateRes getPreferentialRateInfo(Long userId, CurrencyCode currencyCode) {
-        double preferentialRate = creditScoreService.getPreferentialRate(userId);
-        Map<String, ExchangeRateRes> rateMap = getLatestRates();
-        BigDecimal baseRateFromApi = getBaseRateForCurrency(rateMap, currencyCode);
-        BigDecimal adjustedBaseRate = baseRateFromApi.divide(new BigDecimal(currencyCode.getUnit()), ADJUSTED_RATE_SCALE, RoundingMode.HALF_UP);
+        PreferentialRateTier tier = creditScoreService.getPreferentialRateTier(userId);
+        AppliedRateMatrix matrix = getAppliedRateMatrix(exchangeRateProvider.getRateTable());
 
-        BigDecimal appliedRate = calculateAppliedRate(adjustedBaseRate, true, preferentialRate).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal appliedRate = matrix.getDisplayRate(tier, currencyCode, true);
 
-        return new PreferentialRateRes(preferentialRate, appliedRate);
+        return new PreferentialRateRes(tier.getPreferentialRate(), appliedRate);
     }
 
     /**
-     * 환율 정보 DTO에서 매매 기준율을 BigDecimal 타입으로 추출
-     * @param rateMap 전체 환율 맵
-     * @param currency 조회할 통화
-     * @return 정제된 매매 기준율
+     * 사용자 우대율이 반영된 전체 통화의 살 때/팔 때 환율과 금액별 원화 환산액을 한 번에 조회
+     * 신용점수와 환율 스냅샷은 각각 한 번만 조회
+     * @param userId 사용자 ID
+     * @param targetAmounts 원화 환산액을 계산할 외화 금액 목록
+     * @return 전체 통화 환율표
      */
-    private BigDecimal getBaseRateForCurrency(Map<String, ExchangeRateRes> rateMap, CurrencyCode currency) {
-        ExchangeRateRes rateInfo = findRate(rateMap, currency);
-        return new BigDecimal(rateInfo.getBaseRate().replace(",", ""));
+    public RateBoardRes getRateBoard(Long userId, List<BigDecimal> targetAmounts) {
+        PreferentialRateTier tier = creditScoreService.getPreferentialRateTier(userId);
+        ExchangeRateSnapshot snapshot = exchangeRateProvider.getSnapshot();
+        Map<CurrencyCode, RateEntry> rateTable = snapshot.rateTable();
+        AppliedRateMatrix matrix = getAppliedRateMatrix(rateTable);
+
+        List<RateBoardRes.CurrencyRate> rates = new ArrayList<>();
+        for (CurrencyCode currency : CurrencyCode.values()) {
+            RateEntry rateEntry = rateTable.get(currency);
+            if (currency == KRW_CURRENCY_CODE || rateEntry == null) {
+                continue;
+            }
+
+            BigDecimal buyRate = matrix.getAppliedRate(tier, currency, true);
+            BigDecimal sellRate = matrix.getAppliedRate(tier, currency, false);
+            List<RateBoardRes.AmountQuote> amounts = targetAmounts.stream()
+                    .map(amount -> new RateBoardRes.AmountQuote(
+                            amount,
+                            amount.multiply(buyRate).setScale(0, RoundingMode.CEILING),
+                            amount.multiply(sellRate).setScale(0, RoundingMode.FLOOR)
+                    ))
+                    .toList();
+
+            rates.add(new RateBoardRes.CurrencyRate(
+                    currency,
+                    rateEntry.baseRate(),
+                    matrix.getDisplayRate(tier, currency, true),
+                    matrix.getDisplayRate(tier, currency, false),
+                    amounts
+            ));
+        }
+
+        return new RateBoardRes(tier.getPreferentialRate(), snapshot.fetchedAt(), rates);
     }
 
     /**
@@ -237,7 +399,7 @@ public class ExchangeService {
         // JPY, IDR 같은 단위가 있는 통화 처리
         BigDecimal baseRate;
         if (currency.getUnit() > 1) {
-            baseRate = exchangeRate.divide(BigDecimal.valueOf(currency.getUnit()), USD_CALCULATION_SCALE, rounding);
+            baseRate = exchangeRate.divide(currency.getUnitAmount(), USD_CALCULATION_SCALE, rounding);
         } else {
             baseRate = exchangeRate;
         }
@@ -249,4 +411,19 @@ public class ExchangeService {
 
         return sendAmountInUSD.setScale(2, RoundingMode.HALF_UP);
     }
-}
\ No newline at end of file
+
+    /**
+     * 환전 계산 결과
+     * @param baseRate API 원본 매매 기준율 (원화 -> 외화, 외화 간 환전은 받는 통화 기준)
+     * @param appliedRate 우대율이 반영된 적용 환율 (외화 간 환전은 교차 환율)
+     * @param fromAmount 보낼 금액
+     * @param fromAmountInUSD 보낼 금액의 USD 환산액
+     */
+    private record ExchangeCalculation(
+            BigDecimal baseRate,
+            BigDecimal appliedRate,
+            BigDecimal fromAmount,
+            BigDecimal fromAmountInUSD
+    ) {
+    }
+}
@@ -0,0 +1,37 @@
+package org.creditto.core_banking.domain.overseasremittance.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceReq;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRes;
+import org.creditto.core_banking.domain.overseasremittance.service.BulkRemittanceService;
+import org.creditto.core_banking.global.response.ApiResponseUtil;
+import org.creditto.core_banking.global.response.BaseResponse;
+import org.creditto.core_banking.global.response.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 일괄(급여 지급형) 해외송금 요청을 처리하는 API 컨트롤러입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/core/remittance")
+public class BulkRemittanceController {
+
+    private final BulkRemittanceService bulkRemittanceService;
+
+    /**
+     * 하나의 출금 계좌에서 여러 수취인에게 해외송금을 일괄 실행합니다.
+     *
+     * @param request 출금 계좌 정보 및 건별 수취인/금액
+     * @return 건별 송금 결과 ({@link BulkRemittanceRes})
+     */
+    @PostMapping("/bulk/{userId}")
+    public ResponseEntity<BaseResponse<BulkRemittanceRes>> processBulk(
+            @PathVariable Long userId,
+            @Valid @RequestBody BulkRemittanceReq request
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, bulkRemittanceService.processBulk(userId, request));
+    }
+}
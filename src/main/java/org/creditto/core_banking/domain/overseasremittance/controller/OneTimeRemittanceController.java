@@ -4,6 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryPage;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistorySearch;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceSubmissionRes;
 import org.creditto.core_banking.domain.overseasremittance.service.OneTimeRemittanceService;
 import org.creditto.core_banking.global.response.ApiResponseUtil;
 import org.creditto.core_banking.global.response.BaseResponse;
@@ -39,4 +42,44 @@ public class OneTimeRemittanceController {
         return ApiResponseUtil.success(SuccessCode.OK, oneTimeRemittanceService.processRemittance(userId, request));
     }
 
+    /**
+     * 일회성 해외송금 요청을 검증 후 접수만 하고 즉시 반환합니다.
+     * 실제 송금은 작업자가 비동기로 실행하며, 반환된 접수 ID로 처리 상태를 조회합니다.
+     *
+     * @param request 송금에 필요한 정보(고객 ID, 수취인 정보, 금액 등)를 담은 DTO
+     * @return 접수 결과 ({@link RemittanceSubmissionRes})
+     */
+    @PostMapping("/once/{userId}/submissions")
+    public ResponseEntity<BaseResponse<RemittanceSubmissionRes>> submitRemittance(
+            @PathVariable Long userId,
+            @Valid @RequestBody OverseasRemittanceRequestDto request
+    ) {
+        return ApiResponseUtil.success(SuccessCode.CREATED, oneTimeRemittanceService.submitRemittance(userId, request));
+    }
+
+    /**
+     * 특정 고객의 일회성 송금 내역을 최신순으로 한 페이지씩 조회합니다.
+     *
+     * @param search 필터(currency, status, from, to)와 cursor, size
+     * @return 일회성 송금 내역 페이지 ({@link RemittanceHistoryPage})
+     */
+    @GetMapping("/once/{userId}")
+    public ResponseEntity<BaseResponse<RemittanceHistoryPage>> getOneTimeRemittanceList(
+            @PathVariable Long userId,
+            @Valid @ModelAttribute RemittanceHistorySearch search
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, oneTimeRemittanceService.getOneTimeRemittanceList(userId, search));
+    }
+
+    /**
+     * 비동기 해외송금 접수의 처리 상태를 조회합니다.
+     */
+    @GetMapping("/once/{userId}/submissions/{submissionId}")
+    public ResponseEntity<BaseResponse<RemittanceSubmissionRes>> getSubmission(
+            @PathVariable Long userId,
+            @PathVariable Long submissionId
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, oneTimeRemittanceService.getSubmission(userId, submissionId));
+    }
+
 }
@@ -1,18 +1,20 @@
 package org.creditto.core_banking.domain.overseasremittance.controller;
 // 송금에 관하여 일회/정기 구분 없이 통합해서
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.overseasremittance.dto.CreditAnalysisRes;
-import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryPage;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistorySearch;
 import org.creditto.core_banking.domain.overseasremittance.service.RemittanceQueryService;
 import org.creditto.core_banking.global.response.ApiResponseUtil;
 import org.creditto.core_banking.global.response.BaseResponse;
 import org.creditto.core_banking.global.response.SuccessCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -29,14 +31,19 @@ public class RemittanceQueryController {
     private final RemittanceQueryService remittanceService;
 
     /**
-     * 특정 고객(Client)의 모든 송금 내역을 조회합니다.
+     * 특정 고객(Client)의 송금 내역을 최신순으로 한 페이지씩 조회합니다.
+     * 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
      *
      * @param userId 송금 내역을 조회할 고객의 ID
-     * @return 해당 고객의 송금 내역 리스트 ({@link OverseasRemittanceResponseDto})
+     * @param search 필터(currency, status, from, to)와 cursor, size
+     * @return 해당 고객의 송금 내역 페이지 ({@link RemittanceHistoryPage})
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<BaseResponse<List<OverseasRemittanceResponseDto>>> getRemittanceList(@PathVariable Long userId) {
-        return ApiResponseUtil.success(SuccessCode.OK, remittanceService.getRemittanceList(userId));
+    public ResponseEntity<BaseResponse<RemittanceHistoryPage>> getRemittanceList(
+            @PathVariable Long userId,
+            @Valid @ModelAttribute RemittanceHistorySearch search
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, remittanceService.getRemittanceList(userId, search));
     }
 
     /**
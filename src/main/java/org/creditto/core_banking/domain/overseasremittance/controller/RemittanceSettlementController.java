@@ -0,0 +1,51 @@
+package org.creditto.core_banking.domain.overseasremittance.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.overseasremittance.dto.SettlementResultRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.SubmittedRemittance;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceSettlementService;
+import org.creditto.core_banking.global.response.ApiResponseUtil;
+import org.creditto.core_banking.global.response.BaseResponse;
+import org.creditto.core_banking.global.response.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 해외송금 정산 관리자 API 컨트롤러입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/core/admin/remittance-settlements")
+public class RemittanceSettlementController {
+
+    private final RemittanceSettlementService remittanceSettlementService;
+
+    /**
+     * 대기 중인 해외송금을 전송 상태로 변경하고, 해외 중개 은행으로 보낼 전송 목록을 반환합니다.
+     *
+     * @param limit 최대 전송 건수
+     * @return 전송된 송금 ID와 버전 (정산 결과에 그대로 포함)
+     */
+    @PostMapping("/submissions")
+    public ResponseEntity<BaseResponse<List<SubmittedRemittance>>> submitPending(
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        return ApiResponseUtil.success(SuccessCode.OK, remittanceSettlementService.submitPending(limit));
+    }
+
+    /**
+     * 해외 중개 은행의 정산 결과를 NDJSON 스트림으로 받아 일괄 반영합니다.
+     * 실패로 반영된 송금은 출금액과 수수료를 출금 계좌로 환급합니다.
+     *
+     * @param request NDJSON 본문을 담은 요청
+     * @return 반영 결과
+     */
+    @PostMapping(value = "/results", consumes = "application/x-ndjson")
+    public ResponseEntity<BaseResponse<SettlementResultRes>> applyResults(HttpServletRequest request) throws IOException {
+        return ApiResponseUtil.success(SuccessCode.OK, remittanceSettlementService.applyResults(request.getInputStream()));
+    }
+}
@@ -0,0 +1,60 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.global.response.error.ErrorCode;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 해외송금의 건별 결과
+ *
+ * @param index         요청 목록에서의 순번 (0부터)
+ * @param status        송금 상태 (PENDING: 출금 완료 후 전송 대기, FAILED: 송금하지 않음)
+ * @param remittanceId  해외송금 ID (실패 시 null)
+ * @param recipientId   수취인 ID
+ * @param sendAmount    출금된 송금액
+ * @param receiveAmount 수취 금액
+ * @param totalFee      출금된 총 수수료
+ * @param errorCode     실패 코드
+ * @param errorMessage  실패 사유
+ */
+public record BulkRemittanceItemRes(
+        int index,
+        RemittanceStatus status,
+        Long remittanceId,
+        Long recipientId,
+        BigDecimal sendAmount,
+        BigDecimal receiveAmount,
+        BigDecimal totalFee,
+        Integer errorCode,
+        String errorMessage
+) {
+
+    public static BulkRemittanceItemRes success(int index, Long remittanceId, BulkRemittanceRow row) {
+        return new BulkRemittanceItemRes(
+                index,
+                RemittanceStatus.PENDING,
+                remittanceId,
+                row.recipientId(),
+                row.sendAmount(),
+                row.receiveAmount(),
+                row.fee().totalFee(),
+                null,
+                null
+        );
+    }
+
+    public static BulkRemittanceItemRes failure(int index, Long recipientId, ErrorCode error) {
+        return new BulkRemittanceItemRes(
+                index,
+                RemittanceStatus.FAILED,
+                null,
+                recipientId,
+                null,
+                null,
+                null,
+                error.getCode(),
+                error.getMessage()
+        );
+    }
+}
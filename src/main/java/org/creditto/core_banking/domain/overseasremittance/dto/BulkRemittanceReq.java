@@ -0,0 +1,55 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 일괄(급여 지급형) 해외송금 요청
+ * 하나의 출금 계좌에서 여러 수취인에게 같은 통화로 송금
+ *
+ * @param accountNo    출금 계좌번호
+ * @param password     출금 계좌 비밀번호 (요청당 한 번만 검증)
+ * @param sendCurrency 보내는 통화
+ * @param items        건별 수취인 및 금액
+ */
+public record BulkRemittanceReq(
+        @NotBlank(message = "출금 계좌번호는 필수입니다.")
+        String accountNo,
+
+        @NotBlank(message = "계좌 비밀번호는 필수입니다.")
+        @Pattern(regexp = "^\\d{4}$", message = "비밀번호는 4자리 숫자여야 합니다.")
+        String password,
+
+        @NotNull(message = "송금 통화는 필수입니다.")
+        CurrencyCode sendCurrency,
+
+        @Valid
+        @NotEmpty(message = "송금 건은 1건 이상이어야 합니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 송금할 수 있습니다.")
+        List<Item> items
+) {
+
+    /**
+     * @param recipientInfo 수취인 상세 정보
+     * @param targetAmount  보내는 금액 (수취 통화 기준)
+     */
+    public record Item(
+            @Valid
+            @NotNull(message = "수취인 정보는 필수입니다.")
+            OverseasRemittanceRequestDto.RecipientInfo recipientInfo,
+
+            @NotNull(message = "송금액은 필수입니다.")
+            @Positive(message = "송금액은 0보다 커야 합니다.")
+            BigDecimal targetAmount
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 일괄 해외송금 결과
+ *
+ * @param requested      요청 건수
+ * @param succeeded      송금(출금) 완료 건수
+ * @param failed         실패 건수
+ * @param totalDeduction 계좌에서 차감된 총액 (송금액 + 수수료)
+ * @param items          요청 순서대로의 건별 결과
+ */
+public record BulkRemittanceRes(
+        int requested,
+        int succeeded,
+        int failed,
+        BigDecimal totalDeduction,
+        List<BulkRemittanceItemRes> items
+) {
+}
@@ -0,0 +1,28 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.remittancefee.service.FeeCalculation;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 해외송금에서 저장할 송금 한 건 (환전/수수료 계산 완료)
+ *
+ * @param recipientId   수취인 ID
+ * @param exchange      저장 전 환전 내역
+ * @param fee           수수료 계산 결과
+ * @param sendAmount    출금할 송금액
+ * @param receiveAmount 수취 금액
+ */
+public record BulkRemittanceRow(
+        Long recipientId,
+        Exchange exchange,
+        FeeCalculation fee,
+        BigDecimal sendAmount,
+        BigDecimal receiveAmount
+) {
+
+    public BigDecimal totalDeduction() {
+        return sendAmount.add(fee.totalFee());
+    }
+}
@@ -1,4 +1,5 @@
 package org.creditto.core_banking.domain.overseasremittance.dto;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittance;
 import org.creditto.core_banking.domain.regularremittance.entity.RegularRemittance;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.springframework.lang.Nullable;
@@ -35,7 +36,10 @@ public record ExecuteRemittanceCommand(
         BigDecimal targetAmount,
 
         // 송금 시작일 (정기송금의 경우 사용)
-        LocalDate startDate
+        LocalDate startDate,
+
+        // 환전 견적 식별자 (견적 없이 현재 환율로 송금하는 경우 null)
+        @Nullable String quoteId
 ) {
 
     public static ExecuteRemittanceCommand of(
@@ -47,6 +51,20 @@ public record ExecuteRemittanceCommand(
             CurrencyCode receiveCurrency,
             BigDecimal targetAmount,
             LocalDate startDate
+    ) {
+        return of(userId, recipientId, accountId, regRemId, sendCurrency, receiveCurrency, targetAmount, startDate, null);
+    }
+
+    public static ExecuteRemittanceCommand of(
+            Long userId,
+            Long recipientId,
+            Long accountId,
+            Long regRemId,
+            CurrencyCode sendCurrency,
+            CurrencyCode receiveCurrency,
+            BigDecimal targetAmount,
+            LocalDate startDate,
+            String quoteId
     ) {
         return new ExecuteRemittanceCommand(
                 userId,
@@ -56,7 +74,8 @@ public record ExecuteRemittanceCommand(
                 sendCurrency,
                 receiveCurrency,
                 targetAmount,
-                startDate
+                startDate,
+                quoteId
         );
     }
 
@@ -69,7 +88,22 @@ public record ExecuteRemittanceCommand(
                 regularRemittance.getSendCurrency(),
                 regularRemittance.getReceivedCurrency(),
                 regularRemittance.getSendAmount(),
-                LocalDate.now(ZoneId.of("Asia/Seoul"))
+                LocalDate.now(ZoneId.of("Asia/Seoul")),
+                null
+        );
+    }
+
+    public static ExecuteRemittanceCommand of(ConditionalRemittance conditionalRemittance) {
+        return new ExecuteRemittanceCommand(
+                conditionalRemittance.getUserId(),
+                conditionalRemittance.getRecipient().getRecipientId(),
+                conditionalRemittance.getAccount().getId(),
+                null,
+                conditionalRemittance.getSendCurrency(),
+                conditionalRemittance.getReceiveCurrency(),
+                conditionalRemittance.getTargetAmount(),
+                LocalDate.now(ZoneId.of("Asia/Seoul")),
+                null
         );
     }
 }
@@ -67,6 +67,11 @@ public class OverseasRemittanceRequestDto {
     @Positive(message = "송금액은 0보다 커야 합니다.")
     private BigDecimal targetAmount;
 
+    /**
+     * 환전 견적 식별자 (견적 없이 현재 환율로 송금하는 경우 null)
+     */
+    private String quoteId;
+
     /**
      * 해외송금 수취인의 상세 정보를 담는 내부 클래스입니다.
      */
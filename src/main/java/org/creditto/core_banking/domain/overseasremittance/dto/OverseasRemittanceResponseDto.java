@@ -1,5 +1,6 @@
 package org.creditto.core_banking.domain.overseasremittance.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.creditto.core_banking.domain.overseasremittance.entity.OverseasRemittance;
@@ -8,12 +9,15 @@ import org.creditto.core_banking.global.common.CurrencyCode;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 해외송금 처리 결과 및 조회 결과를 클라이언트에게 반환하기 위한 DTO(Data Transfer Object)입니다.
+ * 내역 조회는 전체 생성자를 JPQL 생성자 표현식으로 사용하여 엔티티 로딩 없이 필요한 컬럼만 조회합니다.
  */
 @Getter
 @Builder
+@AllArgsConstructor
 public class OverseasRemittanceResponseDto {
 
     /**
@@ -96,6 +100,11 @@ public class OverseasRemittanceResponseDto {
      */
     private RemittanceStatus remittanceStatus;
 
+    /**
+     * 송금 생성 시각 (내역 페이지 커서 기준)
+     */
+    private LocalDateTime createdAt;
+
     /**
      * {@link OverseasRemittance} 엔티티로부터 {@link OverseasRemittanceResponseDto} 객체를 생성합니다.
      *
@@ -122,6 +131,7 @@ public class OverseasRemittanceResponseDto {
                 .receiveAmount(overseasRemittance.getReceiveAmount())
                 .startDate(overseasRemittance.getStartDate())
                 .remittanceStatus(overseasRemittance.getRemittanceStatus())
+                .createdAt(overseasRemittance.getCreatedAt())
                 .build();
     }
 
@@ -0,0 +1,58 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 송금 내역 keyset 페이지 커서 (마지막으로 반환한 송금의 생성 시각과 송금 ID)
+ * 생성 시각이 같은 송금은 송금 ID로 순서를 정해 페이지 경계에서 누락/중복이 없도록 한다.
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ *
+ * @param createdAt    마지막 송금의 생성 시각
+ * @param remittanceId 마지막 송금 ID
+ */
+public record RemittanceHistoryCursor(
+        LocalDateTime createdAt,
+        Long remittanceId
+) {
+
+    // 첫 페이지 (keyset 조건 없음)
+    public static final RemittanceHistoryCursor FIRST = new RemittanceHistoryCursor(null, null);
+
+    private static final String DELIMITER = "_";
+
+    public static RemittanceHistoryCursor of(OverseasRemittanceResponseDto remittance) {
+        return new RemittanceHistoryCursor(remittance.getCreatedAt(), remittance.getRemittanceId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + remittanceId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 첫 페이지)
+     *
+     * @throws CustomBaseException 형식이 잘못된 커서인 경우
+     */
+    public static RemittanceHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new RemittanceHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomBaseException(ErrorBaseCode.BAD_REQUEST);
+        }
+    }
+}
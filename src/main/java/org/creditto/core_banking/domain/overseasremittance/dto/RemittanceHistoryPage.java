@@ -0,0 +1,35 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import java.util.List;
+
+/**
+ * 송금 내역 keyset 페이지 응답
+ *
+ * @param remittances 최신순 송금 내역 (최대 페이지 크기만큼)
+ * @param nextCursor  다음 페이지 조회 커서 (마지막 페이지면 null)
+ * @param hasNext     다음 페이지 존재 여부
+ */
+public record RemittanceHistoryPage(
+        List<OverseasRemittanceResponseDto> remittances,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * 페이지 크기보다 한 건 더 조회한 결과로 다음 페이지 여부와 커서를 결정
+     *
+     * @param fetched 페이지 크기 + 1건까지 조회한 송금 내역
+     * @param size    페이지 크기
+     */
+    public static RemittanceHistoryPage of(List<OverseasRemittanceResponseDto> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new RemittanceHistoryPage(fetched, null, false);
+        }
+        List<OverseasRemittanceResponseDto> page = fetched.subList(0, size);
+        return new RemittanceHistoryPage(
+                List.copyOf(page),
+                RemittanceHistoryCursor.of(page.get(size - 1)).encode(),
+                true
+        );
+    }
+}
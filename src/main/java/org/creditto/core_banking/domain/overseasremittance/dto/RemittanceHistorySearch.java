@@ -0,0 +1,60 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 송금 내역 조회 조건 (모든 필터는 선택)
+ *
+ * @param currency 수취 통화
+ * @param status   송금 처리 상태
+ * @param from     조회 시작일 (포함)
+ * @param to       조회 종료일 (포함)
+ * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+ * @param size     페이지 크기 (기본 20, 최대 100)
+ */
+public record RemittanceHistorySearch(
+        CurrencyCode currency,
+        RemittanceStatus status,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        String cursor,
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        Integer size
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+
+    public RemittanceHistorySearch {
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+    }
+
+    @AssertTrue(message = "조회 시작일은 종료일보다 늦을 수 없습니다.")
+    public boolean isDateRangeValid() {
+        return from == null || to == null || !from.isAfter(to);
+    }
+
+    /**
+     * 조회 시작 시각 (시작일 00:00, 포함)
+     */
+    public LocalDateTime createdFrom() {
+        return from == null ? null : from.atStartOfDay();
+    }
+
+    /**
+     * 조회 종료 시각 (종료일 다음 날 00:00, 제외)
+     */
+    public LocalDateTime createdTo() {
+        return to == null ? null : to.plusDays(1).atStartOfDay();
+    }
+}
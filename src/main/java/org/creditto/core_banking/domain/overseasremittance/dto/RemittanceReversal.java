@@ -0,0 +1,23 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 실패한 해외송금의 환급 정보 (출금액과 수수료를 출금 계좌로 환급)
+ *
+ * @param remittanceId 해외송금 ID
+ * @param accountId    출금 계좌 ID
+ * @param sendAmount   출금된 송금액
+ * @param totalFee     출금된 총 수수료
+ */
+public record RemittanceReversal(
+        Long remittanceId,
+        Long accountId,
+        BigDecimal sendAmount,
+        BigDecimal totalFee
+) {
+
+    public BigDecimal refundAmount() {
+        return sendAmount.add(totalFee);
+    }
+}
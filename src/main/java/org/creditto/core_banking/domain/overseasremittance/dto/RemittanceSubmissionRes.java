@@ -0,0 +1,40 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceSubmission;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 해외송금 접수 상태 응답
+ *
+ * @param submissionId 접수 ID (상태 조회에 사용)
+ * @param status       처리 상태 (REQUESTED, PROCESSING, COMPLETED, FAILED)
+ * @param remittanceId 실행 완료된 해외송금 ID (완료 전에는 null)
+ * @param errorCode    실패 코드
+ * @param errorMessage 실패 사유
+ * @param requestedAt  접수 시각
+ * @param completedAt  완료/실패 시각
+ */
+public record RemittanceSubmissionRes(
+        Long submissionId,
+        RemittanceStatus status,
+        Long remittanceId,
+        Integer errorCode,
+        String errorMessage,
+        LocalDateTime requestedAt,
+        LocalDateTime completedAt
+) {
+
+    public static RemittanceSubmissionRes from(RemittanceSubmission submission) {
+        return new RemittanceSubmissionRes(
+                submission.getSubmissionId(),
+                submission.getStatus(),
+                submission.getRemittanceId(),
+                submission.getErrorCode(),
+                submission.getErrorMessage(),
+                submission.getCreatedAt(),
+                submission.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+/**
+ * 해외송금 정산 결과 일괄 반영 결과
+ *
+ * @param received      수신한 줄 수 (빈 줄 제외)
+ * @param settled       정산 완료로 반영한 송금 수
+ * @param failed        실패로 반영하고 출금액을 환급한 송금 수
+ * @param conflicted    전송 상태가 아니거나 버전이 달라 반영하지 않은 송금 수
+ * @param rejected      형식이 잘못되어 건너뛴 줄 수
+ * @param elapsedMillis 처리 시간
+ */
+public record SettlementResultRes(
+        long received,
+        long settled,
+        long failed,
+        long conflicted,
+        long rejected,
+        long elapsedMillis
+) {
+}
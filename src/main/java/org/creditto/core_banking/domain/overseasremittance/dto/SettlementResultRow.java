@@ -0,0 +1,27 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+
+/**
+ * 해외송금 정산 결과 파일의 한 줄 (NDJSON)
+ * 예: {"remittanceId":1,"version":1,"status":"SETTLED"}
+ * 예: {"remittanceId":2,"version":1,"status":"FAILED","reason":"수취 계좌 해지"}
+ *
+ * @param remittanceId 해외송금 ID
+ * @param version      전송 당시 버전 ({@link SubmittedRemittance#version()})
+ * @param status       정산 결과 (SETTLED 또는 FAILED)
+ * @param reason       실패 사유
+ */
+public record SettlementResultRow(
+        Long remittanceId,
+        Long version,
+        RemittanceStatus status,
+        String reason
+) {
+
+    public boolean isValid() {
+        return remittanceId != null
+                && version != null
+                && (status == RemittanceStatus.SETTLED || status == RemittanceStatus.FAILED);
+    }
+}
@@ -0,0 +1,14 @@
+package org.creditto.core_banking.domain.overseasremittance.dto;
+
+/**
+ * 해외 중개 은행으로 전송한 해외송금
+ * 정산 결과에 같은 버전을 담아 보내야 반영되므로, 전송 이후 변경된 송금에 결과가 잘못 반영되지 않음
+ *
+ * @param remittanceId 해외송금 ID
+ * @param version      전송 처리 후 버전
+ */
+public record SubmittedRemittance(
+        Long remittanceId,
+        Long version
+) {
+}
@@ -10,6 +10,7 @@ import org.creditto.core_banking.domain.recipient.entity.Recipient;
 import org.creditto.core_banking.domain.regularremittance.entity.RegularRemittance;
 import org.creditto.core_banking.global.common.BaseEntity;
 import org.creditto.core_banking.global.common.CurrencyCode;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,8 +18,15 @@ import java.time.LocalDate;
 /**
  * 해외송금 거래 정보를 나타내는 엔티티입니다.
  * 한 건의 해외송금은 고객, 계좌, 수취인, 수수료, 환율 등 다양한 정보를 포함합니다.
+ * 내역 조회 인덱스는 (고객, [필터 컬럼], 생성 시각, 송금 ID) 순서로 두어 필터별 keyset 페이지를 인덱스 범위 탐색으로 처리합니다.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_overseas_remittance_user_created", columnList = "user_id, created_at, remittance_id"),
+        @Index(name = "idx_overseas_remittance_user_recur_created", columnList = "user_id, recur_id, created_at, remittance_id"),
+        @Index(name = "idx_overseas_remittance_user_currency_created", columnList = "user_id, receive_currency, created_at, remittance_id"),
+        @Index(name = "idx_overseas_remittance_user_status_created", columnList = "user_id, remittance_status, created_at, remittance_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -102,6 +110,18 @@ public class OverseasRemittance extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private RemittanceStatus remittanceStatus;
 
+    /**
+     * 정산 실패 사유 (해외 중개 은행 응답)
+     */
+    private String failureReason;
+
+    /**
+     * 낙관적 락 버전 (정산 결과 일괄 반영 시 전송 당시 버전과 비교)
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     /**
      * OverseasRemittance 엔티티를 생성하는 정적 팩토리 메서드입니다.
      * 초기 송금 상태는 PENDING으로 설정됩니다.
@@ -4,11 +4,15 @@ import lombok.Getter;
 
 /**
  * 해외송금의 처리 상태를 정의하는 열거형(Enum)입니다.
+ * 해외송금: PENDING(대기) -> SUBMITTED(전송) -> SETTLED(정산 완료) 또는 FAILED(실패, 출금액 환급)
+ * 비동기 송금 접수: REQUESTED(요청) -> PROCESSING(처리 중) -> COMPLETED(완료) 또는 FAILED(실패)
  */
 @Getter
 public enum RemittanceStatus {
     REQUESTED("요청"),
     PENDING("대기"),
+    SUBMITTED("전송"),
+    SETTLED("정산 완료"),
     PROCESSING("처리 중"),
     COMPLETED("완료"),
     FAILED("실패");
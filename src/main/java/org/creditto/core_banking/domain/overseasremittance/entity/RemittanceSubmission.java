@@ -0,0 +1,108 @@
+package org.creditto.core_banking.domain.overseasremittance.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
+import org.creditto.core_banking.global.common.BaseEntity;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 해외송금 접수 내역
+ * 요청 검증이 끝난 송금 실행 정보를 저장해 두고, 작업자가 꺼내어 실행하면서 상태를 갱신
+ * REQUESTED(접수) -> PROCESSING(실행 중) -> COMPLETED(완료) 또는 FAILED(실패)
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_remittance_submission_status", columnList = "status, submission_id")
+})
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class RemittanceSubmission extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long submissionId;
+
+    private Long userId;
+
+    private Long accountId;
+
+    private Long recipientId;
+
+    // 정기송금 ID (일회성 송금의 경우 null)
+    private Long regRemId;
+
+    @Enumerated(EnumType.STRING)
+    private CurrencyCode sendCurrency;
+
+    @Enumerated(EnumType.STRING)
+    private CurrencyCode receiveCurrency;
+
+    // 보내는 금액 (수취 통화 기준)
+    @Column(precision = 20, scale = 2)
+    private BigDecimal targetAmount;
+
+    private LocalDate startDate;
+
+    // 환전 견적 ID (견적 없이 실행 시점 환율로 송금하는 경우 null)
+    private String quoteId;
+
+    @Enumerated(EnumType.STRING)
+    private RemittanceStatus status;
+
+    // 실행 완료된 해외송금 ID
+    private Long remittanceId;
+
+    // 실패 사유
+    private Integer errorCode;
+
+    private String errorMessage;
+
+    // 작업자가 실행을 선점한 시각 (선점 후 응답 없는 작업 회수에 사용)
+    private LocalDateTime claimedAt;
+
+    // 선점마다 새로 발급하는 토큰 (임대 만료 후 다시 선점된 접수를 이전 작업자가 완료/실패 처리하지 못하도록 함)
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime completedAt;
+
+    public static RemittanceSubmission of(ExecuteRemittanceCommand command) {
+        return RemittanceSubmission.builder()
+                .userId(command.userId())
+                .accountId(command.accountId())
+                .recipientId(command.recipientId())
+                .regRemId(command.regRemId())
+                .sendCurrency(command.sendCurrency())
+                .receiveCurrency(command.receiveCurrency())
+                .targetAmount(command.targetAmount())
+                .startDate(command.startDate())
+                .quoteId(command.quoteId())
+                .status(RemittanceStatus.REQUESTED)
+                .build();
+    }
+
+    public ExecuteRemittanceCommand toCommand() {
+        return ExecuteRemittanceCommand.of(
+                userId,
+                recipientId,
+                accountId,
+                regRemId,
+                sendCurrency,
+                receiveCurrency,
+                targetAmount,
+                startDate,
+                quoteId
+        );
+    }
+}
@@ -0,0 +1,156 @@
+package org.creditto.core_banking.domain.overseasremittance.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRow;
+import org.creditto.core_banking.domain.remittancefee.service.FeeCalculation;
+import org.creditto.core_banking.domain.transaction.entity.TxnResult;
+import org.creditto.core_banking.domain.transaction.entity.TxnType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 해외송금 저장용 JDBC 저장소
+ * 환전 내역, 수수료 내역, 해외송금, 거래 내역을 테이블별로 하나의 JDBC 배치로 저장한다.
+ * 앞 단계에서 생성된 키(환전/수수료 ID)를 다음 단계의 외래 키로 사용하므로 배치마다 생성 키를 돌려받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkRemittanceJdbcRepository {
+
+    private static final String INSERT_EXCHANGE_SQL = """
+            INSERT INTO exchange (from_currency, to_currency, from_amount, to_amount, exchange_rate, created_at, updated_at)
+            VALUES (:fromCurrency, :toCurrency, :fromAmount, :toAmount, :exchangeRate, :now, :now)
+            """;
+
+    private static final String INSERT_FEE_RECORD_SQL = """
+            INSERT INTO fee_record (total_fee, flat_service_fee_id, pct_service_fee_id, network_fee_id, created_at, updated_at)
+            VALUES (:totalFee, :flatServiceFeeId, :pctServiceFeeId, :networkFeeId, :now, :now)
+            """;
+
+    private static final String INSERT_REMITTANCE_SQL = """
+            INSERT INTO overseas_remittance (
+                recipient_id, account_id, recur_id, exchange_id, fee_record_id, user_id,
+                send_currency, receive_currency, send_amount, receive_amount, start_date,
+                remittance_status, version, created_at, updated_at
+            )
+            VALUES (
+                :recipientId, :accountId, NULL, :exchangeId, :feeRecordId, :userId,
+                :sendCurrency, :receiveCurrency, :sendAmount, :receiveAmount, :startDate,
+                'PENDING', 0, :now, :now
+            )
+            """;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO transaction (account_id, txn_amount, txn_type, type_id, txn_result, created_at, updated_at)
+            VALUES (:accountId, :txnAmount, :txnType, :typeId, :txnResult, :now, :now)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 송금 건들을 일괄 저장하고 송금별 수수료/출금 거래 내역을 남김
+     *
+     * @param accountId 출금 계좌 ID
+     * @param userId    고객 ID
+     * @param startDate 송금일
+     * @param rows      저장할 송금 건
+     * @return rows와 같은 순서의 해외송금 ID
+     */
+    public List<Long> insertAll(Long accountId, Long userId, LocalDate startDate, List<BulkRemittanceRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> exchangeIds = insertWithKeys(INSERT_EXCHANGE_SQL, "id", rows.stream()
+                .map(row -> exchangeParams(row.exchange(), now))
+                .toArray(SqlParameterSource[]::new));
+
+        List<Long> feeRecordIds = insertWithKeys(INSERT_FEE_RECORD_SQL, "fee_record_id", rows.stream()
+                .map(row -> feeRecordParams(row.fee(), now))
+                .toArray(SqlParameterSource[]::new));
+
+        SqlParameterSource[] remittanceParams = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            BulkRemittanceRow row = rows.get(i);
+            remittanceParams[i] = new MapSqlParameterSource()
+                    .addValue("recipientId", row.recipientId())
+                    .addValue("accountId", accountId)
+                    .addValue("exchangeId", exchangeIds.get(i))
+                    .addValue("feeRecordId", feeRecordIds.get(i))
+                    .addValue("userId", userId)
+                    .addValue("sendCurrency", row.exchange().getFromCurrency().name())
+                    .addValue("receiveCurrency", row.exchange().getToCurrency().name())
+                    .addValue("sendAmount", row.sendAmount())
+                    .addValue("receiveAmount", row.receiveAmount())
+                    .addValue("startDate", startDate)
+                    .addValue("now", now);
+        }
+        List<Long> remittanceIds = insertWithKeys(INSERT_REMITTANCE_SQL, "remittance_id", remittanceParams);
+
+        List<SqlParameterSource> transactionParams = new ArrayList<>(rows.size() * 2);
+        for (int i = 0; i < rows.size(); i++) {
+            BulkRemittanceRow row = rows.get(i);
+            Long remittanceId = remittanceIds.get(i);
+            if (row.fee().totalFee().compareTo(BigDecimal.ZERO) > 0) {
+                transactionParams.add(transactionParams(accountId, row.fee().totalFee(), TxnType.FEE, remittanceId, now));
+            }
+            transactionParams.add(transactionParams(accountId, row.sendAmount(), TxnType.WITHDRAWAL, remittanceId, now));
+        }
+        namedParameterJdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactionParams.toArray(SqlParameterSource[]::new));
+
+        return remittanceIds;
+    }
+
+    private List<Long> insertWithKeys(String sql, String keyColumn, SqlParameterSource[] params) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.batchUpdate(sql, params, keyHolder, new String[]{keyColumn});
+        return keyHolder.getKeyList().stream()
+                .map(BulkRemittanceJdbcRepository::firstKey)
+                .toList();
+    }
+
+    private static Long firstKey(Map<String, Object> keys) {
+        // 드라이버마다 생성 키 컬럼명이 다르므로(GENERATED_KEY, ID 등) 첫 번째 값을 사용
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+
+    private static SqlParameterSource exchangeParams(Exchange exchange, Timestamp now) {
+        return new MapSqlParameterSource()
+                .addValue("fromCurrency", exchange.getFromCurrency().name())
+                .addValue("toCurrency", exchange.getToCurrency().name())
+                .addValue("fromAmount", exchange.getFromAmount())
+                .addValue("toAmount", exchange.getToAmount())
+                .addValue("exchangeRate", exchange.getExchangeRate())
+                .addValue("now", now);
+    }
+
+    private static SqlParameterSource feeRecordParams(FeeCalculation fee, Timestamp now) {
+        return new MapSqlParameterSource()
+                .addValue("totalFee", fee.totalFee())
+                .addValue("flatServiceFeeId", fee.flatFeePolicy() == null ? null : fee.flatFeePolicy().getFlatServiceFeeId())
+                .addValue("pctServiceFeeId", fee.pctFeePolicy() == null ? null : fee.pctFeePolicy().getPctServiceFeeId())
+                .addValue("networkFeeId", fee.networkFeePolicy() == null ? null : fee.networkFeePolicy().getNetworkFeeId())
+                .addValue("now", now);
+    }
+
+    private static SqlParameterSource transactionParams(Long accountId, BigDecimal amount, TxnType txnType, Long typeId, Timestamp now) {
+        return new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("txnAmount", amount)
+                .addValue("txnType", txnType.name())
+                .addValue("typeId", typeId)
+                .addValue("txnResult", TxnResult.SUCCESS.name())
+                .addValue("now", now);
+    }
+}
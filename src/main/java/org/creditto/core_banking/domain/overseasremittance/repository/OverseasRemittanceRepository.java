@@ -1,11 +1,19 @@
 package org.creditto.core_banking.domain.overseasremittance.repository;
 
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceReversal;
 import org.creditto.core_banking.domain.overseasremittance.entity.OverseasRemittance;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.regularremittance.dto.RemittanceHistoryDetailDto;
+import org.creditto.core_banking.domain.regularremittance.dto.RemittanceHistoryDto;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,71 +23,143 @@ import java.util.Optional;
 @Repository
 public interface OverseasRemittanceRepository extends JpaRepository<OverseasRemittance, Long> {
 
+    // 송금 내역 응답에 필요한 컬럼만 조회 (수수료/정기송금은 FK 값만 사용하므로 조인 대상에서 제외)
+    String HISTORY_SELECT =
+            "SELECT new org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto(" +
+            "r.remittanceId, r.userId, rc.recipientId, rc.name, a.id, a.accountNo, rr.regRemId, " +
+            "e.id, e.exchangeRate, r.feeRecord.feeRecordId, r.sendCurrency, r.receiveCurrency, " +
+            "r.sendAmount, r.receiveAmount, r.startDate, r.remittanceStatus, r.createdAt) " +
+            "FROM OverseasRemittance r " +
+            "JOIN r.recipient rc " +
+            "JOIN r.account a " +
+            "JOIN r.exchange e " +
+            "LEFT JOIN r.recur rr ";
+
+    // 송금 내역 페이지 공통 필터 + keyset 조건 (커서보다 오래된 행만)
+    String HISTORY_FILTER =
+            "AND (:currency IS NULL OR r.receiveCurrency = :currency) " +
+            "AND (:status IS NULL OR r.remittanceStatus = :status) " +
+            "AND (:createdFrom IS NULL OR r.createdAt >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR r.createdAt < :createdTo) " +
+            "AND (:cursorCreatedAt IS NULL " +
+            "OR r.createdAt < :cursorCreatedAt " +
+            "OR (r.createdAt = :cursorCreatedAt AND r.remittanceId < :cursorRemittanceId)) ";
+
+    // 복합 인덱스 (user_id, ..., created_at, remittance_id)와 같은 순서로 정렬하여 filesort 없이 인덱스 역순 탐색
+    String HISTORY_ORDER = "ORDER BY r.createdAt DESC, r.remittanceId DESC";
+
     List<OverseasRemittance> findByUserId(Long userId);
 
     /**
-     * 특정 고객(user)의 모든 송금 내역을 연관된 엔티티(수취인, 계좌, 환전, 수수료, 정기송금)와 함께 조회합니다.
-     * Fetch Join을 사용하여 N+1 쿼리 문제를 방지합니다.
+     * 특정 고객(user)의 송금 내역 한 페이지를 응답 DTO로 최신순 조회합니다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않고, 수취인/계좌/환전의 필요한 컬럼만 한 번의 쿼리로 읽습니다.
+     * (createdAt, remittanceId) 기준 keyset 조건으로 커서 이후 행만 읽으므로, 내역 건수와 무관하게 페이지 크기만큼만 조회합니다.
+     * 모든 필터는 null이면 적용하지 않습니다.
      *
-     * @param userId 조회할 고객의 ID
-     * @return 조회된 송금 내역 리스트 ({@link OverseasRemittance})
+     * @param userId             조회할 고객의 ID
+     * @param currency           수취 통화 필터
+     * @param status             송금 처리 상태 필터
+     * @param createdFrom        생성 시각 하한 (포함)
+     * @param createdTo          생성 시각 상한 (제외)
+     * @param cursorCreatedAt    커서의 생성 시각 (첫 페이지는 null)
+     * @param cursorRemittanceId 커서의 송금 ID
+     * @param limit              조회 건수
+     * @return 조회된 송금 내역 리스트 ({@link OverseasRemittanceResponseDto})
      */
-    @Query("SELECT r FROM OverseasRemittance r " +
-            "JOIN FETCH r.recipient " +
-            "JOIN FETCH r.account " +
-            "JOIN FETCH r.exchange " +
-            "JOIN FETCH r.feeRecord " +
-            "LEFT JOIN FETCH r.recur " +
-            "WHERE r.userId = :userId")
-    List<OverseasRemittance> findByUserIdWithDetails(@Param("userId") Long userId);
+    @Query(HISTORY_SELECT +
+            "WHERE r.userId = :userId " +
+            HISTORY_FILTER +
+            HISTORY_ORDER)
+    List<OverseasRemittanceResponseDto> findHistoryPage(
+            @Param("userId") Long userId,
+            @Param("currency") CurrencyCode currency,
+            @Param("status") RemittanceStatus status,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorRemittanceId") Long cursorRemittanceId,
+            Limit limit
+    );
 
     /**
-     * 특정 정기송금의 특정 송금 내역을 조회합니다.
+     * 특정 정기송금의 특정 송금 내역 상세를 본인 송금인 경우에만 조회합니다.
+     * 계좌/수수료/수취인의 필요한 컬럼만 한 번의 쿼리로 읽습니다.
      *
-     * @param regRemId 조회할 정기송금의 ID
      * @param remittanceId 조회할 송금 내역의 ID
-     * @return 조회된 송금 내역
+     * @param regRemId     조회할 정기송금의 ID
+     * @param userId       요청한 고객의 ID
+     * @return 송금 내역 상세 ({@link RemittanceHistoryDetailDto})
      */
-    @Query("SELECT r FROM OverseasRemittance r " +
-            "JOIN FETCH r.recipient " +
-            "JOIN FETCH r.account " +
-            "JOIN FETCH r.exchange " +
-            "JOIN FETCH r.feeRecord " +
-            "WHERE r.id = :remittanceId AND r.recur.regRemId = :regRemId")
-    Optional<OverseasRemittance> findByIdAndRecur_RegRemId(
+    @Query("SELECT new org.creditto.core_banking.domain.regularremittance.dto.RemittanceHistoryDetailDto(" +
+            "a.accountNo, f.totalFee, r.sendAmount, rc.bankName, rc.accountNo, r.remittanceStatus) " +
+            "FROM OverseasRemittance r " +
+            "JOIN r.account a " +
+            "JOIN r.feeRecord f " +
+            "JOIN r.recipient rc " +
+            "WHERE r.remittanceId = :remittanceId AND r.recur.regRemId = :regRemId AND r.userId = :userId")
+    Optional<RemittanceHistoryDetailDto> findHistoryDetail(
             @Param("remittanceId") Long remittanceId,
-            @Param("regRemId") Long regRemId
+            @Param("regRemId") Long regRemId,
+            @Param("userId") Long userId
     );
 
+    boolean existsByRemittanceIdAndRecur_RegRemId(Long remittanceId, Long regRemId);
+
     /**
-     * 특정 정기송금(Regular Remittance)에 해당하는 모든 송금 내역을 최신순으로 조회합니다.
-     * Fetch Join을 사용하여 N+1 쿼리 문제를 방지합니다.
+     * 특정 정기송금(Regular Remittance)의 송금 내역을 정기송금 소유자에게만 최신순으로 조회합니다.
+     * 송금 ID, 금액, 환율, 생성 시각만 한 번의 쿼리로 읽습니다.
      *
      * @param regRemId 조회할 정기송금의 ID
-     * @return 조회된 송금 내역 리스트 ({@link OverseasRemittance})
+     * @param userId   요청한 고객의 ID
+     * @return 조회된 송금 내역 리스트 ({@link RemittanceHistoryDto})
      */
-    @Query("SELECT r FROM OverseasRemittance r " +
-            "JOIN FETCH r.recipient " +
-            "JOIN FETCH r.account " +
-            "JOIN FETCH r.exchange " +
-            "JOIN FETCH r.feeRecord " +
-            "WHERE r.recur.regRemId = :regRemId " +
+    @Query("SELECT new org.creditto.core_banking.domain.regularremittance.dto.RemittanceHistoryDto(" +
+            "r.remittanceId, r.sendAmount, e.exchangeRate, r.createdAt) " +
+            "FROM OverseasRemittance r " +
+            "JOIN r.exchange e " +
+            "JOIN r.recur rr " +
+            "JOIN rr.account ra " +
+            "WHERE rr.regRemId = :regRemId AND ra.userId = :userId " +
             "ORDER BY r.createdAt DESC")
-    List<OverseasRemittance> findByRecur_RegRemIdOrderByCreatedAtDesc(@Param("regRemId") Long regRemId);
+    List<RemittanceHistoryDto> findHistoryByRegRemId(
+            @Param("regRemId") Long regRemId,
+            @Param("userId") Long userId
+    );
+
+    /**
+     * 특정 고객(Client)의 일회성 송금 내역 한 페이지를 응답 DTO로 최신순 조회합니다.
+     * 조회 컬럼, 필터와 keyset 조건은 {@link #findHistoryPage}와 같습니다.
+     *
+     * @return 조회된 일회성 송금 내역 리스트 ({@link OverseasRemittanceResponseDto})
+     */
+    @Query(HISTORY_SELECT +
+            "WHERE r.userId = :userId AND r.recur IS NULL " +
+            HISTORY_FILTER +
+            HISTORY_ORDER)
+    List<OverseasRemittanceResponseDto> findOneTimeHistoryPage(
+            @Param("userId") Long userId,
+            @Param("currency") CurrencyCode currency,
+            @Param("status") RemittanceStatus status,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorRemittanceId") Long cursorRemittanceId,
+            Limit limit
+    );
 
     /**
-     * 특정 고객(Client)의 모든 일회성 송금 내역을 연관된 엔티티(수취인, 계좌, 환전, 수수료)와 함께 조회합니다.
-     * Fetch Join을 사용하여 N+1 쿼리 문제를 방지합니다.
+     * 정산 실패한 해외송금의 환급 정보를 엔티티 로딩 없이 한 번에 조회합니다.
+     * 계좌 잠금 순서를 일정하게 유지하도록 계좌 ID 순으로 정렬합니다.
      *
-     * @param userId 조회할 고객의 ID
-     * @return 조회된 일회성 송금 내역 리스트 ({@link OverseasRemittance})
+     * @param remittanceIds 환급할 송금 ID 목록
+     * @return 환급 정보 리스트 ({@link RemittanceReversal})
      */
-    @Query("SELECT r FROM OverseasRemittance r " +
-            "JOIN FETCH r.recipient " +
-            "JOIN FETCH r.account " +
-            "JOIN FETCH r.exchange " +
-            "JOIN FETCH r.feeRecord " +
-            "WHERE r.userId = :userId AND r.recur IS NULL")
-    List<OverseasRemittance> findByUserIdAndRecurIsNull(@Param("userId") Long userId);
+    @Query("SELECT new org.creditto.core_banking.domain.overseasremittance.dto.RemittanceReversal(" +
+            "r.remittanceId, r.account.id, r.sendAmount, f.totalFee) " +
+            "FROM OverseasRemittance r " +
+            "JOIN r.feeRecord f " +
+            "WHERE r.remittanceId IN :remittanceIds " +
+            "ORDER BY r.account.id, r.remittanceId")
+    List<RemittanceReversal> findReversalsByRemittanceIdIn(@Param("remittanceIds") List<Long> remittanceIds);
 
 }
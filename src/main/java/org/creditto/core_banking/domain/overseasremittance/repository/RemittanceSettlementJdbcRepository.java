@@ -0,0 +1,106 @@
+package org.creditto.core_banking.domain.overseasremittance.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.overseasremittance.dto.SettlementResultRow;
+import org.creditto.core_banking.domain.overseasremittance.dto.SubmittedRemittance;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 해외송금 상태 일괄 변경용 JDBC 저장소
+ * 엔티티를 한 건씩 조회/변경하지 않고, 행마다 상태와 버전을 조건으로 하는 UPDATE를 하나의 배치로 전송한다.
+ * 조건이 맞지 않아 변경되지 않은 행(갱신 건수 0)은 다른 처리와 충돌한 것으로 본다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RemittanceSettlementJdbcRepository {
+
+    private static final String FIND_PENDING_SQL = """
+            SELECT remittance_id, version
+            FROM overseas_remittance
+            WHERE remittance_status = 'PENDING'
+            ORDER BY remittance_id
+            LIMIT ?
+            """;
+
+    private static final String SUBMIT_SQL = """
+            UPDATE overseas_remittance
+            SET remittance_status = 'SUBMITTED', version = version + 1, updated_at = ?
+            WHERE remittance_id = ? AND version = ? AND remittance_status = 'PENDING'
+            """;
+
+    private static final String APPLY_RESULT_SQL = """
+            UPDATE overseas_remittance
+            SET remittance_status = ?, failure_reason = ?, version = version + 1, updated_at = ?
+            WHERE remittance_id = ? AND version = ? AND remittance_status = 'SUBMITTED'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기 중인 해외송금을 전송 상태로 일괄 변경
+     *
+     * @param limit 최대 전송 건수
+     * @return 전송 상태로 변경된 송금과 변경 후 버전
+     */
+    public List<SubmittedRemittance> submitPending(int limit) {
+        List<SubmittedRemittance> pending = jdbcTemplate.query(
+                FIND_PENDING_SQL,
+                (rs, rowNum) -> new SubmittedRemittance(rs.getLong("remittance_id"), rs.getLong("version")),
+                limit
+        );
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = flatten(jdbcTemplate.batchUpdate(SUBMIT_SQL, pending, pending.size(), (statement, remittance) -> {
+            statement.setTimestamp(1, now);
+            statement.setLong(2, remittance.remittanceId());
+            statement.setLong(3, remittance.version());
+        }));
+
+        List<SubmittedRemittance> submitted = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            if (counts[i] == 1) {
+                SubmittedRemittance remittance = pending.get(i);
+                submitted.add(new SubmittedRemittance(remittance.remittanceId(), remittance.version() + 1));
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * 전송 상태의 해외송금에 정산 결과를 일괄 반영
+     *
+     * @param rows 정산 결과 (유효성 검증 완료)
+     * @return 행별 반영 여부 (rows와 같은 순서)
+     */
+    public boolean[] applyResults(List<SettlementResultRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = flatten(jdbcTemplate.batchUpdate(APPLY_RESULT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row.status().name());
+            statement.setString(2, row.status() == RemittanceStatus.FAILED ? row.reason() : null);
+            statement.setTimestamp(3, now);
+            statement.setLong(4, row.remittanceId());
+            statement.setLong(5, row.version());
+        }));
+
+        boolean[] applied = new boolean[rows.size()];
+        for (int i = 0; i < applied.length; i++) {
+            applied[i] = counts[i] == 1;
+        }
+        return applied;
+    }
+
+    private static int[] flatten(int[][] batchCounts) {
+        return Arrays.stream(batchCounts).flatMapToInt(Arrays::stream).toArray();
+    }
+}
@@ -0,0 +1,96 @@
+package org.creditto.core_banking.domain.overseasremittance.repository;
+
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceSubmission;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RemittanceSubmissionRepository extends JpaRepository<RemittanceSubmission, Long> {
+
+    Optional<RemittanceSubmission> findBySubmissionIdAndUserId(Long submissionId, Long userId);
+
+    /**
+     * 접수 순서대로 실행 대기 중인 접수 ID 조회
+     */
+    @Query("SELECT s.submissionId FROM RemittanceSubmission s " +
+            "WHERE s.status = :status " +
+            "ORDER BY s.submissionId ASC")
+    List<Long> findIdsByStatus(@Param("status") RemittanceStatus status, Limit limit);
+
+    /**
+     * 실행 대기 중인 접수를 실행 중으로 선점 (여러 작업자/노드가 같은 접수를 중복 실행하지 않도록 조건부 UPDATE 사용)
+     * 선점 토큰은 이후 완료/실패 처리 시 같은 선점인지 확인하는 데 사용
+     *
+     * @return 선점에 성공하면 1, 이미 다른 작업자가 선점한 경우 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE RemittanceSubmission s " +
+            "SET s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.PROCESSING, " +
+            "s.claimToken = :claimToken, s.claimedAt = :claimedAt " +
+            "WHERE s.submissionId = :id " +
+            "AND s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.REQUESTED"
+    )
+    int claim(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * 실행 완료 처리 (송금 실행과 같은 트랜잭션에서 호출하여 송금 저장과 완료 상태가 함께 커밋되도록 함)
+     * 임대 만료 후 다른 작업자가 다시 선점했다면 선점 토큰이 달라 0을 반환
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE RemittanceSubmission s " +
+            "SET s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.COMPLETED, " +
+            "s.remittanceId = :remittanceId, s.completedAt = :completedAt " +
+            "WHERE s.submissionId = :id " +
+            "AND s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.PROCESSING " +
+            "AND s.claimToken = :claimToken"
+    )
+    int complete(
+            @Param("id") Long id,
+            @Param("claimToken") String claimToken,
+            @Param("remittanceId") Long remittanceId,
+            @Param("completedAt") LocalDateTime completedAt
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE RemittanceSubmission s " +
+            "SET s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.FAILED, " +
+            "s.errorCode = :errorCode, s.errorMessage = :errorMessage, s.completedAt = :completedAt " +
+            "WHERE s.submissionId = :id " +
+            "AND s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.PROCESSING " +
+            "AND s.claimToken = :claimToken"
+    )
+    int fail(
+            @Param("id") Long id,
+            @Param("claimToken") String claimToken,
+            @Param("errorCode") Integer errorCode,
+            @Param("errorMessage") String errorMessage,
+            @Param("completedAt") LocalDateTime completedAt
+    );
+
+    /**
+     * 선점 후 일정 시간 안에 끝나지 않은 접수를 다시 실행 대기로 되돌림 (작업자 비정상 종료 대비)
+     * 완료 상태는 송금 실행과 함께 커밋되므로, 실행 중으로 남아 있는 접수는 송금이 커밋되지 않은 접수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE RemittanceSubmission s " +
+            "SET s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.REQUESTED, " +
+            "s.claimToken = NULL, s.claimedAt = NULL " +
+            "WHERE s.status = org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus.PROCESSING " +
+            "AND s.claimedAt < :claimedBefore"
+    )
+    int releaseExpired(@Param("claimedBefore") LocalDateTime claimedBefore);
+}
@@ -0,0 +1,184 @@
+package org.creditto.core_banking.domain.overseasremittance.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.account.service.AccountLockService;
+import org.creditto.core_banking.domain.account.service.AccountService;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeBatchResult;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
+import org.creditto.core_banking.domain.exchange.service.ExchangeService;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceItemRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceReq;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRow;
+import org.creditto.core_banking.domain.overseasremittance.repository.BulkRemittanceJdbcRepository;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
+import org.creditto.core_banking.domain.remittancefee.service.FeeCalculation;
+import org.creditto.core_banking.domain.remittancefee.service.FeeEngine;
+import org.creditto.core_banking.domain.remittancefee.service.FeePolicyProvider;
+import org.creditto.core_banking.domain.remittancefee.service.FeePolicySnapshot;
+import org.creditto.core_banking.domain.transaction.entity.TxnResult;
+import org.creditto.core_banking.domain.transaction.entity.TxnType;
+import org.creditto.core_banking.domain.transaction.service.TransactionService;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄(급여 지급형) 해외송금 서비스
+ * 건마다 송금 API를 호출하는 대신, 비밀번호 검증/환율 스냅샷/수수료 정책 스냅샷/계좌 잠금을 요청당 한 번만 수행하고
+ * 전체 차감액으로 잔액을 먼저 확인한 뒤 환전/수수료/송금/거래 내역을 테이블별 JDBC 배치로 저장한다.
+ * 수취인 정보, 통화, 수수료 정책 문제로 계산할 수 없는 건은 해당 건만 실패로 응답하고,
+ * 잔액이 부족하면 어떤 건도 송금하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkRemittanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final AccountLockService accountLockService;
+    private final RecipientFactory recipientFactory;
+    private final ExchangeService exchangeService;
+    private final FeePolicyProvider feePolicyProvider;
+    private final TransactionService transactionService;
+    private final BulkRemittanceJdbcRepository bulkRemittanceJdbcRepository;
+
+    /**
+     * 일괄 해외송금 실행
+     *
+     * @param userId  고객 ID
+     * @param request 출금 계좌 및 건별 수취인/금액
+     * @return 건별 송금 결과
+     * @throws CustomBaseException 계좌가 없거나 비밀번호가 틀린 경우, 전체 차감액만큼 잔액이 없는 경우 발생
+     */
+    @Transactional
+    public BulkRemittanceRes processBulk(Long userId, BulkRemittanceReq request) {
+        Account account = accountRepository.findByAccountNo(request.accountNo())
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_ACCOUNT));
+
+        // 비밀번호 검증은 요청당 한 번
+        accountService.verifyPassword(account.getId(), request.password());
+
+        List<BulkRemittanceReq.Item> items = request.items();
+        BulkRemittanceItemRes[] results = new BulkRemittanceItemRes[items.size()];
+
+        // 1. 수취인 조회 또는 생성 (같은 수취인이 여러 번 포함되어도 한 번만 조회)
+        Map<RecipientCreateDto, Recipient> recipients = new HashMap<>();
+        List<Integer> exchangeIndexes = new ArrayList<>(items.size());
+        List<ExchangeReq> exchangeReqs = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkRemittanceReq.Item item = items.get(i);
+            try {
+                Recipient recipient = recipients.computeIfAbsent(
+                        item.recipientInfo().toRecipientCreateDto(),
+                        recipientFactory::findOrCreate
+                );
+                exchangeIndexes.add(i);
+                exchangeReqs.add(ExchangeReq.of(request.sendCurrency(), recipient.getCurrencyCode(), item.targetAmount()));
+            } catch (CustomBaseException e) {
+                results[i] = BulkRemittanceItemRes.failure(i, null, e.getErrorCode());
+            }
+        }
+
+        // 2. 하나의 환율 스냅샷으로 전체 환전 계산, 3. 하나의 수수료 정책 스냅샷으로 전체 수수료 계산
+        List<ExchangeBatchResult> exchangeResults = exchangeService.calculateBatch(userId, exchangeReqs);
+        FeePolicySnapshot policySnapshot = feePolicyProvider.getSnapshot();
+
+        List<Integer> rowIndexes = new ArrayList<>(exchangeResults.size());
+        List<BulkRemittanceRow> rows = new ArrayList<>(exchangeResults.size());
+        BigDecimal totalDeduction = BigDecimal.ZERO;
+        for (int j = 0; j < exchangeResults.size(); j++) {
+            int index = exchangeIndexes.get(j);
+            Long recipientId = recipients.get(items.get(index).recipientInfo().toRecipientCreateDto()).getRecipientId();
+            ExchangeBatchResult exchangeResult = exchangeResults.get(j);
+            if (!exchangeResult.isSuccess()) {
+                results[index] = BulkRemittanceItemRes.failure(index, recipientId, exchangeResult.error());
+                continue;
+            }
+
+            ExchangeRes exchangeRes = exchangeResult.result();
+            FeeCalculation fee;
+            try {
+                fee = FeeEngine.calculate(RemittanceFeeReq.of(
+                        exchangeRes.exchangeRate(),
+                        exchangeRes.exchangeAmount(),
+                        exchangeRes.toCurrency(),
+                        exchangeRes.fromAmountInUSD()
+                ), policySnapshot);
+            } catch (EntityNotFoundException e) {
+                results[index] = BulkRemittanceItemRes.failure(index, recipientId, ErrorBaseCode.NOT_FOUND_ENTITY);
+                continue;
+            }
+
+            BulkRemittanceRow row = new BulkRemittanceRow(
+                    recipientId,
+                    exchangeRes.exchange(),
+                    fee,
+                    exchangeRes.exchangeAmount(),
+                    exchangeResult.request().targetAmount()
+            );
+            rowIndexes.add(index);
+            rows.add(row);
+            totalDeduction = totalDeduction.add(row.totalDeduction());
+        }
+
+        if (!rows.isEmpty()) {
+            List<Long> remittanceIds = settle(account.getId(), userId, rows, totalDeduction);
+            for (int k = 0; k < rows.size(); k++) {
+                results[rowIndexes.get(k)] = BulkRemittanceItemRes.success(rowIndexes.get(k), remittanceIds.get(k), rows.get(k));
+            }
+        }
+
+        log.info("[BulkRemittanceService] 일괄 해외송금 완료 - userId={}, 요청 {}건, 성공 {}건, 차감액 {}",
+                userId, items.size(), rows.size(), totalDeduction);
+        return new BulkRemittanceRes(
+                items.size(),
+                rows.size(),
+                items.size() - rows.size(),
+                totalDeduction,
+                Arrays.asList(results)
+        );
+    }
+
+    /**
+     * 계좌 잠금을 한 번만 획득하여 전체 차감액으로 잔액을 확인하고, 송금 건을 일괄 저장한 뒤 한 번에 출금
+     */
+    private List<Long> settle(Long accountId, Long userId, List<BulkRemittanceRow> rows, BigDecimal totalDeduction) {
+        LocalDate startDate = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        return accountLockService.executeWithLock(accountId, () -> {
+            Account lockedAccount = accountRepository.findByIdForUpdate(accountId)
+                    .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_ACCOUNT));
+
+            if (!lockedAccount.checkSufficientBalance(totalDeduction)) {
+                transactionService.saveTransaction(lockedAccount, totalDeduction, TxnType.WITHDRAWAL, null, TxnResult.FAILURE);
+                throw new CustomBaseException(ErrorBaseCode.INSUFFICIENT_FUNDS);
+            }
+
+            List<Long> remittanceIds = bulkRemittanceJdbcRepository.insertAll(accountId, userId, startDate, rows);
+
+            lockedAccount.withdraw(totalDeduction);
+            accountRepository.save(lockedAccount);
+
+            return remittanceIds;
+        });
+    }
+}
@@ -7,14 +7,23 @@ import org.creditto.core_banking.domain.account.service.AccountService;
 import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryCursor;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryPage;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistorySearch;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceSubmissionRes;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceSubmission;
 import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
+import org.creditto.core_banking.domain.overseasremittance.repository.RemittanceSubmissionRepository;
 import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
 import org.creditto.core_banking.domain.recipient.entity.Recipient;
 import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
 import org.creditto.core_banking.global.response.error.ErrorBaseCode;
 import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -32,6 +41,8 @@ public class OneTimeRemittanceService {
     private final RecipientFactory recipientFactory;
     private final OverseasRemittanceRepository overseasRemittanceRepository;
     private final AccountService accountService;
+    private final RemittanceSubmissionRepository remittanceSubmissionRepository;
+    private final RemittanceSubmissionWorker remittanceSubmissionWorker;
 
     /**
      * 클라이언트의 해외송금 요청을 받아 전체 송금 프로세스를 조정합니다.
@@ -41,6 +52,68 @@ public class OneTimeRemittanceService {
      */
     @Transactional
     public OverseasRemittanceResponseDto processRemittance(Long userId, OverseasRemittanceRequestDto request) {
+        ExecuteRemittanceCommand command = toCommand(userId, request);
+
+        // Command 실행 위임: 생성된 Command를 통해 실제 송금 로직 실행
+        return remittanceProcessorService.execute(command);
+    }
+
+    /**
+     * 해외송금 요청을 검증한 뒤 접수만 하고 즉시 반환합니다.
+     * 환전/수수료/출금은 {@link RemittanceSubmissionWorker}가 접수 순서대로 실행하며,
+     * 처리 결과는 반환된 접수 ID로 조회합니다.
+     *
+     * @param request 클라이언트로부터 받은 해외송금 요청 데이터
+     * @return 접수 결과 (REQUESTED 상태)
+     */
+    @Transactional
+    public RemittanceSubmissionRes submitRemittance(Long userId, OverseasRemittanceRequestDto request) {
+        ExecuteRemittanceCommand command = toCommand(userId, request);
+
+        RemittanceSubmission submission = remittanceSubmissionRepository.save(RemittanceSubmission.of(command));
+
+        // 접수가 커밋된 뒤에 실행을 요청해야 작업자가 접수를 조회할 수 있음
+        Long submissionId = submission.getSubmissionId();
+        afterCommit(() -> remittanceSubmissionWorker.dispatch(submissionId));
+
+        return RemittanceSubmissionRes.from(submission);
+    }
+
+    /**
+     * 비동기 해외송금 접수 처리 상태를 조회합니다.
+     * 다른 사용자의 접수는 존재하지 않는 것으로 응답합니다.
+     */
+    @Transactional(readOnly = true)
+    public RemittanceSubmissionRes getSubmission(Long userId, Long submissionId) {
+        return remittanceSubmissionRepository.findBySubmissionIdAndUserId(submissionId, userId)
+                .map(RemittanceSubmissionRes::from)
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_REMITTANCE_SUBMISSION));
+    }
+
+    /**
+     * 특정 고객의 일회성 송금 내역을 최신순으로 한 페이지씩 조회합니다.
+     *
+     * @param userId 조회할 고객의 ID
+     * @param search 필터(통화, 상태, 기간)와 커서, 페이지 크기
+     * @return 일회성 송금 내역 페이지
+     */
+    @Transactional(readOnly = true)
+    public RemittanceHistoryPage getOneTimeRemittanceList(Long userId, RemittanceHistorySearch search) {
+        RemittanceHistoryCursor cursor = RemittanceHistoryCursor.decode(search.cursor());
+        List<OverseasRemittanceResponseDto> fetched = overseasRemittanceRepository.findOneTimeHistoryPage(
+                userId,
+                search.currency(),
+                search.status(),
+                search.createdFrom(),
+                search.createdTo(),
+                cursor.createdAt(),
+                cursor.remittanceId(),
+                Limit.of(search.size() + 1)
+        );
+        return RemittanceHistoryPage.of(fetched, search.size());
+    }
+
+    private ExecuteRemittanceCommand toCommand(Long userId, OverseasRemittanceRequestDto request) {
         // 출금 계좌 조회 및 ID 확보
         Account account = accountRepository.findByAccountNo(request.getAccountNo())
                 .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_ACCOUNT));
@@ -52,9 +125,7 @@ public class OneTimeRemittanceService {
         RecipientCreateDto recipientCreateDto = request.getRecipientInfo().toRecipientCreateDto();
         Recipient recipient = recipientFactory.findOrCreate(recipientCreateDto);
 
-
-        // ExecuteRemittanceCommand 생성
-        ExecuteRemittanceCommand command = ExecuteRemittanceCommand.of(
+        return ExecuteRemittanceCommand.of(
                 userId,
                 recipient.getRecipientId(),
                 account.getId(),
@@ -62,17 +133,21 @@ public class OneTimeRemittanceService {
                 request.getSendCurrency(),
                 recipient.getCurrencyCode(),
                 request.getTargetAmount(),
-                request.getStartDate()
+                request.getStartDate(),
+                request.getQuoteId()
         );
-
-        // Command 실행 위임: 생성된 Command를 통해 실제 송금 로직 실행
-        return remittanceProcessorService.execute(command);
     }
 
-    public List<OverseasRemittanceResponseDto> getOneTimeRemittanceList(Long userId) {
-        return overseasRemittanceRepository.findByUserIdAndRecurIsNull(userId)
-                .stream()
-                .map(OverseasRemittanceResponseDto::from)
-                .toList();
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
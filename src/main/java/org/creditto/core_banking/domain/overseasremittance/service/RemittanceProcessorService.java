@@ -1,20 +1,19 @@
 package org.creditto.core_banking.domain.overseasremittance.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.account.entity.Account;
 import org.creditto.core_banking.domain.account.repository.AccountRepository;
 import org.creditto.core_banking.domain.account.service.AccountLockService;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
-import org.creditto.core_banking.domain.exchange.entity.Exchange;
-import org.creditto.core_banking.domain.exchange.repository.ExchangeRepository;
 import org.creditto.core_banking.domain.exchange.service.ExchangeService;
 import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
 import org.creditto.core_banking.domain.overseasremittance.entity.OverseasRemittance;
 import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
 import org.creditto.core_banking.domain.recipient.entity.Recipient;
-import org.creditto.core_banking.domain.recipient.repository.RecipientRepository;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
 import org.creditto.core_banking.domain.regularremittance.entity.RegularRemittance;
 import org.creditto.core_banking.domain.regularremittance.repository.RegularRemittanceRepository;
 import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
@@ -30,7 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.creditto.core_banking.global.response.error.ErrorBaseCode.*;
 
@@ -43,23 +42,26 @@ import static org.creditto.core_banking.global.response.error.ErrorBaseCode.*;
 @RequiredArgsConstructor
 public class RemittanceProcessorService {
 
+    private static final String STAGE_TIMER = "remittance.execute.stage";
+
     private final OverseasRemittanceRepository remittanceRepository;
     private final AccountRepository accountRepository;
-    private final RecipientRepository recipientRepository;
+    private final RecipientFactory recipientFactory;
     private final RegularRemittanceRepository regularRemittanceRepository;
-    private final ExchangeRepository exchangeRepository;
     private final ExchangeService exchangeService;
     private final TransactionService transactionService;
     private final RemittanceFeeService remittanceFeeService;
     private final AccountLockService accountLockService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 전달된 Command를 기반으로 해외송금의 모든 단계를 실행합니다.
-     * 1. Command에 포함된 ID를 사용하여 관련 엔티티(계좌, 수취인 등)를 조회합니다.
-     * 2. ExchangeService를 통해 환전 처리 및 결과(DTO)를 수신합니다.
+     * 1. Command에 포함된 ID로 관련 엔티티(계좌, 수취인, 정기송금)를 조회합니다. 수취인은 캐시를 통해 조회합니다.
+     * 2. ExchangeService를 통해 환전 처리 및 결과(저장된 환전 내역 포함)를 수신합니다.
      * 3. RemittanceFeeService를 통해 수수료를 계산하고, 계좌 잔액을 확인합니다.
      * 4. 해외송금(OverseasRemittance) 엔티티를 생성하고 저장합니다.
      * 5. 실제 계좌에서 수수료 및 송금액을 출금하고, 각 출금에 대한 거래(Transaction) 내역을 생성합니다.
+     * 단계별 소요 시간은 {@code remittance.execute.stage} 타이머(stage 태그)로 기록합니다.
      *
      * @param command 송금 실행에 필요한 모든 데이터가 포함된 Command 객체
      * @return 송금 처리 결과를 담은 응답 DTO
@@ -69,29 +71,32 @@ public class RemittanceProcessorService {
     @Transactional
     public OverseasRemittanceResponseDto execute(final ExecuteRemittanceCommand command) {
 
-        Account account = accountRepository.findById(command.accountId())
-                .orElseThrow(() -> new CustomBaseException(NOT_FOUND_ACCOUNT));
-
-        Recipient recipient = recipientRepository.findById(command.recipientId())
-                .orElseThrow(() -> new CustomBaseException(NOT_FOUND_RECIPIENT));
-
-        Long userId = account.getUserId();
+        // 1. 조회는 모두 현재 트랜잭션(같은 커넥션, 같은 영속성 컨텍스트)에서 실행
+        //    호출 트랜잭션에서 방금 저장된 엔티티도 보이고, 조회마다 커넥션을 추가로 점유하지 않음
+        Account account = timed("load_account", () ->
+                accountRepository.findById(command.accountId())
+                        .orElseThrow(() -> new CustomBaseException(NOT_FOUND_ACCOUNT)));
 
+        // 수취인은 대부분 캐시에서 바로 반환됨
+        Recipient recipient = timed("load_recipient", () -> recipientFactory.getById(command.recipientId()));
 
         // 정기 송금 정보 조회 (regRemId가 있을 경우)
-        RegularRemittance regularRemittance = Optional.ofNullable(command.regRemId())
-                .map(id -> regularRemittanceRepository.findById(id)
-                        .orElseThrow(() -> new CustomBaseException(NOT_FOUND_REGULAR_REMITTANCE)))
-                .orElse(null);
+        RegularRemittance regularRemittance = command.regRemId() == null
+                ? null
+                : timed("load_regular_remittance", () ->
+                        regularRemittanceRepository.findById(command.regRemId())
+                                .orElseThrow(() -> new CustomBaseException(NOT_FOUND_REGULAR_REMITTANCE)));
+
+        Long userId = account.getUserId();
 
-        // 1. ExchangeService를 통해 환전 처리 및 결과(DTO) 수신
-        ExchangeRes exchangeRes = exchange(userId, command);
+        // 2. ExchangeService를 통해 환전 처리 및 결과(DTO) 수신 (환전 내역 저장은 현재 트랜잭션에 포함)
+        ExchangeRes exchangeRes = timed("exchange", () -> exchange(userId, command));
 
         // 실제 송금해야 할 금액
         BigDecimal actualSendAmount = exchangeRes.exchangeAmount();
 
         // 수수료 계산
-        FeeRecord feeRecord = calculateFee(exchangeRes, command.receiveCurrency());
+        FeeRecord feeRecord = timed("fee", () -> calculateFee(exchangeRes, command.receiveCurrency()));
 
         // 총 수수료
         BigDecimal totalFee = feeRecord.getTotalFee();
@@ -99,13 +104,7 @@ public class RemittanceProcessorService {
         // 총 차감될 금액 계산 (실제 보낼 금액 + 총 수수료)
         BigDecimal totalDeduction = actualSendAmount.add(totalFee);
 
-        // 3. DTO에 담겨올 ID로 Exchange 엔티티 다시 조회
-        Long exchangeId = exchangeRes.exchangeId();
-
-        Exchange savedExchange = exchangeRepository.findById(exchangeId)
-                .orElseThrow(() -> new CustomBaseException(NOT_FOUND_EXCHANGE_RECORD));
-
-        return accountLockService.executeWithLock(command.accountId(), () -> {
+        return timed("settle", () -> accountLockService.executeWithLock(command.accountId(), () -> {
             Account lockedAccount = accountRepository.findByIdForUpdate(command.accountId())
                     .orElseThrow(() -> new CustomBaseException(NOT_FOUND_ACCOUNT));
 
@@ -114,11 +113,12 @@ public class RemittanceProcessorService {
                 throw new CustomBaseException(ErrorBaseCode.INSUFFICIENT_FUNDS);
             }
 
+            // 3. 환전 결과에 담긴 저장된 환전 내역을 그대로 사용 (재조회하지 않음)
             OverseasRemittance overseasRemittance = OverseasRemittance.of(
                     recipient,
                     lockedAccount,
                     regularRemittance,
-                    savedExchange,
+                    exchangeRes.exchange(),
                     feeRecord,
                     actualSendAmount,
                     command
@@ -136,11 +136,20 @@ public class RemittanceProcessorService {
             accountRepository.save(lockedAccount);
 
             return OverseasRemittanceResponseDto.from(overseasRemittance);
-        });
+        }));
+    }
+
+    private <T> T timed(String stage, Supplier<T> step) {
+        return meterRegistry.timer(STAGE_TIMER, "stage", stage).record(step);
     }
 
     private ExchangeRes exchange(Long userId, ExecuteRemittanceCommand command) {
         ExchangeReq exchangeReq = ExchangeReq.of(command.sendCurrency(), command.receiveCurrency(), command.targetAmount());
+
+        // 견적 ID가 있으면 견적 시점에 계산된 환율과 금액을 그대로 사용
+        if (command.quoteId() != null) {
+            return exchangeService.exchangeWithQuote(userId, command.quoteId(), exchangeReq);
+        }
         return exchangeService.exchange(userId, exchangeReq);
     }
 
@@ -3,8 +3,12 @@ package org.creditto.core_banking.domain.overseasremittance.service;
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.overseasremittance.dto.CreditAnalysisRes;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryCursor;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryPage;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistorySearch;
 import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
 import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,16 +26,27 @@ public class RemittanceQueryService {
     private final OverseasRemittanceRepository remittanceRepository;
 
     /**
-     * 특정 고객의 모든 해외송금 내역을 조회합니다.
+     * 특정 고객의 해외송금 내역을 최신순으로 한 페이지씩 조회합니다.
+     * 페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부를 판단합니다.
      *
      * @param userId 조회할 고객의 ID
-     * @return 고객의 송금 내역 DTO 리스트
+     * @param search 필터(통화, 상태, 기간)와 커서, 페이지 크기
+     * @return 송금 내역 페이지
+     * @throws CustomBaseException 커서 형식이 잘못된 경우
      */
-    public List<OverseasRemittanceResponseDto> getRemittanceList(Long userId) {
-        return remittanceRepository.findByUserIdWithDetails(userId)
-                .stream()
-                .map(OverseasRemittanceResponseDto::from)
-                .toList();
+    public RemittanceHistoryPage getRemittanceList(Long userId, RemittanceHistorySearch search) {
+        RemittanceHistoryCursor cursor = RemittanceHistoryCursor.decode(search.cursor());
+        List<OverseasRemittanceResponseDto> fetched = remittanceRepository.findHistoryPage(
+                userId,
+                search.currency(),
+                search.status(),
+                search.createdFrom(),
+                search.createdTo(),
+                cursor.createdAt(),
+                cursor.remittanceId(),
+                Limit.of(search.size() + 1)
+        );
+        return RemittanceHistoryPage.of(fetched, search.size());
     }
 
     /**
@@ -0,0 +1,203 @@
+package org.creditto.core_banking.domain.overseasremittance.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.account.service.AccountService;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceReversal;
+import org.creditto.core_banking.domain.overseasremittance.dto.SettlementResultRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.SettlementResultRow;
+import org.creditto.core_banking.domain.overseasremittance.dto.SubmittedRemittance;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
+import org.creditto.core_banking.domain.overseasremittance.repository.RemittanceSettlementJdbcRepository;
+import org.creditto.core_banking.domain.transaction.entity.TxnType;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 해외송금 정산 서비스
+ * 대기(PENDING) 송금을 전송(SUBMITTED) 상태로 묶어 내보내고,
+ * 해외 중개 은행의 정산 결과 파일(NDJSON)을 일정 크기 묶음마다 조건부 UPDATE 배치로 반영한다.
+ * 실패(FAILED)로 반영된 송금은 같은 트랜잭션에서 입금 거래 전략으로 출금액과 수수료를 환급한다.
+ */
+@Slf4j
+@Service
+public class RemittanceSettlementService {
+
+    private static final int MAX_LOGGED_REJECTIONS = 10;
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final RemittanceSettlementJdbcRepository settlementJdbcRepository;
+    private final OverseasRemittanceRepository remittanceRepository;
+    private final AccountService accountService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public RemittanceSettlementService(
+            RemittanceSettlementJdbcRepository settlementJdbcRepository,
+            OverseasRemittanceRepository remittanceRepository,
+            AccountService accountService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${remittance.settlement.batch-size:1000}") int batchSize
+    ) {
+        this.settlementJdbcRepository = settlementJdbcRepository;
+        this.remittanceRepository = remittanceRepository;
+        this.accountService = accountService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 대기 중인 해외송금을 전송 상태로 변경하고 전송 목록을 반환
+     * 반환된 버전을 정산 결과에 그대로 담아야 결과가 반영된다.
+     *
+     * @param limit 최대 전송 건수
+     * @return 전송된 송금 ID와 버전
+     */
+    public List<SubmittedRemittance> submitPending(int limit) {
+        List<SubmittedRemittance> submitted = transactionTemplate.execute(status -> settlementJdbcRepository.submitPending(limit));
+        meterRegistry.counter("remittance.settlement.rows", "result", "submitted").increment(submitted.size());
+        return submitted;
+    }
+
+    /**
+     * NDJSON 형식의 정산 결과를 일괄 반영
+     * 형식이 잘못된 줄은 건너뛰고, 이미 커밋된 묶음은 이후 묶음이 실패해도 유지
+     *
+     * @param ndjson 한 줄에 {@link SettlementResultRow} 하나씩 담긴 스트림
+     * @return 반영 결과
+     */
+    public SettlementResultRes applyResults(InputStream ndjson) {
+        long startedAt = System.nanoTime();
+        long received = 0;
+        long rejected = 0;
+        ChunkResult total = new ChunkResult(0, 0, 0);
+        List<SettlementResultRow> chunk = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                received++;
+                SettlementResultRow row = parse(line);
+                if (row == null) {
+                    if (++rejected <= MAX_LOGGED_REJECTIONS) {
+                        log.warn("[RemittanceSettlementService] 잘못된 정산 결과 행 건너뜀 - line={}", received);
+                    }
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    total = total.plus(flush(chunk));
+                }
+            }
+            total = total.plus(flush(chunk));
+        } catch (IOException e) {
+            log.error("[RemittanceSettlementService] 정산 결과 스트림 읽기 실패 - 반영 완료 {}건", total.settled() + total.failed(), e);
+            throw new CustomBaseException(ErrorBaseCode.NOT_READABLE);
+        }
+
+        meterRegistry.counter("remittance.settlement.rows", "result", "rejected").increment(rejected);
+        SettlementResultRes result = new SettlementResultRes(
+                received,
+                total.settled(),
+                total.failed(),
+                total.conflicted(),
+                rejected,
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+        log.info("[RemittanceSettlementService] 정산 결과 반영 완료 - 정산 {}건, 실패(환급) {}건, 충돌 {}건, 건너뜀 {}건, {}ms",
+                result.settled(), result.failed(), result.conflicted(), result.rejected(), result.elapsedMillis());
+        return result;
+    }
+
+    private ChunkResult flush(List<SettlementResultRow> chunk) {
+        if (chunk.isEmpty()) {
+            return new ChunkResult(0, 0, 0);
+        }
+        List<SettlementResultRow> rows = List.copyOf(chunk);
+        chunk.clear();
+
+        ChunkResult result = transactionTemplate.execute(status -> applyChunk(rows));
+        meterRegistry.counter("remittance.settlement.rows", "result", "settled").increment(result.settled());
+        meterRegistry.counter("remittance.settlement.rows", "result", "failed").increment(result.failed());
+        meterRegistry.counter("remittance.settlement.rows", "result", "conflicted").increment(result.conflicted());
+        return result;
+    }
+
+    /**
+     * 묶음 하나를 반영 (상태 변경과 환급이 함께 커밋되거나 함께 롤백)
+     */
+    private ChunkResult applyChunk(List<SettlementResultRow> rows) {
+        boolean[] applied = settlementJdbcRepository.applyResults(rows);
+
+        long settled = 0;
+        long conflicted = 0;
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (!applied[i]) {
+                conflicted++;
+            } else if (rows.get(i).status() == RemittanceStatus.FAILED) {
+                failedIds.add(rows.get(i).remittanceId());
+            } else {
+                settled++;
+            }
+        }
+
+        if (!failedIds.isEmpty()) {
+            for (RemittanceReversal reversal : remittanceRepository.findReversalsByRemittanceIdIn(failedIds)) {
+                accountService.processTransaction(
+                        reversal.accountId(),
+                        reversal.refundAmount(),
+                        TxnType.DEPOSIT,
+                        reversal.remittanceId()
+                );
+            }
+        }
+        return new ChunkResult(settled, failedIds.size(), conflicted);
+    }
+
+    private SettlementResultRow parse(String line) {
+        try {
+            SettlementResultRow row = objectMapper.readValue(line, SettlementResultRow.class);
+            if (!row.isValid()) {
+                return null;
+            }
+            if (row.reason() != null && row.reason().length() > MAX_REASON_LENGTH) {
+                return new SettlementResultRow(row.remittanceId(), row.version(), row.status(), row.reason().substring(0, MAX_REASON_LENGTH));
+            }
+            return row;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private record ChunkResult(long settled, long failed, long conflicted) {
+
+        ChunkResult plus(ChunkResult other) {
+            return new ChunkResult(settled + other.settled, failed + other.failed, conflicted + other.conflicted);
+        }
+    }
+}
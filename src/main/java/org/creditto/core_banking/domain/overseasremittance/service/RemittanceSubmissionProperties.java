@@ -0,0 +1,37 @@
+package org.creditto.core_banking.domain.overseasremittance.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "remittance.submission")
+public class RemittanceSubmissionProperties {
+
+    private final int workerThreads;
+    private final int queueCapacity;
+    private final int pollBatchSize;
+    private final long leaseMillis;
+
+    public RemittanceSubmissionProperties(int workerThreads, int queueCapacity, int pollBatchSize, long leaseMillis) {
+        this.workerThreads = workerThreads;
+        this.queueCapacity = queueCapacity;
+        this.pollBatchSize = pollBatchSize;
+        this.leaseMillis = leaseMillis;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getPollBatchSize() {
+        return pollBatchSize;
+    }
+
+    public Duration getLease() {
+        return Duration.ofMillis(leaseMillis);
+    }
+}
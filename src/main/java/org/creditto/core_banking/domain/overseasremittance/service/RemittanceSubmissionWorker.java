@@ -0,0 +1,182 @@
+package org.creditto.core_banking.domain.overseasremittance.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceSubmission;
+import org.creditto.core_banking.domain.overseasremittance.repository.RemittanceSubmissionRepository;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 해외송금 접수를 꺼내어 실행하는 작업자
+ * 접수 커밋 직후 바로 실행을 요청받고, 대기열이 가득 차 실행하지 못한 접수는 주기적인 조회로 다시 가져온다.
+ * 같은 접수가 여러 노드에서 중복 실행되지 않도록 조건부 UPDATE로 선점한 뒤 실행하고,
+ * 완료/실패 처리는 선점 시 발급한 토큰이 그대로일 때만 반영한다.
+ */
+@Slf4j
+@Component
+public class RemittanceSubmissionWorker {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    private final RemittanceSubmissionRepository submissionRepository;
+    private final RemittanceProcessorService remittanceProcessorService;
+    private final TransactionTemplate transactionTemplate;
+    private final RemittanceSubmissionProperties submissionProperties;
+
+    // 이 노드에서 실행 대기열에 올렸거나 실행 중인 접수 ID (주기 조회 시 중복 제출 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor workerPool;
+
+    public RemittanceSubmissionWorker(
+            RemittanceSubmissionRepository submissionRepository,
+            RemittanceProcessorService remittanceProcessorService,
+            PlatformTransactionManager transactionManager,
+            RemittanceSubmissionProperties submissionProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.submissionRepository = submissionRepository;
+        this.remittanceProcessorService = remittanceProcessorService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.submissionProperties = submissionProperties;
+        this.workerPool = newWorkerPool(submissionProperties);
+
+        Gauge.builder("remittance.submission.queue", workerPool, pool -> pool.getQueue().size())
+                .description("실행 대기열에 올라간 비동기 송금 접수 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 접수 실행 요청
+     * 대기열이 가득 찬 경우 접수는 REQUESTED 상태로 남아 다음 주기 조회에서 다시 실행된다.
+     *
+     * @return 실행 대기열에 올렸으면 true
+     */
+    public boolean dispatch(Long submissionId) {
+        if (!inFlight.add(submissionId)) {
+            return true;
+        }
+        try {
+            workerPool.execute(() -> {
+                try {
+                    process(submissionId);
+                } finally {
+                    inFlight.remove(submissionId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(submissionId);
+            return false;
+        }
+    }
+
+    /**
+     * 실행 대기 중인 접수를 접수 순서대로 가져와 실행 요청
+     */
+    @Scheduled(fixedDelayString = "${remittance.submission.poll-interval-millis:1000}")
+    public void pollRequested() {
+        int capacity = workerPool.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        int limit = Math.min(capacity, submissionProperties.getPollBatchSize());
+        List<Long> submissionIds = submissionRepository.findIdsByStatus(RemittanceStatus.REQUESTED, Limit.of(limit));
+        for (Long submissionId : submissionIds) {
+            if (!dispatch(submissionId)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 선점 후 임대 시간이 지나도록 끝나지 않은 접수를 다시 실행 대기로 되돌림
+     */
+    @Scheduled(fixedDelayString = "${remittance.submission.lease-check-millis:60000}")
+    public void releaseExpiredClaims() {
+        int released = submissionRepository.releaseExpired(LocalDateTime.now(ZONE_ID).minus(submissionProperties.getLease()));
+        if (released > 0) {
+            log.warn("[RemittanceSubmissionWorker] 임대 시간이 만료된 송금 접수 {}건을 재실행 대기로 전환", released);
+        }
+    }
+
+    /**
+     * 접수 한 건 실행
+     * 송금 실행과 완료 처리는 하나의 트랜잭션으로 커밋하고, 실행이 실패하면 롤백 후 별도로 실패 처리한다.
+     */
+    void process(Long submissionId) {
+        String claimToken = UUID.randomUUID().toString();
+        if (submissionRepository.claim(submissionId, claimToken, LocalDateTime.now(ZONE_ID)) == 0) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                RemittanceSubmission submission = submissionRepository.findById(submissionId)
+                        .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_REMITTANCE_SUBMISSION));
+                OverseasRemittanceResponseDto result = remittanceProcessorService.execute(submission.toCommand());
+                // 임대 만료로 다른 작업자가 다시 선점한 경우 선점 토큰이 달라지므로 송금을 롤백하여 중복 출금 방지
+                if (submissionRepository.complete(submissionId, claimToken, result.getRemittanceId(), LocalDateTime.now(ZONE_ID)) == 0) {
+                    throw new IllegalStateException("송금 접수 선점이 만료되었습니다. submissionId=" + submissionId);
+                }
+            });
+        } catch (CustomBaseException e) {
+            fail(submissionId, claimToken, e.getErrorCode().getCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("[RemittanceSubmissionWorker] 송금 접수 실행 실패 - submissionId={}", submissionId, e);
+            fail(submissionId, claimToken, ErrorBaseCode.INTERNAL_SERVER_ERROR.getCode(), ErrorBaseCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    private void fail(Long submissionId, String claimToken, int errorCode, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+        // 다른 작업자가 다시 선점한 접수라면 토큰이 달라 반영되지 않음 (그 작업자의 결과가 최종 상태)
+        submissionRepository.fail(submissionId, claimToken, errorCode, message, LocalDateTime.now(ZONE_ID));
+    }
+
+    private static ThreadPoolExecutor newWorkerPool(RemittanceSubmissionProperties submissionProperties) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                submissionProperties.getWorkerThreads(),
+                submissionProperties.getWorkerThreads(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(submissionProperties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "remittance-submission-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package org.creditto.core_banking.domain.recipient.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수취인 생성용 JDBC 저장소
+ * (bank_code, account_no, name) 유니크 제약을 이용해 조회 없이 INSERT 한 번으로 생성하거나 기존 ID를 돌려받으므로,
+ * 같은 신규 수취인에게 동시에 송금해도 유니크 제약 위반 없이 같은 ID를 돌려받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipientJdbcRepository {
+
+    // 충돌 시 기존 행은 바꾸지 않고 LAST_INSERT_ID(recipient_id)로 기존 행의 ID만 생성 키로 돌려받는다
+    // (같은 수취인을 다른 사용자의 정기송금 등이 참조하므로 요청 값으로 덮어쓰지 않음)
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO recipient (name, phone_no, phone_cc, bank_name, bank_code, account_no, country, currency_code, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE recipient_id = LAST_INSERT_ID(recipient_id)
+            """;
+
+    private static final String FIND_ID_SQL = """
+            SELECT recipient_id
+            FROM recipient
+            WHERE bank_code = ? AND account_no = ? AND name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수취인이 없으면 생성하고, 이미 있으면 기존 수취인을 그대로 둔 채 ID만 반환
+     *
+     * @param dto 수취인 정보
+     * @return 생성되었거나 이미 있던 수취인 ID
+     */
+    public Long insertIfAbsent(RecipientCreateDto dto) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT_SQL, new String[]{"recipient_id"});
+            statement.setString(1, dto.name());
+            statement.setString(2, dto.phoneNo());
+            statement.setString(3, dto.phoneCc());
+            statement.setString(4, dto.bankName());
+            statement.setString(5, dto.bankCode());
+            statement.setString(6, dto.accountNumber());
+            statement.setString(7, dto.country());
+            statement.setString(8, dto.receiveCurrency() == null ? null : dto.receiveCurrency().name());
+            statement.setTimestamp(9, now);
+            statement.setTimestamp(10, now);
+            return statement;
+        }, keyHolder);
+
+        // 충돌한 경우 드라이버가 키를 여러 개 돌려줄 수 있으므로 첫 번째 키만 사용
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (!keys.isEmpty()) {
+            Object key = keys.get(0).values().iterator().next();
+            if (key instanceof Number id) {
+                return id.longValue();
+            }
+        }
+        // 충돌 시 생성 키를 돌려주지 않는 드라이버는 같은 트랜잭션에서 자연 키로 ID를 조회
+        return jdbcTemplate.queryForObject(FIND_ID_SQL, Long.class, dto.bankCode(), dto.accountNumber(), dto.name());
+    }
+}
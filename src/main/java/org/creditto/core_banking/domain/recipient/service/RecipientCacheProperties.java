@@ -0,0 +1,25 @@
+package org.creditto.core_banking.domain.recipient.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "recipient.cache")
+public class RecipientCacheProperties {
+
+    private final long maximumSize;
+    private final long ttlMillis;
+
+    public RecipientCacheProperties(long maximumSize, long ttlMillis) {
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofMillis(ttlMillis);
+    }
+}
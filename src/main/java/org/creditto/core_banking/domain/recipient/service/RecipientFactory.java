@@ -1,28 +1,124 @@
 package org.creditto.core_banking.domain.recipient.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
 import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.repository.RecipientJdbcRepository;
 import org.creditto.core_banking.domain.recipient.repository.RecipientRepository;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 수취인 조회/생성
+ * 자연 키(은행 코드, 계좌 번호, 이름)와 ID 기준 로컬 캐시를 두어 반복 수취인은 DB 조회 없이 처리하고,
+ * 캐시에 없는 수취인만 충돌 시 무시하는 INSERT로 생성한 뒤 저장된 수취인을 조회한다.
+ * 이미 있는 수취인은 요청 값으로 갱신하지 않는다.
+ * 캐시는 트랜잭션 커밋 후에만 채워 롤백된 수취인이 캐시에 남지 않도록 한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class RecipientFactory {
 
+    private static final String NATURAL_KEY_CACHE_NAME = "recipient-natural-key";
+    private static final String ID_CACHE_NAME = "recipient-id";
+
     private final RecipientRepository recipientRepository;
+    private final RecipientJdbcRepository recipientJdbcRepository;
+
+    private final Cache<NaturalKey, Recipient> naturalKeyCache;
+    private final Cache<Long, Recipient> idCache;
+
+    public RecipientFactory(
+            RecipientRepository recipientRepository,
+            RecipientJdbcRepository recipientJdbcRepository,
+            RecipientCacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.recipientRepository = recipientRepository;
+        this.recipientJdbcRepository = recipientJdbcRepository;
+        this.naturalKeyCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .recordStats()
+                .build();
+        this.idCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, naturalKeyCache, NATURAL_KEY_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, idCache, ID_CACHE_NAME);
+    }
 
     // 수취인 정보를 받아, 기존에 동일한 정보의 수취인이 있으면 조회하고 없으면 새로 생성하여 반환
     @Transactional
     public Recipient findOrCreate(RecipientCreateDto dto) {
-        return recipientRepository.findByBankCodeAndAccountNoAndName(
-                dto.bankCode(),
-                dto.accountNumber(),
-                dto.name()
-        ).orElseGet(() -> {
-            Recipient newRecipient = Recipient.of(dto);
-            return recipientRepository.save(newRecipient);
+        NaturalKey key = NaturalKey.of(dto);
+        Recipient cached = naturalKeyCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회 후 INSERT 대신 충돌 시 무시하는 INSERT 한 번으로 처리하여 동시 생성 시에도 유니크 제약 위반이 없음
+        // 이미 있던 수취인은 요청 값과 다를 수 있으므로 저장된 값을 조회하여 반환
+        Long recipientId = recipientJdbcRepository.insertIfAbsent(dto);
+        Recipient recipient = recipientRepository.findById(recipientId)
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_RECIPIENT));
+        afterCommit(() -> put(key, recipient));
+        return recipient;
+    }
+
+    /**
+     * ID로 수취인 조회 (캐시에 없을 때만 DB 조회)
+     */
+    public Recipient getById(Long recipientId) {
+        Recipient cached = idCache.getIfPresent(recipientId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Recipient recipient = recipientRepository.findById(recipientId)
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_RECIPIENT));
+        afterCommit(() -> put(NaturalKey.of(recipient), recipient));
+        return recipient;
+    }
+
+    private void put(NaturalKey key, Recipient recipient) {
+        naturalKeyCache.put(key, recipient);
+        idCache.put(recipient.getRecipientId(), recipient);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
         });
     }
+
+    /**
+     * 수취인 자연 키 (유니크 제약과 같은 컬럼 조합)
+     * 해시는 캐시 버킷 선택에만 쓰이고, 동일 여부는 세 값을 모두 비교하므로 해시 충돌로 다른 수취인이 반환되지 않는다.
+     */
+    private record NaturalKey(String bankCode, String accountNo, String name) {
+
+        static NaturalKey of(RecipientCreateDto dto) {
+            return new NaturalKey(dto.bankCode(), dto.accountNumber(), dto.name());
+        }
+
+        static NaturalKey of(Recipient recipient) {
+            return new NaturalKey(recipient.getBankCode(), recipient.getAccountNo(), recipient.getName());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.creditto.core_banking.domain.regularremittance.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.creditto.core_banking.domain.regularremittance.entity.*;
@@ -11,6 +12,7 @@ import java.time.LocalDate;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class RegularRemittanceResponseDto {
     private String accountNo;
 
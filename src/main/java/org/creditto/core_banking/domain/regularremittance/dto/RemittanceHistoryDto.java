@@ -6,6 +6,7 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @Builder
@@ -15,4 +16,9 @@ public class RemittanceHistoryDto {
     BigDecimal sendAmount;
     BigDecimal exchangeRate;
     LocalDate createdDate;
+
+    // JPQL 생성자 표현식용 (송금 생성 시각에서 날짜만 사용)
+    public RemittanceHistoryDto(Long remittanceId, BigDecimal sendAmount, BigDecimal exchangeRate, LocalDateTime createdAt) {
+        this(remittanceId, sendAmount, exchangeRate, createdAt.toLocalDate());
+    }
 }
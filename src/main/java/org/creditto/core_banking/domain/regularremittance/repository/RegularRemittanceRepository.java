@@ -2,6 +2,8 @@ package org.creditto.core_banking.domain.regularremittance.repository;
 
 import org.creditto.core_banking.domain.account.entity.Account;
 import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.regularremittance.dto.RegularRemittanceResponseDto;
+import org.creditto.core_banking.domain.regularremittance.dto.RemittanceDetailDto;
 import org.creditto.core_banking.domain.regularremittance.entity.RegularRemittance;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,18 +12,52 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 
 @Repository
 public interface RegularRemittanceRepository extends JpaRepository<RegularRemittance,Long> {
 
-    @Query("SELECT rr " +
+    // 단일 테이블 상속의 하위 타입 컬럼(지정일/지정 요일)을 엔티티 로딩 없이 읽기 위한 하위 타입 조인
+    String SUBTYPE_JOIN =
+            "LEFT JOIN MonthlyRegularRemittance m ON m.regRemId = rr.regRemId AND TYPE(rr) = MonthlyRegularRemittance " +
+            "LEFT JOIN WeeklyRegularRemittance w ON w.regRemId = rr.regRemId AND TYPE(rr) = WeeklyRegularRemittance ";
+
+    String REG_REM_TYPE =
+            "CASE WHEN m.regRemId IS NOT NULL THEN 'MONTHLY' WHEN w.regRemId IS NOT NULL THEN 'WEEKLY' END";
+
+    /**
+     * 사용자의 정기송금 설정 목록을 응답 DTO로 조회합니다.
+     * 계좌/수취인의 필요한 컬럼만 한 번의 쿼리로 읽고, 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    @Query("SELECT new org.creditto.core_banking.domain.regularremittance.dto.RegularRemittanceResponseDto(" +
+            "a.accountNo, rr.regRemId, rc.name, rc.bankName, rr.sendAmount, rr.receivedCurrency, rr.regRemStatus, " +
+            REG_REM_TYPE + ", m.scheduledDate, w.scheduledDay, rr.startedAt) " +
             "FROM RegularRemittance rr " +
-            "JOIN FETCH rr.account a " +
-            "JOIN FETCH rr.recipient " +
+            "JOIN rr.account a " +
+            "JOIN rr.recipient rc " +
+            SUBTYPE_JOIN +
             "WHERE a.userId = :userId")
-    List<RegularRemittance> findByAccountUserId(@Param("userId") Long userId);
+    List<RegularRemittanceResponseDto> findResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 본인 소유 정기송금의 상세 정보를 응답 DTO로 조회합니다.
+     */
+    @Query("SELECT new org.creditto.core_banking.domain.regularremittance.dto.RemittanceDetailDto(" +
+            "a.accountNo, rr.sendAmount, " + REG_REM_TYPE + ", m.scheduledDate, w.scheduledDay, rr.startedAt, " +
+            "rr.sendCurrency, rc.country, rc.bankName, rc.accountNo, rr.receivedCurrency, " +
+            "rc.name, rc.phoneCc, rc.phoneNo, rr.regRemStatus) " +
+            "FROM RegularRemittance rr " +
+            "JOIN rr.account a " +
+            "JOIN rr.recipient rc " +
+            SUBTYPE_JOIN +
+            "WHERE rr.regRemId = :regRemId AND a.userId = :userId")
+    Optional<RemittanceDetailDto> findDetail(@Param("regRemId") Long regRemId, @Param("userId") Long userId);
+
+    // 정기송금 소유자 ID (소유 조건 조회가 비었을 때 없음/권한 없음 구분용)
+    @Query("SELECT a.userId FROM RegularRemittance rr JOIN rr.account a WHERE rr.regRemId = :regRemId")
+    Optional<Long> findOwnerUserId(@Param("regRemId") Long regRemId);
 
     @Query("""
             SELECT (COUNT(m) > 0)
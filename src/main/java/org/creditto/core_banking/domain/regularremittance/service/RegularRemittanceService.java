@@ -3,7 +3,6 @@ package org.creditto.core_banking.domain.regularremittance.service;
 import lombok.RequiredArgsConstructor;
 import org.creditto.core_banking.domain.account.entity.Account;
 import org.creditto.core_banking.domain.account.repository.AccountRepository;
-import org.creditto.core_banking.domain.overseasremittance.entity.OverseasRemittance;
 import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
 import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
 import org.creditto.core_banking.domain.recipient.entity.Recipient;
@@ -18,7 +17,6 @@ import org.creditto.core_banking.global.response.exception.CustomBaseException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,54 +37,22 @@ public class RegularRemittanceService {
      * @return 해당 사용자의 모든 정기송금 설정 목록 ({@link RegularRemittanceResponseDto})
      */
     public List<RegularRemittanceResponseDto> getScheduledRemittancesByUserId(Long userId) {
-        List<RegularRemittance> remittances = regularRemittanceRepository.findByAccountUserId(userId);
-        return remittances.stream()
-                .map(RegularRemittanceResponseDto::from)
-                .toList();
+        return regularRemittanceRepository.findResponsesByUserId(userId);
     }
 
     /**
      * 특정 정기송금의 세부사항을 조회합니다.
+     * 본인 소유 조건으로 한 번에 조회하고, 조회되지 않은 경우에만 존재 여부로 예외를 구분합니다.
      *
      * @param userId 사용자의 ID
      * @param regRemId 정기송금 ID
      * @return 해당 정기송금 설정의 세부 사항 목록
      */
     public RemittanceDetailDto getScheduledRemittanceDetail(Long userId, Long regRemId) {
-        RegularRemittance remittance = regularRemittanceRepository.findById(regRemId)
-                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_REGULAR_REMITTANCE));
-
-        verifyUserOwnership(remittance.getAccount().getUserId(), userId);
-
-        Recipient recipient = remittance.getRecipient();
-        String regRemType = null;
-        Integer scheduledDate = null;
-        DayOfWeek scheduledDay = null;
-
-        if (remittance instanceof MonthlyRegularRemittance monthly) {
-            regRemType = "MONTHLY";
-            scheduledDate = monthly.getScheduledDate();
-        } else if (remittance instanceof WeeklyRegularRemittance weekly) {
-            regRemType = "WEEKLY";
-            scheduledDay = weekly.getScheduledDay();
-        }
-        return RemittanceDetailDto.builder()
-                .accountNo(remittance.getAccount().getAccountNo())
-                .sendAmount(remittance.getSendAmount())
-                .regRemType(regRemType)
-                .scheduledDate(scheduledDate)
-                .scheduledDay(scheduledDay)
-                .startedAt(remittance.getStartedAt())
-                .sendCurrency(remittance.getSendCurrency())
-                .recipientCountry(recipient.getCountry())
-                .recipientBankName(recipient.getBankName())
-                .recipientAccountNo(recipient.getAccountNo())
-                .receiveCurrency(remittance.getReceivedCurrency())
-                .recipientName(recipient.getName())
-                .recipientPhoneCc(recipient.getPhoneCc())
-                .recipientPhoneNo(recipient.getPhoneNo())
-                .regRemStatus(remittance.getRegRemStatus())
-                .build();
+        return regularRemittanceRepository.findDetail(regRemId, userId)
+                .orElseThrow(() -> regularRemittanceRepository.existsById(regRemId)
+                        ? new CustomBaseException(ErrorBaseCode.FORBIDDEN)
+                        : new CustomBaseException(ErrorBaseCode.NOT_FOUND_REGULAR_REMITTANCE));
     }
 
     /**
@@ -97,19 +63,14 @@ public class RegularRemittanceService {
      * @return 해당 정기송금 설정에 대한 모든 송금 기록 목록 ({@link RemittanceHistoryDto})
      */
     public List<RemittanceHistoryDto> getRegularRemittanceHistoryByRegRemId(Long userId, Long regRemId) {
-        RegularRemittance regularRemittance = regularRemittanceRepository.findById(regRemId)
-                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_REGULAR_REMITTANCE));
-
-        verifyUserOwnership(regularRemittance.getAccount().getUserId(), userId);
-
-        return overseasRemittanceRepository.findByRecur_RegRemIdOrderByCreatedAtDesc(regRemId).stream()
-                .map(overseas -> new RemittanceHistoryDto(
-                        overseas.getRemittanceId(),
-                        overseas.getSendAmount(),
-                        overseas.getExchange().getExchangeRate(),
-                        overseas.getCreatedAt().toLocalDate()
-                ))
-                .toList();
+        List<RemittanceHistoryDto> history = overseasRemittanceRepository.findHistoryByRegRemId(regRemId, userId);
+        if (history.isEmpty()) {
+            // 내역이 없으면 정기송금이 없는지, 다른 사용자의 것인지 확인
+            Long ownerId = regularRemittanceRepository.findOwnerUserId(regRemId)
+                    .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_REGULAR_REMITTANCE));
+            verifyUserOwnership(ownerId, userId);
+        }
+        return history;
     }
 
     /**
@@ -120,18 +81,10 @@ public class RegularRemittanceService {
      * @return 해당 송금의 상세 정보 ({@link RemittanceHistoryDetailDto})
      */
     public RemittanceHistoryDetailDto getRemittanceHistoryDetail(Long userId, Long remittanceId, Long regRemId) {
-        OverseasRemittance overseasRemittance = overseasRemittanceRepository.findByIdAndRecur_RegRemId(remittanceId, regRemId)
-                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_ENTITY));
-        verifyUserOwnership(overseasRemittance.getUserId(), userId);
-
-        return RemittanceHistoryDetailDto.builder()
-                .accountNo(overseasRemittance.getAccount().getAccountNo())
-                .totalFee(overseasRemittance.getFeeRecord().getTotalFee())
-                .sendAmount(overseasRemittance.getSendAmount())
-                .recipientBankName(overseasRemittance.getRecipient().getBankName())
-                .recipientAccountNo(overseasRemittance.getRecipient().getAccountNo())
-                .remittanceStatus(overseasRemittance.getRemittanceStatus())
-                .build();
+        return overseasRemittanceRepository.findHistoryDetail(remittanceId, regRemId, userId)
+                .orElseThrow(() -> overseasRemittanceRepository.existsByRemittanceIdAndRecur_RegRemId(remittanceId, regRemId)
+                        ? new CustomBaseException(ErrorBaseCode.FORBIDDEN)
+                        : new CustomBaseException(ErrorBaseCode.NOT_FOUND_ENTITY));
     }
 
     /**
@@ -0,0 +1,45 @@
+package org.creditto.core_banking.domain.remittancefee.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationReq;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRes;
+import org.creditto.core_banking.domain.remittancefee.service.FeeSimulationService;
+import org.creditto.core_banking.global.response.ApiResponseUtil;
+import org.creditto.core_banking.global.response.BaseResponse;
+import org.creditto.core_banking.global.response.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 수수료 정책 변경 시뮬레이션 관리자 API 컨트롤러입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/core/admin/fee-simulations")
+public class FeeSimulationController {
+
+    private final FeeSimulationService feeSimulationService;
+
+    /**
+     * 후보 수수료 정책으로 과거 송금 내역을 재계산하는 작업을 시작합니다.
+     *
+     * @param request 후보 정책 및 대상 기간
+     * @return 시작된 작업 정보 (작업 ID로 진행 상황 조회)
+     */
+    @PostMapping
+    public ResponseEntity<BaseResponse<FeeSimulationRes>> start(@Valid @RequestBody FeeSimulationReq request) {
+        return ApiResponseUtil.success(SuccessCode.CREATED, feeSimulationService.start(request));
+    }
+
+    /**
+     * 시뮬레이션 작업의 진행 상황 및 통화별/구간별 결과를 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황 및 결과
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BaseResponse<FeeSimulationRes>> getJob(@PathVariable String jobId) {
+        return ApiResponseUtil.success(SuccessCode.OK, feeSimulationService.getJob(jobId));
+    }
+}
@@ -1,8 +1,9 @@
 package org.creditto.core_banking.domain.remittancefee.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeePreviewRes;
 import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
-import org.creditto.core_banking.domain.remittancefee.entity.FeeRecord;
 import org.creditto.core_banking.domain.remittancefee.service.RemittanceFeeService;
 import org.creditto.core_banking.global.response.ApiResponseUtil;
 import org.creditto.core_banking.global.response.BaseResponse;
@@ -20,10 +21,10 @@ public class RemittanceFeeController {
 
     private final RemittanceFeeService remittanceFeeService;
 
-    // 테스트를 위한 API
-    @PostMapping("/calculate")
-    public ResponseEntity<BaseResponse<FeeRecord>> calculateRemittanceFee(@RequestBody RemittanceFeeReq dto) {
-        FeeRecord feeRecord = remittanceFeeService.calculateAndSaveFee(dto);
-        return ApiResponseUtil.success(SuccessCode.OK, feeRecord);
+    // 송금 확정 전 수수료 미리보기 (FeeRecord는 송금 실행 시에만 저장)
+    @PostMapping("/preview")
+    public ResponseEntity<BaseResponse<RemittanceFeePreviewRes>> previewRemittanceFee(@Valid @RequestBody RemittanceFeeReq dto) {
+        RemittanceFeePreviewRes preview = remittanceFeeService.previewFee(dto);
+        return ApiResponseUtil.success(SuccessCode.OK, preview);
     }
 }
@@ -0,0 +1,45 @@
+package org.creditto.core_banking.domain.remittancefee.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수수료 정책 변경 시뮬레이션 요청 (후보 정책 + 대상 기간)
+ *
+ * @param flatTiers   후보 고정 수수료 구간
+ * @param pctFee      후보 비율 수수료
+ * @param networkFees 후보 통화별 네트워크 수수료 (생략 시 현재 정책 사용)
+ * @param usdRate     원화/USD 참고 환율 (USD 외 통화 송금의 USD 환산에 사용, USD 송금은 당시 적용 환율 사용)
+ * @param from        대상 기간 시작일
+ * @param to          대상 기간 종료일 (포함)
+ */
+public record FeeSimulationReq(
+        @NotEmpty @Valid List<FlatTier> flatTiers,
+        @NotNull @Valid PctFee pctFee,
+        Map<CurrencyCode, BigDecimal> networkFees,
+        @Positive BigDecimal usdRate,
+        @NotNull LocalDate from,
+        @NotNull LocalDate to
+) {
+
+    public record FlatTier(
+            @NotNull @Positive BigDecimal upperLimit,   // 구간 상한 (USD)
+            @NotNull @PositiveOrZero BigDecimal feeAmount  // 고정 수수료 (KRW)
+    ) {
+    }
+
+    public record PctFee(
+            @NotNull @PositiveOrZero BigDecimal feeRate,  // 수수료율 (%)
+            boolean active
+    ) {
+    }
+}
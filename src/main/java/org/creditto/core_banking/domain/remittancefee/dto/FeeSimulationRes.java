@@ -0,0 +1,51 @@
+package org.creditto.core_banking.domain.remittancefee.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수수료 정책 변경 시뮬레이션 진행 상황 및 결과
+ *
+ * @param jobId            작업 ID
+ * @param status           진행 상태 (RUNNING, COMPLETED, FAILED)
+ * @param processedRows    재계산한 송금 건수
+ * @param skippedRows      후보 정책으로 계산할 수 없어 제외한 건수 (구간/네트워크 수수료 없음, USD 환산 불가 등)
+ * @param lastRemittanceId 마지막으로 처리한 송금 ID
+ * @param total            전체 합계
+ * @param byCurrency       통화별 합계
+ * @param byTier           후보 고정 수수료 구간별 합계 (구간 상한 USD)
+ * @param startedAt        시작 시각
+ * @param finishedAt       종료 시각 (진행 중이면 null)
+ * @param errorMessage     실패 사유
+ */
+public record FeeSimulationRes(
+        String jobId,
+        String status,
+        long processedRows,
+        long skippedRows,
+        Long lastRemittanceId,
+        FeeDelta total,
+        List<FeeDelta> byCurrency,
+        List<FeeDelta> byTier,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+) {
+
+    /**
+     * 그룹별 현재 수수료와 후보 정책 수수료 비교 (KRW)
+     */
+    public record FeeDelta(
+            String group,
+            long count,
+            BigDecimal currentFee,
+            BigDecimal candidateFee,
+            BigDecimal delta
+    ) {
+
+        public static FeeDelta of(String group, long count, BigDecimal currentFee, BigDecimal candidateFee) {
+            return new FeeDelta(group, count, currentFee, candidateFee, candidateFee.subtract(currentFee));
+        }
+    }
+}
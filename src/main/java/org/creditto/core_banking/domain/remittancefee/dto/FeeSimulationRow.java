@@ -0,0 +1,27 @@
+package org.creditto.core_banking.domain.remittancefee.dto;
+
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+
+/**
+ * 수수료 재계산에 필요한 송금/환전 내역 (엔티티 대신 필요한 컬럼만 조회)
+ *
+ * @param remittanceId    송금 ID (keyset 페이지 기준)
+ * @param receiveCurrency 수취 통화
+ * @param fromCurrency    환전 전 통화
+ * @param toCurrency      환전 후 통화
+ * @param sendAmount      환전 전 금액 (수수료 계산 기준 금액)
+ * @param exchangeRate    적용된 기준 환율
+ * @param currentFee      실제 부과된 총 수수료
+ */
+public record FeeSimulationRow(
+        Long remittanceId,
+        CurrencyCode receiveCurrency,
+        CurrencyCode fromCurrency,
+        CurrencyCode toCurrency,
+        BigDecimal sendAmount,
+        BigDecimal exchangeRate,
+        BigDecimal currentFee
+) {
+}
@@ -0,0 +1,27 @@
+package org.creditto.core_banking.domain.remittancefee.dto;
+
+import org.creditto.core_banking.domain.remittancefee.service.FeeCalculation;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+
+public record RemittanceFeePreviewRes(
+        CurrencyCode currency,          // 통화 코드
+        BigDecimal flatFee,             // 고정 수수료 (KRW)
+        BigDecimal pctFee,              // 비율 수수료 (KRW)
+        BigDecimal networkFee,          // 네트워크 수수료 (KRW)
+        BigDecimal totalFee,            // 총 수수료 (KRW)
+        String policyVersion            // 계산에 사용된 수수료 정책 버전
+) {
+
+    public static RemittanceFeePreviewRes of(CurrencyCode currency, FeeCalculation calculation, String policyVersion) {
+        return new RemittanceFeePreviewRes(
+                currency,
+                calculation.flatFee(),
+                calculation.pctFee(),
+                calculation.networkFee(),
+                calculation.totalFee(),
+                policyVersion
+        );
+    }
+}
@@ -1,13 +1,25 @@
 package org.creditto.core_banking.domain.remittancefee.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.creditto.core_banking.global.common.CurrencyCode;
 
 import java.math.BigDecimal;
 
 public record RemittanceFeeReq(
+        @NotNull(message = "환율은 필수입니다.")
+        @Positive(message = "환율은 0보다 커야 합니다.")
         BigDecimal exchangeRate,        // 제공 환율
+
+        @NotNull(message = "송금 금액은 필수입니다.")
+        @Positive(message = "송금 금액은 0보다 커야 합니다.")
         BigDecimal sendAmount,          // 송금 금액
+
+        @NotNull(message = "통화 코드는 필수입니다.")
         CurrencyCode currency,          // 통화 코드
+
+        @NotNull(message = "USD 환산 금액은 필수입니다.")
+        @Positive(message = "USD 환산 금액은 0보다 커야 합니다.")
         BigDecimal fromAmountInUSD      // 송금 금액 -> USD
 ) {
 
@@ -0,0 +1,32 @@
+package org.creditto.core_banking.domain.remittancefee.repository;
+
+import org.creditto.core_banking.domain.overseasremittance.entity.OverseasRemittance;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수수료 시뮬레이션용 송금 내역 조회
+ * 송금 ID 기준 keyset 페이지로 필요한 컬럼만 읽어 영속성 컨텍스트에 엔티티를 쌓지 않는다.
+ */
+public interface FeeSimulationRepository extends org.springframework.data.repository.Repository<OverseasRemittance, Long> {
+
+    @Query("SELECT new org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRow(" +
+            "r.remittanceId, r.receiveCurrency, e.fromCurrency, e.toCurrency, e.fromAmount, e.exchangeRate, f.totalFee) " +
+            "FROM OverseasRemittance r " +
+            "JOIN r.exchange e " +
+            "JOIN r.feeRecord f " +
+            "WHERE r.remittanceId > :lastRemittanceId " +
+            "AND r.createdAt >= :from AND r.createdAt < :to " +
+            "ORDER BY r.remittanceId ASC")
+    List<FeeSimulationRow> findPageAfter(
+            @Param("lastRemittanceId") Long lastRemittanceId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit
+    );
+}
@@ -3,11 +3,16 @@ package org.creditto.core_banking.domain.remittancefee.repository;
 import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface NetworkFeeRepository extends JpaRepository<NetworkFee, Long> {
     Optional<NetworkFee> findByCurrencyCode(CurrencyCode currencyCode);
+
+    @Query("SELECT MAX(n.updatedAt) FROM NetworkFee n")
+    LocalDateTime findLatestUpdatedAt();
 }
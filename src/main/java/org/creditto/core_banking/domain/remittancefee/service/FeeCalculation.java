@@ -0,0 +1,22 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+
+import java.math.BigDecimal;
+
+/**
+ * 수수료 계산 결과 (원화 기준)
+ * 적용된 정책 엔티티는 송금 실행 시 FeeRecord 저장에 사용
+ */
+public record FeeCalculation(
+        FlatServiceFee flatFeePolicy,
+        PctServiceFee pctFeePolicy,
+        NetworkFee networkFeePolicy,
+        BigDecimal flatFee,
+        BigDecimal pctFee,
+        BigDecimal networkFee,
+        BigDecimal totalFee
+) {
+}
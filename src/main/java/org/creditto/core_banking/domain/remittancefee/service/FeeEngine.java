@@ -0,0 +1,121 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.creditto.core_banking.global.response.error.ErrorMessage.FEE_NOT_FOUND;
+
+/**
+ * 수수료 계산 엔진
+ * 요청과 정책 스냅샷만으로 수수료를 계산하며 DB 조회/저장 등 부수 효과가 없다.
+ */
+public final class FeeEngine {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    private static final int CALCULATION_SCALE = 10;
+
+    private FeeEngine() {
+    }
+
+    public static FeeCalculation calculate(RemittanceFeeReq req, FeePolicySnapshot policySnapshot) {
+        BigDecimal sendAmount = req.sendAmount(); // 송금 금액 (KRW)
+        BigDecimal exchangeRate = req.exchangeRate(); // 제공환율 (currency code)
+        CurrencyCode currency = req.currency(); // 환율 통화
+
+        // 수수료 계산에 사용될 각 정책 엔티티 조회
+        FlatServiceFee flatFeePolicy = getFlatFeePolicy(policySnapshot, toSendAmountInUSD(req));
+        PctServiceFee pctFeePolicy = getPctFeePolicy(policySnapshot);
+        NetworkFee networkFeePolicy = getNetworkFeePolicy(policySnapshot, currency);
+
+        // 각 수수료를 원화 기준으로 계산
+        BigDecimal flatFeeInKRW = flatFeePolicy.getFeeAmount();
+        BigDecimal pctFeeInKRW = calculatePctFee(pctFeePolicy, sendAmount, exchangeRate, currency); // 현재 비활성화(isActive = false)
+        BigDecimal networkFeeInKRW = calculateNetworkFee(networkFeePolicy, exchangeRate);
+
+        // 총 수수료 합산
+        BigDecimal totalFeeInKRW = flatFeeInKRW.add(pctFeeInKRW).add(networkFeeInKRW);
+
+        return new FeeCalculation(
+                flatFeePolicy,
+                pctFeePolicy,
+                networkFeePolicy,
+                flatFeeInKRW,
+                pctFeeInKRW,
+                networkFeeInKRW,
+                totalFeeInKRW
+        );
+    }
+
+    /**
+     * 고정 수수료 구간 판정에 사용하는 송금액(USD 환산)
+     */
+    public static BigDecimal toSendAmountInUSD(RemittanceFeeReq req) {
+        BigDecimal amountInKRWForFlat = normalizeAmountByCurrency(req.sendAmount(), req.currency())
+                .multiply(req.exchangeRate());
+        return amountInKRWForFlat.divide(req.fromAmountInUSD(), CALCULATION_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 고정 수수료 조회
+     * @param sendAmountInUSD 송금금액을 달러로 변환한 금액
+     * @return FlatServiceFee
+     */
+    private static FlatServiceFee getFlatFeePolicy(FeePolicySnapshot policySnapshot, BigDecimal sendAmountInUSD) {
+        return policySnapshot.findFlatFee(sendAmountInUSD)
+                .orElseThrow(() -> new EntityNotFoundException(FEE_NOT_FOUND));
+    }
+
+    /**
+     * 비율 수수료 조회
+     * @return PctServiceFee
+     */
+    private static PctServiceFee getPctFeePolicy(FeePolicySnapshot policySnapshot) {
+        return policySnapshot.findPctFee()
+                .orElseThrow(() -> new EntityNotFoundException(FEE_NOT_FOUND));
+    }
+
+    /**
+     * 네트워크 수수료 조회
+     * @param currency 환전하려는 통화
+     * @return NetworkFee
+     */
+    private static NetworkFee getNetworkFeePolicy(FeePolicySnapshot policySnapshot, CurrencyCode currency) {
+        return policySnapshot.findNetworkFee(currency)
+                .orElseThrow(() -> new EntityNotFoundException(FEE_NOT_FOUND));
+    }
+
+    private static BigDecimal calculatePctFee(PctServiceFee policy, BigDecimal sendAmount, BigDecimal exchangeRate, CurrencyCode currency) {
+        // isActive 상태에 따라 분기 처리
+        if (policy != null && policy.getIsActive()) {
+            BigDecimal feeRate = policy.getFeeRate().divide(ONE_HUNDRED, CALCULATION_SCALE, RoundingMode.HALF_UP);
+            BigDecimal calculatedSendAmount = normalizeAmountByCurrency(sendAmount, currency);
+
+            return calculatedSendAmount.multiply(feeRate).multiply(exchangeRate).setScale(0, RoundingMode.HALF_UP);
+        } else {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private static BigDecimal calculateNetworkFee(NetworkFee policy, BigDecimal exchangeRate) {
+        BigDecimal feeAmount = policy.getFeeAmount();
+        BigDecimal calculatedSendAmount = normalizeAmountByCurrency(feeAmount, policy.getCurrencyCode());
+
+        return calculatedSendAmount.multiply(exchangeRate).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 환율 고시 단위(JPY, IDR은 100단위)에 맞춰 금액 환산
+     */
+    private static BigDecimal normalizeAmountByCurrency(BigDecimal amount, CurrencyCode currency) {
+        return currency.getUnit() > 1
+                ? amount.divide(currency.getUnitAmount(), CALCULATION_SCALE, RoundingMode.HALF_UP)
+                : amount;
+    }
+}
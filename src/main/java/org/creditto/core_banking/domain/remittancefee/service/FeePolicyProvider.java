@@ -0,0 +1,87 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.remittancefee.repository.FlatServiceFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.repository.NetworkFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.repository.PctServiceFeeRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 수수료 정책 스냅샷 제공
+ * 정책 테이블은 거의 바뀌지 않으므로 송금마다 조회하지 않고 메모리 스냅샷을 사용한다.
+ * 정책은 애플리케이션 밖(DB 직접 변경)에서만 바뀌므로, 주기적으로 확인한 정책 버전(행 수 + 최종 수정 시각)이 바뀐 경우에만
+ * 스냅샷 전체를 교체한다. 변경이 반영되기까지 최대 한 확인 주기(remittance-fee.policy.version-poll-millis)가 걸린다.
+ */
+@Slf4j
+@Component
+public class FeePolicyProvider {
+
+    private final FlatServiceFeeRepository flatServiceFeeRepository;
+    private final PctServiceFeeRepository pctServiceFeeRepository;
+    private final NetworkFeeRepository networkFeeRepository;
+
+    private final AtomicReference<FeePolicySnapshot> snapshotRef = new AtomicReference<>();
+
+    public FeePolicyProvider(
+            FlatServiceFeeRepository flatServiceFeeRepository,
+            PctServiceFeeRepository pctServiceFeeRepository,
+            NetworkFeeRepository networkFeeRepository
+    ) {
+        this.flatServiceFeeRepository = flatServiceFeeRepository;
+        this.pctServiceFeeRepository = pctServiceFeeRepository;
+        this.networkFeeRepository = networkFeeRepository;
+    }
+
+    /**
+     * 현재 수수료 정책 스냅샷 (최초 호출 시 적재)
+     */
+    public FeePolicySnapshot getSnapshot() {
+        FeePolicySnapshot snapshot = snapshotRef.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * 정책 테이블 전체를 다시 읽어 스냅샷 교체
+     */
+    public synchronized FeePolicySnapshot refresh() {
+        String version = loadVersion();
+        FeePolicySnapshot snapshot = FeePolicySnapshot.of(
+                flatServiceFeeRepository.findAll(),
+                pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc().orElse(null),
+                networkFeeRepository.findAll(),
+                version
+        );
+        snapshotRef.set(snapshot);
+        log.info("[FeePolicyProvider] 수수료 정책 스냅샷 적재 - version={}", version);
+        return snapshot;
+    }
+
+    /**
+     * 정책 버전이 바뀐 경우에만 스냅샷 교체 (정책 변경이 반영되는 유일한 경로)
+     */
+    @Scheduled(fixedDelayString = "${remittance-fee.policy.version-poll-millis:60000}")
+    public void pollVersion() {
+        FeePolicySnapshot snapshot = snapshotRef.get();
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (!snapshot.version().equals(loadVersion())) {
+                refresh();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[FeePolicyProvider] 수수료 정책 버전 확인 실패, 기존 스냅샷 유지 - {}", e.getMessage());
+        }
+    }
+
+    private String loadVersion() {
+        return String.join("|",
+                flatServiceFeeRepository.count() + ":" + flatServiceFeeRepository.findLatestUpdatedAt(),
+                pctServiceFeeRepository.count() + ":" + pctServiceFeeRepository.findLatestUpdatedAt(),
+                networkFeeRepository.count() + ":" + networkFeeRepository.findLatestUpdatedAt()
+        );
+    }
+}
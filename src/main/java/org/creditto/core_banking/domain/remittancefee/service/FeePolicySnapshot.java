@@ -0,0 +1,91 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 수수료 정책 불변 스냅샷
+ * 고정 수수료 구간은 상한 오름차순 배열로 보관하여 이진 탐색으로 조회하고,
+ * 네트워크 수수료는 통화별 EnumMap, 비율 수수료는 적용 중인 정책 하나만 보관
+ *
+ * @param version 스냅샷을 만든 시점의 정책 버전 (정책 테이블 변경 감지용)
+ */
+public record FeePolicySnapshot(
+        BigDecimal[] flatUpperLimits,
+        FlatServiceFee[] flatFees,
+        PctServiceFee pctFee,
+        Map<CurrencyCode, NetworkFee> networkFees,
+        String version
+) {
+
+    public static FeePolicySnapshot of(
+            List<FlatServiceFee> flatServiceFees,
+            PctServiceFee pctServiceFee,
+            List<NetworkFee> networkFees,
+            String version
+    ) {
+        FlatServiceFee[] sortedFlatFees = flatServiceFees.stream()
+                .sorted(Comparator.comparing(FlatServiceFee::getUpperLimit))
+                .toArray(FlatServiceFee[]::new);
+        BigDecimal[] upperLimits = new BigDecimal[sortedFlatFees.length];
+        for (int i = 0; i < sortedFlatFees.length; i++) {
+            upperLimits[i] = sortedFlatFees[i].getUpperLimit();
+        }
+
+        Map<CurrencyCode, NetworkFee> networkFeesByCurrency = new EnumMap<>(CurrencyCode.class);
+        networkFees.forEach(networkFee -> networkFeesByCurrency.putIfAbsent(networkFee.getCurrencyCode(), networkFee));
+
+        return new FeePolicySnapshot(
+                upperLimits,
+                sortedFlatFees,
+                pctServiceFee,
+                Collections.unmodifiableMap(networkFeesByCurrency),
+                version
+        );
+    }
+
+    /**
+     * 송금액(USD 환산)이 속하는 고정 수수료 구간 조회
+     * 상한이 송금액 이상인 구간 중 상한이 가장 작은 구간
+     */
+    public Optional<FlatServiceFee> findFlatFee(BigDecimal sendAmountInUSD) {
+        int tierIndex = findFlatTierIndex(sendAmountInUSD);
+        return tierIndex < flatFees.length ? Optional.of(flatFees[tierIndex]) : Optional.empty();
+    }
+
+    /**
+     * 송금액(USD 환산)이 속하는 고정 수수료 구간의 순번 (이진 탐색)
+     * 모든 구간의 상한을 넘으면 구간 수를 반환
+     */
+    public int findFlatTierIndex(BigDecimal sendAmountInUSD) {
+        int low = 0;
+        int high = flatUpperLimits.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (flatUpperLimits[mid].compareTo(sendAmountInUSD) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public Optional<PctServiceFee> findPctFee() {
+        return Optional.ofNullable(pctFee);
+    }
+
+    public Optional<NetworkFee> findNetworkFee(CurrencyCode currency) {
+        return Optional.ofNullable(networkFees.get(currency));
+    }
+}
@@ -0,0 +1,83 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRes;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRes.FeeDelta;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수수료 시뮬레이션 작업 상태
+ * 작업 스레드가 페이지마다 집계 결과를 불변 응답으로 만들어 게시하고, 조회 스레드는 게시된 응답만 읽는다.
+ */
+final class FeeSimulationJob {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final String TOTAL_GROUP = "TOTAL";
+
+    private final String jobId;
+    private final FeeSimulationScenario scenario;
+    private final LocalDateTime startedAt;
+
+    private volatile FeeSimulationRes progress;
+
+    FeeSimulationJob(String jobId, FeeSimulationScenario scenario, LocalDateTime startedAt) {
+        this.jobId = jobId;
+        this.scenario = scenario;
+        this.startedAt = startedAt;
+        this.progress = toRes(RUNNING, new FeeSimulationTally(), null, null, null);
+    }
+
+    String getJobId() {
+        return jobId;
+    }
+
+    FeeSimulationScenario getScenario() {
+        return scenario;
+    }
+
+    FeeSimulationRes getProgress() {
+        return progress;
+    }
+
+    void update(FeeSimulationTally tally, Long lastRemittanceId) {
+        progress = toRes(RUNNING, tally, lastRemittanceId, null, null);
+    }
+
+    void complete(FeeSimulationTally tally, Long lastRemittanceId, LocalDateTime finishedAt) {
+        progress = toRes(COMPLETED, tally, lastRemittanceId, finishedAt, null);
+    }
+
+    void fail(FeeSimulationTally tally, Long lastRemittanceId, LocalDateTime finishedAt, String errorMessage) {
+        progress = toRes(FAILED, tally, lastRemittanceId, finishedAt, errorMessage);
+    }
+
+    private FeeSimulationRes toRes(String status, FeeSimulationTally tally, Long lastRemittanceId, LocalDateTime finishedAt, String errorMessage) {
+        List<FeeDelta> byCurrency = tally.getByCurrency().entrySet().stream()
+                .map(entry -> toDelta(entry.getKey().name(), entry.getValue()))
+                .toList();
+        List<FeeDelta> byTier = tally.getByTier().entrySet().stream()
+                .map(entry -> toDelta(scenario.tierLabel(entry.getKey()), entry.getValue()))
+                .toList();
+        return new FeeSimulationRes(
+                jobId,
+                status,
+                tally.getProcessed(),
+                tally.getSkipped(),
+                lastRemittanceId,
+                toDelta(TOTAL_GROUP, tally.getTotal()),
+                byCurrency,
+                byTier,
+                startedAt,
+                finishedAt,
+                errorMessage
+        );
+    }
+
+    private static FeeDelta toDelta(String group, FeeSimulationTally.Sum sum) {
+        return FeeDelta.of(group, sum.getCount(), sum.getCurrentFee(), sum.getCandidateFee());
+    }
+}
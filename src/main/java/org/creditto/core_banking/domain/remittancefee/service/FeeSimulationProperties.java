@@ -0,0 +1,53 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "remittance-fee.simulation")
+public class FeeSimulationProperties {
+
+    private final int pageSize;
+    private final int parallelism;
+    private final int splitThreshold;
+    private final long maxJobs;
+    private final long jobRetentionMillis;
+
+    public FeeSimulationProperties(int pageSize, int parallelism, int splitThreshold, long maxJobs, long jobRetentionMillis) {
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.splitThreshold = splitThreshold;
+        this.maxJobs = maxJobs;
+        this.jobRetentionMillis = jobRetentionMillis;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 재계산 병렬도 (0 이하이면 CPU 코어 수)
+     */
+    public int getParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getSplitThreshold() {
+        return splitThreshold;
+    }
+
+    public long getMaxJobs() {
+        return maxJobs;
+    }
+
+    public long getJobRetentionMillis() {
+        return jobRetentionMillis;
+    }
+
+    /**
+     * 작업 결과 보관 기간 (마지막 상태 변경 시점 기준)
+     */
+    public Duration getJobRetention() {
+        return Duration.ofMillis(jobRetentionMillis);
+    }
+}
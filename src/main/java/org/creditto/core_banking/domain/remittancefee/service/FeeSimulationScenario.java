@@ -0,0 +1,108 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationReq;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRow;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 후보 수수료 정책으로 과거 송금 한 건의 수수료를 재계산
+ * 후보 정책은 불변 스냅샷이므로 여러 스레드에서 동시에 사용해도 안전
+ */
+final class FeeSimulationScenario {
+
+    private static final String CANDIDATE_VERSION = "candidate";
+    private static final int USD_CALCULATION_SCALE = 10;
+
+    private final FeePolicySnapshot candidatePolicy;
+    private final BigDecimal usdRate;
+
+    private FeeSimulationScenario(FeePolicySnapshot candidatePolicy, BigDecimal usdRate) {
+        this.candidatePolicy = candidatePolicy;
+        this.usdRate = usdRate;
+    }
+
+    /**
+     * 요청의 후보 정책으로 시나리오 생성
+     * 네트워크 수수료를 지정하지 않으면 현재 정책의 네트워크 수수료를 그대로 사용
+     */
+    static FeeSimulationScenario of(FeeSimulationReq req, FeePolicySnapshot currentPolicy) {
+        List<FlatServiceFee> flatFees = new ArrayList<>();
+        for (int i = 0; i < req.flatTiers().size(); i++) {
+            FeeSimulationReq.FlatTier tier = req.flatTiers().get(i);
+            flatFees.add(FlatServiceFee.of((long) i + 1, tier.upperLimit(), tier.feeAmount()));
+        }
+        PctServiceFee pctFee = PctServiceFee.of(1L, req.pctFee().feeRate(), req.pctFee().active());
+
+        List<NetworkFee> networkFees = new ArrayList<>();
+        if (req.networkFees() == null || req.networkFees().isEmpty()) {
+            networkFees.addAll(currentPolicy.networkFees().values());
+        } else {
+            req.networkFees().forEach((currency, feeAmount) ->
+                    networkFees.add(NetworkFee.of((long) networkFees.size() + 1, currency, feeAmount)));
+        }
+
+        return new FeeSimulationScenario(
+                FeePolicySnapshot.of(flatFees, pctFee, networkFees, CANDIDATE_VERSION),
+                req.usdRate()
+        );
+    }
+
+    /**
+     * 송금 한 건을 후보 정책으로 재계산하여 집계
+     * 후보 정책에 해당 구간/통화가 없거나 USD 환산이 불가능한 건은 제외 건수로만 집계
+     */
+    void simulate(FeeSimulationRow row, FeeSimulationTally tally) {
+        BigDecimal fromAmountInUSD = toFromAmountInUSD(row);
+        if (fromAmountInUSD == null || fromAmountInUSD.signum() == 0
+                || candidatePolicy.findNetworkFee(row.receiveCurrency()).isEmpty()) {
+            tally.skip();
+            return;
+        }
+
+        RemittanceFeeReq feeReq = RemittanceFeeReq.of(row.exchangeRate(), row.sendAmount(), row.receiveCurrency(), fromAmountInUSD);
+        int tierIndex = candidatePolicy.findFlatTierIndex(FeeEngine.toSendAmountInUSD(feeReq));
+        if (tierIndex >= tierCount()) {
+            tally.skip();
+            return;
+        }
+
+        FeeCalculation calculation = FeeEngine.calculate(feeReq, candidatePolicy);
+        tally.add(row.receiveCurrency(), tierIndex, row.currentFee(), calculation.totalFee());
+    }
+
+    int tierCount() {
+        return candidatePolicy.flatFees().length;
+    }
+
+    /**
+     * 구간 순번에 해당하는 표시 이름 (구간 상한 USD)
+     */
+    String tierLabel(int tierIndex) {
+        return candidatePolicy.flatUpperLimits()[tierIndex].toPlainString();
+    }
+
+    /**
+     * 송금 당시 ExchangeService와 같은 방식으로 원화 송금액의 USD 환산액 계산
+     * USD 송금은 당시 적용 환율을, 그 외 통화는 요청의 참고 환율을 사용
+     */
+    private BigDecimal toFromAmountInUSD(FeeSimulationRow row) {
+        if (row.fromCurrency() != CurrencyCode.KRW) {
+            return null;
+        }
+        BigDecimal rate = row.toCurrency() == CurrencyCode.USD ? row.exchangeRate() : usdRate;
+        if (rate == null || rate.signum() == 0) {
+            return null;
+        }
+        BigDecimal usdPerKrw = BigDecimal.ONE.divide(rate, USD_CALCULATION_SCALE, RoundingMode.HALF_UP);
+        return row.sendAmount().multiply(usdPerKrw).setScale(2, RoundingMode.HALF_UP);
+    }
+}
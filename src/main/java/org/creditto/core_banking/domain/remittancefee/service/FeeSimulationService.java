@@ -0,0 +1,144 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationReq;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRes;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRow;
+import org.creditto.core_banking.domain.remittancefee.repository.FeeSimulationRepository;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 수수료 정책 변경 시뮬레이션 (관리자 배치 작업)
+ * 과거 송금/환전 내역을 송금 ID 기준 keyset 페이지로 순차 조회하고,
+ * 각 페이지를 fork-join으로 나누어 후보 정책 수수료를 재계산한 뒤 통화별/구간별 차이를 누적한다.
+ * 메모리에는 한 페이지와 누적 집계만 유지하므로 전체 건수와 무관하게 힙 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class FeeSimulationService {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final FeeSimulationRepository feeSimulationRepository;
+    private final FeePolicyProvider feePolicyProvider;
+    private final FeeSimulationProperties simulationProperties;
+
+    // 조회용 작업 보관소 (상한 + 종료 후 보관 기간이 지나면 제거)
+    private final Cache<String, FeeSimulationJob> jobs;
+    private final ForkJoinPool simulationPool;
+
+    // 요청 스레드를 막지 않도록 작업은 별도 스레드에서 하나씩 실행
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fee-simulation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FeeSimulationService(
+            FeeSimulationRepository feeSimulationRepository,
+            FeePolicyProvider feePolicyProvider,
+            FeeSimulationProperties simulationProperties
+    ) {
+        this.feeSimulationRepository = feeSimulationRepository;
+        this.feePolicyProvider = feePolicyProvider;
+        this.simulationProperties = simulationProperties;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(simulationProperties.getMaxJobs())
+                .expireAfterWrite(simulationProperties.getJobRetention())
+                .build();
+        this.simulationPool = new ForkJoinPool(simulationProperties.getParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        simulationPool.shutdownNow();
+    }
+
+    /**
+     * 시뮬레이션 작업 시작
+     *
+     * @param req 후보 정책 및 대상 기간
+     * @return 시작된 작업의 초기 상태 (작업 ID 포함)
+     */
+    public FeeSimulationRes start(FeeSimulationReq req) {
+        if (req.from().isAfter(req.to())) {
+            throw new CustomBaseException(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+        }
+
+        FeeSimulationScenario scenario = FeeSimulationScenario.of(req, feePolicyProvider.getSnapshot());
+        FeeSimulationJob job = new FeeSimulationJob(UUID.randomUUID().toString(), scenario, LocalDateTime.now(ZONE_ID));
+        jobs.put(job.getJobId(), job);
+        jobExecutor.execute(() -> run(job, req.from().atStartOfDay(), req.to().plusDays(1).atStartOfDay()));
+
+        log.info("[FeeSimulationService] 수수료 시뮬레이션 시작 - jobId={}, 기간={}~{}", job.getJobId(), req.from(), req.to());
+        return job.getProgress();
+    }
+
+    /**
+     * 시뮬레이션 작업 진행 상황 및 결과 조회
+     */
+    public FeeSimulationRes getJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .map(FeeSimulationJob::getProgress)
+                .orElseThrow(() -> new CustomBaseException(ErrorBaseCode.NOT_FOUND_FEE_SIMULATION));
+    }
+
+    /**
+     * [from, to) 기간의 송금 내역을 페이지 단위로 재계산
+     */
+    void run(FeeSimulationJob job, LocalDateTime from, LocalDateTime to) {
+        int pageSize = simulationProperties.getPageSize();
+        FeeSimulationTally total = new FeeSimulationTally();
+        Long lastRemittanceId = 0L;
+
+        try {
+            while (true) {
+                List<FeeSimulationRow> page = feeSimulationRepository.findPageAfter(lastRemittanceId, from, to, Limit.of(pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                FeeSimulationTask task = new FeeSimulationTask(page, 0, page.size(), job.getScenario(), simulationProperties.getSplitThreshold());
+                total.merge(simulationPool.invoke(task));
+                lastRemittanceId = page.get(page.size() - 1).remittanceId();
+                job.update(total, lastRemittanceId);
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            job.complete(total, lastRemittanceId, LocalDateTime.now(ZONE_ID));
+            retain(job);
+            log.info("[FeeSimulationService] 수수료 시뮬레이션 완료 - jobId={}, 처리={}건, 제외={}건",
+                    job.getJobId(), total.getProcessed(), total.getSkipped());
+        } catch (RuntimeException e) {
+            job.fail(total, lastRemittanceId, LocalDateTime.now(ZONE_ID), e.getMessage());
+            retain(job);
+            log.error("[FeeSimulationService] 수수료 시뮬레이션 실패 - jobId={}, lastRemittanceId={}", job.getJobId(), lastRemittanceId, e);
+        }
+    }
+
+    /**
+     * 종료된 작업을 다시 기록하여 보관 기간을 종료 시점부터 계산
+     * (상한 초과로 이미 밀려난 작업은 되살리지 않음)
+     */
+    private void retain(FeeSimulationJob job) {
+        jobs.asMap().replace(job.getJobId(), job);
+    }
+}
@@ -0,0 +1,92 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 수수료 시뮬레이션 부분 집계
+ * 하나의 인스턴스는 한 스레드에서만 갱신하고, 병렬 작업의 결과는 {@link #merge}로 합친다.
+ */
+final class FeeSimulationTally {
+
+    private long processed;
+    private long skipped;
+    private final Sum total = new Sum();
+    private final Map<CurrencyCode, Sum> byCurrency = new EnumMap<>(CurrencyCode.class);
+    private final Map<Integer, Sum> byTier = new TreeMap<>();
+
+    void add(CurrencyCode currency, int tierIndex, BigDecimal currentFee, BigDecimal candidateFee) {
+        processed++;
+        total.add(currentFee, candidateFee);
+        byCurrency.computeIfAbsent(currency, ignored -> new Sum()).add(currentFee, candidateFee);
+        byTier.computeIfAbsent(tierIndex, ignored -> new Sum()).add(currentFee, candidateFee);
+    }
+
+    void skip() {
+        skipped++;
+    }
+
+    FeeSimulationTally merge(FeeSimulationTally other) {
+        processed += other.processed;
+        skipped += other.skipped;
+        total.merge(other.total);
+        other.byCurrency.forEach((currency, sum) -> byCurrency.computeIfAbsent(currency, ignored -> new Sum()).merge(sum));
+        other.byTier.forEach((tierIndex, sum) -> byTier.computeIfAbsent(tierIndex, ignored -> new Sum()).merge(sum));
+        return this;
+    }
+
+    long getProcessed() {
+        return processed;
+    }
+
+    long getSkipped() {
+        return skipped;
+    }
+
+    Sum getTotal() {
+        return total;
+    }
+
+    Map<CurrencyCode, Sum> getByCurrency() {
+        return byCurrency;
+    }
+
+    Map<Integer, Sum> getByTier() {
+        return byTier;
+    }
+
+    static final class Sum {
+
+        private long count;
+        private BigDecimal currentFee = BigDecimal.ZERO;
+        private BigDecimal candidateFee = BigDecimal.ZERO;
+
+        private void add(BigDecimal current, BigDecimal candidate) {
+            count++;
+            currentFee = currentFee.add(current);
+            candidateFee = candidateFee.add(candidate);
+        }
+
+        private void merge(Sum other) {
+            count += other.count;
+            currentFee = currentFee.add(other.currentFee);
+            candidateFee = candidateFee.add(other.candidateFee);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        BigDecimal getCurrentFee() {
+            return currentFee;
+        }
+
+        BigDecimal getCandidateFee() {
+            return candidateFee;
+        }
+    }
+}
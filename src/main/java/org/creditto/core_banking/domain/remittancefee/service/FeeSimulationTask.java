@@ -0,0 +1,45 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRow;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 한 페이지의 송금 내역을 구간으로 나누어 병렬 재계산 (fork-join)
+ * 구간이 분할 기준 이하이면 직접 계산하고, 아니면 반으로 나누어 각각 집계한 뒤 합친다.
+ */
+final class FeeSimulationTask extends RecursiveTask<FeeSimulationTally> {
+
+    private final List<FeeSimulationRow> rows;
+    private final int from;
+    private final int to;
+    private final FeeSimulationScenario scenario;
+    private final int splitThreshold;
+
+    FeeSimulationTask(List<FeeSimulationRow> rows, int from, int to, FeeSimulationScenario scenario, int splitThreshold) {
+        this.rows = rows;
+        this.from = from;
+        this.to = to;
+        this.scenario = scenario;
+        this.splitThreshold = splitThreshold;
+    }
+
+    @Override
+    protected FeeSimulationTally compute() {
+        if (to - from <= splitThreshold) {
+            FeeSimulationTally tally = new FeeSimulationTally();
+            for (int i = from; i < to; i++) {
+                scenario.simulate(rows.get(i), tally);
+            }
+            return tally;
+        }
+
+        int mid = (from + to) >>> 1;
+        FeeSimulationTask left = new FeeSimulationTask(rows, from, mid, scenario, splitThreshold);
+        FeeSimulationTask right = new FeeSimulationTask(rows, mid, to, scenario, splitThreshold);
+        left.fork();
+        FeeSimulationTally rightTally = right.compute();
+        return left.join().merge(rightTally);
+    }
+}
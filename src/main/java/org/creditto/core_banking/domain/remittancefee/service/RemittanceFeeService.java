@@ -1,124 +1,107 @@
 package org.creditto.core_banking.domain.remittancefee.service;
 
-import jakarta.persistence.EntityNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeePreviewRes;
 import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
 import org.creditto.core_banking.domain.remittancefee.entity.FeeRecord;
-import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
-import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
-import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
 import org.creditto.core_banking.domain.remittancefee.repository.FeeRecordRepository;
-import org.creditto.core_banking.domain.remittancefee.repository.FlatServiceFeeRepository;
-import org.creditto.core_banking.domain.remittancefee.repository.NetworkFeeRepository;
-import org.creditto.core_banking.domain.remittancefee.repository.PctServiceFeeRepository;
 import org.creditto.core_banking.global.common.CurrencyCode;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-
-import static org.creditto.core_banking.global.response.error.ErrorMessage.FEE_NOT_FOUND;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RemittanceFeeService {
 
-    private final FlatServiceFeeRepository flatServiceFeeRepository;
-    private final PctServiceFeeRepository pctServiceFeeRepository;
-    private final NetworkFeeRepository networkFeeRepository;
+    private static final String PREVIEW_CACHE_NAME = "remittance-fee-preview";
+
+    private final FeePolicyProvider feePolicyProvider;
     private final FeeRecordRepository feeRecordRepository;
 
-    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
-    private static final int CALCULATION_SCALE = 10;
+    // 수수료 미리보기 캐시: (통화, 환율, 금액 구간, 정책 버전) -> 미리보기 결과
+    private final Cache<PreviewKey, RemittanceFeePreviewRes> previewCache;
+
+    public RemittanceFeeService(
+            FeePolicyProvider feePolicyProvider,
+            FeeRecordRepository feeRecordRepository,
+            FeePreviewCacheProperties previewCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.feePolicyProvider = feePolicyProvider;
+        this.feeRecordRepository = feeRecordRepository;
+        this.previewCache = Caffeine.newBuilder()
+                .maximumSize(previewCacheProperties.getMaximumSize())
+                .expireAfterWrite(previewCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, previewCache, PREVIEW_CACHE_NAME);
+    }
 
+    /**
+     * 송금 실행 시 수수료를 계산하고 적용된 정책과 함께 FeeRecord로 저장
+     */
     @Transactional
     public FeeRecord calculateAndSaveFee(RemittanceFeeReq req) {
-        BigDecimal sendAmount = req.sendAmount(); // 송금 금액 (KRW)
-        BigDecimal exchangeRate = req.exchangeRate(); // 제공환율 (currency code)
-        CurrencyCode currency = req.currency(); // 환율 통화
-
-        BigDecimal usdExchangeRate = req.fromAmountInUSD();
-        BigDecimal amountInKRWForFlat = normalizeAmountByCurrency(sendAmount, currency)
-                .multiply(exchangeRate);
-        BigDecimal sendAmountForUSD = amountInKRWForFlat.divide(usdExchangeRate, CALCULATION_SCALE, RoundingMode.HALF_UP);
+        FeeCalculation calculation = FeeEngine.calculate(req, feePolicyProvider.getSnapshot());
 
-        log.debug("[RemittanceFeeService] calculateAndSaveFee : sendAmountForUSD={}", sendAmountForUSD);
-
-        // 수수료 계산에 사용될 각 정책 엔티티 조회
-        FlatServiceFee flatFeePolicy = getFlatFeePolicy(sendAmountForUSD);
-        PctServiceFee pctFeePolicy = getPctFeePolicy();
-        NetworkFee networkFeePolicy = getNetworkFeePolicy(currency);
-
-        // 각 수수료를 원화 기준으로 계산
-        BigDecimal flatFeeInKRW = flatFeePolicy.getFeeAmount();
-        BigDecimal pctFeeInKRW = calculatePctFee(pctFeePolicy, sendAmount, exchangeRate, currency); // 현재 비활성화(isActive = false)
-        BigDecimal networkFeeInKRW = calculateNetworkFee(networkFeePolicy, exchangeRate);
-
-        // 총 수수료 합산
-        BigDecimal totalFeeInKRW = flatFeeInKRW.add(pctFeeInKRW).add(networkFeeInKRW);
+        log.debug("[RemittanceFeeService] calculateAndSaveFee : totalFee={}", calculation.totalFee());
 
         // FeeRecord 생성
-        FeeRecord feeRecord = FeeRecord.create(totalFeeInKRW, flatFeePolicy, pctFeePolicy, networkFeePolicy);
+        FeeRecord feeRecord = FeeRecord.create(
+                calculation.totalFee(),
+                calculation.flatFeePolicy(),
+                calculation.pctFeePolicy(),
+                calculation.networkFeePolicy()
+        );
 
         // FeeRecord 저장 후 반환
         return feeRecordRepository.save(feeRecord);
     }
 
     /**
-     * 고정 수수료 조회
-     * @param sendAmountInUSD 송금금액을 달러로 변환한 금액
-     * @return FlatServiceFee
+     * 송금 확정 전 수수료 미리보기 (FeeRecord를 저장하지 않음)
+     * 같은 정책 버전에서 통화/환율/금액 구간이 같으면 수수료도 같으므로 캐시된 결과를 반환
      */
-    private FlatServiceFee getFlatFeePolicy(BigDecimal sendAmountInUSD) {
-        return flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(sendAmountInUSD)
-                .orElseThrow(() -> new EntityNotFoundException(FEE_NOT_FOUND));
+    public RemittanceFeePreviewRes previewFee(RemittanceFeeReq req) {
+        FeePolicySnapshot policySnapshot = feePolicyProvider.getSnapshot();
+        PreviewKey key = PreviewKey.of(req, policySnapshot);
+        return previewCache.get(key, ignored ->
+                RemittanceFeePreviewRes.of(req.currency(), FeeEngine.calculate(req, policySnapshot), policySnapshot.version()));
     }
 
     /**
-     * 비율 수수료 조회
-     * @return PctServiceFee
+     * 미리보기 캐시 키
+     * 비율 수수료가 비활성이면 수수료는 고정 수수료 구간에만 의존하므로 구간 순번을 금액 구간으로 쓰고,
+     * 활성이면 송금액에 비례하므로 송금액 자체를 키에 포함
      */
-    private PctServiceFee getPctFeePolicy() {
-        return pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()
-                .orElseThrow(() -> new EntityNotFoundException(FEE_NOT_FOUND));
-    }
-
-    /**
-     * 네트워크 수수료 조회
-     * @param currency 환전하려는 통화
-     * @return NetworkFee
-     */
-    private NetworkFee getNetworkFeePolicy(CurrencyCode currency) {
-        return networkFeeRepository.findByCurrencyCode(currency)
-                .orElseThrow(() -> new EntityNotFoundException(FEE_NOT_FOUND));
-    }
-
-    private BigDecimal calculatePctFee(PctServiceFee policy, BigDecimal sendAmount, BigDecimal exchangeRate, CurrencyCode currency) {
-        // isActive 상태에 따라 분기 처리
-        if (policy != null && policy.getIsActive()) {
-            BigDecimal feeRate = policy.getFeeRate().divide(ONE_HUNDRED, CALCULATION_SCALE, RoundingMode.HALF_UP);
-            BigDecimal calculatedSendAmount = normalizeAmountByCurrency(sendAmount, currency);
-
-            return calculatedSendAmount.multiply(feeRate).multiply(exchangeRate).setScale(0, RoundingMode.HALF_UP);
-        } else {
-            return BigDecimal.ZERO;
+    private record PreviewKey(
+            CurrencyCode currency,
+            BigDecimal exchangeRate,
+            BigDecimal fromAmountInUSD,
+            int flatTierIndex,
+            BigDecimal pctFeeAmount,
+            String policyVersion
+    ) {
+
+        static PreviewKey of(RemittanceFeeReq req, FeePolicySnapshot policySnapshot) {
+            boolean pctFeeActive = policySnapshot.findPctFee()
+                    .map(pctFee -> Boolean.TRUE.equals(pctFee.getIsActive()))
+                    .orElse(false);
+            return new PreviewKey(
+                    req.currency(),
+                    req.exchangeRate().stripTrailingZeros(),
+                    req.fromAmountInUSD().stripTrailingZeros(),
+                    policySnapshot.findFlatTierIndex(FeeEngine.toSendAmountInUSD(req)),
+                    pctFeeActive ? req.sendAmount().stripTrailingZeros() : null,
+                    policySnapshot.version()
+            );
         }
     }
-
-    private BigDecimal calculateNetworkFee(NetworkFee policy, BigDecimal exchangeRate) {
-        BigDecimal feeAmount = policy.getFeeAmount();
-        BigDecimal calculatedSendAmount = normalizeAmountByCurrency(feeAmount, policy.getCurrencyCode());
-
-        return calculatedSendAmount.multiply(exchangeRate).setScale(0, RoundingMode.HALF_UP);
-    }
-
-    private static BigDecimal normalizeAmountByCurrency(BigDecimal amount, CurrencyCode currency) {
-        return  currency.equals(CurrencyCode.JPY) || currency.equals(CurrencyCode.IDR)
-                ? amount.divide(ONE_HUNDRED, CALCULATION_SCALE, RoundingMode.HALF_UP)
-                : amount;
-    }
 }
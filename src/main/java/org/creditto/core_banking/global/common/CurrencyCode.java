@@ -5,6 +5,7 @@ import lombok.Getter;
 import org.creditto.core_banking.global.response.error.ErrorBaseCode;
 import org.creditto.core_banking.global.response.exception.CustomBaseException;
 
+import java.math.BigDecimal;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -38,9 +39,25 @@ public enum CurrencyCode {
                     Function.identity()
             ));
 
+    // API 응답 키(예: "JPY(100)") 조회 맵 생성
+    private static final Map<String, CurrencyCode> LOOKUP_KEY_MAP =
+            Stream.of(values()).collect(Collectors.toMap(
+                    CurrencyCode::getLookupKey,
+                    Function.identity()
+            ));
+
     private final String code;
     private final String name;
     private final int unit;
+    private final BigDecimal unitAmount;
+
+    /**
+     * 통화 코드와 단위를 포함하는 조회 키 문자열
+     * 예를 들어, JPY 통화의 단위가 100인 경우 "JPY(100)"이고,
+     * 단위가 1인 경우 "USD"와 같이 통화 코드만 사용합니다.
+     * 이 키는 외부 API 응답 맵에서 해당 통화의 환율 정보를 조회하는 데 사용됩니다.
+     */
+    private final String lookupKey;
 
     CurrencyCode(String code, String name) {
         this(code, name, 1);
@@ -50,6 +67,8 @@ public enum CurrencyCode {
         this.code = code;
         this.name = name;
         this.unit = unit;
+        this.unitAmount = BigDecimal.valueOf(unit);
+        this.lookupKey = unit > 1 ? code.toUpperCase() + "(" + unit + ")" : code.toUpperCase();
     }
 
     /**
@@ -66,7 +85,7 @@ public enum CurrencyCode {
 
     /**
      * 문자열로부터 CurrencyCode Enum 상수를 조회합니다.
-     * O(1) 시간 복잡도를 위해 static 맵을 사용합니다.
+     * O(1) 시간 복잡도를 위해 static 맵을 사용하며, 정확히 일치하지 않는 입력만 정규식으로 정제합니다.
      * @param curUnit "USD", "JPY(100)" 등의 통화 문자열
      * @return 해당하는 CurrencyCode Enum 상수
      */
@@ -76,6 +95,14 @@ public enum CurrencyCode {
             throw new CustomBaseException(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
         }
 
+        CurrencyCode exactMatch = CODE_MAP.get(curUnit);
+        if (exactMatch == null) {
+            exactMatch = LOOKUP_KEY_MAP.get(curUnit);
+        }
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+
         String codeToFind = parseCurrencyCode(curUnit).toUpperCase();
 
         return Optional.ofNullable(CODE_MAP.get(codeToFind))
@@ -83,17 +110,12 @@ public enum CurrencyCode {
     }
 
     /**
-     * 통화 코드와 단위를 포함하는 조회 키 문자열을 반환합니다.
-     * 예를 들어, JPY 통화의 단위가 100인 경우 "JPY(100)"를 반환하고,
-     * 단위가 1인 경우 "USD"와 같이 통화 코드만 반환합니다.
-     * 이 키는 외부 API 응답 맵에서 해당 통화의 환율 정보를 조회하는 데 사용됩니다.
-     * @return 통화 조회에 사용될 형식화된 키 문자열
+     * 외부 API 응답 키(예: "USD", "JPY(100)")로 CurrencyCode Enum 상수를 조회합니다.
+     * 지원하지 않는 통화는 예외 대신 빈 Optional을 반환합니다.
+     * @param lookupKey 외부 API 응답의 통화 문자열
+     * @return 해당하는 CurrencyCode Enum 상수
      */
-    public String getLookupKey() {
-        String lookupKey = this.code.toUpperCase();
-        if (this.unit > 1) {
-            lookupKey += "(" + this.unit + ")";
-        }
-        return lookupKey;
+    public static Optional<CurrencyCode> findByLookupKey(String lookupKey) {
+        return Optional.ofNullable(LOOKUP_KEY_MAP.get(lookupKey));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package org.creditto.core_banking.global.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.creditto.core_banking.global.feign.ExchangeRateApiProperties;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 클라이언트에 적용되는 서킷 브레이커 설정
+ * 외부 API 장애가 이어지면 호출을 즉시 실패시켜 요청 스레드가 응답 대기에 묶이지 않도록 한다.
+ */
+@Configuration
+public class CircuitBreakerConfig {
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> defaultCircuitBreakerCustomizer(ExchangeRateApiProperties apiProperties) {
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.custom()
+                        .slidingWindowType(SlidingWindowType.COUNT_BASED)
+                        .slidingWindowSize(apiProperties.getSlidingWindowSize())
+                        .minimumNumberOfCalls(apiProperties.getMinimumNumberOfCalls())
+                        .failureRateThreshold(apiProperties.getFailureRateThreshold())
+                        .waitDurationInOpenState(apiProperties.getWaitDurationInOpenState())
+                        .build())
+                // 커넥션 풀 대기 + 연결 + 응답 시간을 모두 포함한 호출 전체 제한 시간
+                .timeLimiterConfig(TimeLimiterConfig.custom()
+                        .timeoutDuration(apiProperties.getCallTimeout())
+                        .build())
+                .build());
+    }
+}
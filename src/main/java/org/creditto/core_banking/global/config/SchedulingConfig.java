@@ -1,9 +1,27 @@
 package org.creditto.core_banking.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄 작업 설정
+ * 기본 스케줄러는 스레드가 하나뿐이라, 오래 걸리는 정기송금 작업이 환율 갱신이나 짧은 주기의 폴링 작업을 지연시키지 않도록
+ * 스케줄 작업 수만큼 스레드를 둔다.
+ */
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduler.pool-size:6}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
 }
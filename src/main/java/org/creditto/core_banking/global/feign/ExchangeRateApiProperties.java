@@ -0,0 +1,62 @@
+package org.creditto.core_banking.global.feign;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 한국수출입은행 환율 API 호출 설정
+ * 연결/응답 타임아웃과 커넥션 풀은 spring.cloud.openfeign 설정에서 지정하고,
+ * 여기서는 전체 호출 제한 시간과 서킷 브레이커 기준만 관리한다.
+ */
+@ConfigurationProperties(prefix = "exchange.api")
+public class ExchangeRateApiProperties {
+
+    private final long callTimeoutMillis;
+    private final float failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateMillis;
+
+    public ExchangeRateApiProperties(
+            long callTimeoutMillis,
+            float failureRateThreshold,
+            int slidingWindowSize,
+            int minimumNumberOfCalls,
+            long waitDurationInOpenStateMillis
+    ) {
+        this.callTimeoutMillis = callTimeoutMillis;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.waitDurationInOpenStateMillis = waitDurationInOpenStateMillis;
+    }
+
+    public long getCallTimeoutMillis() {
+        return callTimeoutMillis;
+    }
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public long getWaitDurationInOpenStateMillis() {
+        return waitDurationInOpenStateMillis;
+    }
+
+    public Duration getCallTimeout() {
+        return Duration.ofMillis(callTimeoutMillis);
+    }
+
+    public Duration getWaitDurationInOpenState() {
+        return Duration.ofMillis(waitDurationInOpenStateMillis);
+    }
+}
@@ -0,0 +1,68 @@
+package org.creditto.core_banking.global.feign;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "exchange.cache")
+public class ExchangeRateCacheProperties {
+
+    private final long ttlMillis;
+    private final long refreshIntervalMillis;
+    private final long initialRefreshDelayMillis;
+    private final long maxStalenessMillis;
+    private final String snapshotFile;
+    private final long staleFetchTimeoutMillis;
+
+    public ExchangeRateCacheProperties(
+            long ttlMillis,
+            long refreshIntervalMillis,
+            long initialRefreshDelayMillis,
+            long maxStalenessMillis,
+            String snapshotFile,
+            long staleFetchTimeoutMillis
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.initialRefreshDelayMillis = initialRefreshDelayMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.snapshotFile = snapshotFile;
+        this.staleFetchTimeoutMillis = staleFetchTimeoutMillis;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public long getRefreshIntervalMillis() {
+        return refreshIntervalMillis;
+    }
+
+    public long getInitialRefreshDelayMillis() {
+        return initialRefreshDelayMillis;
+    }
+
+    public long getMaxStalenessMillis() {
+        return maxStalenessMillis;
+    }
+
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    public long getStaleFetchTimeoutMillis() {
+        return staleFetchTimeoutMillis;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofMillis(ttlMillis);
+    }
+
+    public Duration getMaxStaleness() {
+        return Duration.ofMillis(maxStalenessMillis);
+    }
+
+    public Duration getStaleFetchTimeout() {
+        return Duration.ofMillis(staleFetchTimeoutMillis);
+    }
+}
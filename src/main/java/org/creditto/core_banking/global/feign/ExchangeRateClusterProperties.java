@@ -0,0 +1,47 @@
+package org.creditto.core_banking.global.feign;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "exchange.cluster")
+public class ExchangeRateClusterProperties {
+
+    private final boolean enabled;
+    private final String keyPrefix;
+    private final long lockLeaseMillis;
+
+    public ExchangeRateClusterProperties(boolean enabled, String keyPrefix, long lockLeaseMillis) {
+        this.enabled = enabled;
+        this.keyPrefix = keyPrefix;
+        this.lockLeaseMillis = lockLeaseMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public long getLockLeaseMillis() {
+        return lockLeaseMillis;
+    }
+
+    public Duration getLockLease() {
+        return Duration.ofMillis(lockLeaseMillis);
+    }
+
+    public String getLockKey() {
+        return keyPrefix + "refresh-lock";
+    }
+
+    public String getSnapshotKey() {
+        return keyPrefix + "snapshot";
+    }
+
+    public String getTopicName() {
+        return keyPrefix + "updated";
+    }
+}
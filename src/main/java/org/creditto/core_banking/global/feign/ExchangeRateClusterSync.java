@@ -0,0 +1,139 @@
+package org.creditto.core_banking.global.feign;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 여러 인스턴스가 하나의 환율 스냅샷을 공유하기 위한 Redis 동기화
+ * 갱신 락을 얻은 노드만 외부 API를 호출하고, 결과를 Redis에 저장한 뒤 pub/sub으로 다른 노드에 알린다.
+ * Redis 장애 시에는 각 노드가 단독으로 갱신하도록 예외를 전파하지 않는다.
+ */
+@Slf4j
+@Component
+public class ExchangeRateClusterSync {
+
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final RedissonClient redissonClient;
+    private final ExchangeRateClusterProperties clusterProperties;
+
+    // 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ExchangeRateClusterSync(RedissonClient redissonClient, ExchangeRateClusterProperties clusterProperties) {
+        this.redissonClient = redissonClient;
+        this.clusterProperties = clusterProperties;
+    }
+
+    public boolean isEnabled() {
+        return clusterProperties.isEnabled();
+    }
+
+    /**
+     * Redis에 저장된 공유 스냅샷 조회
+     *
+     * @return 공유 스냅샷 (비활성화, 저장본 없음, Redis 장애 시 빈 Optional)
+     */
+    public Optional<ExchangeRateSnapshot> loadShared() {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String content = redissonClient.<String>getBucket(clusterProperties.getSnapshotKey(), StringCodec.INSTANCE).get();
+            return Optional.ofNullable(content).map(ExchangeRateSnapshotStore::deserialize);
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateClusterSync] 공유 환율 스냅샷 조회 실패 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 갱신 락 획득 시도 (대기하지 않음)
+     * 락은 lease 시간이 지나면 자동으로 해제되므로 갱신 중 노드가 종료되어도 다른 노드가 이어받을 수 있다.
+     *
+     * @return 락 획득 여부 (Redis 장애 시 단독 갱신을 위해 true)
+     */
+    public boolean tryAcquireRefreshLock() {
+        try {
+            return getRefreshLock().tryLock(0, clusterProperties.getLockLeaseMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateClusterSync] 갱신 락 획득 실패, 단독 갱신 - {}", e.getMessage());
+            return true;
+        }
+    }
+
+    public void releaseRefreshLock() {
+        try {
+            RLock lock = getRefreshLock();
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateClusterSync] 갱신 락 해제 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새로 조회한 스냅샷을 Redis에 저장하고 다른 노드에 알림
+     *
+     * @param snapshot 새로 조회한 스냅샷
+     */
+    public void publish(ExchangeRateSnapshot snapshot) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            String content = ExchangeRateSnapshotStore.serialize(snapshot);
+            redissonClient.<String>getBucket(clusterProperties.getSnapshotKey(), StringCodec.INSTANCE).set(content);
+            getTopic().publish(nodeId + MESSAGE_DELIMITER + content);
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateClusterSync] 환율 스냅샷 공유 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 스냅샷 수신 등록
+     *
+     * @param onUpdate 수신한 스냅샷 처리
+     */
+    public void subscribe(Consumer<ExchangeRateSnapshot> onUpdate) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            getTopic().addListener(String.class, (channel, message) -> {
+                int senderEnd = message.indexOf(MESSAGE_DELIMITER);
+                if (senderEnd < 0 || nodeId.equals(message.substring(0, senderEnd))) {
+                    return;
+                }
+                try {
+                    onUpdate.accept(ExchangeRateSnapshotStore.deserialize(message.substring(senderEnd + 1)));
+                } catch (RuntimeException e) {
+                    log.warn("[ExchangeRateClusterSync] 수신한 환율 스냅샷 처리 실패 - {}", e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateClusterSync] 환율 갱신 알림 구독 실패 - {}", e.getMessage());
+        }
+    }
+
+    private RLock getRefreshLock() {
+        return redissonClient.getLock(clusterProperties.getLockKey());
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(clusterProperties.getTopicName(), StringCodec.INSTANCE);
+    }
+}
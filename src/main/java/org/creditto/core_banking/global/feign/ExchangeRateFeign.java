@@ -10,7 +10,7 @@ import java.util.List;
 
 @FeignClient(
         name = "exchange-rate",
-        url = "https://oapi.koreaexim.go.kr",
+        url = "${exchange.api.url}",
         configuration = FeignConfig.class
 )
 public interface ExchangeRateFeign {
@@ -1,62 +1,430 @@
 package org.creditto.core_banking.global.feign;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.global.common.CurrencyCode;
 import org.creditto.core_banking.global.response.error.ErrorBaseCode;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ExchangeRateProvider {
 
+    private static final DateTimeFormatter SEARCH_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String EXCHANGE_DATA_TYPE = "AP01";
+
     private final ExchangeRateFeign exchangeRateFeign;
+    private final ExchangeRateCacheProperties cacheProperties;
+    private final ExchangeRateSnapshotStore snapshotStore;
+    private final ExchangeRateClusterSync clusterSync;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 현재 제공 중인 환율 스냅샷 (갱신 시 참조 단위로 원자적 교체)
+    private final AtomicReference<ExchangeRateSnapshot> snapshotRef = new AtomicReference<>();
+    // 진행 중인 외부 API 조회 (동시에 발생한 캐시 미스를 하나의 호출로 합치기 위해 사용)
+    private final AtomicReference<CompletableFuture<ExchangeRateSnapshot>> inFlightFetch = new AtomicReference<>();
+    // 진행 중인 만료 스냅샷 재조회 (요청 스레드가 시간 제한만큼만 기다리도록 별도 스레드에서 실행)
+    private final AtomicReference<CompletableFuture<ExchangeRateSnapshot>> inFlightRevalidation = new AtomicReference<>();
+
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter cacheStaleCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter sharedAdoptedCounter;
+    private final Counter todayWinCounter;
+    private final Counter previousBusinessDayWinCounter;
+    private final MeterRegistry meterRegistry;
+    private final Timer apiSuccessTimer;
+    private final Timer apiEmptyTimer;
+    private final Timer apiErrorTimer;
+
+    // 당일/전 영업일 동시 조회용 (조회는 하나로 합쳐지므로 동시에 최대 두 건)
+    private final ExecutorService hedgeExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "exchange-rate-hedge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 만료 스냅샷 재조회용 (재조회는 하나로 합쳐지므로 스레드 하나로 충분)
+    private final ExecutorService revalidateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exchange-rate-revalidate");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 스냅샷 교체 후 작업(갱신 이벤트, 저장, 공유)용
+    // 조회를 기다리는 요청이 이벤트 리스너나 DB/파일/Redis 작업을 기다리지 않도록 하고, 스레드 하나로 교체 순서를 유지
+    private final ExecutorService publishExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exchange-rate-publish");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 영업일 판단 기준 시계 (한국수출입은행 기준일)
+    private Clock clock = Clock.system(ZoneId.of("Asia/Seoul"));
 
     @Value("${exchange.auth-key}")
     private String authkey;
 
+    @Value("${exchange.api.hedged-fetch:true}")
+    private boolean hedgedFetch;
+
+    public ExchangeRateProvider(
+            ExchangeRateFeign exchangeRateFeign,
+            ExchangeRateCacheProperties cacheProperties,
+            ExchangeRateSnapshotStore snapshotStore,
+            ExchangeRateClusterSync clusterSync,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.exchangeRateFeign = exchangeRateFeign;
+        this.cacheProperties = cacheProperties;
+        this.snapshotStore = snapshotStore;
+        this.clusterSync = clusterSync;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.cacheHitCounter = Counter.builder("exchange.rate.cache")
+                .description("환율 스냅샷 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("exchange.rate.cache")
+                .description("환율 스냅샷 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.cacheStaleCounter = Counter.builder("exchange.rate.cache")
+                .description("환율 스냅샷 캐시 조회 결과")
+                .tag("result", "stale")
+                .register(meterRegistry);
+        this.refreshFailureCounter = Counter.builder("exchange.rate.refresh.failure")
+                .description("환율 스냅샷 백그라운드 갱신 실패 횟수")
+                .register(meterRegistry);
+        this.sharedAdoptedCounter = Counter.builder("exchange.rate.cluster.adopted")
+                .description("외부 API 호출 없이 다른 노드가 공유한 스냅샷을 반영한 횟수")
+                .register(meterRegistry);
+        this.todayWinCounter = fetchWinnerCounter("today", meterRegistry);
+        this.previousBusinessDayWinCounter = fetchWinnerCounter("previous_business_day", meterRegistry);
+        this.apiSuccessTimer = apiTimer("success", meterRegistry);
+        this.apiEmptyTimer = apiTimer("empty", meterRegistry);
+        this.apiErrorTimer = apiTimer("error", meterRegistry);
+        Gauge.builder("exchange.rate.snapshot.age", this, ExchangeRateProvider::getSnapshotAgeSeconds)
+                .description("현재 환율 스냅샷이 조회된 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
 
     /**
-     * 한국수출입은행 API에서 제공하는 환율 정보를 조회하여 Map 형태로 반환
+     * 한국수출입은행 API에서 제공하는 환율 정보를 Map 형태로 반환
+     * 유효한 스냅샷이 있으면 메모리에서 바로 반환하고, 없거나 만료된 경우에만 외부 API를 호출
      *
      * @return 조회된 환율 정보 Map (Key: 통화코드, Value: 환율정보 DTO)
      * @throws RuntimeException API 호출 실패 또는 최종 데이터 조회 실패 시 발생
      */
-    public Map<String, ExchangeRateRes> getExchangeRates() { // Changed return type
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        List<ExchangeRateRes> rates;
+    public Map<String, ExchangeRateRes> getExchangeRates() {
+        return getSnapshot().rates();
+    }
+
+    /**
+     * 지원 통화별로 미리 파싱된 환율 테이블 반환
+     * 환전 처리 경로에서는 문자열 파싱 없이 이 테이블만 사용
+     *
+     * @return 통화별 환율 정보 (Key: CurrencyCode, Value: 파싱된 환율 정보)
+     */
+    public Map<CurrencyCode, RateEntry> getRateTable() {
+        return getSnapshot().rateTable();
+    }
+
+    /**
+     * 현재 사용할 환율 스냅샷 반환
+     * 유효시간이 지난 경우 외부 API를 다시 조회하되, 허용 기간(max-staleness) 이내의 스냅샷이 있으면
+     * 조회가 실패하거나 제한 시간(stale-fetch-timeout) 안에 끝나지 않을 때만 기존 스냅샷을 반환
+     *
+     * @return 환율 스냅샷
+     */
+    public ExchangeRateSnapshot getSnapshot() {
+        ExchangeRateSnapshot snapshot = snapshotRef.get();
+        if (isFresh(snapshot)) {
+            cacheHitCounter.increment();
+            return snapshot;
+        }
+        if (isWithinStaleness(snapshot)) {
+            return revalidate(snapshot);
+        }
+        cacheMissCounter.increment();
+        return fetchCoalesced(false);
+    }
+
+    /**
+     * 유효시간이 지난 스냅샷 재조회
+     * 제한 시간 안에 끝나지 않은 조회는 백그라운드에서 계속 진행되어 이후 요청부터 새 스냅샷이 사용된다.
+     *
+     * @param stale 유효시간이 지났지만 허용 기간 이내인 스냅샷
+     * @return 새로 조회된 스냅샷, 조회에 실패했거나 제한 시간을 넘긴 경우 기존 스냅샷
+     */
+    private ExchangeRateSnapshot revalidate(ExchangeRateSnapshot stale) {
+        try {
+            ExchangeRateSnapshot revalidated = startRevalidation()
+                    .get(cacheProperties.getStaleFetchTimeoutMillis(), TimeUnit.MILLISECONDS);
+            cacheMissCounter.increment();
+            return revalidated;
+        } catch (TimeoutException e) {
+            log.debug("[ExchangeRateProvider] 환율 재조회 대기 시간 초과, 기존 스냅샷 사용 - fetchedAt={}", stale.fetchedAt());
+        } catch (ExecutionException e) {
+            log.warn("[ExchangeRateProvider] 환율 재조회 실패, 기존 스냅샷 사용 - {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cacheStaleCounter.increment();
+        return stale;
+    }
+
+    /**
+     * 만료 스냅샷 재조회 시작 (이미 진행 중인 재조회가 있으면 그 결과를 함께 기다림)
+     */
+    private CompletableFuture<ExchangeRateSnapshot> startRevalidation() {
+        CompletableFuture<ExchangeRateSnapshot> myRevalidation = new CompletableFuture<>();
+        CompletableFuture<ExchangeRateSnapshot> ongoing = inFlightRevalidation.compareAndExchange(null, myRevalidation);
+        if (ongoing != null) {
+            return ongoing;
+        }
 
         try {
-            rates = exchangeRateFeign.getExchangeRate(authkey, today, "AP01");
+            revalidateExecutor.execute(() -> {
+                try {
+                    myRevalidation.complete(fetchCoalesced(false));
+                } catch (RuntimeException e) {
+                    myRevalidation.completeExceptionally(e);
+                } finally {
+                    inFlightRevalidation.compareAndSet(myRevalidation, null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            myRevalidation.completeExceptionally(e);
+            inFlightRevalidation.compareAndSet(myRevalidation, null);
+        }
+        return myRevalidation;
+    }
 
-            // 비영업일이거나 null 응답을 받으면 전 영업일로 재조회
-            if (isInvalidResponse(rates)) { // Using helper method
-                LocalDate exDate = getPreviousBusinessDate(LocalDate.now());
-                String newDate = exDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-                rates = exchangeRateFeign.getExchangeRate(authkey, newDate, "AP01");
+    /**
+     * 기동 시 DB 또는 로컬 파일에 저장된 마지막 스냅샷을 불러옴
+     * 첫 요청이 외부 API 조회를 기다리지 않도록 하기 위함
+     * 클러스터 모드에서는 다른 노드의 갱신 알림을 구독
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPersistedSnapshot() {
+        clusterSync.subscribe(this::adoptSnapshot);
+        snapshotStore.loadLatest()
+                .filter(this::isWithinStaleness)
+                .ifPresent(persisted -> {
+                    // 그 사이 스케줄러가 새로 조회했다면 덮어쓰지 않음
+                    if (snapshotRef.compareAndSet(null, persisted)) {
+                        log.info("[ExchangeRateProvider] 저장된 환율 스냅샷 복구 - fetchedAt={}", persisted.fetchedAt());
+                        publishIfChanged(null, persisted);
+                    }
+                });
+    }
+
+    /**
+     * 주기적으로 환율 스냅샷을 갱신
+     * 갱신에 실패하면 기존 스냅샷을 그대로 유지
+     * 클러스터 모드에서는 갱신 락을 얻은 노드 하나만 외부 API를 호출
+     */
+    @Scheduled(
+            fixedDelayString = "${exchange.cache.refresh-interval-millis}",
+            initialDelayString = "${exchange.cache.initial-refresh-delay-millis}"
+    )
+    public void refresh() {
+        try {
+            if (clusterSync.isEnabled()) {
+                refreshAsCluster();
+            } else {
+                fetchCoalesced(true);
+            }
+        } catch (RuntimeException e) {
+            refreshFailureCounter.increment();
+            log.warn("[ExchangeRateProvider] 환율 스냅샷 갱신 실패, 기존 스냅샷 유지 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 클러스터 단위 갱신
+     * 이번 갱신 주기 안에 다른 노드가 공유한 스냅샷이 있으면 그대로 반영하고,
+     * 없으면 갱신 락을 얻은 노드만 외부 API를 호출한다. 락을 얻지 못한 노드는 pub/sub 알림으로 새 스냅샷을 받는다.
+     */
+    private void refreshAsCluster() {
+        Duration refreshInterval = Duration.ofMillis(cacheProperties.getRefreshIntervalMillis());
+        if (adoptSharedSnapshot(refreshInterval)) {
+            return;
+        }
+        if (!clusterSync.tryAcquireRefreshLock()) {
+            log.debug("[ExchangeRateProvider] 다른 노드가 환율 갱신 중, 이번 주기는 건너뜀");
+            return;
+        }
+        try {
+            // 락을 얻는 사이 다른 노드가 갱신을 마쳤을 수 있음
+            if (!adoptSharedSnapshot(refreshInterval)) {
+                fetchCoalesced(true);
             }
+        } finally {
+            clusterSync.releaseRefreshLock();
+        }
+    }
+
+    /**
+     * 동시에 들어온 조회 요청을 하나의 외부 API 호출로 합쳐서 처리
+     *
+     * @param force true인 경우 현재 스냅샷이 유효하더라도 새로 조회
+     * @return 새로 조회되었거나 다른 스레드가 조회한 스냅샷
+     */
+    private ExchangeRateSnapshot fetchCoalesced(boolean force) {
+        CompletableFuture<ExchangeRateSnapshot> myFetch = new CompletableFuture<>();
+        CompletableFuture<ExchangeRateSnapshot> ongoing = inFlightFetch.compareAndExchange(null, myFetch);
+        if (ongoing != null) {
+            return awaitFetch(ongoing);
+        }
+
+        try {
+            // 조회 권한을 얻는 사이 다른 스레드가 이미 갱신을 마쳤을 수 있음
+            ExchangeRateSnapshot current = snapshotRef.get();
+            if (!force && isFresh(current)) {
+                myFetch.complete(current);
+                return current;
+            }
+
+            // 다른 노드가 공유한 스냅샷이 유효하면 외부 API를 호출하지 않음
+            if (!force && adoptSharedSnapshot(cacheProperties.getTtl())) {
+                ExchangeRateSnapshot shared = snapshotRef.get();
+                myFetch.complete(shared);
+                return shared;
+            }
+
+            ExchangeRateSnapshot snapshot = fetchSnapshot();
+            ExchangeRateSnapshot previous = snapshotRef.getAndSet(snapshot);
+            // 교체 즉시 대기 중인 요청을 깨우고, 이벤트 발행/저장/공유는 백그라운드에서 수행
+            myFetch.complete(snapshot);
+            publishIfChanged(previous, snapshot);
+            runInBackground("저장", () -> snapshotStore.save(snapshot));
+            runInBackground("공유", () -> clusterSync.publish(snapshot));
+            return snapshot;
+        } catch (RuntimeException e) {
+            myFetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFetch.compareAndSet(myFetch, null);
+        }
+    }
+
+    /**
+     * Redis에 공유된 스냅샷이 주어진 기간 이내에 조회된 것이면 반영
+     *
+     * @param maxAge 허용할 최대 경과 시간
+     * @return 반영 여부
+     */
+    private boolean adoptSharedSnapshot(Duration maxAge) {
+        return clusterSync.loadShared()
+                .filter(shared -> !shared.isExpired(Instant.now(), maxAge))
+                .map(shared -> {
+                    adoptSnapshot(shared);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 다른 노드가 조회한 스냅샷을 반영 (현재 스냅샷보다 최신인 경우에만 교체)
+     *
+     * @param shared 공유된 스냅샷
+     */
+    private void adoptSnapshot(ExchangeRateSnapshot shared) {
+        ExchangeRateSnapshot previous = snapshotRef.getAndAccumulate(shared, (current, candidate) ->
+                current == null || candidate.fetchedAt().isAfter(current.fetchedAt()) ? candidate : current);
+        if (previous == null || shared.fetchedAt().isAfter(previous.fetchedAt())) {
+            sharedAdoptedCounter.increment();
+            publishIfChanged(previous, shared);
+        }
+    }
+
+    /**
+     * 환율이 실제로 바뀐 경우에만 갱신 이벤트 발행 (조회 시각만 바뀐 경우 제외)
+     * 리스너는 백그라운드에서 실행되므로 리스너의 지연이나 예외가 조회 요청에 영향을 주지 않음
+     */
+    private void publishIfChanged(ExchangeRateSnapshot previous, ExchangeRateSnapshot current) {
+        if (previous == null || !previous.rateTable().equals(current.rateTable())) {
+            runInBackground("갱신 이벤트 발행", () -> eventPublisher.publishEvent(new ExchangeRateUpdatedEvent(previous, current)));
+        }
+    }
+
+    /**
+     * 스냅샷 교체 후 작업을 순서대로 백그라운드에서 실행 (실패는 기록만 하고 제공 중인 스냅샷은 유지)
+     */
+    private void runInBackground(String step, Runnable task) {
+        try {
+            publishExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("[ExchangeRateProvider] 환율 스냅샷 {} 실패 - {}", step, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("[ExchangeRateProvider] 종료 중이므로 환율 스냅샷 {} 생략", step);
+        }
+    }
+
+    private ExchangeRateSnapshot awaitFetch(CompletableFuture<ExchangeRateSnapshot> ongoing) {
+        try {
+            return ongoing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(ErrorBaseCode.INTERNAL_SERVER_ERROR.getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 외부 API를 호출하여 새로운 환율 스냅샷 생성
+     */
+    private ExchangeRateSnapshot fetchSnapshot() {
+        try {
+            List<ExchangeRateRes> rates = fetchLatestRates(LocalDate.now(clock));
 
             // 그래도 null일 경우 강제 예외
-            if (isInvalidResponse(rates)) { // Using helper method
+            if (isInvalidResponse(rates)) {
                 throw new RuntimeException(ErrorBaseCode.INTERNAL_SERVER_ERROR.getMessage());
             }
 
-            // 최종적으로 조회된 List를 Map으로 변환하여 반환
-            return rates.stream()
-                    .collect(Collectors.toMap(
-                            ExchangeRateRes::getCurrencyUnit,
-                            rate -> rate,
-                            (existing, replacement) -> existing
-                    ));
+            // 최종적으로 조회된 List를 불변 스냅샷으로 변환하여 반환
+            return ExchangeRateSnapshot.of(rates, Instant.now());
 
         } catch (Exception e) {
             log.error("Failed to get exchange rates from external API", e);
@@ -64,6 +432,122 @@ public class ExchangeRateProvider {
         }
     }
 
+    /**
+     * 가장 최근 영업일의 환율 조회
+     * 주말에는 당일 환율이 없으므로 전 영업일만 조회하고,
+     * 평일에는 당일과 전 영업일을 동시에 요청(hedged)하거나 당일 조회 후 전 영업일로 재조회(sequential)
+     *
+     * @param today 기준 날짜
+     * @return API 응답 (유효하지 않을 수 있음)
+     */
+    private List<ExchangeRateRes> fetchLatestRates(LocalDate today) throws InterruptedException {
+        String previousBusinessDate = getPreviousBusinessDate(today).format(SEARCH_DATE_FORMAT);
+        if (isWeekend(today)) {
+            return recordWinner(callExchangeRateApi(previousBusinessDate), previousBusinessDayWinCounter);
+        }
+
+        String todayDate = today.format(SEARCH_DATE_FORMAT);
+        if (!hedgedFetch) {
+            List<ExchangeRateRes> rates = callExchangeRateApi(todayDate);
+            if (!isInvalidResponse(rates)) {
+                return recordWinner(rates, todayWinCounter);
+            }
+            // 공휴일이거나 null 응답을 받으면 전 영업일로 재조회
+            return recordWinner(callExchangeRateApi(previousBusinessDate), previousBusinessDayWinCounter);
+        }
+
+        // 당일과 전 영업일을 동시에 요청하여 공휴일에도 호출 두 번을 기다리지 않음
+        Future<List<ExchangeRateRes>> todayFetch = hedgeExecutor.submit(() -> callExchangeRateApi(todayDate));
+        Future<List<ExchangeRateRes>> previousFetch = hedgeExecutor.submit(() -> callExchangeRateApi(previousBusinessDate));
+        try {
+            // 더 최신인 당일 환율이 유효하면 전 영업일 요청은 취소
+            List<ExchangeRateRes> todayRates = awaitHedge(todayFetch);
+            if (!isInvalidResponse(todayRates)) {
+                previousFetch.cancel(true);
+                return recordWinner(todayRates, todayWinCounter);
+            }
+            return recordWinner(awaitHedge(previousFetch), previousBusinessDayWinCounter);
+        } finally {
+            todayFetch.cancel(true);
+            previousFetch.cancel(true);
+        }
+    }
+
+    /**
+     * 동시 요청 결과 대기 (실패한 요청은 빈 응답으로 취급하여 다른 요청 결과를 사용)
+     */
+    private List<ExchangeRateRes> awaitHedge(Future<List<ExchangeRateRes>> fetch) throws InterruptedException {
+        try {
+            return fetch.get();
+        } catch (ExecutionException e) {
+            log.warn("[ExchangeRateProvider] 환율 조회 요청 실패 - {}", e.getCause().getMessage());
+            return List.of();
+        }
+    }
+
+    private List<ExchangeRateRes> recordWinner(List<ExchangeRateRes> rates, Counter winCounter) {
+        if (!isInvalidResponse(rates)) {
+            winCounter.increment();
+        }
+        return rates;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+        revalidateExecutor.shutdownNow();
+        publishExecutor.shutdown();
+    }
+
+    /**
+     * 외부 환율 API 1회 호출
+     * 호출 결과(success, empty, error)별 응답 시간을 기록
+     *
+     * @param searchDate 조회 날짜 (yyyyMMdd)
+     * @return API 응답
+     */
+    private List<ExchangeRateRes> callExchangeRateApi(String searchDate) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer timer = apiErrorTimer;
+        try {
+            List<ExchangeRateRes> rates = exchangeRateFeign.getExchangeRate(authkey, searchDate, EXCHANGE_DATA_TYPE);
+            timer = isInvalidResponse(rates) ? apiEmptyTimer : apiSuccessTimer;
+            return rates;
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private static Counter fetchWinnerCounter(String path, MeterRegistry meterRegistry) {
+        return Counter.builder("exchange.rate.fetch.winner")
+                .description("환율 스냅샷으로 채택된 조회 기준일")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    private static Timer apiTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("exchange.rate.api")
+                .description("한국수출입은행 환율 API 호출 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private boolean isFresh(ExchangeRateSnapshot snapshot) {
+        return snapshot != null && !snapshot.isExpired(Instant.now(), cacheProperties.getTtl());
+    }
+
+    private boolean isWithinStaleness(ExchangeRateSnapshot snapshot) {
+        return snapshot != null && !snapshot.isExpired(Instant.now(), cacheProperties.getMaxStaleness());
+    }
+
+    private double getSnapshotAgeSeconds() {
+        ExchangeRateSnapshot snapshot = snapshotRef.get();
+        if (snapshot == null) {
+            return Double.NaN;
+        }
+        return snapshot.age(Instant.now()).toMillis() / 1000.0;
+    }
+
     // 응답 유효성 검사 로직을 별도 메서드로 추출
     private boolean isInvalidResponse(List<ExchangeRateRes> rates) {
         return rates == null || rates.isEmpty() || rates.get(0).getCurrencyUnit() == null;
@@ -77,9 +561,13 @@ public class ExchangeRateProvider {
      */
     private LocalDate getPreviousBusinessDate(LocalDate date) {
         LocalDate prev = date.minusDays(1);
-        while (prev.getDayOfWeek() == DayOfWeek.SATURDAY || prev.getDayOfWeek() == DayOfWeek.SUNDAY) {
+        while (isWeekend(prev)) {
             prev = prev.minusDays(1);
         }
         return prev;
     }
+
+    private boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
 }
@@ -0,0 +1,63 @@
+package org.creditto.core_banking.global.feign;
+
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 API에서 조회한 환율 정보를 담는 불변 스냅샷
+ * 조회 시점에 한 번만 가공해 두고, 갱신 시에는 스냅샷 전체를 원자적으로 교체한다.
+ *
+ * @param rates     통화코드를 키로 하는 환율 정보 Map (API 응답 원본)
+ * @param rateTable 지원 통화별로 미리 파싱된 환율 테이블
+ * @param fetchedAt 외부 API에서 조회한 시각
+ */
+public record ExchangeRateSnapshot(
+        Map<String, ExchangeRateRes> rates,
+        Map<CurrencyCode, RateEntry> rateTable,
+        Instant fetchedAt
+) {
+
+    public static ExchangeRateSnapshot of(List<ExchangeRateRes> rates, Instant fetchedAt) {
+        Map<String, ExchangeRateRes> rateMap = rates.stream()
+                .collect(Collectors.toMap(
+                        ExchangeRateRes::getCurrencyUnit,
+                        rate -> rate,
+                        (existing, replacement) -> existing
+                ));
+
+        // API가 제공하는 통화 중 서비스에서 지원하는 통화만 파싱
+        Map<CurrencyCode, RateEntry> rateTable = new EnumMap<>(CurrencyCode.class);
+        rateMap.forEach((lookupKey, rate) ->
+                CurrencyCode.findByLookupKey(lookupKey)
+                        .ifPresent(currency -> rateTable.put(currency, RateEntry.of(currency, rate)))
+        );
+
+        return new ExchangeRateSnapshot(
+                Collections.unmodifiableMap(rateMap),
+                Collections.unmodifiableMap(rateTable),
+                fetchedAt
+        );
+    }
+
+    /**
+     * 스냅샷이 조회된 이후 경과한 시간
+     */
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+
+    /**
+     * 주어진 유효시간을 넘겼는지 여부
+     */
+    public boolean isExpired(Instant now, Duration ttl) {
+        return age(now).compareTo(ttl) > 0;
+    }
+}
@@ -0,0 +1,184 @@
+package org.creditto.core_banking.global.feign;
+
+import lombok.extern.slf4j.Slf4j;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.domain.exchange.entity.RateSnapshot;
+import org.creditto.core_banking.domain.exchange.repository.RateSnapshotRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 환율 스냅샷을 DB와 로컬 파일에 보관하는 저장소
+ * 재기동 직후나 외부 API 장애 시 마지막으로 조회된 스냅샷을 복구하는 데 사용한다.
+ * 저장 실패는 환율 조회 흐름을 막지 않도록 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class ExchangeRateSnapshotStore {
+
+    private static final String FIELD_DELIMITER = "\t";
+    private static final String LINE_DELIMITER = "\n";
+
+    private final RateSnapshotRepository rateSnapshotRepository;
+    private final Path snapshotFile;
+
+    // 마지막으로 DB에 저장한 payload (환율이 바뀌지 않은 경우 중복 저장 방지)
+    private volatile String lastPersistedPayload;
+
+    public ExchangeRateSnapshotStore(RateSnapshotRepository rateSnapshotRepository, ExchangeRateCacheProperties cacheProperties) {
+        this.rateSnapshotRepository = rateSnapshotRepository;
+        String file = cacheProperties.getSnapshotFile();
+        this.snapshotFile = (file == null || file.isBlank()) ? null : Path.of(file);
+    }
+
+    /**
+     * 스냅샷을 DB와 로컬 파일에 저장
+     * 환율이 직전 저장본과 같으면 DB에는 새 버전을 만들지 않고 파일의 조회 시각만 갱신
+     *
+     * @param snapshot 저장할 환율 스냅샷
+     */
+    public void save(ExchangeRateSnapshot snapshot) {
+        String payload = encode(snapshot);
+        saveToDatabase(snapshot, payload);
+        saveToFile(snapshot, payload);
+    }
+
+    /**
+     * 저장된 스냅샷 중 가장 최근에 조회된 스냅샷 반환
+     * DB와 로컬 파일 중 조회 시각이 더 최근인 쪽을 사용
+     *
+     * @return 가장 최근 스냅샷 (저장본이 없으면 빈 Optional)
+     */
+    public Optional<ExchangeRateSnapshot> loadLatest() {
+        return Stream.of(loadFromDatabase(), loadFromFile())
+                .flatMap(Optional::stream)
+                .max(Comparator.comparing(ExchangeRateSnapshot::fetchedAt));
+    }
+
+    private void saveToDatabase(ExchangeRateSnapshot snapshot, String payload) {
+        if (payload.equals(lastPersistedPayload)) {
+            return;
+        }
+        try {
+            RateSnapshot saved = rateSnapshotRepository.save(RateSnapshot.of(snapshot.fetchedAt(), payload));
+            lastPersistedPayload = payload;
+            log.info("[ExchangeRateSnapshotStore] 환율 스냅샷 저장 - version={}", saved.getId());
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateSnapshotStore] 환율 스냅샷 DB 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void saveToFile(ExchangeRateSnapshot snapshot, String payload) {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+
+            // 임시 파일에 먼저 기록한 뒤 교체하여 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+            Path tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            Files.writeString(tempFile, withHeader(snapshot.fetchedAt(), payload), StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("[ExchangeRateSnapshotStore] 환율 스냅샷 파일 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    private Optional<ExchangeRateSnapshot> loadFromDatabase() {
+        try {
+            return rateSnapshotRepository.findTopByOrderByIdDesc()
+                    .map(rateSnapshot -> {
+                        lastPersistedPayload = rateSnapshot.getPayload();
+                        return decode(rateSnapshot.getPayload(), rateSnapshot.getFetchedAt());
+                    });
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeRateSnapshotStore] 환율 스냅샷 DB 조회 실패 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ExchangeRateSnapshot> loadFromFile() {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(deserialize(Files.readString(snapshotFile, StandardCharsets.UTF_8)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ExchangeRateSnapshotStore] 환율 스냅샷 파일 조회 실패 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조회 시각(epoch millis)을 첫 줄에 포함하여 스냅샷 전체를 문자열로 변환
+     * 로컬 파일과 Redis 공유본에서 같은 형식을 사용
+     */
+    static String serialize(ExchangeRateSnapshot snapshot) {
+        return withHeader(snapshot.fetchedAt(), encode(snapshot));
+    }
+
+    /**
+     * serialize로 만든 문자열을 다시 스냅샷으로 복원
+     */
+    static ExchangeRateSnapshot deserialize(String content) {
+        int headerEnd = content.indexOf(LINE_DELIMITER);
+        Instant fetchedAt = Instant.ofEpochMilli(Long.parseLong(content.substring(0, headerEnd)));
+        return decode(content.substring(headerEnd + 1), fetchedAt);
+    }
+
+    private static String withHeader(Instant fetchedAt, String payload) {
+        return fetchedAt.toEpochMilli() + LINE_DELIMITER + payload;
+    }
+
+    /**
+     * 스냅샷을 "통화\t매매기준율\t통화명" 형식의 줄 단위 문자열로 변환
+     */
+    static String encode(ExchangeRateSnapshot snapshot) {
+        StringBuilder payload = new StringBuilder();
+        snapshot.rates().values().stream()
+                .sorted(Comparator.comparing(ExchangeRateRes::getCurrencyUnit))
+                .forEach(rate -> payload
+                        .append(rate.getCurrencyUnit()).append(FIELD_DELIMITER)
+                        .append(rate.getBaseRate()).append(FIELD_DELIMITER)
+                        .append(rate.getCurrencyName() == null ? "" : rate.getCurrencyName())
+                        .append(LINE_DELIMITER));
+        return payload.toString();
+    }
+
+    /**
+     * encode로 만든 문자열을 다시 스냅샷으로 복원
+     */
+    static ExchangeRateSnapshot decode(String payload, Instant fetchedAt) {
+        List<ExchangeRateRes> rates = new ArrayList<>();
+        for (String line : payload.split(LINE_DELIMITER)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.split(FIELD_DELIMITER, -1);
+            rates.add(ExchangeRateRes.builder()
+                    .result(1)
+                    .currencyUnit(fields[0])
+                    .baseRate(fields[1])
+                    .currencyName(fields[2])
+                    .build());
+        }
+        return ExchangeRateSnapshot.of(rates, fetchedAt);
+    }
+}
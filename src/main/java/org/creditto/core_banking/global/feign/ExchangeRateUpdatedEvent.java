@@ -0,0 +1,33 @@
+package org.creditto.core_banking.global.feign;
+
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 제공 중인 환율 스냅샷이 다른 환율로 교체되었을 때 발행되는 이벤트
+ *
+ * @param previous 이전 스냅샷 (기동 후 최초 반영인 경우 null)
+ * @param current  새로 반영된 스냅샷
+ */
+public record ExchangeRateUpdatedEvent(
+        ExchangeRateSnapshot previous,
+        ExchangeRateSnapshot current
+) {
+
+    /**
+     * 이전 스냅샷 대비 매매 기준율이 바뀌었거나 새로 추가된 통화
+     */
+    public Map<CurrencyCode, RateEntry> changedRates() {
+        Map<CurrencyCode, RateEntry> changed = new EnumMap<>(CurrencyCode.class);
+        current.rateTable().forEach((currency, rateEntry) -> {
+            RateEntry before = previous == null ? null : previous.rateTable().get(currency);
+            if (before == null || before.baseRate().compareTo(rateEntry.baseRate()) != 0) {
+                changed.put(currency, rateEntry);
+            }
+        });
+        return Collections.unmodifiableMap(changed);
+    }
+}
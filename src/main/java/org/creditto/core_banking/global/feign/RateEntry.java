@@ -0,0 +1,32 @@
+package org.creditto.core_banking.global.feign;
+
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.global.common.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 통화별로 미리 파싱해 둔 환율 정보
+ * 스냅샷 생성 시 한 번만 계산하므로 환전 처리 중에는 문자열 파싱이 발생하지 않는다.
+ *
+ * @param currency     통화 코드
+ * @param baseRate     API 원본 매매 기준율 (JPY, IDR은 100단위 기준)
+ * @param unitRate     1단위 기준으로 환산한 매매 기준율
+ * @param currencyName 통화명
+ */
+public record RateEntry(
+        CurrencyCode currency,
+        BigDecimal baseRate,
+        BigDecimal unitRate,
+        String currencyName
+) {
+
+    private static final int UNIT_RATE_SCALE = 4;
+
+    public static RateEntry of(CurrencyCode currency, ExchangeRateRes rateRes) {
+        BigDecimal baseRate = new BigDecimal(rateRes.getBaseRate().replace(",", ""));
+        BigDecimal unitRate = baseRate.divide(currency.getUnitAmount(), UNIT_RATE_SCALE, RoundingMode.HALF_UP);
+        return new RateEntry(currency, baseRate, unitRate, rateRes.getCurrencyName());
+    }
+}
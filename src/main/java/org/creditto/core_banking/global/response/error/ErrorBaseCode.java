@@ -30,6 +30,7 @@ public enum ErrorBaseCode implements ErrorCode {
     EXCHANGE_RATE_EXPIRED(HttpStatus.BAD_REQUEST, 40040, "환율 유효시간이 만료되었습니다."),
     CURRENCY_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, 40041, "지원하지 않는 통화입니다."),
     SAME_CURRENCY_EXCHANGE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, 40042, "환전 전 통화와 환전 후 통화가 같을 수 없습니다."),
+    EXCHANGE_QUOTE_MISMATCH(HttpStatus.BAD_REQUEST, 40043, "환율 견적 정보가 요청과 일치하지 않습니다."),
     BAD_REQUEST_EMPTY_BODY(HttpStatus.BAD_REQUEST, 40011, "요청 본문이 비어있거나 형식이 올바르지 않습니다."),
 
     /**
@@ -58,6 +59,9 @@ public enum ErrorBaseCode implements ErrorCode {
     NOT_FOUND_RECIPIENT(HttpStatus.NOT_FOUND, 40403, "해당 수취인을 찾을 수 없습니다."),
     NOT_FOUND_REGULAR_REMITTANCE(HttpStatus.NOT_FOUND, 40404, "정기송금 정보를 찾을 수 없습니다."),
     NOT_FOUND_EXCHANGE_RECORD(HttpStatus.NOT_FOUND, 40405, "환전 내역을 찾을 수 없습니다."),
+    NOT_FOUND_CONDITIONAL_REMITTANCE(HttpStatus.NOT_FOUND, 40406, "조건부 송금 정보를 찾을 수 없습니다."),
+    NOT_FOUND_FEE_SIMULATION(HttpStatus.NOT_FOUND, 40407, "수수료 시뮬레이션 작업을 찾을 수 없습니다."),
+    NOT_FOUND_REMITTANCE_SUBMISSION(HttpStatus.NOT_FOUND, 40408, "송금 접수 내역을 찾을 수 없습니다."),
 
 
     /**
@@ -71,6 +75,7 @@ public enum ErrorBaseCode implements ErrorCode {
     CONFLICT(HttpStatus.CONFLICT, 409, "이미 존재하는 리소스입니다."),
     DB_CONFLICT(HttpStatus.CONFLICT, 409, "DB 관련 충돌 문제입니다."),
     DUPLICATE_REMITTANCE(HttpStatus.CONFLICT, 40911, "동일한 내용의 자동이체가 이미 등록되어 있습니다."),
+    CONDITIONAL_REMITTANCE_NOT_PENDING(HttpStatus.CONFLICT, 40912, "이미 실행되었거나 취소된 조건부 송금입니다."),
     ACCOUNT_LOCK_TIMEOUT(HttpStatus.LOCKED, 42301, "계좌 처리 대기 시간이 초과되었습니다."),
     ACCOUNT_LOCK_INTERRUPTED(HttpStatus.LOCKED, 42302, "계좌 잠금 처리 중 오류가 발생했습니다."),
 
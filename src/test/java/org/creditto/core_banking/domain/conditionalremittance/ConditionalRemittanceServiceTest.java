@@ -0,0 +1,311 @@
+package org.creditto.core_banking.domain.conditionalremittance;
+
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.account.service.AccountService;
+import org.creditto.core_banking.domain.conditionalremittance.dto.ConditionalRemittanceCreateReq;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittance;
+import org.creditto.core_banking.domain.conditionalremittance.entity.ConditionalRemittanceStatus;
+import org.creditto.core_banking.domain.conditionalremittance.entity.TriggerCondition;
+import org.creditto.core_banking.domain.conditionalremittance.repository.ConditionalRemittanceRepository;
+import org.creditto.core_banking.domain.conditionalremittance.service.ConditionalRemittanceService;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceProcessorService;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.creditto.core_banking.domain.account.entity.AccountState.ACTIVE;
+import static org.creditto.core_banking.domain.account.entity.AccountType.DEPOSIT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalRemittanceServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ConditionalRemittanceRepository conditionalRemittanceRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private RecipientFactory recipientFactory;
+    @Mock
+    private RemittanceProcessorService remittanceProcessorService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConditionalRemittanceService conditionalRemittanceService;
+
+    private Account account;
+    private Recipient recipient;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        conditionalRemittanceService = new ConditionalRemittanceService(
+                conditionalRemittanceRepository,
+                accountRepository,
+                accountService,
+                recipientFactory,
+                remittanceProcessorService,
+                transactionManager
+        );
+
+        account = Account.of("1002-123-456789", "1057", "예금계좌", BigDecimal.valueOf(1_000_000), DEPOSIT, ACTIVE, USER_ID);
+        ReflectionTestUtils.setField(account, "id", 1L);
+
+        recipient = Recipient.of(new RecipientCreateDto(
+                "John Doe", "123-456", "Bank of America", "BOFAUS3N", "+1", "1234567890", "USA", CurrencyCode.USD
+        ));
+        ReflectionTestUtils.setField(recipient, "recipientId", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        conditionalRemittanceService.shutdown();
+    }
+
+    @Test
+    @DisplayName("환율이 기준 환율 이하로 내려가면 조건을 만족한 주문만 송금 실행")
+    void onExchangeRateUpdated_BelowThreshold_ExecutesTriggeredOrdersOnly() {
+        ConditionalRemittance triggered = register(TriggerCondition.BELOW, "1350.00");
+        ConditionalRemittance waiting = register(TriggerCondition.BELOW, "1250.00");
+        given(conditionalRemittanceRepository.claim(eq(triggered.getConditionalRemittanceId()), any())).willReturn(1);
+        given(conditionalRemittanceRepository.findTriggeredForUpdate(triggered.getConditionalRemittanceId()))
+                .willReturn(Optional.of(triggered));
+        given(remittanceProcessorService.execute(any(ExecuteRemittanceCommand.class)))
+                .willReturn(OverseasRemittanceResponseDto.builder().remittanceId(100L).build());
+
+        conditionalRemittanceService.onExchangeRateUpdated(rateChangedTo("1300.00"));
+
+        ArgumentCaptor<ExecuteRemittanceCommand> commandCaptor = ArgumentCaptor.forClass(ExecuteRemittanceCommand.class);
+        verify(remittanceProcessorService, timeout(1_000)).execute(commandCaptor.capture());
+        verify(conditionalRemittanceRepository, timeout(1_000)).updateStatus(
+                triggered.getConditionalRemittanceId(),
+                ConditionalRemittanceStatus.TRIGGERED,
+                ConditionalRemittanceStatus.EXECUTED,
+                100L
+        );
+        verify(conditionalRemittanceRepository, never()).claim(eq(waiting.getConditionalRemittanceId()), any());
+        // 송금 실행과 완료 처리가 하나의 트랜잭션으로 커밋
+        verify(transactionManager, timeout(1_000)).commit(any());
+
+        ExecuteRemittanceCommand command = commandCaptor.getValue();
+        assertThat(command.userId()).isEqualTo(USER_ID);
+        assertThat(command.accountId()).isEqualTo(1L);
+        assertThat(command.recipientId()).isEqualTo(1L);
+        assertThat(command.receiveCurrency()).isEqualTo(CurrencyCode.USD);
+        assertThat(command.targetAmount()).isEqualByComparingTo("100");
+        // 조건을 만족하지 않은 주문은 인덱스에 남아 다음 환율 변경 때 다시 평가
+        assertThat(conditionalRemittanceService.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기준 환율 이상 조건은 환율이 기준 환율 이상으로 오를 때만 충족")
+    void onExchangeRateUpdated_AboveThreshold() {
+        register(TriggerCondition.ABOVE, "1350.00");
+
+        conditionalRemittanceService.onExchangeRateUpdated(rateChangedTo("1300.00"));
+
+        assertThat(conditionalRemittanceService.getPendingCount()).isEqualTo(1);
+        verify(conditionalRemittanceRepository, never()).claim(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점한 주문은 송금을 실행하지 않음")
+    void trigger_AlreadyClaimed_SkipsExecution() {
+        given(conditionalRemittanceRepository.claim(eq(1L), any())).willReturn(0);
+
+        conditionalRemittanceService.trigger(1L);
+
+        verify(remittanceProcessorService, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("송금 실행이 실패하면 주문을 실패 상태로 변경")
+    void trigger_ExecutionFails_MarksFailed() {
+        ConditionalRemittance order = register(TriggerCondition.BELOW, "1350.00");
+        Long id = order.getConditionalRemittanceId();
+        given(conditionalRemittanceRepository.claim(eq(id), any())).willReturn(1);
+        given(conditionalRemittanceRepository.findTriggeredForUpdate(id)).willReturn(Optional.of(order));
+        given(remittanceProcessorService.execute(any(ExecuteRemittanceCommand.class)))
+                .willThrow(new CustomBaseException(ErrorBaseCode.INSUFFICIENT_FUNDS));
+
+        conditionalRemittanceService.trigger(id);
+
+        verify(transactionManager).rollback(any());
+        verify(conditionalRemittanceRepository, never()).updateStatus(eq(id), eq(ConditionalRemittanceStatus.TRIGGERED), eq(ConditionalRemittanceStatus.EXECUTED), any());
+        verify(conditionalRemittanceRepository).updateStatus(id, ConditionalRemittanceStatus.TRIGGERED, ConditionalRemittanceStatus.FAILED, null);
+    }
+
+    @Test
+    @DisplayName("선점 후 실행 중 상태가 아니게 된 주문은 송금하지 않고 실패로 처리하지도 않음")
+    void trigger_NoLongerTriggered_SkipsExecution() {
+        given(conditionalRemittanceRepository.claim(eq(1L), any())).willReturn(1);
+        given(conditionalRemittanceRepository.findTriggeredForUpdate(1L)).willReturn(Optional.empty());
+
+        conditionalRemittanceService.trigger(1L);
+
+        verify(remittanceProcessorService, never()).execute(any());
+        verify(conditionalRemittanceRepository, never()).updateStatus(eq(1L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("기동 시 실행 중 상태로 남은 주문을 조건 대기로 되돌린 뒤 조건 대기 주문을 적재")
+    void loadPendingOrders_ReleasesTriggeredOrders() {
+        ConditionalRemittance order = register(TriggerCondition.BELOW, "1350.00");
+        ConditionalRemittanceService restarted = new ConditionalRemittanceService(
+                conditionalRemittanceRepository,
+                accountRepository,
+                accountService,
+                recipientFactory,
+                remittanceProcessorService,
+                transactionManager
+        );
+        given(conditionalRemittanceRepository.releaseTriggered()).willReturn(1);
+        given(conditionalRemittanceRepository.findAllByStatus(ConditionalRemittanceStatus.PENDING)).willReturn(List.of(order));
+
+        try {
+            restarted.loadPendingOrders();
+
+            InOrder inOrder = inOrder(conditionalRemittanceRepository);
+            inOrder.verify(conditionalRemittanceRepository).releaseTriggered();
+            inOrder.verify(conditionalRemittanceRepository).findAllByStatus(ConditionalRemittanceStatus.PENDING);
+            assertThat(restarted.getPendingCount()).isEqualTo(1);
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("취소한 주문은 인덱스에서 제거되어 조건을 만족해도 실행되지 않음")
+    void cancel_RemovesFromIndex() {
+        ConditionalRemittance order = register(TriggerCondition.BELOW, "1350.00");
+        Long id = order.getConditionalRemittanceId();
+        given(conditionalRemittanceRepository.findById(id)).willReturn(Optional.of(order));
+        given(conditionalRemittanceRepository.updateStatus(id, ConditionalRemittanceStatus.PENDING, ConditionalRemittanceStatus.CANCELLED, null))
+                .willReturn(1);
+
+        conditionalRemittanceService.cancel(USER_ID, id);
+        conditionalRemittanceService.onExchangeRateUpdated(rateChangedTo("1300.00"));
+
+        assertThat(conditionalRemittanceService.getPendingCount()).isZero();
+        verify(conditionalRemittanceRepository, never()).claim(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이미 실행된 주문은 취소할 수 없음")
+    void cancel_NotPending_ThrowsException() {
+        ConditionalRemittance order = register(TriggerCondition.BELOW, "1350.00");
+        Long id = order.getConditionalRemittanceId();
+        given(conditionalRemittanceRepository.findById(id)).willReturn(Optional.of(order));
+        given(conditionalRemittanceRepository.updateStatus(id, ConditionalRemittanceStatus.PENDING, ConditionalRemittanceStatus.CANCELLED, null))
+                .willReturn(0);
+
+        assertThatThrownBy(() -> conditionalRemittanceService.cancel(USER_ID, id))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.CONDITIONAL_REMITTANCE_NOT_PENDING);
+    }
+
+    @Test
+    @DisplayName("원화로 받는 조건부 송금은 등록할 수 없음")
+    void register_KrwRecipient_ThrowsException() {
+        Recipient krwRecipient = Recipient.of(new RecipientCreateDto(
+                "홍길동", "110-123", "신한은행", "SHBKKRSE", "+82", "01012345678", "KOR", CurrencyCode.KRW
+        ));
+        given(accountRepository.findByAccountNo(account.getAccountNo())).willReturn(Optional.of(account));
+        given(recipientFactory.findOrCreate(any(RecipientCreateDto.class))).willReturn(krwRecipient);
+
+        assertThatThrownBy(() -> conditionalRemittanceService.register(USER_ID, createReq(CurrencyCode.USD, TriggerCondition.BELOW, "1350.00")))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.CURRENCY_NOT_SUPPORTED);
+    }
+
+    private ConditionalRemittance register(TriggerCondition condition, String thresholdRate) {
+        given(accountRepository.findByAccountNo(account.getAccountNo())).willReturn(Optional.of(account));
+        given(recipientFactory.findOrCreate(any(RecipientCreateDto.class))).willReturn(recipient);
+        given(conditionalRemittanceRepository.save(any(ConditionalRemittance.class))).willAnswer(invocation -> {
+            ConditionalRemittance saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "conditionalRemittanceId", sequence.incrementAndGet());
+            return saved;
+        });
+        ArgumentCaptor<ConditionalRemittance> orderCaptor = ArgumentCaptor.forClass(ConditionalRemittance.class);
+
+        conditionalRemittanceService.register(USER_ID, createReq(CurrencyCode.KRW, condition, thresholdRate));
+
+        verify(conditionalRemittanceRepository, atLeastOnce()).save(orderCaptor.capture());
+        return orderCaptor.getValue();
+    }
+
+    private ConditionalRemittanceCreateReq createReq(CurrencyCode sendCurrency, TriggerCondition condition, String thresholdRate) {
+        return ConditionalRemittanceCreateReq.builder()
+                .accountNo(account.getAccountNo())
+                .password("1057")
+                .recipientInfo(OverseasRemittanceRequestDto.RecipientInfo.builder()
+                        .name("John Doe")
+                        .accountNo("123-456")
+                        .bankName("Bank of America")
+                        .bankCode("BOFAUS3N")
+                        .phoneCc("+1")
+                        .phoneNo("1234567890")
+                        .country("USA")
+                        .receiveCurrency(CurrencyCode.USD)
+                        .build())
+                .sendCurrency(sendCurrency)
+                .targetAmount(new BigDecimal("100"))
+                .triggerCondition(condition)
+                .thresholdRate(new BigDecimal(thresholdRate))
+                .build();
+    }
+
+    private ExchangeRateUpdatedEvent rateChangedTo(String usdRate) {
+        ExchangeRateSnapshot current = ExchangeRateSnapshot.of(List.of(
+                ExchangeRateRes.builder()
+                        .currencyUnit("USD")
+                        .baseRate(usdRate)
+                        .currencyName("미국 달러")
+                        .build()
+        ), Instant.now());
+        return new ExchangeRateUpdatedEvent(null, current);
+    }
+}
@@ -0,0 +1,114 @@
+package org.creditto.core_banking.domain.creditscore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRes;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRow;
+import org.creditto.core_banking.domain.creditscore.repository.CreditScoreJdbcRepository;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreIngestService;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CreditScoreIngestServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private CreditScoreJdbcRepository creditScoreJdbcRepository;
+
+    @Mock
+    private CreditScoreService creditScoreService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreditScoreIngestService creditScoreIngestService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        creditScoreIngestService = new CreditScoreIngestService(
+                creditScoreJdbcRepository,
+                creditScoreService,
+                new ObjectMapper(),
+                transactionManager,
+                meterRegistry,
+                BATCH_SIZE
+        );
+    }
+
+    @Test
+    @DisplayName("NDJSON을 묶음 단위로 upsert하고 묶음마다 해당 사용자의 우대 등급 캐시를 무효화")
+    void ingest_UpsertsInChunksAndInvalidatesTiers() {
+        String ndjson = """
+                {"userId":1,"score":910}
+                {"userId":2,"score":720}
+
+                {"userId":3,"score":650}
+                """;
+
+        CreditScoreIngestRes result = creditScoreIngestService.ingest(toStream(ndjson));
+
+        assertThat(result.received()).isEqualTo(3);
+        assertThat(result.upserted()).isEqualTo(3);
+        assertThat(result.rejected()).isZero();
+
+        InOrder inOrder = inOrder(creditScoreJdbcRepository, creditScoreService);
+        inOrder.verify(creditScoreJdbcRepository).upsertAll(List.of(new CreditScoreIngestRow(1L, 910), new CreditScoreIngestRow(2L, 720)));
+        inOrder.verify(creditScoreService).invalidateTiers(List.of(1L, 2L));
+        inOrder.verify(creditScoreJdbcRepository).upsertAll(List.of(new CreditScoreIngestRow(3L, 650)));
+        inOrder.verify(creditScoreService).invalidateTiers(List.of(3L));
+        assertThat(meterRegistry.get("credit.score.ingest.rows").tag("result", "upserted").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("credit.score.ingest.batch").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 범위를 벗어난 줄은 건너뛰고 나머지는 반영")
+    void ingest_SkipsInvalidLines() {
+        String ndjson = """
+                {"userId":1,"score":910}
+                not-a-json
+                {"userId":2,"score":1200}
+                {"score":500}
+                """;
+
+        CreditScoreIngestRes result = creditScoreIngestService.ingest(toStream(ndjson));
+
+        assertThat(result.received()).isEqualTo(4);
+        assertThat(result.upserted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        InOrder inOrder = inOrder(creditScoreJdbcRepository, creditScoreService);
+        inOrder.verify(creditScoreJdbcRepository).upsertAll(List.of(new CreditScoreIngestRow(1L, 910)));
+        inOrder.verify(creditScoreService).invalidateTiers(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("빈 본문은 DB와 캐시에 접근하지 않음")
+    void ingest_EmptyBody() {
+        CreditScoreIngestRes result = creditScoreIngestService.ingest(toStream(""));
+
+        assertThat(result.upserted()).isZero();
+        verifyNoInteractions(creditScoreJdbcRepository, creditScoreService, transactionManager);
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
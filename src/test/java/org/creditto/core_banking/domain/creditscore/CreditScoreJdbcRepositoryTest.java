@@ -0,0 +1,67 @@
+package org.creditto.core_banking.domain.creditscore;
+
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreIngestRow;
+import org.creditto.core_banking.domain.creditscore.repository.CreditScoreJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CreditScoreJdbcRepositoryTest {
+
+    @Autowired
+    private CreditScoreJdbcRepository creditScoreJdbcRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("없는 사용자는 INSERT, 있는 사용자는 점수와 수정 시각만 갱신")
+    void upsertAll_InsertsNewAndUpdatesExisting() throws Exception {
+        // given
+        creditScoreJdbcRepository.upsertAll(List.of(new CreditScoreIngestRow(1L, 650), new CreditScoreIngestRow(2L, 720)));
+        Timestamp createdAt = createdAt(1L);
+        Thread.sleep(5);
+
+        // when
+        creditScoreJdbcRepository.upsertAll(List.of(new CreditScoreIngestRow(1L, 910), new CreditScoreIngestRow(3L, 580)));
+
+        // then
+        assertThat(score(1L)).isEqualTo(910);
+        assertThat(score(2L)).isEqualTo(720);
+        assertThat(score(3L)).isEqualTo(580);
+        assertThat(createdAt(1L)).isEqualTo(createdAt);
+        assertThat(updatedAt(1L)).isAfter(createdAt);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM credit_score", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 배치에 같은 사용자가 여러 번 있으면 마지막 점수로 반영")
+    void upsertAll_DuplicateUserInBatch_KeepsLastScore() {
+        // when
+        creditScoreJdbcRepository.upsertAll(List.of(new CreditScoreIngestRow(4L, 700), new CreditScoreIngestRow(4L, 820)));
+
+        // then
+        assertThat(score(4L)).isEqualTo(820);
+    }
+
+    private Integer score(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT score FROM credit_score WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private Timestamp createdAt(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT created_at FROM credit_score WHERE user_id = ?", Timestamp.class, userId);
+    }
+
+    private Timestamp updatedAt(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM credit_score WHERE user_id = ?", Timestamp.class, userId);
+    }
+}
@@ -0,0 +1,169 @@
+package org.creditto.core_banking.domain.creditscore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.creditto.core_banking.domain.creditscore.dto.CreditScoreRes;
+import org.creditto.core_banking.domain.creditscore.entity.CreditScore;
+import org.creditto.core_banking.domain.creditscore.repository.CreditScoreRepository;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreCacheProperties;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreCacheSync;
+import org.creditto.core_banking.domain.creditscore.service.CreditScoreService;
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTierPolicy;
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTierProperties;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CreditScoreServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private CreditScoreRepository creditScoreRepository;
+
+    @Mock
+    private CreditScoreCacheSync cacheSync;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PreferentialRateTierPolicy tierPolicy;
+    private CreditScoreService creditScoreService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tierPolicy = new PreferentialRateTierPolicy(new PreferentialRateTierProperties(minScores(900, 800, 700, 600)));
+        creditScoreService = new CreditScoreService(
+                creditScoreRepository,
+                tierPolicy,
+                cacheSync,
+                new CreditScoreCacheProperties(false, 1_000L, 600_000L, 3_600_000L, "test:credit-score:"),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("우대 등급은 로컬 캐시에 보관되어 DB를 한 번만 조회")
+    void getPreferentialRateTier_CachedLocally() {
+        given(creditScoreRepository.findByUserId(USER_ID)).willReturn(Optional.of(CreditScore.of(USER_ID, 850)));
+
+        PreferentialRateTier first = creditScoreService.getPreferentialRateTier(USER_ID);
+        PreferentialRateTier second = creditScoreService.getPreferentialRateTier(USER_ID);
+
+        assertThat(first).isEqualTo(PreferentialRateTier.SCORE_800);
+        assertThat(second).isEqualTo(PreferentialRateTier.SCORE_800);
+        verify(creditScoreRepository, times(1)).findByUserId(USER_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "credit-score-tier").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("credit.score.tier.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 미스 시 Redis 캐시에 있으면 DB를 조회하지 않음")
+    void getPreferentialRateTier_RedisHit() {
+        given(cacheSync.loadTier(anyString(), eq(USER_ID))).willReturn(Optional.of(PreferentialRateTier.SCORE_900));
+
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_900);
+        verify(creditScoreRepository, never()).findByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Redis 미스 시 DB 조회 전에 읽은 무효화 세대로만 등급을 저장")
+    void getPreferentialRateTier_RedisMiss_SavesWithGenerationReadBeforeDb() {
+        given(cacheSync.loadGeneration(USER_ID)).willReturn(Optional.of("3"));
+        given(creditScoreRepository.findByUserId(USER_ID)).willReturn(Optional.of(CreditScore.of(USER_ID, 720)));
+
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_700);
+
+        InOrder inOrder = inOrder(cacheSync, creditScoreRepository);
+        inOrder.verify(cacheSync).loadGeneration(USER_ID);
+        inOrder.verify(creditScoreRepository).findByUserId(USER_ID);
+        inOrder.verify(cacheSync).saveTier(tierPolicy.getVersion(), USER_ID, PreferentialRateTier.SCORE_700, "3");
+    }
+
+    @Test
+    @DisplayName("무효화 세대를 읽지 못하면 Redis에 등급을 저장하지 않음")
+    void getPreferentialRateTier_NoGeneration_SkipsRedisSave() {
+        given(creditScoreRepository.findByUserId(USER_ID)).willReturn(Optional.of(CreditScore.of(USER_ID, 720)));
+
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_700);
+        verify(cacheSync, never()).saveTier(anyString(), anyLong(), any(PreferentialRateTier.class), anyString());
+    }
+
+    @Test
+    @DisplayName("신용점수가 없는 사용자는 ETC 등급")
+    void getPreferentialRateTier_NoScore_Etc() {
+        given(creditScoreRepository.findByUserId(USER_ID)).willReturn(Optional.empty());
+
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.ETC);
+    }
+
+    @Test
+    @DisplayName("신용점수 갱신 시 캐시가 무효화되어 다음 조회부터 새 등급 적용")
+    void updateScore_InvalidatesCache() {
+        CreditScore creditScore = CreditScore.of(USER_ID, 650);
+        given(creditScoreRepository.findByUserId(USER_ID)).willReturn(Optional.of(creditScore));
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_600);
+
+        CreditScoreRes result = creditScoreService.updateScore(USER_ID, 910);
+
+        assertThat(result.preferentialRateTier()).isEqualTo(PreferentialRateTier.SCORE_900);
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_900);
+        verify(cacheSync).invalidateTiers(tierPolicy.getVersion(), List.of(USER_ID));
+    }
+
+    @Test
+    @DisplayName("등급 기준 변경 시 재기동 없이 새 기준으로 등급 계산")
+    void updateTierThresholds_AppliesImmediately() {
+        given(creditScoreRepository.findByUserId(USER_ID)).willReturn(Optional.of(CreditScore.of(USER_ID, 850)));
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_800);
+
+        creditScoreService.updateTierThresholds(minScores(850, 750, 650, 550));
+
+        assertThat(creditScoreService.getPreferentialRateTier(USER_ID)).isEqualTo(PreferentialRateTier.SCORE_900);
+        verify(cacheSync).publishThresholds(tierPolicy.getMinScores());
+    }
+
+    @Test
+    @DisplayName("상위 등급의 최소 점수가 하위 등급보다 낮으면 기준 변경 불가")
+    void updateTierThresholds_NotDescending_ThrowsException() {
+        assertThatThrownBy(() -> creditScoreService.updateTierThresholds(minScores(700, 800, 650, 550)))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+        assertThat(tierPolicy.getMinScores().get(PreferentialRateTier.SCORE_900)).isEqualTo(900);
+    }
+
+    private Map<PreferentialRateTier, Integer> minScores(int score900, int score800, int score700, int score600) {
+        Map<PreferentialRateTier, Integer> minScores = new EnumMap<>(PreferentialRateTier.class);
+        minScores.put(PreferentialRateTier.SCORE_900, score900);
+        minScores.put(PreferentialRateTier.SCORE_800, score800);
+        minScores.put(PreferentialRateTier.SCORE_700, score700);
+        minScores.put(PreferentialRateTier.SCORE_600, score600);
+        minScores.put(PreferentialRateTier.ETC, 0);
+        return minScores;
+    }
+}
@@ -0,0 +1,176 @@
+package org.creditto.core_banking.domain.exchange;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.global.feign.ExchangeRateFeign;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버로 환율 API의 지연/빈 응답/잘못된 응답을 재현하여
+ * 타임아웃과 서킷 브레이커가 호출 시간을 제한하는지 검증
+ */
+@SpringBootTest
+class ExchangeRateFeignStubServerTest {
+
+    private static final String RATE_PATH = "/site/program/financial/exchangeJSON";
+    private static final String NORMAL_BODY = """
+            [{"result":1,"cur_unit":"USD","deal_bas_r":"1,300.00","cur_nm":"미국 달러"}]
+            """;
+    // application.yml(test)의 read-timeout(500ms)보다 충분히 긴 지연
+    private static final long SLOW_RESPONSE_MILLIS = 3_000L;
+    private static final long MAX_EXPECTED_LATENCY_MILLIS = 1_500L;
+
+    private static HttpServer stubServer;
+    private static volatile StubMode stubMode = StubMode.NORMAL;
+    private static final AtomicInteger requestCount = new AtomicInteger();
+
+    @Autowired
+    private ExchangeRateFeign exchangeRateFeign;
+
+    @Autowired
+    private Resilience4JCircuitBreakerFactory circuitBreakerFactory;
+
+    private enum StubMode { NORMAL, SLOW, EMPTY, MALFORMED, SERVER_ERROR }
+
+    @DynamicPropertySource
+    static void stubServerProperties(DynamicPropertyRegistry registry) throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext(RATE_PATH, ExchangeRateFeignStubServerTest::handle);
+        stubServer.start();
+        registry.add("exchange.api.url", () -> "http://localhost:" + stubServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        stubMode = StubMode.NORMAL;
+        requestCount.set(0);
+        circuitBreakerFactory.getCircuitBreakerRegistry().getAllCircuitBreakers().forEach(CircuitBreaker::reset);
+    }
+
+    @Test
+    @DisplayName("정상 응답은 환율 목록으로 변환")
+    void getExchangeRate_Normal() {
+        List<ExchangeRateRes> rates = exchangeRateFeign.getExchangeRate("test-key", "20251017", "AP01");
+
+        assertThat(rates).hasSize(1);
+        assertThat(rates.get(0).getCurrencyUnit()).isEqualTo("USD");
+        assertThat(rates.get(0).getBaseRate()).isEqualTo("1,300.00");
+    }
+
+    @Test
+    @DisplayName("응답 지연 시 read-timeout 내에 실패하여 호출 스레드가 묶이지 않음")
+    void getExchangeRate_SlowResponse_BoundedLatency() {
+        stubMode = StubMode.SLOW;
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> exchangeRateFeign.getExchangeRate("test-key", "20251017", "AP01"))
+                .isInstanceOf(RuntimeException.class);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(MAX_EXPECTED_LATENCY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("빈 응답은 예외 없이 빈 목록으로 반환 (전 영업일 재조회는 Provider가 담당)")
+    void getExchangeRate_EmptyResponse() {
+        stubMode = StubMode.EMPTY;
+
+        assertThat(exchangeRateFeign.getExchangeRate("test-key", "20251018", "AP01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 응답은 재시도 없이 즉시 실패")
+    void getExchangeRate_MalformedResponse_FailsWithoutRetry() {
+        stubMode = StubMode.MALFORMED;
+
+        assertThatThrownBy(() -> exchangeRateFeign.getExchangeRate("test-key", "20251017", "AP01"))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패 시 서킷이 열려 외부 호출 없이 즉시 실패")
+    void getExchangeRate_RepeatedFailures_OpensCircuit() {
+        stubMode = StubMode.SERVER_ERROR;
+
+        // 최소 호출 수(test: 4)만큼 실패시켜 서킷을 연다
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> exchangeRateFeign.getExchangeRate("test-key", "20251017", "AP01"))
+                    .isInstanceOf(RuntimeException.class);
+        }
+        int requestsBeforeOpen = requestCount.get();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> exchangeRateFeign.getExchangeRate("test-key", "20251017", "AP01"))
+                .hasRootCauseInstanceOf(CallNotPermittedException.class);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(requestCount.get()).isEqualTo(requestsBeforeOpen);
+        assertThat(elapsedMillis).isLessThan(MAX_EXPECTED_LATENCY_MILLIS);
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            switch (stubMode) {
+                case NORMAL -> respond(exchange, 200, NORMAL_BODY);
+                case SLOW -> {
+                    sleep(SLOW_RESPONSE_MILLIS);
+                    respond(exchange, 200, NORMAL_BODY);
+                }
+                case EMPTY -> respond(exchange, 200, "[]");
+                case MALFORMED -> respond(exchange, 200, "<html>점검 중</html>");
+                case SERVER_ERROR -> respond(exchange, 503, "");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.creditto.core_banking.domain.exchange;
+
+import org.creditto.core_banking.domain.exchange.repository.ExchangeRateHistoryRepository;
+import org.creditto.core_banking.domain.exchange.repository.RateSeries;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateHistoryProperties;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExchangeRateHistoryRepositoryTest {
+
+    private static final Instant BASE_TIME = Instant.ofEpochMilli(1_760_000_000_000L);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 값부터 덮어써서 메모리 사용량이 일정")
+    void appendAll_OverCapacity_KeepsLatestValues() {
+        ExchangeRateHistoryRepository repository = createRepository(3, "");
+
+        for (int i = 0; i < 5; i++) {
+            repository.appendAll(BASE_TIME.plusSeconds(i), Map.of(CurrencyCode.USD, new BigDecimal("1300.0" + i)));
+        }
+
+        RateSeries series = repository.findRange(CurrencyCode.USD, BASE_TIME, BASE_TIME.plusSeconds(10));
+        assertThat(series.size()).isEqualTo(3);
+        assertThat(series.times()).containsExactly(
+                BASE_TIME.plusSeconds(2).toEpochMilli(),
+                BASE_TIME.plusSeconds(3).toEpochMilli(),
+                BASE_TIME.plusSeconds(4).toEpochMilli());
+        assertThat(ExchangeRateHistoryRepository.fromScaled(series.scaledRates()[2])).isEqualByComparingTo("1300.04");
+    }
+
+    @Test
+    @DisplayName("구간 조회는 시작/종료 시각을 포함하고 이전 시각의 값은 기록하지 않음")
+    void findRange_InclusiveBounds() {
+        ExchangeRateHistoryRepository repository = createRepository(10, "");
+        repository.appendAll(BASE_TIME, Map.of(CurrencyCode.JPY, new BigDecimal("905.12")));
+        repository.appendAll(BASE_TIME.plusSeconds(60), Map.of(CurrencyCode.JPY, new BigDecimal("906.00")));
+        repository.appendAll(BASE_TIME.plusSeconds(30), Map.of(CurrencyCode.JPY, new BigDecimal("999.99")));
+
+        RateSeries series = repository.findRange(CurrencyCode.JPY, BASE_TIME, BASE_TIME.plusSeconds(60));
+
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(repository.findRange(CurrencyCode.JPY, BASE_TIME.plusSeconds(1), BASE_TIME.plusSeconds(59)).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재기동 시 파일을 재생하여 이력을 복구하고 잘린 마지막 레코드는 버림")
+    void load_ReplaysFileAndIgnoresTruncatedRecord() throws IOException {
+        Path historyFile = tempDir.resolve("history.bin");
+        ExchangeRateHistoryRepository first = createRepository(10, historyFile.toString());
+        first.load();
+        first.appendAll(BASE_TIME, Map.of(CurrencyCode.USD, new BigDecimal("1300.50"), CurrencyCode.JPY, new BigDecimal("905.12")));
+        first.appendAll(BASE_TIME.plusSeconds(300), Map.of(CurrencyCode.USD, new BigDecimal("1301.00")));
+        first.close();
+
+        // 비정상 종료로 일부만 기록된 레코드
+        Files.write(historyFile, new byte[]{'U', 'S', 'D', 0, 0}, StandardOpenOption.APPEND);
+
+        ExchangeRateHistoryRepository restarted = createRepository(10, historyFile.toString());
+        restarted.load();
+
+        RateSeries usd = restarted.findRange(CurrencyCode.USD, BASE_TIME, BASE_TIME.plusSeconds(300));
+        assertThat(usd.size()).isEqualTo(2);
+        assertThat(ExchangeRateHistoryRepository.fromScaled(usd.scaledRates()[1])).isEqualByComparingTo("1301.00");
+        assertThat(restarted.findRange(CurrencyCode.JPY, BASE_TIME, BASE_TIME).size()).isEqualTo(1);
+        // 재기동 시 버퍼에 남은 값만으로 다시 써서 잘린 레코드가 제거됨 (레코드 3개 * 19 bytes)
+        assertThat(Files.size(historyFile)).isEqualTo(3 * 19);
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("통화별 용량이 1 미만이면 설정 생성 시 예외 발생")
+    void properties_NonPositiveCapacity_ThrowsException() {
+        assertThatThrownBy(() -> new ExchangeRateHistoryProperties(0, ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExchangeRateHistoryProperties(-1, ""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ExchangeRateHistoryRepository createRepository(int capacity, String file) {
+        return new ExchangeRateHistoryRepository(new ExchangeRateHistoryProperties(capacity, file));
+    }
+}
@@ -0,0 +1,89 @@
+package org.creditto.core_banking.domain.exchange;
+
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateHistoryRes;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.domain.exchange.repository.ExchangeRateHistoryRepository;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateHistoryProperties;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateHistoryService;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExchangeRateHistoryServiceTest {
+
+    private static final Instant BASE_TIME = Instant.ofEpochMilli(1_760_000_000_000L);
+
+    private ExchangeRateHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        ExchangeRateHistoryRepository repository = new ExchangeRateHistoryRepository(new ExchangeRateHistoryProperties(100, ""));
+        historyService = new ExchangeRateHistoryService(repository);
+    }
+
+    @Test
+    @DisplayName("환율 갱신 이벤트의 변경된 통화만 이력에 기록")
+    void onExchangeRateUpdated_RecordsChangedCurrencies() {
+        ExchangeRateSnapshot first = snapshot(BASE_TIME, "1300.00", "900.00");
+        ExchangeRateSnapshot second = snapshot(BASE_TIME.plusSeconds(300), "1300.00", "905.00");
+
+        historyService.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(null, first));
+        historyService.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(first, second));
+
+        assertThat(historyService.getHistory(CurrencyCode.USD, BASE_TIME, BASE_TIME.plusSeconds(600), 10).points()).hasSize(1);
+        assertThat(historyService.getHistory(CurrencyCode.JPY, BASE_TIME, BASE_TIME.plusSeconds(600), 10).points())
+                .extracting(ExchangeRateHistoryRes.RatePoint::baseRate)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("900.00"), new BigDecimal("905.00"));
+    }
+
+    @Test
+    @DisplayName("최대 지점 수를 넘으면 구간별 마지막 값과 최저/최고값으로 묶어서 반환")
+    void getHistory_Downsampled() {
+        // 1분 간격 10개 값: 1300, 1301, ..., 1309
+        ExchangeRateSnapshot previous = null;
+        for (int i = 0; i < 10; i++) {
+            ExchangeRateSnapshot current = snapshot(BASE_TIME.plusSeconds(60L * i), String.valueOf(1300 + i), "900.00");
+            historyService.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(previous, current));
+            previous = current;
+        }
+
+        ExchangeRateHistoryRes history = historyService.getHistory(CurrencyCode.USD, BASE_TIME, BASE_TIME.plusSeconds(600), 5);
+
+        assertThat(history.points()).hasSizeLessThanOrEqualTo(5);
+        ExchangeRateHistoryRes.RatePoint firstBucket = history.points().get(0);
+        assertThat(firstBucket.low()).isEqualByComparingTo("1300");
+        assertThat(firstBucket.high()).isEqualByComparingTo(firstBucket.baseRate());
+        ExchangeRateHistoryRes.RatePoint lastBucket = history.points().get(history.points().size() - 1);
+        assertThat(lastBucket.baseRate()).isEqualByComparingTo("1309");
+        assertThat(lastBucket.time()).isEqualTo(BASE_TIME.plusSeconds(540));
+    }
+
+    @Test
+    @DisplayName("조회 시작 시각이 종료 시각보다 늦으면 실패")
+    void getHistory_InvalidRange_Fail() {
+        assertThatThrownBy(() -> historyService.getHistory(CurrencyCode.USD, BASE_TIME.plusSeconds(1), BASE_TIME, 10))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+    }
+
+    private ExchangeRateSnapshot snapshot(Instant fetchedAt, String usdRate, String jpyRate) {
+        return ExchangeRateSnapshot.of(List.of(
+                ExchangeRateRes.builder().result(1).currencyUnit("USD").baseRate(usdRate).currencyName("미국 달러").build(),
+                ExchangeRateRes.builder().result(1).currencyUnit("JPY(100)").baseRate(jpyRate).currencyName("일본 옌").build()
+        ), fetchedAt);
+    }
+}
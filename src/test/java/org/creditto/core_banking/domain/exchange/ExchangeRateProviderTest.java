@@ -1,24 +1,56 @@
 package org.creditto.core_banking.domain.exchange;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateCacheProperties;
+import org.creditto.core_banking.global.feign.ExchangeRateClusterSync;
 import org.creditto.core_banking.global.feign.ExchangeRateFeign;
 import org.creditto.core_banking.global.feign.ExchangeRateProvider;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshotStore;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.creditto.core_banking.global.feign.RateEntry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ExchangeRateProviderTest {
@@ -26,13 +58,28 @@ class ExchangeRateProviderTest {
     @Mock
     private ExchangeRateFeign exchangeRateFeign;
 
-    @InjectMocks
+    @Mock
+    private ExchangeRateSnapshotStore snapshotStore;
+
+    @Mock
+    private ExchangeRateClusterSync clusterSync;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private ExchangeRateProvider exchangeRateProvider;
 
     @BeforeEach
     void setUp() {
-        // wire test auth key since @Value won't run without Spring context
-        ReflectionTestUtils.setField(exchangeRateProvider, "authkey", "test-key");
+        meterRegistry = new SimpleMeterRegistry();
+        exchangeRateProvider = createProvider();
+    }
+
+    @AfterEach
+    void tearDown() {
+        exchangeRateProvider.shutdown();
     }
 
     @Test
@@ -64,4 +111,391 @@ class ExchangeRateProviderTest {
         assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
         assertThat(rates.get("EUR").getCurrencyName()).isEqualTo("유로");
     }
+
+    @Test
+    @DisplayName("환율 테이블은 지원 통화만 미리 파싱하여 보관")
+    void getRateTable_PreParsedEntries() {
+        List<ExchangeRateRes> mockedRates = List.of(
+                ExchangeRateRes.builder()
+                        .currencyUnit("USD")
+                        .baseRate("1,300.50")
+                        .currencyName("미국 달러")
+                        .build(),
+                ExchangeRateRes.builder()
+                        .currencyUnit("JPY(100)")
+                        .baseRate("905.12")
+                        .currencyName("일본 옌")
+                        .build(),
+                ExchangeRateRes.builder()
+                        .currencyUnit("CNH")
+                        .baseRate("190.11")
+                        .currencyName("위안화")
+                        .build()
+        );
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(mockedRates);
+
+        Map<CurrencyCode, RateEntry> rateTable = exchangeRateProvider.getRateTable();
+
+        assertThat(rateTable).containsOnlyKeys(CurrencyCode.USD, CurrencyCode.JPY);
+        assertThat(rateTable.get(CurrencyCode.USD).baseRate()).isEqualByComparingTo(new BigDecimal("1300.50"));
+        assertThat(rateTable.get(CurrencyCode.JPY).baseRate()).isEqualByComparingTo(new BigDecimal("905.12"));
+        assertThat(rateTable.get(CurrencyCode.JPY).unitRate()).isEqualByComparingTo(new BigDecimal("9.0512"));
+    }
+
+    @Test
+    @DisplayName("유효한 스냅샷이 있으면 외부 API를 다시 호출하지 않음")
+    void getExchangeRates_CachedSnapshot_NoAdditionalCall() {
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        exchangeRateProvider.getExchangeRates();
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+        verify(exchangeRateFeign, times(1)).getExchangeRate(anyString(), anyString(), eq("AP01"));
+        assertThat(meterRegistry.get("exchange.rate.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("exchange.rate.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시에 발생한 캐시 미스는 하나의 외부 API 호출로 합쳐짐")
+    void getExchangeRates_ConcurrentMiss_Coalesced() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willAnswer(invocation -> {
+                    fetchStarted.countDown();
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                    return usdRates("1300.00");
+                });
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Map<String, ExchangeRateRes>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(exchangeRateProvider::getExchangeRates));
+            }
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            for (Future<Map<String, ExchangeRateRes>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsKey("USD");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(exchangeRateFeign, times(1)).getExchangeRate(anyString(), anyString(), eq("AP01"));
+    }
+
+    @Test
+    @DisplayName("외부 API 호출 결과별 응답 시간 기록")
+    void getExchangeRates_RecordsApiCallMetrics() {
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(List.of())
+                .willReturn(usdRates("1300.00"));
+
+        exchangeRateProvider.getExchangeRates();
+
+        // 당일 빈 응답 1회 + 전 영업일 재조회 성공 1회
+        assertThat(meterRegistry.get("exchange.rate.api").tag("outcome", "empty").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("exchange.rate.api").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("exchange.rate.api").tag("outcome", "error").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신 실패 시 기존 스냅샷 유지")
+    void refresh_Failure_KeepsPreviousSnapshot() {
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+        exchangeRateProvider.getExchangeRates();
+
+        willThrow(new IllegalStateException("timeout"))
+                .given(exchangeRateFeign).getExchangeRate(anyString(), anyString(), eq("AP01"));
+        exchangeRateProvider.refresh();
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+        assertThat(meterRegistry.get("exchange.rate.refresh.failure").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기동 시 저장된 스냅샷을 복구하여 외부 API 호출 없이 사용")
+    void loadPersistedSnapshot_ServesRestoredSnapshot() {
+        ExchangeRateSnapshot persisted = ExchangeRateSnapshot.of(usdRates("1290.00"), Instant.now());
+        given(snapshotStore.loadLatest()).willReturn(Optional.of(persisted));
+
+        exchangeRateProvider.loadPersistedSnapshot();
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1290.00");
+        verifyNoInteractions(exchangeRateFeign);
+    }
+
+    @Test
+    @DisplayName("유효시간이 지난 스냅샷은 외부 API로 다시 조회하여 새 환율을 반환")
+    void getExchangeRates_StaleSnapshot_RevalidatedFromUpstream() {
+        restoreStaleSnapshot("1290.00");
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+        assertThat(meterRegistry.get("exchange.rate.cache").tag("result", "stale").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("유효시간이 지난 스냅샷은 외부 API 조회가 실패할 때만 허용 기간 이내의 기존 스냅샷으로 대체")
+    void getExchangeRates_StaleSnapshot_UpstreamFails_ServesStale() {
+        restoreStaleSnapshot("1290.00");
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willThrow(new IllegalStateException("timeout"));
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1290.00");
+        assertThat(meterRegistry.get("exchange.rate.cache").tag("result", "stale").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재조회가 제한 시간 안에 끝나지 않으면 기존 스냅샷을 반환하고, 조회가 끝나면 이후 요청부터 새 환율 사용")
+    void getExchangeRates_StaleSnapshot_SlowUpstream_ServesStaleThenRefreshed() throws Exception {
+        restoreStaleSnapshot("1290.00");
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willAnswer(invocation -> {
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                    return usdRates("1300.00");
+                });
+
+        try {
+            assertThat(exchangeRateProvider.getExchangeRates().get("USD").getBaseRate()).isEqualTo("1290.00");
+            // 재조회가 진행 중인 동안의 요청은 같은 재조회를 기다림
+            assertThat(exchangeRateProvider.getExchangeRates().get("USD").getBaseRate()).isEqualTo("1290.00");
+        } finally {
+            releaseFetch.countDown();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"1300.00".equals(exchangeRateProvider.getExchangeRates().get("USD").getBaseRate())
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(exchangeRateProvider.getExchangeRates().get("USD").getBaseRate()).isEqualTo("1300.00");
+        verify(exchangeRateFeign, times(1)).getExchangeRate(anyString(), anyString(), eq("AP01"));
+    }
+
+    @Test
+    @DisplayName("허용 기간을 넘긴 저장 스냅샷은 복구하지 않고 외부 API로 조회")
+    void loadPersistedSnapshot_TooOld_FetchesFromUpstream() {
+        ExchangeRateSnapshot persisted = ExchangeRateSnapshot.of(
+                usdRates("1290.00"),
+                Instant.now().minus(Duration.ofHours(2))
+        );
+        given(snapshotStore.loadLatest()).willReturn(Optional.of(persisted));
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        exchangeRateProvider.loadPersistedSnapshot();
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+        verify(snapshotStore, timeout(1000)).save(any(ExchangeRateSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("클러스터 모드: 다른 노드가 이번 주기에 공유한 스냅샷이 있으면 외부 API를 호출하지 않음")
+    void refresh_Cluster_AdoptsSharedSnapshot() {
+        ExchangeRateSnapshot shared = ExchangeRateSnapshot.of(usdRates("1390.00"), Instant.now());
+        given(clusterSync.isEnabled()).willReturn(true);
+        given(clusterSync.loadShared()).willReturn(Optional.of(shared));
+
+        exchangeRateProvider.refresh();
+
+        assertThat(exchangeRateProvider.getExchangeRates().get("USD").getBaseRate()).isEqualTo("1390.00");
+        verifyNoInteractions(exchangeRateFeign);
+        verify(clusterSync, never()).tryAcquireRefreshLock();
+    }
+
+    @Test
+    @DisplayName("클러스터 모드: 갱신 락을 얻지 못한 노드는 외부 API를 호출하지 않음")
+    void refresh_Cluster_LockNotAcquired_SkipsUpstream() {
+        given(clusterSync.isEnabled()).willReturn(true);
+        given(clusterSync.tryAcquireRefreshLock()).willReturn(false);
+
+        exchangeRateProvider.refresh();
+
+        verifyNoInteractions(exchangeRateFeign);
+        verify(clusterSync, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("클러스터 모드: 갱신 락을 얻은 노드가 조회 후 스냅샷을 공유하고 락을 해제")
+    void refresh_Cluster_LeaderFetchesAndPublishes() {
+        given(clusterSync.isEnabled()).willReturn(true);
+        given(clusterSync.tryAcquireRefreshLock()).willReturn(true);
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        exchangeRateProvider.refresh();
+
+        verify(exchangeRateFeign, times(1)).getExchangeRate(anyString(), anyString(), eq("AP01"));
+        verify(clusterSync).releaseRefreshLock();
+        verify(clusterSync, timeout(1000)).publish(any(ExchangeRateSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 갱신 알림으로 받은 스냅샷은 더 최신인 경우에만 반영")
+    void loadPersistedSnapshot_SubscribesAndAdoptsNewerSnapshot() {
+        given(snapshotStore.loadLatest()).willReturn(Optional.empty());
+        ArgumentCaptor<Consumer<ExchangeRateSnapshot>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+
+        exchangeRateProvider.loadPersistedSnapshot();
+        verify(clusterSync).subscribe(listenerCaptor.capture());
+
+        Instant now = Instant.now();
+        listenerCaptor.getValue().accept(ExchangeRateSnapshot.of(usdRates("1310.00"), now));
+        listenerCaptor.getValue().accept(ExchangeRateSnapshot.of(usdRates("1290.00"), now.minusSeconds(60)));
+
+        assertThat(exchangeRateProvider.getExchangeRates().get("USD").getBaseRate()).isEqualTo("1310.00");
+        verifyNoInteractions(exchangeRateFeign);
+    }
+
+    @Test
+    @DisplayName("갱신 이벤트 리스너나 저장이 실패해도 조회는 새 스냅샷으로 성공하고 이후 작업은 계속 수행")
+    void getExchangeRates_ListenerAndStoreFailures_DoNotFailFetch() {
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+        willThrow(new IllegalStateException("listener failure")).given(eventPublisher).publishEvent(any(ExchangeRateUpdatedEvent.class));
+        willThrow(new IllegalStateException("store failure")).given(snapshotStore).save(any(ExchangeRateSnapshot.class));
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+        verify(snapshotStore, timeout(1000)).save(any(ExchangeRateSnapshot.class));
+        verify(clusterSync, timeout(1000)).publish(any(ExchangeRateSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("환율이 바뀐 경우에만 갱신 이벤트 발행")
+    void refresh_PublishesEventOnlyWhenRatesChange() {
+        given(exchangeRateFeign.getExchangeRate(anyString(), anyString(), eq("AP01")))
+                .willReturn(usdRates("1300.00"))
+                .willReturn(usdRates("1300.00"))
+                .willReturn(usdRates("1310.00"));
+
+        exchangeRateProvider.refresh();
+        exchangeRateProvider.refresh();
+        exchangeRateProvider.refresh();
+
+        ArgumentCaptor<ExchangeRateUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(ExchangeRateUpdatedEvent.class);
+        verify(eventPublisher, timeout(1000).times(2)).publishEvent(eventCaptor.capture());
+        ExchangeRateUpdatedEvent lastEvent = eventCaptor.getAllValues().get(1);
+        assertThat(lastEvent.changedRates()).containsOnlyKeys(CurrencyCode.USD);
+        assertThat(lastEvent.changedRates().get(CurrencyCode.USD).baseRate()).isEqualByComparingTo("1310.00");
+    }
+
+    @Test
+    @DisplayName("동시 조회: 당일 환율이 유효하면 당일 환율을 사용")
+    void getExchangeRates_Hedged_TodayWins() {
+        ReflectionTestUtils.setField(exchangeRateProvider, "hedgedFetch", true);
+        given(exchangeRateFeign.getExchangeRate(anyString(), eq("20251015"), eq("AP01")))
+                .willReturn(usdRates("1310.00"));
+        // 당일 환율이 먼저 확정되면 전 영업일 조회는 취소되어 호출되지 않을 수 있음
+        lenient().when(exchangeRateFeign.getExchangeRate(anyString(), eq("20251014"), eq("AP01")))
+                .thenReturn(usdRates("1300.00"));
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1310.00");
+        assertThat(meterRegistry.get("exchange.rate.fetch.winner").tag("path", "today").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("exchange.rate.fetch.winner").tag("path", "previous_business_day").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 조회: 당일 환율이 비어 있으면(공휴일) 재조회 없이 전 영업일 환율을 사용")
+    void getExchangeRates_Hedged_FallsBackToPreviousBusinessDay() {
+        ReflectionTestUtils.setField(exchangeRateProvider, "hedgedFetch", true);
+        given(exchangeRateFeign.getExchangeRate(anyString(), eq("20251015"), eq("AP01")))
+                .willReturn(List.of());
+        given(exchangeRateFeign.getExchangeRate(anyString(), eq("20251014"), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+        verify(exchangeRateFeign, times(2)).getExchangeRate(anyString(), anyString(), eq("AP01"));
+        assertThat(meterRegistry.get("exchange.rate.fetch.winner").tag("path", "previous_business_day").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 조회: 당일 조회가 실패해도 전 영업일 환율을 사용")
+    void getExchangeRates_Hedged_TodayFails_UsesPreviousBusinessDay() {
+        ReflectionTestUtils.setField(exchangeRateProvider, "hedgedFetch", true);
+        given(exchangeRateFeign.getExchangeRate(anyString(), eq("20251015"), eq("AP01")))
+                .willThrow(new RuntimeException("timeout"));
+        given(exchangeRateFeign.getExchangeRate(anyString(), eq("20251014"), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        Map<String, ExchangeRateRes> rates = exchangeRateProvider.getExchangeRates();
+
+        assertThat(rates.get("USD").getBaseRate()).isEqualTo("1300.00");
+    }
+
+    @Test
+    @DisplayName("주말에는 당일 환율을 조회하지 않고 전 영업일(금요일)만 조회")
+    void getExchangeRates_Weekend_QueriesPreviousBusinessDayOnly() {
+        ReflectionTestUtils.setField(exchangeRateProvider, "hedgedFetch", true);
+        ReflectionTestUtils.setField(exchangeRateProvider, "clock", fixedClock("2025-10-18T10:00:00+09:00"));
+        given(exchangeRateFeign.getExchangeRate(anyString(), eq("20251017"), eq("AP01")))
+                .willReturn(usdRates("1300.00"));
+
+        exchangeRateProvider.getExchangeRates();
+
+        verify(exchangeRateFeign, times(1)).getExchangeRate(anyString(), anyString(), eq("AP01"));
+        verify(exchangeRateFeign, never()).getExchangeRate(anyString(), eq("20251018"), eq("AP01"));
+    }
+
+    private ExchangeRateProvider createProvider() {
+        ExchangeRateProvider provider = new ExchangeRateProvider(
+                exchangeRateFeign,
+                new ExchangeRateCacheProperties(600_000L, 300_000L, 0L, 3_600_000L, "", 200L),
+                snapshotStore,
+                clusterSync,
+                eventPublisher,
+                meterRegistry
+        );
+        // wire test auth key since @Value won't run without Spring context
+        ReflectionTestUtils.setField(provider, "authkey", "test-key");
+        // 영업일 판단이 실행 요일에 좌우되지 않도록 평일(수요일)로 고정
+        ReflectionTestUtils.setField(provider, "clock", fixedClock("2025-10-15T10:00:00+09:00"));
+        return provider;
+    }
+
+    private void restoreStaleSnapshot(String usdRate) {
+        ExchangeRateSnapshot persisted = ExchangeRateSnapshot.of(
+                usdRates(usdRate),
+                Instant.now().minus(Duration.ofMinutes(20))
+        );
+        given(snapshotStore.loadLatest()).willReturn(Optional.of(persisted));
+        exchangeRateProvider.loadPersistedSnapshot();
+    }
+
+    private Clock fixedClock(String dateTime) {
+        return Clock.fixed(OffsetDateTime.parse(dateTime).toInstant(), ZoneId.of("Asia/Seoul"));
+    }
+
+    private List<ExchangeRateRes> usdRates(String baseRate) {
+        return List.of(
+                ExchangeRateRes.builder()
+                        .currencyUnit("USD")
+                        .baseRate(baseRate)
+                        .currencyName("미국 달러")
+                        .build()
+        );
+    }
 }
@@ -0,0 +1,105 @@
+package org.creditto.core_banking.domain.exchange;
+
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.domain.exchange.entity.RateSnapshot;
+import org.creditto.core_banking.domain.exchange.repository.RateSnapshotRepository;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateCacheProperties;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateSnapshotStoreTest {
+
+    @Mock
+    private RateSnapshotRepository rateSnapshotRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private ExchangeRateSnapshotStore snapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        ExchangeRateCacheProperties properties = new ExchangeRateCacheProperties(
+                600_000L, 300_000L, 0L, 3_600_000L, tempDir.resolve("snapshot.dat").toString(), 500L
+        );
+        snapshotStore = new ExchangeRateSnapshotStore(rateSnapshotRepository, properties);
+    }
+
+    @Test
+    @DisplayName("DB에 저장본이 없으면 로컬 파일의 스냅샷을 복구")
+    void loadLatest_FallsBackToFile() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_760_000_000_000L);
+        given(rateSnapshotRepository.save(any(RateSnapshot.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(rateSnapshotRepository.findTopByOrderByIdDesc()).willReturn(Optional.empty());
+
+        snapshotStore.save(ExchangeRateSnapshot.of(sampleRates(), fetchedAt));
+        Optional<ExchangeRateSnapshot> loaded = snapshotStore.loadLatest();
+
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get().fetchedAt()).isEqualTo(fetchedAt);
+        assertThat(loaded.get().rates()).containsOnlyKeys("USD", "JPY(100)");
+        assertThat(loaded.get().rates().get("USD").getCurrencyName()).isEqualTo("미국 달러");
+        assertThat(loaded.get().rateTable().get(CurrencyCode.JPY).unitRate())
+                .isEqualByComparingTo(new BigDecimal("9.0512"));
+    }
+
+    @Test
+    @DisplayName("DB 장애 시에도 예외 없이 로컬 파일에는 저장")
+    void save_DatabaseFailure_StillWritesFile() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_760_000_000_000L);
+        given(rateSnapshotRepository.save(any(RateSnapshot.class))).willThrow(new IllegalStateException("db down"));
+        given(rateSnapshotRepository.findTopByOrderByIdDesc()).willThrow(new IllegalStateException("db down"));
+
+        snapshotStore.save(ExchangeRateSnapshot.of(sampleRates(), fetchedAt));
+
+        assertThat(snapshotStore.loadLatest())
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.fetchedAt()).isEqualTo(fetchedAt));
+    }
+
+    @Test
+    @DisplayName("환율이 바뀌지 않았으면 DB에 새 버전을 만들지 않음")
+    void save_SamePayload_PersistedOnce() {
+        given(rateSnapshotRepository.save(any(RateSnapshot.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        snapshotStore.save(ExchangeRateSnapshot.of(sampleRates(), Instant.now()));
+        snapshotStore.save(ExchangeRateSnapshot.of(sampleRates(), Instant.now()));
+
+        verify(rateSnapshotRepository, times(1)).save(any(RateSnapshot.class));
+    }
+
+    private List<ExchangeRateRes> sampleRates() {
+        return List.of(
+                ExchangeRateRes.builder()
+                        .currencyUnit("USD")
+                        .baseRate("1,300.50")
+                        .currencyName("미국 달러")
+                        .build(),
+                ExchangeRateRes.builder()
+                        .currencyUnit("JPY(100)")
+                        .baseRate("905.12")
+                        .currencyName("일본 옌")
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package org.creditto.core_banking.domain.exchange;
+
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateDiffRes;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
+import org.creditto.core_banking.domain.exchange.dto.SingleExchangeRateRes;
+import org.creditto.core_banking.domain.exchange.service.ExchangeRateStreamService;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.feign.ExchangeRateProvider;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.ExchangeRateUpdatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateStreamServiceTest {
+
+    // 구독자별 전송 큐 크기보다 많은 변경 횟수
+    private static final int UPDATE_COUNT = 20;
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    private ExchangeRateStreamService streamService;
+
+    private ExchangeRateSnapshot previous;
+    private ExchangeRateSnapshot current;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new ExchangeRateStreamService(exchangeRateProvider);
+
+        Instant fetchedAt = Instant.now();
+        previous = ExchangeRateSnapshot.of(List.of(rate("USD", "1300.00"), rate("JPY(100)", "900.00")), fetchedAt.minusSeconds(300));
+        // USD는 그대로, JPY만 변경
+        current = ExchangeRateSnapshot.of(List.of(rate("USD", "1300.00"), rate("JPY(100)", "905.00")), fetchedAt);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 직후 관심 통화의 현재 환율을 전송")
+    void subscribe_SendsInitialSnapshot() throws Exception {
+        given(exchangeRateProvider.getSnapshot()).willReturn(previous);
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            SseEmitter emitter = streamService.subscribe(Set.of(CurrencyCode.USD));
+
+            ExchangeRateDiffRes sent = captureSent(emitter, 1).get(0);
+            assertThat(sent.rates()).extracting(SingleExchangeRateRes::getCurrencyCode).containsExactly("USD");
+            assertThat(streamService.getSubscriberCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("환율 변경 시 변경된 통화를 구독한 구독자에게만 변경분 전송")
+    void onExchangeRateUpdated_SendsOnlyChangedCurrencies() throws Exception {
+        given(exchangeRateProvider.getSnapshot()).willReturn(previous);
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            SseEmitter usdSubscriber = streamService.subscribe(Set.of(CurrencyCode.USD));
+            SseEmitter allSubscriber = streamService.subscribe(Set.of());
+
+            streamService.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(previous, current));
+
+            // 전체 구독자: 최초 스냅샷 + JPY 변경분
+            verify(allSubscriber, timeout(1000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+            ExchangeRateDiffRes diff = captureSent(allSubscriber, 2).get(1);
+            assertThat(diff.rates()).extracting(SingleExchangeRateRes::getCurrencyCode).containsExactly("JPY(100)");
+            assertThat(diff.fetchedAt()).isEqualTo(current.fetchedAt());
+
+            // USD 구독자: USD는 바뀌지 않았으므로 최초 스냅샷만
+            verify(usdSubscriber, after(200).times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        }
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 큐가 가득 찬 구독자만 연결을 종료하고 다른 구독자에게는 계속 전송")
+    void onExchangeRateUpdated_SlowSubscriber_ClosedWithoutBlockingOthers() throws Exception {
+        given(exchangeRateProvider.getSnapshot()).willReturn(previous);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 처음 만든 구독자는 전송이 응답하지 않는 느린 구독자
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class, (mock, context) -> {
+            if (context.getCount() == 1) {
+                willAnswer(invocation -> release.await()).given(mock).send(any(SseEmitter.SseEventBuilder.class));
+            }
+        })) {
+            SseEmitter slowSubscriber = streamService.subscribe(Set.of());
+            SseEmitter fastSubscriber = streamService.subscribe(Set.of());
+            verify(slowSubscriber, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+
+            for (int i = 0; i < UPDATE_COUNT; i++) {
+                streamService.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(previous, current));
+            }
+
+            // 빠른 구독자: 최초 스냅샷 + 모든 변경분
+            verify(fastSubscriber, timeout(1000).times(UPDATE_COUNT + 1)).send(any(SseEmitter.SseEventBuilder.class));
+            verify(slowSubscriber, timeout(1000)).complete();
+            assertThat(streamService.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private List<ExchangeRateDiffRes> captureSent(SseEmitter emitter, int expectedCount) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> eventCaptor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, timeout(1000).times(expectedCount)).send(eventCaptor.capture());
+        return eventCaptor.getAllValues().stream()
+                .flatMap(event -> event.build().stream())
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(ExchangeRateDiffRes.class::isInstance)
+                .map(ExchangeRateDiffRes.class::cast)
+                .toList();
+    }
+
+    private ExchangeRateRes rate(String currencyUnit, String baseRate) {
+        return ExchangeRateRes.builder()
+                .result(1)
+                .currencyUnit(currencyUnit)
+                .baseRate(baseRate)
+                .currencyName(currencyUnit)
+                .build();
+    }
+}
@@ -1,35 +1,55 @@
 package org.creditto.core_banking.domain.exchange;
 
+import org.creditto.core_banking.domain.exchange.dto.ExchangeQuote;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeQuoteRes;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRateRes;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
 import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
 import org.creditto.core_banking.domain.exchange.dto.PreferentialRateRes;
+import org.creditto.core_banking.domain.exchange.dto.RateBoardRes;
 import org.creditto.core_banking.domain.exchange.dto.SingleExchangeRateRes;
 import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.exchange.repository.ExchangeQuoteRepository;
 import org.creditto.core_banking.domain.exchange.repository.ExchangeRepository;
+import org.creditto.core_banking.domain.exchange.service.ExchangeQuoteProperties;
 import org.creditto.core_banking.domain.exchange.service.ExchangeService;
 import org.creditto.core_banking.domain.creditscore.service.CreditScoreService;
+import org.creditto.core_banking.domain.creditscore.service.PreferentialRateTier;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.creditto.core_banking.global.feign.ExchangeRateProvider;
+import org.creditto.core_banking.global.feign.ExchangeRateSnapshot;
+import org.creditto.core_banking.global.feign.RateEntry;
 import org.creditto.core_banking.global.response.error.ErrorBaseCode;
 import org.creditto.core_banking.global.response.exception.CustomBaseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class  ExchangeServiceTest {
@@ -43,15 +63,21 @@ class  ExchangeServiceTest {
     @Mock
     private CreditScoreService creditScoreService;
 
+    @Mock
+    private ExchangeQuoteRepository exchangeQuoteRepository;
+
+    @Spy
+    private ExchangeQuoteProperties quoteProperties = new ExchangeQuoteProperties(60_000L, "test:exchange:quote:");
+
     @InjectMocks
     private ExchangeService exchangeService;
 
     private ExchangeRateRes usdRate;
     private ExchangeRateRes jpyRate;
-    private Map<String, ExchangeRateRes> rateMap;
+    private Map<CurrencyCode, RateEntry> rateTable;
 
     private static final BigDecimal SPREAD_RATE = new BigDecimal("0.01");
-    private static final BigDecimal MOCK_PREFERENTIAL_RATE = new BigDecimal("0.5");
+    private static final BigDecimal MOCK_PREFERENTIAL_RATE = BigDecimal.valueOf(PreferentialRateTier.ETC.getPreferentialRate());
 
 
     @BeforeEach
@@ -70,10 +96,7 @@ class  ExchangeServiceTest {
                 .currencyName("일본 옌")
                 .build();
 
-        rateMap = Map.of(
-                "USD", usdRate,
-                "JPY(100)", jpyRate
-        );
+        rateTable = ExchangeRateSnapshot.of(List.of(usdRate, jpyRate), Instant.now()).rateTable();
     }
 
     @Test
@@ -92,9 +115,9 @@ class  ExchangeServiceTest {
 
         BigDecimal expectedFromAmountInUSD = expectedKrwDebit.divide(new BigDecimal(usdRate.getBaseRate()), 2, RoundingMode.HALF_UP);
 
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
         given(exchangeRepository.save(any(Exchange.class))).willReturn(mockExchange);
-        given(creditScoreService.getPreferentialRate(userId)).willReturn(MOCK_PREFERENTIAL_RATE.doubleValue());
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
 
         // When
         ExchangeRes response = exchangeService.exchange(userId, request);
@@ -123,9 +146,9 @@ class  ExchangeServiceTest {
         BigDecimal expectedFromAmount = targetKrwAmount.divide(appliedRate, 2, RoundingMode.CEILING);
         BigDecimal expectedFromAmountInUSD = expectedFromAmount;
 
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
         given(exchangeRepository.save(any(Exchange.class))).willReturn(mockExchange);
-        given(creditScoreService.getPreferentialRate(userId)).willReturn(MOCK_PREFERENTIAL_RATE.doubleValue());
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
 
         // When
         ExchangeRes response = exchangeService.exchange(userId, request);
@@ -154,9 +177,9 @@ class  ExchangeServiceTest {
         BigDecimal expectedKrwDebit = targetJpyAmount.multiply(appliedRate).setScale(0, RoundingMode.CEILING);
         BigDecimal expectedFromAmountInUSD = expectedKrwDebit.divide(new BigDecimal(usdRate.getBaseRate()), 2, RoundingMode.HALF_UP);
 
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
         given(exchangeRepository.save(any(Exchange.class))).willReturn(mockExchange);
-        given(creditScoreService.getPreferentialRate(userId)).willReturn(MOCK_PREFERENTIAL_RATE.doubleValue());
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
 
         // When
         ExchangeRes response = exchangeService.exchange(userId, request);
@@ -170,6 +193,42 @@ class  ExchangeServiceTest {
         verify(exchangeRepository).save(any());
     }
 
+    @Test
+    @DisplayName("환전 성공: 외화 -> 외화 (10,000 JPY 수취 요청, 원화 경유 교차 환율)")
+    void exchange_CrossCurrency_Success() {
+        // Given
+        Long userId = 1L;
+        BigDecimal targetJpyAmount = new BigDecimal("10000");
+        ExchangeReq request = new ExchangeReq(CurrencyCode.USD, CurrencyCode.JPY, targetJpyAmount);
+        Exchange mockExchange = Exchange.builder().id(1L).build();
+
+        // JPY 살 때 환율 / USD 팔 때 환율 = 9.045 / 1293.5 (양쪽 스프레드 모두 반영)
+        BigDecimal effectiveSpread = SPREAD_RATE.multiply(BigDecimal.ONE.subtract(MOCK_PREFERENTIAL_RATE));
+        BigDecimal jpyBuyRate = new BigDecimal("9.0000").multiply(BigDecimal.ONE.add(effectiveSpread));
+        BigDecimal usdSellRate = new BigDecimal(usdRate.getBaseRate()).multiply(BigDecimal.ONE.subtract(effectiveSpread));
+        BigDecimal crossRate = jpyBuyRate.divide(usdSellRate, 10, RoundingMode.HALF_UP);
+        BigDecimal expectedUsdDebit = targetJpyAmount.multiply(crossRate).setScale(2, RoundingMode.CEILING);
+
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
+        given(exchangeRepository.save(any(Exchange.class))).willReturn(mockExchange);
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
+
+        // When
+        ExchangeRes response = exchangeService.exchange(userId, request);
+
+        // Then
+        assertThat(response.exchangeAmount()).isEqualByComparingTo(expectedUsdDebit);
+        assertThat(response.exchangeAmount()).isEqualByComparingTo("69.93");
+        assertThat(response.fromAmountInUSD()).isEqualByComparingTo(expectedUsdDebit);
+        assertThat(response.exchangeRate()).isEqualByComparingTo(jpyRate.getBaseRate());
+
+        ArgumentCaptor<Exchange> exchangeCaptor = ArgumentCaptor.forClass(Exchange.class);
+        verify(exchangeRepository).save(exchangeCaptor.capture());
+        assertThat(exchangeCaptor.getValue().getFromCurrency()).isEqualTo(CurrencyCode.USD);
+        assertThat(exchangeCaptor.getValue().getToCurrency()).isEqualTo(CurrencyCode.JPY);
+        assertThat(exchangeCaptor.getValue().getFromAmount()).isEqualByComparingTo(expectedUsdDebit);
+    }
+
     @Test
     @DisplayName("지원하지 않는 통화로 환전 요청 시 실패")
     void exchange_Fail_UnsupportedCurrency() {
@@ -177,8 +236,8 @@ class  ExchangeServiceTest {
         Long userId = 1L;
         ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.EUR, new BigDecimal("100.00"));
 
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
-        given(creditScoreService.getPreferentialRate(userId)).willReturn(MOCK_PREFERENTIAL_RATE.doubleValue());
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
 
         // When & Then
         assertThatThrownBy(() -> exchangeService.exchange(userId, request))
@@ -190,7 +249,7 @@ class  ExchangeServiceTest {
     @Test
     @DisplayName("특정 통화(USD) 환율 조회 성공")
     void getRateByCurrency_Success() {
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
 
         SingleExchangeRateRes result = exchangeService.getRateByCurrency(CurrencyCode.USD);
 
@@ -202,7 +261,7 @@ class  ExchangeServiceTest {
     @Test
     @DisplayName("지원하지 않는 통화(EUR) 환율 조회 시 실패")
     void getRateByCurrency_NotFound_ThrowsException() {
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
 
         assertThatThrownBy(() -> exchangeService.getRateByCurrency(CurrencyCode.EUR))
             .isInstanceOf(CustomBaseException.class)
@@ -218,8 +277,8 @@ class  ExchangeServiceTest {
         CurrencyCode currencyCode = CurrencyCode.USD;
         double preferentialRate = MOCK_PREFERENTIAL_RATE.doubleValue(); // 0.5
 
-        given(creditScoreService.getPreferentialRate(userId)).willReturn(preferentialRate);
-        given(exchangeRateProvider.getExchangeRates()).willReturn(rateMap);
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable);
 
         // Expected applied rate calculation
         BigDecimal baseRate = new BigDecimal(usdRate.getBaseRate()); // 1300.00
@@ -235,4 +294,204 @@ class  ExchangeServiceTest {
         assertThat(result.preferentialRate()).isEqualTo(preferentialRate);
         assertThat(result.appliedRate()).isEqualByComparingTo(expectedAppliedRate);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("환율 테이블이 갱신되면 적용 환율도 새 기준율로 계산")
+    void getPreferentialRateInfo_RateTableRefreshed_UsesNewRate() {
+        // Given
+        Long userId = 1L;
+        ExchangeRateRes refreshedUsdRate = ExchangeRateRes.builder()
+                .result(1)
+                .currencyUnit("USD")
+                .baseRate("1400.00")
+                .currencyName("미국 달러")
+                .build();
+        Map<CurrencyCode, RateEntry> refreshedRateTable =
+                ExchangeRateSnapshot.of(List.of(refreshedUsdRate), Instant.now()).rateTable();
+
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.SCORE_900);
+        given(exchangeRateProvider.getRateTable()).willReturn(rateTable, refreshedRateTable);
+
+        // When
+        PreferentialRateRes before = exchangeService.getPreferentialRateInfo(userId, CurrencyCode.USD);
+        PreferentialRateRes after = exchangeService.getPreferentialRateInfo(userId, CurrencyCode.USD);
+
+        // Then: 1300 * (1 + 0.01 * (1 - 0.8)) = 1302.60, 1400 * 1.002 = 1402.80
+        assertThat(before.preferentialRate()).isEqualTo(0.8);
+        assertThat(before.appliedRate()).isEqualByComparingTo(new BigDecimal("1302.60"));
+        assertThat(after.appliedRate()).isEqualByComparingTo(new BigDecimal("1402.80"));
+    }
+
+    @Test
+    @DisplayName("환전 견적 생성 시 계산 결과를 TTL과 함께 저장")
+    void createQuote_Success() {
+        // Given
+        Long userId = 1L;
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        Instant fetchedAt = Instant.now();
+
+        given(exchangeRateProvider.getSnapshot()).willReturn(ExchangeRateSnapshot.of(List.of(usdRate, jpyRate), fetchedAt));
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
+
+        // When
+        ExchangeQuoteRes result = exchangeService.createQuote(userId, request);
+
+        // Then: 100 * 1300 * 1.005 = 130650
+        ArgumentCaptor<ExchangeQuote> quoteCaptor = ArgumentCaptor.forClass(ExchangeQuote.class);
+        verify(exchangeQuoteRepository).save(quoteCaptor.capture(), eq(Duration.ofMillis(60_000L)));
+        ExchangeQuote savedQuote = quoteCaptor.getValue();
+
+        assertThat(result.quoteId()).isEqualTo(savedQuote.quoteId());
+        assertThat(result.exchangeAmount()).isEqualByComparingTo("130650");
+        assertThat(savedQuote.userId()).isEqualTo(userId);
+        assertThat(savedQuote.rateFetchedAt()).isEqualTo(fetchedAt);
+        assertThat(savedQuote.preferentialRateTier()).isEqualTo(PreferentialRateTier.ETC);
+        verifyNoInteractions(exchangeRepository);
+    }
+
+    @Test
+    @DisplayName("견적 ID로 환전 시 환율 재조회 없이 견적 금액으로 저장")
+    void exchangeWithQuote_Success() {
+        // Given
+        Long userId = 1L;
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        ExchangeQuote quote = createQuote("quote-1", userId, request);
+
+        given(exchangeQuoteRepository.find("quote-1")).willReturn(Optional.of(quote));
+        given(exchangeQuoteRepository.consume("quote-1")).willReturn(true);
+        given(exchangeRepository.save(any(Exchange.class))).willReturn(Exchange.builder().id(1L).build());
+
+        // When
+        ExchangeRes response = exchangeService.exchangeWithQuote(userId, "quote-1", request);
+
+        // Then
+        assertThat(response.exchangeAmount()).isEqualByComparingTo("130650");
+        assertThat(response.exchangeRate()).isEqualByComparingTo("1300.00");
+        assertThat(response.fromAmountInUSD()).isEqualByComparingTo("100.50");
+        verifyNoInteractions(exchangeRateProvider, creditScoreService);
+    }
+
+    @Test
+    @DisplayName("만료되었거나 이미 사용된 견적으로 환전 시 실패")
+    void exchangeWithQuote_Expired_ThrowsException() {
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        given(exchangeQuoteRepository.find("expired")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> exchangeService.exchangeWithQuote(1L, "expired", request))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.EXCHANGE_RATE_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("견적과 다른 금액으로 환전 요청 시 실패")
+    void exchangeWithQuote_Mismatch_ThrowsException() {
+        ExchangeReq quotedRequest = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("200.00"));
+        given(exchangeQuoteRepository.find("quote-1")).willReturn(Optional.of(createQuote("quote-1", 1L, quotedRequest)));
+
+        assertThatThrownBy(() -> exchangeService.exchangeWithQuote(1L, "quote-1", request))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.EXCHANGE_QUOTE_MISMATCH);
+        verify(exchangeQuoteRepository, never()).consume(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 견적 ID로 요청해도 견적이 삭제되지 않음")
+    void exchangeWithQuote_OtherUser_DoesNotConsumeQuote() {
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        given(exchangeQuoteRepository.find("quote-1")).willReturn(Optional.of(createQuote("quote-1", 1L, request)));
+
+        assertThatThrownBy(() -> exchangeService.exchangeWithQuote(2L, "quote-1", request))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.EXCHANGE_QUOTE_MISMATCH);
+        verify(exchangeQuoteRepository, never()).consume(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 견적을 다른 요청이 먼저 사용한 경우 만료 예외")
+    void exchangeWithQuote_ConsumedConcurrently_ThrowsException() {
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        given(exchangeQuoteRepository.find("quote-1")).willReturn(Optional.of(createQuote("quote-1", 1L, request)));
+        given(exchangeQuoteRepository.consume("quote-1")).willReturn(false);
+
+        assertThatThrownBy(() -> exchangeService.exchangeWithQuote(1L, "quote-1", request))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.EXCHANGE_RATE_EXPIRED);
+        verifyNoInteractions(exchangeRepository);
+    }
+
+    @Test
+    @DisplayName("견적을 사용한 트랜잭션이 롤백되면 견적을 되살림")
+    void exchangeWithQuote_Rollback_RestoresQuote() {
+        ExchangeReq request = new ExchangeReq(CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("100.00"));
+        ExchangeQuote quote = createQuote("quote-1", 1L, request);
+        given(exchangeQuoteRepository.find("quote-1")).willReturn(Optional.of(quote));
+        given(exchangeQuoteRepository.consume("quote-1")).willReturn(true);
+        given(exchangeRepository.save(any(Exchange.class))).willReturn(Exchange.builder().id(1L).build());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            exchangeService.exchangeWithQuote(1L, "quote-1", request);
+            verify(exchangeQuoteRepository, never()).restore(any());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(exchangeQuoteRepository).restore(quote);
+    }
+
+    @Test
+    @DisplayName("환율표 조회 시 신용점수와 환율을 한 번씩만 조회하여 전체 통화를 계산")
+    void getRateBoard_Success() {
+        // Given
+        Long userId = 1L;
+        given(creditScoreService.getPreferentialRateTier(userId)).willReturn(PreferentialRateTier.ETC);
+        given(exchangeRateProvider.getSnapshot()).willReturn(ExchangeRateSnapshot.of(List.of(usdRate, jpyRate), Instant.now()));
+
+        // When
+        RateBoardRes result = exchangeService.getRateBoard(userId, List.of(new BigDecimal("100"), new BigDecimal("1000")));
+
+        // Then: USD 살 때 1300 * 1.005 = 1306.50, 팔 때 1300 * 0.995 = 1293.50
+        assertThat(result.preferentialRate()).isEqualTo(0.5);
+        assertThat(result.rates()).extracting(RateBoardRes.CurrencyRate::currency)
+                .containsExactly(CurrencyCode.USD, CurrencyCode.JPY);
+
+        RateBoardRes.CurrencyRate usd = result.rates().get(0);
+        assertThat(usd.buyRate()).isEqualByComparingTo("1306.50");
+        assertThat(usd.sellRate()).isEqualByComparingTo("1293.50");
+        assertThat(usd.amounts().get(0).buyAmount()).isEqualByComparingTo("130650");
+        assertThat(usd.amounts().get(1).sellAmount()).isEqualByComparingTo("1293500");
+
+        // JPY 1엔 기준: 9.0000 * 1.005 = 9.045 -> 9.05 표시, 100엔 살 때 904.5 -> 905원
+        RateBoardRes.CurrencyRate jpy = result.rates().get(1);
+        assertThat(jpy.buyRate()).isEqualByComparingTo("9.05");
+        assertThat(jpy.amounts().get(0).buyAmount()).isEqualByComparingTo("905");
+
+        verify(creditScoreService).getPreferentialRateTier(userId);
+        verify(exchangeRateProvider).getSnapshot();
+    }
+
+    private ExchangeQuote createQuote(String quoteId, Long userId, ExchangeReq request) {
+        return new ExchangeQuote(
+                quoteId,
+                userId,
+                request.fromCurrency(),
+                request.toCurrency(),
+                request.targetAmount(),
+                new BigDecimal("130650"),
+                new BigDecimal("1300.00"),
+                new BigDecimal("1306.50"),
+                new BigDecimal("100.50"),
+                PreferentialRateTier.ETC,
+                Instant.now(),
+                Instant.now().plusSeconds(60)
+        );
+    }
+}
@@ -0,0 +1,243 @@
+package org.creditto.core_banking.domain.overseasremittance;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.entity.AccountState;
+import org.creditto.core_banking.domain.account.entity.AccountType;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.account.service.AccountLockService;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeBatchResult;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.exchange.service.ExchangeService;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceItemRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceReq;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.service.BulkRemittanceService;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.repository.RecipientRepository;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.domain.remittancefee.repository.FlatServiceFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.repository.NetworkFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.repository.PctServiceFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.service.FeePolicyProvider;
+import org.creditto.core_banking.domain.transaction.entity.TxnResult;
+import org.creditto.core_banking.domain.transaction.entity.TxnType;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 일괄 해외송금의 JDBC 배치 저장을 H2(MySQL 모드)에서 검증
+ * Redis 계좌 잠금, 환율 계산, 수취인 생성은 대체하고 환전/수수료/송금/거래 내역 저장은 실제 DB로 수행
+ */
+@SpringBootTest
+@Transactional
+class BulkRemittanceJdbcRepositoryTest {
+
+    private static final Long USER_ID = 903L;
+    private static final String ACCOUNT_NO = "3003456789012";
+    private static final String PASSWORD = "1234";
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("10000000");
+    private static final Map<CurrencyCode, BigDecimal> RATES = Map.of(
+            CurrencyCode.USD, new BigDecimal("1300"),
+            CurrencyCode.JPY, new BigDecimal("9")
+    );
+    private static final BigDecimal FAILING_AMOUNT = new BigDecimal("999");
+
+    @Autowired
+    private BulkRemittanceService bulkRemittanceService;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private RecipientRepository recipientRepository;
+    @Autowired
+    private FlatServiceFeeRepository flatServiceFeeRepository;
+    @Autowired
+    private PctServiceFeeRepository pctServiceFeeRepository;
+    @Autowired
+    private NetworkFeeRepository networkFeeRepository;
+    @Autowired
+    private FeePolicyProvider feePolicyProvider;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AccountLockService accountLockService;
+    @MockitoBean
+    private ExchangeService exchangeService;
+    @MockitoBean
+    private RecipientFactory recipientFactory;
+
+    private Account account;
+    private OverseasRemittanceRequestDto.RecipientInfo usdRecipientInfo;
+    private OverseasRemittanceRequestDto.RecipientInfo jpyRecipientInfo;
+    private Map<CurrencyCode, Recipient> recipients;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(Account.of(ACCOUNT_NO, passwordEncoder.encode(PASSWORD), "Bulk Account", INITIAL_BALANCE, AccountType.DEPOSIT, AccountState.ACTIVE, USER_ID));
+
+        usdRecipientInfo = recipientInfo("Bulk USD Recipient", "111000111", CurrencyCode.USD);
+        jpyRecipientInfo = recipientInfo("Bulk JPY Recipient", "222000222", CurrencyCode.JPY);
+        recipients = Map.of(
+                CurrencyCode.USD, recipientRepository.save(Recipient.of(usdRecipientInfo.toRecipientCreateDto())),
+                CurrencyCode.JPY, recipientRepository.save(Recipient.of(jpyRecipientInfo.toRecipientCreateDto()))
+        );
+
+        flatServiceFeeRepository.save(FlatServiceFee.of(null, new BigDecimal("9999999999"), new BigDecimal("5000")));
+        pctServiceFeeRepository.save(PctServiceFee.of(null, new BigDecimal("0.2"), false));
+        networkFeeRepository.save(NetworkFee.of(null, CurrencyCode.USD, new BigDecimal("15")));
+        networkFeeRepository.save(NetworkFee.of(null, CurrencyCode.JPY, new BigDecimal("2000")));
+        feePolicyProvider.refresh();
+
+        given(accountLockService.executeWithLock(eq(account.getId()), any(AccountLockService.LockCallback.class)))
+                .willAnswer(invocation -> invocation.<AccountLockService.LockCallback<?>>getArgument(1).invoke());
+        given(recipientFactory.findOrCreate(any(RecipientCreateDto.class)))
+                .willAnswer(invocation -> recipients.get(invocation.<RecipientCreateDto>getArgument(0).receiveCurrency()));
+        given(exchangeService.calculateBatch(eq(USER_ID), anyList())).willAnswer(invocation -> {
+            List<ExchangeReq> requests = invocation.getArgument(1);
+            return requests.stream()
+                    .map(request -> request.targetAmount().compareTo(FAILING_AMOUNT) == 0
+                            ? ExchangeBatchResult.failure(request, ErrorBaseCode.CURRENCY_NOT_SUPPORTED)
+                            : ExchangeBatchResult.success(request, exchangeRes(request)))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("processBulk는 건별 환전/수수료/송금/거래 내역을 요청 순서의 생성 키로 서로 연결하여 저장")
+    void processBulk_PersistsLinkedRowsInRequestOrder() {
+        // given
+        BulkRemittanceReq request = new BulkRemittanceReq(ACCOUNT_NO, PASSWORD, CurrencyCode.KRW, List.of(
+                new BulkRemittanceReq.Item(usdRecipientInfo, new BigDecimal("100")),
+                new BulkRemittanceReq.Item(jpyRecipientInfo, new BigDecimal("50000")),
+                new BulkRemittanceReq.Item(usdRecipientInfo, FAILING_AMOUNT),
+                new BulkRemittanceReq.Item(usdRecipientInfo, new BigDecimal("200"))
+        ));
+
+        // when
+        BulkRemittanceRes result = bulkRemittanceService.processBulk(USER_ID, request);
+        entityManager.flush();
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(3);
+        assertThat(result.items()).extracting(BulkRemittanceItemRes::status)
+                .containsExactly(RemittanceStatus.PENDING, RemittanceStatus.PENDING, RemittanceStatus.FAILED, RemittanceStatus.PENDING);
+
+        List<BulkRemittanceItemRes> succeeded = result.items().stream()
+                .filter(item -> item.status() == RemittanceStatus.PENDING)
+                .toList();
+        List<CurrencyCode> expectedCurrencies = List.of(CurrencyCode.USD, CurrencyCode.JPY, CurrencyCode.USD);
+        assertThat(succeeded).extracting(BulkRemittanceItemRes::remittanceId).isSorted().doesNotHaveDuplicates();
+
+        for (int i = 0; i < succeeded.size(); i++) {
+            BulkRemittanceItemRes item = succeeded.get(i);
+            CurrencyCode currency = expectedCurrencies.get(i);
+            Map<String, Object> row = jdbcTemplate.queryForMap("""
+                    SELECT r.recipient_id, r.account_id, r.user_id, r.send_currency, r.receive_currency,
+                           r.send_amount, r.receive_amount, r.remittance_status, r.recur_id,
+                           e.from_currency, e.to_currency, e.from_amount, e.to_amount, e.exchange_rate,
+                           f.total_fee, f.flat_service_fee_id, f.pct_service_fee_id, f.network_fee_id
+                    FROM overseas_remittance r
+                    JOIN exchange e ON e.id = r.exchange_id
+                    JOIN fee_record f ON f.fee_record_id = r.fee_record_id
+                    WHERE r.remittance_id = ?
+                    """, item.remittanceId());
+
+            assertThat(((Number) row.get("RECIPIENT_ID")).longValue()).isEqualTo(recipients.get(currency).getRecipientId());
+            assertThat(((Number) row.get("ACCOUNT_ID")).longValue()).isEqualTo(account.getId());
+            assertThat(((Number) row.get("USER_ID")).longValue()).isEqualTo(USER_ID);
+            assertThat(row.get("REMITTANCE_STATUS")).isEqualTo(RemittanceStatus.PENDING.name());
+            assertThat(row.get("RECUR_ID")).isNull();
+
+            // 송금 행과 연결된 환전 행이 같은 건의 값인지 (키 순서가 어긋나면 통화/금액이 달라짐)
+            assertThat(row.get("SEND_CURRENCY")).isEqualTo(CurrencyCode.KRW.name()).isEqualTo(row.get("FROM_CURRENCY"));
+            assertThat(row.get("RECEIVE_CURRENCY")).isEqualTo(currency.name()).isEqualTo(row.get("TO_CURRENCY"));
+            assertThat((BigDecimal) row.get("EXCHANGE_RATE")).isEqualByComparingTo(RATES.get(currency));
+            assertThat((BigDecimal) row.get("SEND_AMOUNT")).isEqualByComparingTo(item.sendAmount())
+                    .isEqualByComparingTo((BigDecimal) row.get("FROM_AMOUNT"));
+            assertThat((BigDecimal) row.get("RECEIVE_AMOUNT")).isEqualByComparingTo(item.receiveAmount())
+                    .isEqualByComparingTo((BigDecimal) row.get("TO_AMOUNT"));
+
+            // 수수료 행
+            assertThat((BigDecimal) row.get("TOTAL_FEE")).isEqualByComparingTo(item.totalFee());
+            assertThat(row.get("FLAT_SERVICE_FEE_ID")).isNotNull();
+            assertThat(row.get("NETWORK_FEE_ID")).isNotNull();
+
+            // 거래 내역: 건마다 수수료 + 출금
+            List<Map<String, Object>> transactions = jdbcTemplate.queryForList(
+                    "SELECT account_id, txn_type, txn_amount, txn_result FROM transaction WHERE type_id = ? ORDER BY id",
+                    item.remittanceId());
+            assertThat(transactions).extracting(txn -> txn.get("TXN_TYPE"))
+                    .containsExactly(TxnType.FEE.name(), TxnType.WITHDRAWAL.name());
+            assertThat((BigDecimal) transactions.get(0).get("TXN_AMOUNT")).isEqualByComparingTo(item.totalFee());
+            assertThat((BigDecimal) transactions.get(1).get("TXN_AMOUNT")).isEqualByComparingTo(item.sendAmount());
+            assertThat(transactions).allSatisfy(txn -> {
+                assertThat(((Number) txn.get("ACCOUNT_ID")).longValue()).isEqualTo(account.getId());
+                assertThat(txn.get("TXN_RESULT")).isEqualTo(TxnResult.SUCCESS.name());
+            });
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM overseas_remittance WHERE user_id = ?", Integer.class, USER_ID))
+                .isEqualTo(3);
+        BigDecimal balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, account.getId());
+        assertThat(balance).isEqualByComparingTo(INITIAL_BALANCE.subtract(result.totalDeduction()));
+    }
+
+    private static OverseasRemittanceRequestDto.RecipientInfo recipientInfo(String name, String accountNo, CurrencyCode currency) {
+        return OverseasRemittanceRequestDto.RecipientInfo.builder()
+                .name(name)
+                .accountNo(accountNo)
+                .phoneNo("310-555-1234")
+                .phoneCc("+1")
+                .bankName("Bulk Bank")
+                .bankCode("BULKUS33XXX")
+                .country("USA")
+                .receiveCurrency(currency)
+                .build();
+    }
+
+    private static ExchangeRes exchangeRes(ExchangeReq request) {
+        BigDecimal rate = RATES.get(request.toCurrency());
+        BigDecimal fromAmount = request.targetAmount().multiply(rate);
+        return new ExchangeRes(
+                Exchange.of(request, fromAmount, request.targetAmount(), rate),
+                request.fromCurrency(),
+                request.toCurrency(),
+                rate,
+                fromAmount,
+                request.targetAmount()
+        );
+    }
+}
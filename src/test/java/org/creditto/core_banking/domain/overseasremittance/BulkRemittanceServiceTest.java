@@ -0,0 +1,215 @@
+package org.creditto.core_banking.domain.overseasremittance;
+
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.account.service.AccountLockService;
+import org.creditto.core_banking.domain.account.service.AccountService;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeBatchResult;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.exchange.service.ExchangeService;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceReq;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.BulkRemittanceRow;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.repository.BulkRemittanceJdbcRepository;
+import org.creditto.core_banking.domain.overseasremittance.service.BulkRemittanceService;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.domain.remittancefee.service.FeePolicyProvider;
+import org.creditto.core_banking.domain.remittancefee.service.FeePolicySnapshot;
+import org.creditto.core_banking.domain.transaction.entity.TxnResult;
+import org.creditto.core_banking.domain.transaction.entity.TxnType;
+import org.creditto.core_banking.domain.transaction.service.TransactionService;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.creditto.core_banking.domain.account.entity.AccountState.ACTIVE;
+import static org.creditto.core_banking.domain.account.entity.AccountType.DEPOSIT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRemittanceServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ACCOUNT_ID = 10L;
+    private static final BigDecimal USD_RATE = new BigDecimal("1300");
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private AccountLockService accountLockService;
+    @Mock
+    private RecipientFactory recipientFactory;
+    @Mock
+    private ExchangeService exchangeService;
+    @Mock
+    private FeePolicyProvider feePolicyProvider;
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private BulkRemittanceJdbcRepository bulkRemittanceJdbcRepository;
+
+    @InjectMocks
+    private BulkRemittanceService bulkRemittanceService;
+
+    private OverseasRemittanceRequestDto.RecipientInfo recipientInfo;
+    private Recipient recipient;
+
+    @BeforeEach
+    void setUp() {
+        recipientInfo = OverseasRemittanceRequestDto.RecipientInfo.builder()
+                .name("John Doe")
+                .accountNo("1234567890")
+                .phoneNo("310-555-1234")
+                .phoneCc("+1")
+                .bankName("Test Bank")
+                .bankCode("CHASUS33XXX")
+                .country("USA")
+                .receiveCurrency(CurrencyCode.USD)
+                .build();
+        recipient = Recipient.of(recipientInfo.toRecipientCreateDto());
+        ReflectionTestUtils.setField(recipient, "recipientId", 5L);
+
+        given(recipientFactory.findOrCreate(any(RecipientCreateDto.class))).willReturn(recipient);
+        given(feePolicyProvider.getSnapshot()).willReturn(FeePolicySnapshot.of(
+                List.of(FlatServiceFee.of(1L, new BigDecimal("9999999999"), new BigDecimal("5000"))),
+                PctServiceFee.of(1L, new BigDecimal("0.2"), false),
+                List.of(NetworkFee.of(1L, CurrencyCode.USD, new BigDecimal("15"))),
+                "v1"
+        ));
+        given(exchangeService.calculateBatch(eq(USER_ID), anyList())).willAnswer(invocation -> {
+            List<ExchangeReq> requests = invocation.getArgument(1);
+            return requests.stream()
+                    .map(request -> request.targetAmount().compareTo(new BigDecimal("999")) == 0
+                            ? ExchangeBatchResult.failure(request, ErrorBaseCode.CURRENCY_NOT_SUPPORTED)
+                            : ExchangeBatchResult.success(request, exchangeRes(request)))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("비밀번호/환율/수수료 정책/계좌 잠금을 한 번씩만 사용하고 계산 가능한 건만 일괄 저장")
+    void processBulk_Success_WithPartialFailure() {
+        // given
+        Account account = account(new BigDecimal("10000000"));
+        given(accountLockService.executeWithLock(eq(ACCOUNT_ID), any(AccountLockService.LockCallback.class)))
+                .willAnswer(invocation -> invocation.<AccountLockService.LockCallback<?>>getArgument(1).invoke());
+        given(accountRepository.findByIdForUpdate(ACCOUNT_ID)).willReturn(Optional.of(account));
+        given(bulkRemittanceJdbcRepository.insertAll(eq(ACCOUNT_ID), eq(USER_ID), any(LocalDate.class), anyList()))
+                .willReturn(List.of(100L, 101L));
+
+        BulkRemittanceReq request = request(new BigDecimal("100"), new BigDecimal("999"), new BigDecimal("200"));
+
+        // when
+        BulkRemittanceRes result = bulkRemittanceService.processBulk(USER_ID, request);
+
+        // then
+        assertThat(result.requested()).isEqualTo(3);
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.items()).extracting("status")
+                .containsExactly(RemittanceStatus.PENDING, RemittanceStatus.FAILED, RemittanceStatus.PENDING);
+        assertThat(result.items()).extracting("remittanceId").containsExactly(100L, null, 101L);
+        assertThat(result.items().get(1).errorCode()).isEqualTo(ErrorBaseCode.CURRENCY_NOT_SUPPORTED.getCode());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BulkRemittanceRow>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(bulkRemittanceJdbcRepository).insertAll(eq(ACCOUNT_ID), eq(USER_ID), any(LocalDate.class), rowsCaptor.capture());
+        BigDecimal expectedDeduction = rowsCaptor.getValue().stream()
+                .map(BulkRemittanceRow::totalDeduction)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(rowsCaptor.getValue()).extracting("sendAmount")
+                .containsExactly(new BigDecimal("130000"), new BigDecimal("260000"));
+        assertThat(result.totalDeduction()).isEqualByComparingTo(expectedDeduction);
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("10000000").subtract(expectedDeduction));
+
+        verify(accountService, times(1)).verifyPassword(ACCOUNT_ID, "1234");
+        verify(recipientFactory, times(1)).findOrCreate(any(RecipientCreateDto.class));
+        verify(exchangeService, times(1)).calculateBatch(eq(USER_ID), anyList());
+        verify(feePolicyProvider, times(1)).getSnapshot();
+        verify(accountLockService, times(1)).executeWithLock(eq(ACCOUNT_ID), any(AccountLockService.LockCallback.class));
+    }
+
+    @Test
+    @DisplayName("전체 차감액보다 잔액이 부족하면 어떤 건도 저장하지 않고 실패")
+    void processBulk_InsufficientAggregateBalance() {
+        // given
+        Account account = account(new BigDecimal("200000"));
+        given(accountLockService.executeWithLock(eq(ACCOUNT_ID), any(AccountLockService.LockCallback.class)))
+                .willAnswer(invocation -> invocation.<AccountLockService.LockCallback<?>>getArgument(1).invoke());
+        given(accountRepository.findByIdForUpdate(ACCOUNT_ID)).willReturn(Optional.of(account));
+
+        BulkRemittanceReq request = request(new BigDecimal("100"), new BigDecimal("100"));
+
+        // when & then
+        assertThatThrownBy(() -> bulkRemittanceService.processBulk(USER_ID, request))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.INSUFFICIENT_FUNDS);
+
+        verify(bulkRemittanceJdbcRepository, never()).insertAll(anyLong(), anyLong(), any(), anyList());
+        verify(transactionService).saveTransaction(eq(account), any(BigDecimal.class), eq(TxnType.WITHDRAWAL), isNull(), eq(TxnResult.FAILURE));
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("200000"));
+    }
+
+    private Account account(BigDecimal balance) {
+        Account account = Account.of("1002-123-456789", "password", "예금계좌", balance, DEPOSIT, ACTIVE, USER_ID);
+        ReflectionTestUtils.setField(account, "id", ACCOUNT_ID);
+        given(accountRepository.findByAccountNo(account.getAccountNo())).willReturn(Optional.of(account));
+        return account;
+    }
+
+    private BulkRemittanceReq request(BigDecimal... targetAmounts) {
+        List<BulkRemittanceReq.Item> items = Arrays.stream(targetAmounts)
+                .map(amount -> new BulkRemittanceReq.Item(recipientInfo, amount))
+                .toList();
+        return new BulkRemittanceReq("1002-123-456789", "1234", CurrencyCode.KRW, items);
+    }
+
+    private static ExchangeRes exchangeRes(ExchangeReq request) {
+        BigDecimal fromAmount = request.targetAmount().multiply(USD_RATE);
+        return new ExchangeRes(
+                Exchange.of(request, fromAmount, request.targetAmount(), USD_RATE),
+                request.fromCurrency(),
+                request.toCurrency(),
+                USD_RATE,
+                fromAmount,
+                request.targetAmount()
+        );
+    }
+}
@@ -6,10 +6,14 @@ import org.creditto.core_banking.domain.account.service.AccountService;
 import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceRequestDto;
 import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceSubmissionRes;
 import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceSubmission;
 import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository; // Import 추가
 import org.creditto.core_banking.domain.overseasremittance.service.OneTimeRemittanceService;
+import org.creditto.core_banking.domain.overseasremittance.repository.RemittanceSubmissionRepository;
 import org.creditto.core_banking.domain.overseasremittance.service.RemittanceProcessorService;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceSubmissionWorker;
 import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
 import org.creditto.core_banking.domain.recipient.entity.Recipient;
 import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
@@ -35,6 +39,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +55,10 @@ class OneTimeRemittanceServiceTest {
     private AccountService accountService;
     @Mock // 누락되었던 Mock 객체 추가
     private OverseasRemittanceRepository overseasRemittanceRepository;
+    @Mock
+    private RemittanceSubmissionRepository remittanceSubmissionRepository;
+    @Mock
+    private RemittanceSubmissionWorker remittanceSubmissionWorker;
 
     @InjectMocks
     private OneTimeRemittanceService oneTimeRemittanceService;
@@ -163,5 +172,28 @@ class OneTimeRemittanceServiceTest {
         verify(recipientFactory).findOrCreate(any(RecipientCreateDto.class));
         verify(remittanceProcessorService).execute(any(ExecuteRemittanceCommand.class));
     }
-}
 
+    @Test
+    @DisplayName("비동기 송금 접수 시 검증 후 REQUESTED 상태로 저장하고 실행만 요청")
+    void submitRemittance_Success() {
+        // given
+        given(remittanceSubmissionRepository.save(any(RemittanceSubmission.class))).willAnswer(invocation -> {
+            RemittanceSubmission submission = invocation.getArgument(0);
+            java.lang.reflect.Field submissionIdField = RemittanceSubmission.class.getDeclaredField("submissionId");
+            submissionIdField.setAccessible(true);
+            submissionIdField.set(submission, 10L);
+            return submission;
+        });
+
+        // when
+        RemittanceSubmissionRes result = oneTimeRemittanceService.submitRemittance(userId, baseRequest);
+
+        // then
+        assertThat(result.submissionId()).isEqualTo(10L);
+        assertThat(result.status()).isEqualTo(RemittanceStatus.REQUESTED);
+        assertThat(result.remittanceId()).isNull();
+        verify(accountService).verifyPassword(any(), anyString());
+        verify(remittanceSubmissionWorker).dispatch(10L);
+        verify(remittanceProcessorService, never()).execute(any(ExecuteRemittanceCommand.class));
+    }
+}
@@ -0,0 +1,162 @@
+package org.creditto.core_banking.domain.overseasremittance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.account.service.AccountLockService;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeRes;
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.exchange.service.ExchangeService;
+import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceProcessorService;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.domain.regularremittance.repository.RegularRemittanceRepository;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
+import org.creditto.core_banking.domain.remittancefee.entity.FeeRecord;
+import org.creditto.core_banking.domain.remittancefee.service.RemittanceFeeService;
+import org.creditto.core_banking.domain.transaction.service.TransactionService;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.creditto.core_banking.domain.account.entity.AccountState.ACTIVE;
+import static org.creditto.core_banking.domain.account.entity.AccountType.DEPOSIT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RemittanceProcessorServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ACCOUNT_ID = 1L;
+    private static final Long RECIPIENT_ID = 2L;
+
+    @Mock
+    private OverseasRemittanceRepository remittanceRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private RecipientFactory recipientFactory;
+    @Mock
+    private RegularRemittanceRepository regularRemittanceRepository;
+    @Mock
+    private ExchangeService exchangeService;
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private RemittanceFeeService remittanceFeeService;
+    @Mock
+    private AccountLockService accountLockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RemittanceProcessorService remittanceProcessorService;
+
+    private Account account;
+    private Recipient recipient;
+    private ExecuteRemittanceCommand command;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remittanceProcessorService = new RemittanceProcessorService(
+                remittanceRepository,
+                accountRepository,
+                recipientFactory,
+                regularRemittanceRepository,
+                exchangeService,
+                transactionService,
+                remittanceFeeService,
+                accountLockService,
+                meterRegistry
+        );
+
+        account = Account.of("1002-123-456789", "1057", "예금계좌", BigDecimal.valueOf(2_000_000), DEPOSIT, ACTIVE, USER_ID);
+        ReflectionTestUtils.setField(account, "id", ACCOUNT_ID);
+
+        recipient = Recipient.of(new RecipientCreateDto(
+                "John Doe", "123-456", "Bank of America", "BOFAUS3N", "+1", "1234567890", "USA", CurrencyCode.USD
+        ));
+        ReflectionTestUtils.setField(recipient, "recipientId", RECIPIENT_ID);
+
+        command = ExecuteRemittanceCommand.of(
+                USER_ID, RECIPIENT_ID, ACCOUNT_ID, null,
+                CurrencyCode.KRW, CurrencyCode.USD, new BigDecimal("1000"), LocalDate.of(2025, 10, 15)
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 환전 내역을 재조회 없이 송금에 연결하고 단계별 소요 시간을 기록")
+    void execute_UsesSavedExchangeAndRecordsStageTimings() {
+        // given
+        Exchange savedExchange = Exchange.builder()
+                .id(10L)
+                .fromCurrency(CurrencyCode.KRW)
+                .toCurrency(CurrencyCode.USD)
+                .exchangeRate(new BigDecimal("1300"))
+                .build();
+        given(accountRepository.findById(ACCOUNT_ID)).willReturn(Optional.of(account));
+        given(recipientFactory.getById(RECIPIENT_ID)).willReturn(recipient);
+        given(exchangeService.exchange(eq(USER_ID), any(ExchangeReq.class))).willReturn(new ExchangeRes(
+                savedExchange, CurrencyCode.KRW, CurrencyCode.USD,
+                new BigDecimal("1300"), new BigDecimal("1300000"), new BigDecimal("1000.00")
+        ));
+        given(remittanceFeeService.calculateAndSaveFee(any(RemittanceFeeReq.class)))
+                .willReturn(FeeRecord.create(new BigDecimal("20000"), null, null, null));
+        given(accountLockService.executeWithLock(eq(ACCOUNT_ID), any(AccountLockService.LockCallback.class)))
+                .willAnswer(invocation -> invocation.getArgument(1, AccountLockService.LockCallback.class).invoke());
+        given(accountRepository.findByIdForUpdate(ACCOUNT_ID)).willReturn(Optional.of(account));
+
+        // when
+        OverseasRemittanceResponseDto response = remittanceProcessorService.execute(command);
+
+        // then
+        assertThat(response.getExchangeId()).isEqualTo(10L);
+        assertThat(response.getRecipientId()).isEqualTo(RECIPIENT_ID);
+        assertThat(account.getBalance()).isEqualByComparingTo("680000");
+        verifyNoInteractions(regularRemittanceRepository);
+        for (String stage : new String[]{"load_account", "load_recipient", "exchange", "fee", "settle"}) {
+            assertThat(meterRegistry.get("remittance.execute.stage").tag("stage", stage).timer().count())
+                    .as(stage)
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("수취인이 없으면 원래 예외를 그대로 전달하고 환전하지 않음")
+    void execute_RecipientNotFound_PropagatesOriginalException() {
+        // given
+        // 계좌 조회는 비동기로 시작되므로 예외 전파 시점에 아직 실행되지 않았을 수 있음
+        lenient().when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account));
+        given(recipientFactory.getById(RECIPIENT_ID)).willThrow(new CustomBaseException(ErrorBaseCode.NOT_FOUND_RECIPIENT));
+
+        // when & then
+        assertThatThrownBy(() -> remittanceProcessorService.execute(command))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.NOT_FOUND_RECIPIENT);
+        verify(exchangeService, never()).exchange(any(), any());
+    }
+}
@@ -0,0 +1,193 @@
+package org.creditto.core_banking.domain.overseasremittance;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.creditto.core_banking.domain.account.entity.Account;
+import org.creditto.core_banking.domain.account.entity.AccountState;
+import org.creditto.core_banking.domain.account.entity.AccountType;
+import org.creditto.core_banking.domain.account.repository.AccountRepository;
+import org.creditto.core_banking.domain.exchange.dto.ExchangeReq;
+import org.creditto.core_banking.domain.exchange.entity.Exchange;
+import org.creditto.core_banking.domain.exchange.repository.ExchangeRepository;
+import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistoryPage;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceHistorySearch;
+import org.creditto.core_banking.domain.overseasremittance.entity.OverseasRemittance;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceQueryService;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.repository.RecipientRepository;
+import org.creditto.core_banking.domain.remittancefee.entity.FeeRecord;
+import org.creditto.core_banking.domain.remittancefee.repository.FeeRecordRepository;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RemittanceQueryServiceTest {
+
+    private static final Long USER_ID = 901L;
+    private static final Long OTHER_USER_ID = 902L;
+
+    @Autowired
+    private RemittanceQueryService remittanceQueryService;
+    @Autowired
+    private OverseasRemittanceRepository overseasRemittanceRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private RecipientRepository recipientRepository;
+    @Autowired
+    private ExchangeRepository exchangeRepository;
+    @Autowired
+    private FeeRecordRepository feeRecordRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Account account;
+    private Recipient recipient;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(Account.of("3002456789012", "1058", "History Account", BigDecimal.valueOf(10_000_000), AccountType.DEPOSIT, AccountState.ACTIVE, USER_ID));
+        recipient = recipientRepository.save(Recipient.of(new RecipientCreateDto(
+                "History Recipient", "555000111", "History Bank", "HIST", "+1", "01055550000", "USA", CurrencyCode.USD
+        )));
+    }
+
+    @Test
+    @DisplayName("커서로 전체 내역을 최신순으로 누락/중복 없이 페이지 단위 조회")
+    void getRemittanceList_PagesThroughHistoryWithCursor() {
+        // given
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(saveRemittance(USER_ID, CurrencyCode.USD, RemittanceStatus.PENDING).getRemittanceId());
+        }
+        saveRemittance(OTHER_USER_ID, CurrencyCode.USD, RemittanceStatus.PENDING);
+
+        // when
+        List<Long> pagedIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            RemittanceHistoryPage page = remittanceQueryService.getRemittanceList(USER_ID, search(null, null, cursor));
+            page.remittances().forEach(remittance -> pagedIds.add(remittance.getRemittanceId()));
+            pageSizes.add(page.remittances().size());
+            cursor = page.nextCursor();
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        // then
+        Collections.reverse(savedIds);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(pagedIds).containsExactlyElementsOf(savedIds);
+    }
+
+    @Test
+    @DisplayName("통화와 상태 필터를 적용하여 조회")
+    void getRemittanceList_AppliesCurrencyAndStatusFilters() {
+        // given
+        saveRemittance(USER_ID, CurrencyCode.USD, RemittanceStatus.PENDING);
+        OverseasRemittance jpySettled = saveRemittance(USER_ID, CurrencyCode.JPY, RemittanceStatus.SETTLED);
+        saveRemittance(USER_ID, CurrencyCode.JPY, RemittanceStatus.PENDING);
+
+        // when
+        RemittanceHistoryPage page = remittanceQueryService.getRemittanceList(USER_ID, search(CurrencyCode.JPY, RemittanceStatus.SETTLED, null));
+
+        // then
+        assertThat(page.remittances())
+                .extracting(OverseasRemittanceResponseDto::getRemittanceId)
+                .containsExactly(jpySettled.getRemittanceId());
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("기간 필터는 종료일 당일 내역까지 포함")
+    void getRemittanceList_AppliesDateRange() {
+        // given
+        saveRemittance(USER_ID, CurrencyCode.USD, RemittanceStatus.PENDING);
+        LocalDate today = LocalDate.now();
+
+        // when
+        RemittanceHistoryPage todayPage = remittanceQueryService.getRemittanceList(USER_ID,
+                new RemittanceHistorySearch(null, null, today, today, null, 2));
+        RemittanceHistoryPage pastPage = remittanceQueryService.getRemittanceList(USER_ID,
+                new RemittanceHistorySearch(null, null, today.minusDays(7), today.minusDays(1), null, 2));
+
+        // then
+        assertThat(todayPage.remittances()).hasSize(1);
+        assertThat(pastPage.remittances()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내역 페이지는 엔티티 로딩 없이 쿼리 한 번으로 조회")
+    void getRemittanceList_SingleQueryWithoutEntityLoading() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            saveRemittance(USER_ID, CurrencyCode.USD, RemittanceStatus.PENDING);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        RemittanceHistoryPage page = remittanceQueryService.getRemittanceList(USER_ID, search(null, null, null));
+
+        // then
+        assertThat(page.remittances()).hasSize(2);
+        assertThat(page.remittances().get(0).getAccountNo()).isEqualTo(account.getAccountNo());
+        assertThat(page.remittances().get(0).getRecipientName()).isEqualTo(recipient.getName());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 BAD_REQUEST 예외")
+    void getRemittanceList_InvalidCursor_Throws() {
+        assertThatThrownBy(() -> remittanceQueryService.getRemittanceList(USER_ID, search(null, null, "not-a-cursor")))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.BAD_REQUEST);
+    }
+
+    private static RemittanceHistorySearch search(CurrencyCode currency, RemittanceStatus status, String cursor) {
+        return new RemittanceHistorySearch(currency, status, null, null, cursor, 2);
+    }
+
+    private OverseasRemittance saveRemittance(Long userId, CurrencyCode receiveCurrency, RemittanceStatus status) {
+        ExchangeReq exchangeReq = new ExchangeReq(CurrencyCode.KRW, receiveCurrency, new BigDecimal("100"));
+        Exchange exchange = exchangeRepository.save(Exchange.of(exchangeReq, new BigDecimal("130000"), new BigDecimal("100"), new BigDecimal("1300")));
+        FeeRecord feeRecord = feeRecordRepository.save(FeeRecord.create(BigDecimal.ZERO, null, null, null));
+        ExecuteRemittanceCommand command = ExecuteRemittanceCommand.of(userId, recipient.getRecipientId(), account.getId(), null, CurrencyCode.KRW, receiveCurrency, new BigDecimal("100"), LocalDate.now());
+
+        OverseasRemittance remittance = OverseasRemittance.of(recipient, account, null, exchange, feeRecord, new BigDecimal("130000"), command);
+        ReflectionTestUtils.setField(remittance, "remittanceStatus", status);
+        return overseasRemittanceRepository.save(remittance);
+    }
+}
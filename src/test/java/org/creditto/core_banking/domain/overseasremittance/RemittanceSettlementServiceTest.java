@@ -0,0 +1,134 @@
+package org.creditto.core_banking.domain.overseasremittance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.creditto.core_banking.domain.account.service.AccountService;
+import org.creditto.core_banking.domain.overseasremittance.dto.RemittanceReversal;
+import org.creditto.core_banking.domain.overseasremittance.dto.SettlementResultRes;
+import org.creditto.core_banking.domain.overseasremittance.dto.SettlementResultRow;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceStatus;
+import org.creditto.core_banking.domain.overseasremittance.repository.OverseasRemittanceRepository;
+import org.creditto.core_banking.domain.overseasremittance.repository.RemittanceSettlementJdbcRepository;
+import org.creditto.core_banking.domain.overseasremittance.service.RemittanceSettlementService;
+import org.creditto.core_banking.domain.transaction.entity.TxnType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RemittanceSettlementServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private RemittanceSettlementJdbcRepository settlementJdbcRepository;
+
+    @Mock
+    private OverseasRemittanceRepository remittanceRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RemittanceSettlementService remittanceSettlementService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remittanceSettlementService = new RemittanceSettlementService(
+                settlementJdbcRepository,
+                remittanceRepository,
+                accountService,
+                new ObjectMapper(),
+                transactionManager,
+                meterRegistry,
+                BATCH_SIZE
+        );
+    }
+
+    @Test
+    @DisplayName("정산 결과를 묶음 단위로 반영하고 실패 송금만 입금 거래로 환급")
+    void applyResults_AppliesInChunksAndRefundsFailed() {
+        // given
+        String ndjson = """
+                {"remittanceId":1,"version":1,"status":"SETTLED"}
+                {"remittanceId":2,"version":1,"status":"FAILED","reason":"수취 계좌 해지"}
+                not-a-json
+                {"remittanceId":4,"version":1,"status":"PENDING"}
+                {"remittanceId":3,"version":1,"status":"SETTLED"}
+                """;
+        given(settlementJdbcRepository.applyResults(List.of(
+                new SettlementResultRow(1L, 1L, RemittanceStatus.SETTLED, null),
+                new SettlementResultRow(2L, 1L, RemittanceStatus.FAILED, "수취 계좌 해지")
+        ))).willReturn(new boolean[]{true, true});
+        given(settlementJdbcRepository.applyResults(List.of(
+                new SettlementResultRow(3L, 1L, RemittanceStatus.SETTLED, null)
+        ))).willReturn(new boolean[]{false});
+        given(remittanceRepository.findReversalsByRemittanceIdIn(List.of(2L)))
+                .willReturn(List.of(new RemittanceReversal(2L, 10L, new BigDecimal("100000"), new BigDecimal("5000"))));
+
+        // when
+        SettlementResultRes result = remittanceSettlementService.applyResults(toStream(ndjson));
+
+        // then
+        assertThat(result.received()).isEqualTo(5);
+        assertThat(result.settled()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.conflicted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(2);
+        verify(accountService).processTransaction(10L, new BigDecimal("105000"), TxnType.DEPOSIT, 2L);
+        assertThat(meterRegistry.get("remittance.settlement.rows").tag("result", "conflicted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전이 달라 반영되지 않은 실패 결과는 환급하지 않음")
+    void applyResults_StaleVersion_DoesNotRefund() {
+        // given
+        String ndjson = """
+                {"remittanceId":2,"version":0,"status":"FAILED","reason":"수취 계좌 해지"}
+                """;
+        given(settlementJdbcRepository.applyResults(anyList())).willReturn(new boolean[]{false});
+
+        // when
+        SettlementResultRes result = remittanceSettlementService.applyResults(toStream(ndjson));
+
+        // then
+        assertThat(result.failed()).isZero();
+        assertThat(result.conflicted()).isEqualTo(1);
+        verify(remittanceRepository, never()).findReversalsByRemittanceIdIn(anyList());
+        verify(accountService, never()).processTransaction(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 본문은 DB에 접근하지 않음")
+    void applyResults_EmptyBody() {
+        SettlementResultRes result = remittanceSettlementService.applyResults(toStream(""));
+
+        assertThat(result.received()).isZero();
+        verifyNoInteractions(settlementJdbcRepository, remittanceRepository, accountService, transactionManager);
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
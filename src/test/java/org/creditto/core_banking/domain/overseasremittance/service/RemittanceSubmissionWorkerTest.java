@@ -0,0 +1,145 @@
+package org.creditto.core_banking.domain.overseasremittance.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.creditto.core_banking.domain.overseasremittance.dto.ExecuteRemittanceCommand;
+import org.creditto.core_banking.domain.overseasremittance.dto.OverseasRemittanceResponseDto;
+import org.creditto.core_banking.domain.overseasremittance.entity.RemittanceSubmission;
+import org.creditto.core_banking.domain.overseasremittance.repository.RemittanceSubmissionRepository;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RemittanceSubmissionWorkerTest {
+
+    private static final Long SUBMISSION_ID = 10L;
+
+    @Mock
+    private RemittanceSubmissionRepository submissionRepository;
+    @Mock
+    private RemittanceProcessorService remittanceProcessorService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RemittanceSubmissionWorker worker;
+    private RemittanceSubmission submission;
+
+    @BeforeEach
+    void setUp() {
+        worker = new RemittanceSubmissionWorker(
+                submissionRepository,
+                remittanceProcessorService,
+                transactionManager,
+                new RemittanceSubmissionProperties(1, 10, 10, 300_000L),
+                new SimpleMeterRegistry()
+        );
+        submission = RemittanceSubmission.of(ExecuteRemittanceCommand.of(
+                1L, 2L, 3L, null, CurrencyCode.KRW, CurrencyCode.USD,
+                BigDecimal.valueOf(100), LocalDate.of(2025, 11, 1)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 접수를 실행하고 송금 ID와 함께 완료 처리")
+    void process_Success() {
+        // given
+        given(submissionRepository.claim(eq(SUBMISSION_ID), anyString(), any(LocalDateTime.class))).willReturn(1);
+        given(submissionRepository.findById(SUBMISSION_ID)).willReturn(Optional.of(submission));
+        given(remittanceProcessorService.execute(any(ExecuteRemittanceCommand.class)))
+                .willReturn(OverseasRemittanceResponseDto.builder().remittanceId(99L).build());
+        given(submissionRepository.complete(eq(SUBMISSION_ID), anyString(), eq(99L), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        worker.process(SUBMISSION_ID);
+
+        // then
+        verify(remittanceProcessorService).execute(submission.toCommand());
+        verify(submissionRepository, never()).fail(anyLong(), anyString(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("송금 실행 중 업무 예외 발생 시 오류 코드와 함께 실패 처리")
+    void process_BusinessException_MarksFailed() {
+        // given
+        given(submissionRepository.claim(eq(SUBMISSION_ID), anyString(), any(LocalDateTime.class))).willReturn(1);
+        given(submissionRepository.findById(SUBMISSION_ID)).willReturn(Optional.of(submission));
+        given(remittanceProcessorService.execute(any(ExecuteRemittanceCommand.class)))
+                .willThrow(new CustomBaseException(ErrorBaseCode.INSUFFICIENT_FUNDS));
+
+        // when
+        worker.process(SUBMISSION_ID);
+
+        // then
+        verify(submissionRepository, never()).complete(anyLong(), anyString(), anyLong(), any());
+        verify(submissionRepository).fail(
+                eq(SUBMISSION_ID),
+                anyString(),
+                eq(ErrorBaseCode.INSUFFICIENT_FUNDS.getCode()),
+                eq(ErrorBaseCode.INSUFFICIENT_FUNDS.getMessage()),
+                any(LocalDateTime.class)
+        );
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("임대 만료 후 다른 작업자가 다시 선점한 접수는 송금을 롤백하고 실패로 덮어쓰지 않음")
+    void process_ReclaimedByAnotherWorker_RollsBack() {
+        // given
+        ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+        given(submissionRepository.claim(eq(SUBMISSION_ID), claimToken.capture(), any(LocalDateTime.class))).willReturn(1);
+        given(submissionRepository.findById(SUBMISSION_ID)).willReturn(Optional.of(submission));
+        given(remittanceProcessorService.execute(any(ExecuteRemittanceCommand.class)))
+                .willReturn(OverseasRemittanceResponseDto.builder().remittanceId(99L).build());
+        given(submissionRepository.complete(eq(SUBMISSION_ID), anyString(), eq(99L), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        worker.process(SUBMISSION_ID);
+
+        // then
+        verify(submissionRepository).complete(eq(SUBMISSION_ID), eq(claimToken.getValue()), eq(99L), any(LocalDateTime.class));
+        verify(submissionRepository).fail(eq(SUBMISSION_ID), eq(claimToken.getValue()), anyInt(), anyString(), any(LocalDateTime.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 이미 선점한 접수는 실행하지 않음")
+    void process_AlreadyClaimed_Skips() {
+        // given
+        given(submissionRepository.claim(eq(SUBMISSION_ID), anyString(), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        worker.process(SUBMISSION_ID);
+
+        // then
+        verify(remittanceProcessorService, never()).execute(any(ExecuteRemittanceCommand.class));
+        verify(submissionRepository, never()).findById(anyLong());
+    }
+}
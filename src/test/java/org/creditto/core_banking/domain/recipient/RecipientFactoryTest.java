@@ -0,0 +1,149 @@
+package org.creditto.core_banking.domain.recipient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.creditto.core_banking.domain.recipient.dto.RecipientCreateDto;
+import org.creditto.core_banking.domain.recipient.entity.Recipient;
+import org.creditto.core_banking.domain.recipient.repository.RecipientJdbcRepository;
+import org.creditto.core_banking.domain.recipient.repository.RecipientRepository;
+import org.creditto.core_banking.domain.recipient.service.RecipientCacheProperties;
+import org.creditto.core_banking.domain.recipient.service.RecipientFactory;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RecipientFactoryTest {
+
+    private static final Long RECIPIENT_ID = 7L;
+
+    @Mock
+    private RecipientRepository recipientRepository;
+    @Mock
+    private RecipientJdbcRepository recipientJdbcRepository;
+
+    private RecipientFactory recipientFactory;
+    private RecipientCreateDto dto;
+
+    @BeforeEach
+    void setUp() {
+        recipientFactory = new RecipientFactory(
+                recipientRepository,
+                recipientJdbcRepository,
+                new RecipientCacheProperties(100, 600_000),
+                new SimpleMeterRegistry()
+        );
+        dto = new RecipientCreateDto(
+                "John Doe", "123-456", "Bank of America", "BOFAUS3N", "+1", "1234567890", "USA", CurrencyCode.USD
+        );
+    }
+
+    @Test
+    @DisplayName("처음 보는 수취인은 INSERT 한 번으로 생성하고 저장된 수취인을 반환")
+    void findOrCreate_NewRecipient_InsertsOnce() {
+        // given
+        Recipient stored = storedRecipient(dto);
+        given(recipientJdbcRepository.insertIfAbsent(dto)).willReturn(RECIPIENT_ID);
+        given(recipientRepository.findById(RECIPIENT_ID)).willReturn(Optional.of(stored));
+
+        // when
+        Recipient recipient = recipientFactory.findOrCreate(dto);
+
+        // then
+        assertThat(recipient).isSameAs(stored);
+        assertThat(recipient.getAccountNo()).isEqualTo("123-456");
+    }
+
+    @Test
+    @DisplayName("같은 자연 키의 반복 수취인은 DB 조회 없이 캐시에서 반환")
+    void findOrCreate_RepeatRecipient_ServedFromCache() {
+        // given
+        Recipient stored = storedRecipient(dto);
+        given(recipientJdbcRepository.insertIfAbsent(dto)).willReturn(RECIPIENT_ID);
+        given(recipientRepository.findById(RECIPIENT_ID)).willReturn(Optional.of(stored));
+        recipientFactory.findOrCreate(dto);
+
+        // when
+        Recipient recipient = recipientFactory.findOrCreate(dto);
+        Recipient byId = recipientFactory.getById(RECIPIENT_ID);
+
+        // then
+        assertThat(recipient).isSameAs(stored);
+        assertThat(byId).isSameAs(stored);
+        verify(recipientJdbcRepository, times(1)).insertIfAbsent(dto);
+        verify(recipientRepository, times(1)).findById(RECIPIENT_ID);
+    }
+
+    @Test
+    @DisplayName("자연 키는 같지만 연락처/통화가 다른 요청은 기존 수취인을 바꾸지 않고 그대로 반환")
+    void findOrCreate_ChangedDetails_KeepsStoredRecipient() {
+        // given
+        RecipientCreateDto changed = new RecipientCreateDto(
+                "John Doe", "123-456", "Bank of America", "BOFAUS3N", "+1", "9999999999", "USA", CurrencyCode.EUR
+        );
+        Recipient stored = storedRecipient(dto);
+        given(recipientJdbcRepository.insertIfAbsent(changed)).willReturn(RECIPIENT_ID);
+        given(recipientRepository.findById(RECIPIENT_ID)).willReturn(Optional.of(stored));
+
+        // when
+        Recipient recipient = recipientFactory.findOrCreate(changed);
+
+        // then
+        assertThat(recipient.getPhoneNo()).isEqualTo("1234567890");
+        assertThat(recipient.getCurrencyCode()).isEqualTo(CurrencyCode.USD);
+        assertThat(recipientFactory.findOrCreate(dto)).isSameAs(recipient);
+        verify(recipientJdbcRepository, times(1)).insertIfAbsent(changed);
+    }
+
+    @Test
+    @DisplayName("ID 조회는 캐시에 없을 때만 DB를 조회하고 이후에는 캐시에서 반환")
+    void getById_CachesAfterFirstLoad() {
+        // given
+        Recipient stored = storedRecipient(dto);
+        given(recipientRepository.findById(RECIPIENT_ID)).willReturn(Optional.of(stored));
+
+        // when
+        recipientFactory.getById(RECIPIENT_ID);
+        Recipient recipient = recipientFactory.getById(RECIPIENT_ID);
+
+        // then
+        assertThat(recipient).isSameAs(stored);
+        assertThat(recipientFactory.findOrCreate(dto)).isSameAs(stored);
+        verify(recipientRepository, times(1)).findById(RECIPIENT_ID);
+        verifyNoInteractions(recipientJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("없는 수취인 ID는 NOT_FOUND_RECIPIENT 예외")
+    void getById_NotFound_Throws() {
+        // given
+        given(recipientRepository.findById(RECIPIENT_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> recipientFactory.getById(RECIPIENT_ID))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.NOT_FOUND_RECIPIENT);
+    }
+
+    private static Recipient storedRecipient(RecipientCreateDto dto) {
+        Recipient recipient = Recipient.of(dto);
+        ReflectionTestUtils.setField(recipient, "recipientId", RECIPIENT_ID);
+        return recipient;
+    }
+}
@@ -1,5 +1,8 @@
 package org.creditto.core_banking.domain.regularremittance.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
 import org.creditto.core_banking.domain.account.entity.Account;
 import org.creditto.core_banking.domain.account.entity.AccountState;
 import org.creditto.core_banking.domain.account.entity.AccountType;
@@ -21,6 +24,8 @@ import org.creditto.core_banking.domain.remittancefee.repository.FeeRecordReposi
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.creditto.core_banking.global.response.error.ErrorBaseCode;
 import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,7 +44,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.springframework.test.annotation.DirtiesContext;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
 class RegularRemittanceServiceTest {
 
@@ -57,6 +62,10 @@ class RegularRemittanceServiceTest {
     private ExchangeRepository exchangeRepository;
     @Autowired
     private FeeRecordRepository feeRecordRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @PersistenceContext
+    private EntityManager entityManager;
 
 
     private Long testUserId = 3L;
@@ -200,6 +209,51 @@ class RegularRemittanceServiceTest {
         assertThrows(CustomBaseException.class, () -> regularRemittanceService.getRemittanceHistoryDetail(otherUserId, testOverseasRemittance.getRemittanceId(), testMonthlyRemittance.getRegRemId()));
     }
 
+    @Test
+    @Transactional
+    @DisplayName("정기송금 조회는 엔티티 로딩 없이 조회당 쿼리 한 번으로 처리")
+    void readQueries_SingleQueryWithoutEntityLoading() {
+        // given
+        Statistics statistics = clearedStatistics();
+
+        // when
+        List<RegularRemittanceResponseDto> scheduled = regularRemittanceService.getScheduledRemittancesByUserId(testUserId);
+        RemittanceDetailDto detail = regularRemittanceService.getScheduledRemittanceDetail(testUserId, testMonthlyRemittance.getRegRemId());
+        List<RemittanceHistoryDto> history = regularRemittanceService.getRegularRemittanceHistoryByRegRemId(testUserId, testMonthlyRemittance.getRegRemId());
+        RemittanceHistoryDetailDto historyDetail = regularRemittanceService.getRemittanceHistoryDetail(testUserId, testOverseasRemittance.getRemittanceId(), testMonthlyRemittance.getRegRemId());
+
+        // then
+        assertThat(scheduled).extracting(RegularRemittanceResponseDto::getRegRemType).containsExactlyInAnyOrder("MONTHLY", "WEEKLY");
+        assertThat(detail.getRecipientPhoneNo()).isEqualTo(testRecipient.getPhoneNo());
+        assertThat(history).hasSize(1);
+        assertThat(historyDetail.getAccountNo()).isEqualTo(testAccount.getAccountNo());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("정기송금 목록의 주기 정보는 하위 타입별로 채워짐")
+    void getScheduledRemittancesByUserId_FillsSubtypeSchedule() {
+        // when
+        List<RegularRemittanceResponseDto> result = regularRemittanceService.getScheduledRemittancesByUserId(testUserId);
+
+        // then
+        RegularRemittanceResponseDto monthly = result.stream()
+                .filter(dto -> dto.getRegRemId().equals(testMonthlyRemittance.getRegRemId()))
+                .findFirst()
+                .orElseThrow();
+        RegularRemittanceResponseDto weekly = result.stream()
+                .filter(dto -> dto.getRegRemId().equals(testWeeklyRemittance.getRegRemId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(monthly.getScheduledDate()).isEqualTo(15);
+        assertThat(monthly.getScheduledDay()).isNull();
+        assertThat(weekly.getScheduledDay()).isEqualTo(DayOfWeek.WEDNESDAY);
+        assertThat(weekly.getScheduledDate()).isNull();
+        assertThat(monthly.getRecipientName()).isEqualTo(testRecipient.getName());
+    }
+
     @Test
     @Transactional
     @DisplayName("월간 정기송금 신규 등록")
@@ -332,4 +386,12 @@ class RegularRemittanceServiceTest {
 
         assertThat(savedRemittance.getStartedAt()).isEqualTo(expectedStartedAt);
     }
-}
\ No newline at end of file
+
+    private Statistics clearedStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
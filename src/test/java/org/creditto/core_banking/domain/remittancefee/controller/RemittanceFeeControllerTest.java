@@ -0,0 +1,74 @@
+package org.creditto.core_banking.domain.remittancefee.controller;
+
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
+import org.creditto.core_banking.domain.remittancefee.service.RemittanceFeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RemittanceFeeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RemittanceFeeService remittanceFeeService;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(remittanceFeeService);
+    }
+
+    @Test
+    @DisplayName("USD 환산 금액이 0이면 수수료를 계산하지 않고 400 응답")
+    void previewRemittanceFee_ZeroAmountInUSD_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/remittance-fee/preview")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"exchangeRate": 1300, "sendAmount": 100, "currency": "USD", "fromAmountInUSD": 0}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(remittanceFeeService, never()).previewFee(any(RemittanceFeeReq.class));
+    }
+
+    @Test
+    @DisplayName("통화 코드가 없으면 수수료를 계산하지 않고 400 응답")
+    void previewRemittanceFee_MissingCurrency_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/remittance-fee/preview")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"exchangeRate": 1300, "sendAmount": 100, "fromAmountInUSD": 100}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(remittanceFeeService, never()).previewFee(any(RemittanceFeeReq.class));
+    }
+
+    @TestConfiguration
+    static class MockConfig {
+
+        @Bean
+        @Primary
+        RemittanceFeeService remittanceFeeService() {
+            return Mockito.mock(RemittanceFeeService.class);
+        }
+    }
+}
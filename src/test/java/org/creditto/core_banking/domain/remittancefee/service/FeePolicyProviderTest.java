@@ -0,0 +1,128 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.domain.remittancefee.repository.FlatServiceFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.repository.NetworkFeeRepository;
+import org.creditto.core_banking.domain.remittancefee.repository.PctServiceFeeRepository;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeePolicyProviderTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 10, 15, 9, 0);
+
+    @InjectMocks
+    private FeePolicyProvider feePolicyProvider;
+
+    @Mock
+    private FlatServiceFeeRepository flatServiceFeeRepository;
+    @Mock
+    private PctServiceFeeRepository pctServiceFeeRepository;
+    @Mock
+    private NetworkFeeRepository networkFeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(flatServiceFeeRepository.findAll()).willReturn(List.of(
+                FlatServiceFee.of(1L, new BigDecimal("500"), new BigDecimal("2500")),
+                FlatServiceFee.of(2L, new BigDecimal("3000"), new BigDecimal("5000"))
+        ));
+        given(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc())
+                .willReturn(Optional.of(PctServiceFee.of(1L, new BigDecimal("0.2"), false)));
+        given(networkFeeRepository.findAll()).willReturn(List.of(NetworkFee.of(1L, CurrencyCode.USD, new BigDecimal("15"))));
+        given(flatServiceFeeRepository.count()).willReturn(2L);
+        given(pctServiceFeeRepository.count()).willReturn(1L);
+        given(networkFeeRepository.count()).willReturn(1L);
+        given(flatServiceFeeRepository.findLatestUpdatedAt()).willReturn(UPDATED_AT);
+        given(pctServiceFeeRepository.findLatestUpdatedAt()).willReturn(UPDATED_AT);
+        given(networkFeeRepository.findLatestUpdatedAt()).willReturn(UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 최초 조회 시 한 번만 적재하고 이후 조회는 DB를 거치지 않음")
+    void getSnapshot_LoadsOnce() {
+        // when
+        FeePolicySnapshot first = feePolicyProvider.getSnapshot();
+        FeePolicySnapshot second = feePolicyProvider.getSnapshot();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.findNetworkFee(CurrencyCode.USD)).isPresent();
+        assertThat(first.findNetworkFee(CurrencyCode.JPY)).isEmpty();
+        verify(flatServiceFeeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("정책 버전이 그대로면 버전 확인 시 스냅샷을 교체하지 않음")
+    void pollVersion_Unchanged_KeepsSnapshot() {
+        // given
+        FeePolicySnapshot loaded = feePolicyProvider.getSnapshot();
+
+        // when
+        feePolicyProvider.pollVersion();
+
+        // then
+        assertThat(feePolicyProvider.getSnapshot()).isSameAs(loaded);
+        verify(flatServiceFeeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("정책 테이블이 수정되어 버전이 바뀌면 스냅샷 전체를 다시 적재")
+    void pollVersion_Changed_RefreshesSnapshot() {
+        // given
+        FeePolicySnapshot loaded = feePolicyProvider.getSnapshot();
+        given(networkFeeRepository.findLatestUpdatedAt()).willReturn(UPDATED_AT.plusMinutes(1));
+
+        // when
+        feePolicyProvider.pollVersion();
+
+        // then
+        assertThat(feePolicyProvider.getSnapshot()).isNotSameAs(loaded);
+        assertThat(feePolicyProvider.getSnapshot().version()).isNotEqualTo(loaded.version());
+        verify(flatServiceFeeRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("refresh 호출 시 버전과 무관하게 즉시 스냅샷 교체")
+    void refresh_ReplacesSnapshot() {
+        // given
+        FeePolicySnapshot loaded = feePolicyProvider.getSnapshot();
+
+        // when
+        feePolicyProvider.refresh();
+
+        // then
+        assertThat(feePolicyProvider.getSnapshot()).isNotSameAs(loaded);
+        verify(flatServiceFeeRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 적재하기 전에는 버전 확인을 하지 않음")
+    void pollVersion_BeforeLoad_Skips() {
+        // when
+        feePolicyProvider.pollVersion();
+        feePolicyProvider.getSnapshot();
+
+        // then (적재 시의 버전 조회 한 번만 발생)
+        verify(flatServiceFeeRepository, times(1)).count();
+    }
+}
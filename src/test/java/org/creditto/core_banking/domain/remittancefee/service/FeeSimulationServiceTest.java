@@ -0,0 +1,212 @@
+package org.creditto.core_banking.domain.remittancefee.service;
+
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationReq;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRes;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRes.FeeDelta;
+import org.creditto.core_banking.domain.remittancefee.dto.FeeSimulationRow;
+import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
+import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
+import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
+import org.creditto.core_banking.domain.remittancefee.repository.FeeSimulationRepository;
+import org.creditto.core_banking.global.common.CurrencyCode;
+import org.creditto.core_banking.global.response.error.ErrorBaseCode;
+import org.creditto.core_banking.global.response.exception.CustomBaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FeeSimulationServiceTest {
+
+    private static final LocalDateTime FROM = LocalDate.of(2025, 10, 1).atStartOfDay();
+    private static final LocalDateTime TO = LocalDate.of(2025, 11, 1).atStartOfDay();
+
+    @Mock
+    private FeeSimulationRepository feeSimulationRepository;
+    @Mock
+    private FeePolicyProvider feePolicyProvider;
+
+    private FeeSimulationService feeSimulationService;
+    private FeePolicySnapshot currentPolicy;
+
+    @BeforeEach
+    void setUp() {
+        // test: page-size 2, parallelism 2, split-threshold 1, max-jobs 10, job-retention 60s
+        feeSimulationService = new FeeSimulationService(feeSimulationRepository, feePolicyProvider, new FeeSimulationProperties(2, 2, 1, 10, 60_000));
+        currentPolicy = FeePolicySnapshot.of(
+                List.of(FlatServiceFee.of(1L, new BigDecimal("9999999999"), new BigDecimal("10000"))),
+                PctServiceFee.of(1L, new BigDecimal("0.2"), false),
+                List.of(
+                        NetworkFee.of(1L, CurrencyCode.USD, new BigDecimal("15")),
+                        NetworkFee.of(2L, CurrencyCode.JPY, new BigDecimal("2000"))
+                ),
+                "current"
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        feeSimulationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 끝까지 순회하며 후보 정책 수수료와 통화별/구간별 차이를 집계")
+    void run_AggregatesDeltasAcrossPages() {
+        // given
+        FeeSimulationJob job = newJob(candidateRequest());
+        given(feeSimulationRepository.findPageAfter(eq(0L), eq(FROM), eq(TO), any(Limit.class))).willReturn(List.of(
+                // 1,300,000원 -> USD (환율 1300), 네트워크 15 * 1300 = 19500 + 고정 3000 = 22500
+                new FeeSimulationRow(1L, CurrencyCode.USD, CurrencyCode.KRW, CurrencyCode.USD,
+                        new BigDecimal("1300000"), new BigDecimal("1300"), new BigDecimal("29500")),
+                // 900,000원 -> JPY (100엔 900원), 네트워크 (2000 / 100) * 900 = 18000 + 고정 3000 = 21000
+                new FeeSimulationRow(2L, CurrencyCode.JPY, CurrencyCode.KRW, CurrencyCode.JPY,
+                        new BigDecimal("900000"), new BigDecimal("900"), new BigDecimal("25000"))
+        ));
+        given(feeSimulationRepository.findPageAfter(eq(2L), eq(FROM), eq(TO), any(Limit.class))).willReturn(List.of(
+                // 현재 정책에 EUR 네트워크 수수료가 없어 제외
+                new FeeSimulationRow(3L, CurrencyCode.EUR, CurrencyCode.KRW, CurrencyCode.EUR,
+                        new BigDecimal("1500000"), new BigDecimal("1500"), new BigDecimal("30000"))
+        ));
+
+        // when
+        feeSimulationService.run(job, FROM, TO);
+
+        // then
+        FeeSimulationRes result = job.getProgress();
+        assertThat(result.status()).isEqualTo(FeeSimulationJob.COMPLETED);
+        assertThat(result.processedRows()).isEqualTo(2);
+        assertThat(result.skippedRows()).isEqualTo(1);
+        assertThat(result.lastRemittanceId()).isEqualTo(3L);
+        assertThat(result.total().currentFee()).isEqualByComparingTo("54500");
+        assertThat(result.total().candidateFee()).isEqualByComparingTo("43500");
+        assertThat(result.total().delta()).isEqualByComparingTo("-11000");
+        assertThat(result.byCurrency()).extracting(FeeDelta::group).containsExactly("USD", "JPY");
+        assertThat(result.byCurrency().get(0).delta()).isEqualByComparingTo("-7000");
+        assertThat(result.byCurrency().get(1).delta()).isEqualByComparingTo("-4000");
+        assertThat(result.byTier()).extracting(FeeDelta::group).containsExactly("9999999999");
+        assertThat(result.byTier().get(0).count()).isEqualTo(2);
+        assertThat(result.finishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("참고 USD 환율이 없으면 USD 외 통화 송금은 환산할 수 없어 제외")
+    void run_WithoutUsdRate_SkipsNonUsdRows() {
+        // given
+        FeeSimulationReq base = candidateRequest();
+        FeeSimulationJob job = newJob(new FeeSimulationReq(base.flatTiers(), base.pctFee(), null, null, base.from(), base.to()));
+        given(feeSimulationRepository.findPageAfter(eq(0L), eq(FROM), eq(TO), any(Limit.class))).willReturn(List.of(
+                new FeeSimulationRow(1L, CurrencyCode.JPY, CurrencyCode.KRW, CurrencyCode.JPY,
+                        new BigDecimal("900000"), new BigDecimal("900"), new BigDecimal("25000"))
+        ));
+
+        // when
+        feeSimulationService.run(job, FROM, TO);
+
+        // then
+        FeeSimulationRes result = job.getProgress();
+        assertThat(result.processedRows()).isZero();
+        assertThat(result.skippedRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 오류가 발생하면 그때까지의 집계와 함께 실패 상태로 기록")
+    void run_RepositoryFailure_MarksFailed() {
+        // given
+        FeeSimulationJob job = newJob(candidateRequest());
+        given(feeSimulationRepository.findPageAfter(eq(0L), eq(FROM), eq(TO), any(Limit.class)))
+                .willThrow(new IllegalStateException("connection reset"));
+
+        // when
+        feeSimulationService.run(job, FROM, TO);
+
+        // then
+        FeeSimulationRes result = job.getProgress();
+        assertThat(result.status()).isEqualTo(FeeSimulationJob.FAILED);
+        assertThat(result.errorMessage()).isEqualTo("connection reset");
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외 발생")
+    void start_InvalidPeriod_ThrowsException() {
+        // given
+        FeeSimulationReq base = candidateRequest();
+        FeeSimulationReq req = new FeeSimulationReq(base.flatTiers(), base.pctFee(), null, base.usdRate(), base.to(), base.from());
+
+        // when & then
+        assertThatThrownBy(() -> feeSimulationService.start(req))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.BAD_REQUEST_ILLEGALARGUMENTS);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 ID로 조회하면 예외 발생")
+    void getJob_NotFound_ThrowsException() {
+        assertThatThrownBy(() -> feeSimulationService.getJob("unknown"))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.NOT_FOUND_FEE_SIMULATION);
+    }
+
+    @Test
+    @DisplayName("종료된 작업은 보관 기간이 지나면 조회되지 않음")
+    void getJob_AfterRetention_ThrowsException() throws InterruptedException {
+        // given
+        feeSimulationService.shutdown();
+        feeSimulationService = new FeeSimulationService(feeSimulationRepository, feePolicyProvider, new FeeSimulationProperties(2, 2, 1, 10, 500));
+        given(feePolicyProvider.getSnapshot()).willReturn(currentPolicy);
+        given(feeSimulationRepository.findPageAfter(eq(0L), any(LocalDateTime.class), any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+
+        // when
+        String jobId = feeSimulationService.start(candidateRequest()).jobId();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (FeeSimulationJob.RUNNING.equals(feeSimulationService.getJob(jobId).status())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feeSimulationService.getJob(jobId).status()).isEqualTo(FeeSimulationJob.COMPLETED);
+        Thread.sleep(1_000);
+
+        // then
+        assertThatThrownBy(() -> feeSimulationService.getJob(jobId))
+                .isInstanceOf(CustomBaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorBaseCode.NOT_FOUND_FEE_SIMULATION);
+    }
+
+    private FeeSimulationJob newJob(FeeSimulationReq req) {
+        return new FeeSimulationJob("job-1", FeeSimulationScenario.of(req, currentPolicy), LocalDateTime.now());
+    }
+
+    private static FeeSimulationReq candidateRequest() {
+        return new FeeSimulationReq(
+                List.of(
+                        new FeeSimulationReq.FlatTier(new BigDecimal("500"), new BigDecimal("1000")),
+                        new FeeSimulationReq.FlatTier(new BigDecimal("3000"), new BigDecimal("2000")),
+                        new FeeSimulationReq.FlatTier(new BigDecimal("9999999999"), new BigDecimal("3000"))
+                ),
+                new FeeSimulationReq.PctFee(new BigDecimal("0.2"), false),
+                null,
+                new BigDecimal("1300"),
+                LocalDate.of(2025, 10, 1),
+                LocalDate.of(2025, 10, 31)
+        );
+    }
+}
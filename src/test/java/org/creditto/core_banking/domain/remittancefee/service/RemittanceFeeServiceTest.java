@@ -1,15 +1,14 @@
 package org.creditto.core_banking.domain.remittancefee.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeePreviewRes;
 import org.creditto.core_banking.domain.remittancefee.dto.RemittanceFeeReq;
 import org.creditto.core_banking.domain.remittancefee.entity.FeeRecord;
 import org.creditto.core_banking.domain.remittancefee.entity.FlatServiceFee;
 import org.creditto.core_banking.domain.remittancefee.entity.NetworkFee;
 import org.creditto.core_banking.domain.remittancefee.entity.PctServiceFee;
 import org.creditto.core_banking.domain.remittancefee.repository.FeeRecordRepository;
-import org.creditto.core_banking.domain.remittancefee.repository.FlatServiceFeeRepository;
-import org.creditto.core_banking.domain.remittancefee.repository.NetworkFeeRepository;
-import org.creditto.core_banking.domain.remittancefee.repository.PctServiceFeeRepository;
 import org.creditto.core_banking.global.common.CurrencyCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,34 +16,28 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.creditto.core_banking.global.response.error.ErrorMessage.FEE_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RemittanceFeeServiceTest {
 
-    @InjectMocks
     private RemittanceFeeService remittanceFeeService;
 
     @Mock
-    private FlatServiceFeeRepository flatServiceFeeRepository;
-    @Mock
-    private PctServiceFeeRepository pctServiceFeeRepository;
-    @Mock
-    private NetworkFeeRepository networkFeeRepository;
+    private FeePolicyProvider feePolicyProvider;
     @Mock
     private FeeRecordRepository feeRecordRepository;
 
@@ -57,6 +50,13 @@ class RemittanceFeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        remittanceFeeService = new RemittanceFeeService(
+                feePolicyProvider,
+                feeRecordRepository,
+                new FeePreviewCacheProperties(100, 600_000),
+                new SimpleMeterRegistry()
+        );
+
         // Mock 정책 데이터 설정
         flatFeeTiers = List.of(
                 FlatServiceFee.of(1L, new BigDecimal("500"), new BigDecimal("2500")),
@@ -85,15 +85,8 @@ class RemittanceFeeServiceTest {
             BigDecimal exchangeRateUSD = new BigDecimal("1458.86");
             RemittanceFeeReq req = new RemittanceFeeReq(exchangeRate, sendAmount, currency, exchangeRateUSD);
 
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenAnswer(invocation -> {
-                        BigDecimal amountInUSD = invocation.getArgument(0, BigDecimal.class);
-                        return flatFeeTiers.stream()
-                                .filter(tier -> tier.getUpperLimit().compareTo(amountInUSD) >= 0)
-                                .findFirst();
-                    });
-            when(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()).thenReturn(Optional.of(pctFeePolicyInactive));
-            when(networkFeeRepository.findByCurrencyCode(currency)).thenReturn(Optional.of(networkFeePolicyUSD));
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD, networkFeePolicyJPY)));
             when(feeRecordRepository.save(any(FeeRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -122,15 +115,8 @@ class RemittanceFeeServiceTest {
             BigDecimal exchangeRateUSD = new BigDecimal("1458.86");
             RemittanceFeeReq req = new RemittanceFeeReq(exchangeRate, sendAmount, currency, exchangeRateUSD);
 
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenAnswer(invocation -> {
-                        BigDecimal amountInUSD = invocation.getArgument(0, BigDecimal.class);
-                        return flatFeeTiers.stream()
-                                .filter(tier -> tier.getUpperLimit().compareTo(amountInUSD) >= 0)
-                                .findFirst();
-                    });
-            when(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()).thenReturn(Optional.of(pctFeePolicyInactive));
-            when(networkFeeRepository.findByCurrencyCode(currency)).thenReturn(Optional.of(networkFeePolicyJPY));
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD, networkFeePolicyJPY)));
             when(feeRecordRepository.save(any(FeeRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -161,15 +147,8 @@ class RemittanceFeeServiceTest {
             BigDecimal exchangeRateUSD = new BigDecimal("1458.86");
             RemittanceFeeReq req = new RemittanceFeeReq(exchangeRate, sendAmount, currency, exchangeRateUSD);
 
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenAnswer(invocation -> {
-                        BigDecimal amountInUSD = invocation.getArgument(0, BigDecimal.class);
-                        return flatFeeTiers.stream()
-                                .filter(tier -> tier.getUpperLimit().compareTo(amountInUSD) >= 0)
-                                .findFirst();
-                    });
-            when(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()).thenReturn(Optional.of(pctFeePolicyActive));
-            when(networkFeeRepository.findByCurrencyCode(currency)).thenReturn(Optional.of(networkFeePolicyUSD));
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyActive, List.of(networkFeePolicyUSD, networkFeePolicyJPY)));
             when(feeRecordRepository.save(any(FeeRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -198,15 +177,8 @@ class RemittanceFeeServiceTest {
             BigDecimal exchangeRateUSD = new BigDecimal("1458.86");
             RemittanceFeeReq req = new RemittanceFeeReq(exchangeRate, sendAmount, currency, exchangeRateUSD);
 
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenAnswer(invocation -> {
-                        BigDecimal amountInUSD = invocation.getArgument(0, BigDecimal.class);
-                        return flatFeeTiers.stream()
-                                .filter(tier -> tier.getUpperLimit().compareTo(amountInUSD) >= 0)
-                                .findFirst();
-                    });
-            when(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()).thenReturn(Optional.of(pctFeePolicyActive));
-            when(networkFeeRepository.findByCurrencyCode(currency)).thenReturn(Optional.of(networkFeePolicyJPY));
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyActive, List.of(networkFeePolicyUSD, networkFeePolicyJPY)));
             when(feeRecordRepository.save(any(FeeRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -235,8 +207,8 @@ class RemittanceFeeServiceTest {
         void calculateAndSaveFee_ThrowsException_When_FlatFeePolicyNotFound() {
             // given
             RemittanceFeeReq req = new RemittanceFeeReq(BigDecimal.ONE, BigDecimal.TEN, CurrencyCode.USD, BigDecimal.valueOf(1300));
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenReturn(Optional.empty());
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(List.of(), pctFeePolicyInactive, List.of(networkFeePolicyUSD)));
 
             // when & then
             EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
@@ -250,9 +222,8 @@ class RemittanceFeeServiceTest {
         void calculateAndSaveFee_ThrowsException_When_PctFeePolicyNotFound() {
             // given
             RemittanceFeeReq req = new RemittanceFeeReq(BigDecimal.ONE, BigDecimal.TEN, CurrencyCode.USD, BigDecimal.valueOf(1300));
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenReturn(Optional.of(flatFeePolicy));
-            when(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()).thenReturn(Optional.empty());
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(List.of(flatFeePolicy), null, List.of(networkFeePolicyUSD)));
 
             // when & then
             EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
@@ -267,10 +238,8 @@ class RemittanceFeeServiceTest {
             // given
             CurrencyCode currency = CurrencyCode.KRW;
             RemittanceFeeReq req = new RemittanceFeeReq(BigDecimal.ONE, BigDecimal.TEN, currency, BigDecimal.valueOf(1300));
-            when(flatServiceFeeRepository.findFirstByUpperLimitGreaterThanEqualOrderByUpperLimitAsc(any(BigDecimal.class)))
-                    .thenReturn(Optional.of(flatFeePolicy));
-            when(pctServiceFeeRepository.findFirstByOrderByPctServiceFeeIdAsc()).thenReturn(Optional.of(pctFeePolicyInactive));
-            when(networkFeeRepository.findByCurrencyCode(currency)).thenReturn(Optional.empty());
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(List.of(flatFeePolicy), pctFeePolicyInactive, List.of(networkFeePolicyUSD)));
 
             // when & then
             EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
@@ -279,4 +248,118 @@ class RemittanceFeeServiceTest {
             assertEquals(FEE_NOT_FOUND, exception.getMessage());
         }
     }
+
+    @Nested
+    @DisplayName("수수료 미리보기")
+    class Preview {
+
+        @Test
+        @DisplayName("미리보기는 송금 실행과 같은 수수료를 계산하되 FeeRecord를 저장하지 않음")
+        void previewFee_DoesNotPersist() {
+            // given
+            RemittanceFeeReq req = new RemittanceFeeReq(new BigDecimal("1458.86"), new BigDecimal("3000"), CurrencyCode.USD, new BigDecimal("1458.86"));
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD)));
+
+            // when
+            RemittanceFeePreviewRes preview = remittanceFeeService.previewFee(req);
+
+            // then
+            assertThat(preview.flatFee()).isEqualByComparingTo("5000");
+            assertThat(preview.pctFee()).isEqualByComparingTo("0");
+            assertThat(preview.networkFee()).isEqualByComparingTo("21883");
+            assertThat(preview.totalFee()).isEqualByComparingTo("26883");
+            assertThat(preview.policyVersion()).isEqualTo("test");
+            verify(feeRecordRepository, never()).save(any(FeeRecord.class));
+        }
+
+        @Test
+        @DisplayName("비율 수수료가 비활성이면 같은 고정 수수료 구간의 금액은 캐시된 미리보기를 공유")
+        void previewFee_SameTier_ReturnsCached() {
+            // given
+            BigDecimal rate = new BigDecimal("1458.86");
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD)));
+
+            // when
+            RemittanceFeePreviewRes first = remittanceFeeService.previewFee(new RemittanceFeeReq(rate, new BigDecimal("1000"), CurrencyCode.USD, rate));
+            RemittanceFeePreviewRes sameTier = remittanceFeeService.previewFee(new RemittanceFeeReq(rate, new BigDecimal("2999.00"), CurrencyCode.USD, rate));
+            RemittanceFeePreviewRes nextTier = remittanceFeeService.previewFee(new RemittanceFeeReq(rate, new BigDecimal("3001"), CurrencyCode.USD, rate));
+
+            // then
+            assertThat(sameTier).isSameAs(first);
+            assertThat(nextTier).isNotSameAs(first);
+            assertThat(nextTier.flatFee()).isEqualByComparingTo("7500");
+        }
+
+        @Test
+        @DisplayName("비율 수수료가 활성이면 송금액마다 미리보기를 따로 계산")
+        void previewFee_PctFeeActive_KeyedByAmount() {
+            // given
+            BigDecimal rate = new BigDecimal("1458.86");
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyActive, List.of(networkFeePolicyUSD)));
+
+            // when
+            RemittanceFeePreviewRes first = remittanceFeeService.previewFee(new RemittanceFeeReq(rate, new BigDecimal("1000"), CurrencyCode.USD, rate));
+            RemittanceFeePreviewRes second = remittanceFeeService.previewFee(new RemittanceFeeReq(rate, new BigDecimal("2000"), CurrencyCode.USD, rate));
+
+            // then
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.pctFee()).isGreaterThan(first.pctFee());
+        }
+
+        @Test
+        @DisplayName("정책 버전이 바뀌면 캐시된 미리보기를 쓰지 않고 새 정책으로 계산")
+        void previewFee_PolicyVersionChanged_Recalculates() {
+            // given
+            BigDecimal rate = new BigDecimal("1458.86");
+            RemittanceFeeReq req = new RemittanceFeeReq(rate, new BigDecimal("1000"), CurrencyCode.USD, rate);
+            NetworkFee raisedNetworkFee = NetworkFee.of(1L, CurrencyCode.USD, new BigDecimal("20"));
+            when(feePolicyProvider.getSnapshot())
+                    .thenReturn(snapshot(flatFeeTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD)))
+                    .thenReturn(FeePolicySnapshot.of(flatFeeTiers, pctFeePolicyInactive, List.of(raisedNetworkFee), "changed"));
+
+            // when
+            RemittanceFeePreviewRes before = remittanceFeeService.previewFee(req);
+            RemittanceFeePreviewRes after = remittanceFeeService.previewFee(req);
+
+            // then
+            assertThat(after.policyVersion()).isEqualTo("changed");
+            assertThat(after.networkFee()).isGreaterThan(before.networkFee());
+        }
+    }
+
+    @Nested
+    @DisplayName("수수료 정책 스냅샷 조회")
+    class SnapshotLookup {
+
+        @Test
+        @DisplayName("송금액이 구간 상한과 같으면 해당 구간, 상한을 넘으면 다음 구간의 고정 수수료")
+        void findFlatFee_BinarySearchBoundary() {
+            FeePolicySnapshot policySnapshot = snapshot(flatFeeTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD));
+
+            assertThat(policySnapshot.findFlatFee(new BigDecimal("500"))).get()
+                    .extracting(FlatServiceFee::getFeeAmount).isEqualTo(new BigDecimal("2500"));
+            assertThat(policySnapshot.findFlatFee(new BigDecimal("500.0001"))).get()
+                    .extracting(FlatServiceFee::getFeeAmount).isEqualTo(new BigDecimal("5000"));
+            assertThat(policySnapshot.findFlatFee(new BigDecimal("0"))).get()
+                    .extracting(FlatServiceFee::getFeeAmount).isEqualTo(new BigDecimal("2500"));
+            assertThat(policySnapshot.findFlatFee(new BigDecimal("99999999999"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("정렬되지 않은 구간 목록도 상한 오름차순으로 조회")
+        void findFlatFee_UnsortedTiers() {
+            List<FlatServiceFee> unsortedTiers = List.of(flatFeeTiers.get(3), flatFeeTiers.get(1), flatFeeTiers.get(0), flatFeeTiers.get(2));
+            FeePolicySnapshot policySnapshot = snapshot(unsortedTiers, pctFeePolicyInactive, List.of(networkFeePolicyUSD));
+
+            assertThat(policySnapshot.findFlatFee(new BigDecimal("4000"))).get()
+                    .extracting(FlatServiceFee::getFeeAmount).isEqualTo(new BigDecimal("7500"));
+        }
+    }
+
+    private static FeePolicySnapshot snapshot(List<FlatServiceFee> flatFees, PctServiceFee pctFee, List<NetworkFee> networkFees) {
+        return FeePolicySnapshot.of(flatFees, pctFee, networkFees, "test");
+    }
 }